@@ -13,4 +13,5 @@ public enum MessageType {
     EXECUTION_STATUS_UPDATE,
     STEP_STATUS_UPDATE,
     STEPS_STATUSES_UPDATE,
+    STEP_PROGRESS_UPDATE,
 }
@@ -36,4 +36,11 @@ public class ProcessExecutionStep {
     private ResultType resultType;
     private Instant startedAt;
     private Instant completedAt;
+    private Long progressDone;
+    private Long progressTotal;
+    private Instant progressUpdatedAt;
+    // increasing with the updates sent for the step, so that updates delivered out of order are ignored
+    private Long sequenceNumber;
+    // time the attempt of the execution reporting the step was scheduled, the updates of a newer attempt replacing the step
+    private Instant scheduledAt;
 }
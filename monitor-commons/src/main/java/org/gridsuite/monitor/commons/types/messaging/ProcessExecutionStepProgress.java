@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.commons.types.messaging;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress of a running step, as a number of work units done out of the total, e.g. contingencies of a security
+ * analysis.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessExecutionStepProgress {
+    @NotNull
+    private UUID stepId;
+    private long done;
+    private long total;
+    @NotNull
+    private Instant updatedAt;
+}
@@ -12,9 +12,14 @@ import org.gridsuite.monitor.commons.types.processconfig.LoadFlowConfig;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 import org.gridsuite.monitor.commons.types.processconfig.SecurityAnalysisConfig;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
+
+import java.time.Instant;
 import java.util.UUID;
 
 /**
+ * @param resume whether the execution is retried, resuming from the checkpoint of its previous attempt if any
+ * @param scheduledAt time the attempt of the execution was scheduled, identifying the attempt, or {@code null} if unknown
+ *
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
  */
 public record ProcessRunMessage<T extends ProcessConfig>(
@@ -27,8 +32,14 @@ public record ProcessRunMessage<T extends ProcessConfig>(
     })
     T config,
     UUID reportId,
-    String debugFileLocation
+    String debugFileLocation,
+    boolean resume,
+    Instant scheduledAt
 ) {
+    public ProcessRunMessage(UUID executionId, UUID caseUuid, T config, UUID reportId, String debugFileLocation) {
+        this(executionId, caseUuid, config, reportId, debugFileLocation, false, null);
+    }
+
     public ProcessType processType() {
         return config.processType();
     }
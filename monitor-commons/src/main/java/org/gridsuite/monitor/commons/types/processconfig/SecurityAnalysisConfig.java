@@ -7,6 +7,7 @@
 package org.gridsuite.monitor.commons.types.processconfig;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
 
 import java.util.List;
@@ -14,6 +15,8 @@ import java.util.Objects;
 import java.util.UUID;
 
 /**
+ * @param computationThreads number of threads computing the security analysis in parallel on network variants,
+ *                           derived by the worker from its processors and the network size when null
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
  */
 public record SecurityAnalysisConfig(
@@ -22,13 +25,16 @@ public record SecurityAnalysisConfig(
     @NotNull
     List<ModificationInfo> modifications,
     @NotNull
-    UUID loadflowParametersUuid
+    UUID loadflowParametersUuid,
+    @Positive
+    Integer computationThreads
 ) implements ProcessConfig {
     @Override
     public ProcessType processType() {
         return ProcessType.SECURITY_ANALYSIS;
     }
 
+    // the number of computation threads does not change the results, so it is not compared
     @Override
     public List<ProcessConfigFieldComparison> compareWith(ProcessConfig other) {
         SecurityAnalysisConfig o = (SecurityAnalysisConfig) other;
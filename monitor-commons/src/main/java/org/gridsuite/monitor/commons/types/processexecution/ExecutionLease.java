@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.commons.types.processexecution;
+
+import java.time.Duration;
+
+/**
+ * Lease claimed by a worker on an execution it computes.
+ *
+ * @param owner unique id of the worker instance
+ * @param duration time after which the lease expires if it is not renewed
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public record ExecutionLease(
+    String owner,
+    Duration duration
+) {
+}
@@ -16,5 +16,15 @@ public enum ProcessStatus {
     SCHEDULED,
     RUNNING,
     COMPLETED,
-    FAILED
+    FAILED,
+    CANCELLING,
+    CANCELLED,
+    TIMED_OUT;
+
+    /**
+     * Whether the execution is over, its status not changing anymore.
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED || this == TIMED_OUT;
+    }
 }
@@ -17,5 +17,7 @@ public enum StepStatus {
     RUNNING,
     COMPLETED,
     FAILED,
-    SKIPPED
+    SKIPPED,
+    CANCELLED,
+    TIMED_OUT
 }
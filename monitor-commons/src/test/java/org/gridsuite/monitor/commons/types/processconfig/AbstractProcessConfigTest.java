@@ -97,7 +97,7 @@ public abstract class AbstractProcessConfigTest<C extends ProcessConfig> {
     void compareWithShouldThrowWhenProcessTypesAreDifferent() {
         C processConfig1 = createProcessConfig();
         ProcessConfig processConfig2 = getExpectedProcessType() == ProcessType.LOADFLOW
-            ? new SecurityAnalysisConfig(UUID.randomUUID(), List.of(new ModificationInfo(UUID.randomUUID(), "descr", true)), UUID.randomUUID())
+            ? new SecurityAnalysisConfig(UUID.randomUUID(), List.of(new ModificationInfo(UUID.randomUUID(), "descr", true)), UUID.randomUUID(), null)
             : new LoadFlowConfig(UUID.randomUUID(), List.of(new ModificationInfo(UUID.randomUUID(), "descr", true)));
 
         assertThatThrownBy(() -> processConfig1.compareWith(processConfig2)).isInstanceOf(ClassCastException.class);
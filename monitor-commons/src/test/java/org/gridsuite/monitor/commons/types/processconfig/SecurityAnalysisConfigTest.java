@@ -26,7 +26,7 @@ class SecurityAnalysisConfigTest extends AbstractProcessConfigTest<SecurityAnaly
 
     @Override
     SecurityAnalysisConfig createProcessConfig(List<ModificationInfo> modifications) {
-        return new SecurityAnalysisConfig(UUID.randomUUID(), modifications, UUID.randomUUID());
+        return new SecurityAnalysisConfig(UUID.randomUUID(), modifications, UUID.randomUUID(), null);
     }
 
     @Test
@@ -38,8 +38,8 @@ class SecurityAnalysisConfigTest extends AbstractProcessConfigTest<SecurityAnaly
             new ModificationInfo(UUID.randomUUID(), "descr1", true),
             new ModificationInfo(UUID.randomUUID(), "descr2", true));
 
-        SecurityAnalysisConfig processConfig1 = new SecurityAnalysisConfig(securityAnalysisParametersUuid1, modifications, loadflowParametersUuid);
-        SecurityAnalysisConfig processConfig2 = new SecurityAnalysisConfig(securityAnalysisParametersUuid2, modifications, loadflowParametersUuid);
+        SecurityAnalysisConfig processConfig1 = new SecurityAnalysisConfig(securityAnalysisParametersUuid1, modifications, loadflowParametersUuid, null);
+        SecurityAnalysisConfig processConfig2 = new SecurityAnalysisConfig(securityAnalysisParametersUuid2, modifications, loadflowParametersUuid, null);
 
         List<ProcessConfigFieldComparison> result = processConfig1.compareWith(processConfig2);
 
@@ -61,8 +61,8 @@ class SecurityAnalysisConfigTest extends AbstractProcessConfigTest<SecurityAnaly
             new ModificationInfo(UUID.randomUUID(), "descr1", true),
             new ModificationInfo(UUID.randomUUID(), "descr2", true));
 
-        SecurityAnalysisConfig processConfig1 = new SecurityAnalysisConfig(securityAnalysisParametersUuid, modifications, loadflowParametersUuid1);
-        SecurityAnalysisConfig processConfig2 = new SecurityAnalysisConfig(securityAnalysisParametersUuid, modifications, loadflowParametersUuid2);
+        SecurityAnalysisConfig processConfig1 = new SecurityAnalysisConfig(securityAnalysisParametersUuid, modifications, loadflowParametersUuid1, null);
+        SecurityAnalysisConfig processConfig2 = new SecurityAnalysisConfig(securityAnalysisParametersUuid, modifications, loadflowParametersUuid2, null);
 
         List<ProcessConfigFieldComparison> result = processConfig1.compareWith(processConfig2);
 
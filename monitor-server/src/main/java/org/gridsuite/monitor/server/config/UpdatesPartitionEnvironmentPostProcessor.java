@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Set the partition of the worker updates consumed by this instance, when the updates are partitioned and the partition
+ * is not set explicitly with {@code monitor.updates.partition-index}. The partition is then the ordinal ending the host
+ * name, as given to the pods of a StatefulSet. The startup fails if the partition cannot be determined or is out of
+ * range, rather than leaving partitions unconsumed while every instance consumes the same one.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public class UpdatesPartitionEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PARTITION_COUNT_PROPERTY = "monitor.updates.partition-count";
+    static final String PARTITION_INDEX_PROPERTY = "monitor.updates.partition-index";
+    static final String HOSTNAME_PROPERTY = "HOSTNAME";
+
+    private static final Pattern HOSTNAME_ORDINAL = Pattern.compile("-(\\d+)$");
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        int partitionCount = environment.getProperty(PARTITION_COUNT_PROPERTY, Integer.class, 1);
+        if (partitionCount <= 1) {
+            return;
+        }
+        Integer partitionIndex = environment.getProperty(PARTITION_INDEX_PROPERTY, Integer.class);
+        if (partitionIndex == null) {
+            partitionIndex = getHostnameOrdinal(environment.getProperty(HOSTNAME_PROPERTY));
+            environment.getPropertySources().addFirst(new MapPropertySource("monitorUpdatesPartition",
+                Map.of(PARTITION_INDEX_PROPERTY, partitionIndex)));
+        }
+        if (partitionIndex < 0 || partitionIndex >= partitionCount) {
+            throw new IllegalStateException("The updates partition " + partitionIndex + " is out of the "
+                + partitionCount + " partitions, set by " + PARTITION_COUNT_PROPERTY);
+        }
+    }
+
+    private static int getHostnameOrdinal(String hostname) {
+        Matcher matcher = hostname != null ? HOSTNAME_ORDINAL.matcher(hostname) : null;
+        if (matcher == null || !matcher.find()) {
+            throw new IllegalStateException("The updates are partitioned, but the partition of this instance is not set by "
+                + PARTITION_INDEX_PROPERTY + " and cannot be taken from the host name " + hostname);
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+}
@@ -12,15 +12,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.processexecution.ExecutionLease;
+import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
 import org.gridsuite.monitor.server.dto.processexecution.ProcessExecution;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionFilter;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionPage;
 import org.gridsuite.monitor.server.dto.report.ReportPage;
 import org.gridsuite.monitor.server.services.processexecution.ProcessExecutionService;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +43,8 @@ public class MonitorController {
 
     public static final String HEADER_USER_ID = "userId";
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     public MonitorController(ProcessExecutionService processExecutionService) {
         this.processExecutionService = processExecutionService;
     }
@@ -72,13 +80,43 @@ public class MonitorController {
         return results.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    /**
+     * @deprecated use {@link #getLaunchedProcessesPage}
+     */
+    @Deprecated
     @GetMapping("/executions")
-    @Operation(summary = "Get launched processes")
+    @Operation(summary = "Get the 1000 most recently started processes, use the paginated listing to get all of them", deprecated = true)
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The launched processes")})
     public ResponseEntity<List<ProcessExecution>> getLaunchedProcesses(@Parameter(description = "Process type") @RequestParam(name = "processType") ProcessType processType) {
         return ResponseEntity.ok(processExecutionService.getLaunchedProcesses(processType));
     }
 
+    @GetMapping("/executions/page")
+    @Operation(summary = "Get a page of launched processes, most recently started first")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The page of launched processes"),
+                           @ApiResponse(responseCode = "400", description = "The cursor is invalid")})
+    public ResponseEntity<ProcessExecutionPage> getLaunchedProcessesPage(
+            @Parameter(description = "Process type") @RequestParam(name = "processType") ProcessType processType,
+            @Parameter(description = "Statuses of the processes") @RequestParam(name = "status", required = false) List<ProcessStatus> statuses,
+            @Parameter(description = "User who launched the processes") @RequestParam(name = "userId", required = false) String userId,
+            @Parameter(description = "Case uuid") @RequestParam(name = "caseUuid", required = false) UUID caseUuid,
+            @Parameter(description = "Execution environment name") @RequestParam(name = "executionEnvName", required = false) String executionEnvName,
+            @Parameter(description = "Processes started at or after this date") @RequestParam(name = "startedAfter", required = false) Instant startedAfter,
+            @Parameter(description = "Processes started before this date") @RequestParam(name = "startedBefore", required = false) Instant startedBefore,
+            @Parameter(description = "Cursor returned with the previous page") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Maximum number of processes of the page") @RequestParam(name = "size", required = false, defaultValue = "50") int size) {
+        ProcessExecutionFilter filter = ProcessExecutionFilter.builder()
+            .processType(processType)
+            .statuses(statuses)
+            .userId(userId)
+            .caseUuid(caseUuid)
+            .executionEnvName(executionEnvName)
+            .startedAfter(startedAfter)
+            .startedBefore(startedBefore)
+            .build();
+        return ResponseEntity.ok(processExecutionService.getLaunchedProcesses(filter, cursor, Math.clamp(size, 1, MAX_PAGE_SIZE)));
+    }
+
     @GetMapping("/executions/{executionId}")
     @Operation(summary = "Get an execution")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The process execution"),
@@ -114,6 +152,59 @@ public class MonitorController {
             .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @PutMapping("/executions/{executionId}/cancel")
+    @Operation(summary = "Cancel an execution")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The execution is being cancelled"),
+                           @ApiResponse(responseCode = "404", description = "execution id was not found"),
+                           @ApiResponse(responseCode = "409", description = "The execution is already over")})
+    public ResponseEntity<Void> cancelExecution(@Parameter(description = "Execution UUID") @PathVariable UUID executionId) {
+        return processExecutionService.cancelExecution(executionId)
+            .map(execution -> execution.status() == ProcessStatus.CANCELLING
+                ? ResponseEntity.ok().<Void>build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).<Void>build())
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/executions/{executionId}/retry")
+    @Operation(summary = "Retry an execution from its last completed step")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The execution is scheduled again"),
+                           @ApiResponse(responseCode = "404", description = "execution id was not found"),
+                           @ApiResponse(responseCode = "409", description = "The execution is running, completed or its configuration was deleted")})
+    public ResponseEntity<Void> retryExecution(@Parameter(description = "Execution UUID") @PathVariable UUID executionId) {
+        return processExecutionService.retryExecution(executionId)
+            .map(retry -> retry.isRetried()
+                ? ResponseEntity.ok().<Void>build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).<Void>build())
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PutMapping(value = "/executions/{executionId}/lease", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Claim or renew the lease of a worker on an execution")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The lease is acquired, the body tells whether it was taken over from another worker whose lease expired"),
+                           @ApiResponse(responseCode = "404", description = "execution id was not found"),
+                           @ApiResponse(responseCode = "409", description = "Another worker holds the lease"),
+                           @ApiResponse(responseCode = "410", description = "The execution is over")})
+    public ResponseEntity<Boolean> acquireLease(@Parameter(description = "Execution UUID") @PathVariable UUID executionId,
+                                                @RequestBody ExecutionLease lease) {
+        return processExecutionService.acquireLease(executionId, lease.owner(), lease.duration())
+            .map(claim -> switch (claim) {
+                case REFUSED -> ResponseEntity.status(HttpStatus.CONFLICT).<Boolean>build();
+                case OVER -> ResponseEntity.status(HttpStatus.GONE).<Boolean>build();
+                case ACQUIRED -> ResponseEntity.ok(false);
+                case TAKEN_OVER -> ResponseEntity.ok(true);
+            })
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/executions/{executionId}/lease")
+    @Operation(summary = "Release the lease of a worker on an execution")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The lease is released if the worker held it")})
+    public ResponseEntity<Void> releaseLease(@Parameter(description = "Execution UUID") @PathVariable UUID executionId,
+                                             @Parameter(description = "Worker holding the lease") @RequestParam(name = "owner") String owner) {
+        processExecutionService.releaseLease(executionId, owner);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/executions/{executionId}")
     @Operation(summary = "Delete an execution")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Execution was deleted"),
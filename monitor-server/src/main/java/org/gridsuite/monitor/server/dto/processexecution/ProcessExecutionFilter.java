@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.dto.processexecution;
+
+import lombok.Builder;
+import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
+import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Criteria of the launched executions to list, the criteria left null or empty not filtering the executions.
+ *
+ * @param startedAfter  inclusive lower bound of the start date
+ * @param startedBefore exclusive upper bound of the start date
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Builder
+public record ProcessExecutionFilter(
+    ProcessType processType,
+    List<ProcessStatus> statuses,
+    String userId,
+    UUID caseUuid,
+    String executionEnvName,
+    Instant startedAfter,
+    Instant startedBefore
+) { }
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.dto.processexecution;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Schema(description = "Process execution data, with counters of its steps instead of its steps")
+@Builder
+public record ProcessExecutionSummary(
+    @NotNull
+    UUID id,
+    @NotNull
+    String type,
+    @NotNull
+    UUID caseUuid,
+    @NotNull
+    UUID processConfigId,
+    @NotNull
+    ProcessStatus status,
+    @NotNull
+    String executionEnvName,
+    Instant scheduledAt,
+    Instant startedAt,
+    Instant completedAt,
+    UUID reportId,
+    @NotNull
+    String userId,
+    @Schema(description = "Number of steps of the execution")
+    long stepCount,
+    @Schema(description = "Number of steps completed or skipped")
+    long doneStepCount,
+    @Schema(description = "Number of steps failed or timed out")
+    long failedStepCount,
+    @Schema(description = "Type of the running step, if any")
+    String currentStepType
+) { }
@@ -36,4 +36,7 @@ public class SecurityAnalysisConfigEntity extends ProcessConfigEntity {
 
     @Column(name = "loadflow_parameters_uuid")
     private UUID loadflowParametersUuid;
+
+    @Column(name = "computation_threads")
+    private Integer computationThreads;
 }
@@ -23,7 +23,11 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "process_execution")
+@Table(name = "process_execution", indexes = {
+    @Index(name = "process_execution_type_started_at_idx", columnList = "type, started_at DESC, id DESC"),
+    @Index(name = "process_execution_user_id_started_at_idx", columnList = "user_id, started_at DESC"),
+    @Index(name = "process_execution_status_idx", columnList = "status")
+})
 public class ProcessExecutionEntity {
 
     @Id
@@ -63,7 +67,15 @@ public class ProcessExecutionEntity {
     @Column
     private String debugFileLocation;
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    // worker computing the execution, which must renew its lease before it expires
+    @Column
+    private String leaseOwner;
+
+    @Column
+    private Instant leaseExpiresAt;
+
+    // loaded only when the steps are needed, the listings counting them with a query instead
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JoinColumn(name = "execution_id", foreignKey = @ForeignKey(name = "processExecutionStep_processExecution_fk"))
     @OrderBy("stepOrder ASC")
     private List<ProcessExecutionStepEntity> steps;
@@ -28,6 +28,10 @@ public class ProcessExecutionStepEntity {
     @Id
     private UUID id;
 
+    // the column is written by the execution when the step is added to its steps, or with the step when saved on its own
+    @Column(name = "execution_id", updatable = false)
+    private UUID executionId;
+
     @Column
     private String stepType;
 
@@ -50,4 +54,21 @@ public class ProcessExecutionStepEntity {
 
     @Column
     private Instant completedAt;
+
+    @Column
+    private Long progressDone;
+
+    @Column
+    private Long progressTotal;
+
+    @Column
+    private Instant progressUpdatedAt;
+
+    // sequence number of the latest status update applied
+    @Column
+    private Long sequenceNumber;
+
+    // scheduling time of the attempt of the execution which reported the step
+    @Column
+    private Instant scheduledAt;
 }
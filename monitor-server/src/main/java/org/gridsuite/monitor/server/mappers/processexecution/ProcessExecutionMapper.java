@@ -7,8 +7,11 @@
 package org.gridsuite.monitor.server.mappers.processexecution;
 
 import org.gridsuite.monitor.server.dto.processexecution.ProcessExecution;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionSummary;
 import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionEntity;
+import org.gridsuite.monitor.server.repositories.ProcessExecutionStepCounters;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /**
  * @author Radouane Khouadri <radouane.khouadri at rte-france.com>
@@ -16,4 +19,11 @@ import org.mapstruct.Mapper;
 @Mapper(componentModel = "spring")
 public interface ProcessExecutionMapper {
     ProcessExecution toDto(ProcessExecutionEntity entity);
+
+    // the step counters are null for an execution without steps
+    @Mapping(target = "stepCount", source = "stepCounters.stepCount", defaultValue = "0")
+    @Mapping(target = "doneStepCount", source = "stepCounters.doneStepCount", defaultValue = "0")
+    @Mapping(target = "failedStepCount", source = "stepCounters.failedStepCount", defaultValue = "0")
+    @Mapping(target = "currentStepType", source = "stepCounters.currentStepType")
+    ProcessExecutionSummary toSummary(ProcessExecutionEntity entity, ProcessExecutionStepCounters stepCounters);
 }
@@ -20,9 +20,15 @@ public interface ProcessExecutionStepMapper {
 
     ProcessExecutionStep toDto(ProcessExecutionStepEntity entity);
 
+    @Mapping(target = "executionId", ignore = true)
     ProcessExecutionStepEntity toEntity(ProcessExecutionStep dto);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "executionId", ignore = true)
+    // the progress is only updated by progress updates, which status updates must not clear
+    @Mapping(target = "progressDone", ignore = true)
+    @Mapping(target = "progressTotal", ignore = true)
+    @Mapping(target = "progressUpdatedAt", ignore = true)
     void updateEntityFromEntity(ProcessExecutionStepEntity source, @MappingTarget ProcessExecutionStepEntity target);
 
 }
@@ -12,7 +12,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.gridsuite.monitor.commons.types.messaging.MessageType;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStatusUpdate;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStepProgress;
 import org.gridsuite.monitor.server.services.processexecution.ProcessExecutionService;
+import org.gridsuite.monitor.server.services.processexecution.ProcessExecutionUpdates;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,7 +23,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 
 import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -35,6 +39,8 @@ public class ConsumerService {
 
     public static final String HEADER_MESSAGE_TYPE = "messageType";
     public static final String HEADER_EXECUTION_ID = "executionId";
+    // headers of each message of a batch, in the order of the payloads, set by the RabbitMQ binder in batch mode
+    public static final String HEADER_BATCHED_HEADERS = "amqp_batchedHeaders";
 
     private final ProcessExecutionService processExecutionService;
     private final ObjectMapper objectMapper;
@@ -45,36 +51,72 @@ public class ConsumerService {
         this.objectMapper = objectMapper;
     }
 
+    /**
+     * Consume the updates of the workers by batches, coalesced by execution and applied in a single transaction. The
+     * batch is acknowledged once its updates are applied, so that the updates of a batch are consumed again rather than
+     * lost if the server stops before. A message which cannot be read is ignored, without preventing applying the other
+     * updates of its batch.
+     */
     @Bean
-    public Consumer<Message<String>> consumeMonitorWorkerUpdate() {
+    public Consumer<Message<List<String>>> consumeMonitorWorkerUpdate() {
         return message -> {
-            String messageTypeStr = message.getHeaders().get(HEADER_MESSAGE_TYPE, String.class);
-            MessageType messageType = MessageType.valueOf(messageTypeStr);
-            String executionIdStr = message.getHeaders().get(HEADER_EXECUTION_ID, String.class);
-            UUID executionId = UUID.fromString(executionIdStr);
-
-            switch (messageType) {
-                case EXECUTION_STATUS_UPDATE -> handleExecutionStatusUpdate(executionId, message);
-                case STEP_STATUS_UPDATE -> handleStepStatusUpdate(executionId, message);
-                case STEPS_STATUSES_UPDATE -> handleStepsStatusesUpdate(executionId, message);
-                default -> LOGGER.warn("Unknown message type: {}", messageType);
+            List<String> payloads = message.getPayload();
+            List<Map<String, Object>> batchedHeaders = getBatchedHeaders(message);
+            Map<UUID, ProcessExecutionUpdates> updates = new LinkedHashMap<>();
+            for (int i = 0; i < payloads.size(); i++) {
+                try {
+                    addUpdate(updates, batchedHeaders.get(i), payloads.get(i));
+                } catch (RuntimeException e) {
+                    LOGGER.error("Could not read worker update, ignoring it", e);
+                }
+            }
+            if (!updates.isEmpty()) {
+                processExecutionService.applyUpdates(updates);
             }
         };
     }
 
-    private void handleExecutionStatusUpdate(UUID executionId, Message<String> message) {
-        ProcessExecutionStatusUpdate payload = parsePayload(message.getPayload(), ProcessExecutionStatusUpdate.class);
-        processExecutionService.updateExecutionStatus(executionId, payload);
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> getBatchedHeaders(Message<List<String>> message) {
+        return message.getHeaders().get(HEADER_BATCHED_HEADERS, List.class);
+    }
+
+    private void addUpdate(Map<UUID, ProcessExecutionUpdates> updates, Map<String, Object> headers, String payload) {
+        MessageType messageType = MessageType.valueOf((String) headers.get(HEADER_MESSAGE_TYPE));
+        UUID executionId = UUID.fromString((String) headers.get(HEADER_EXECUTION_ID));
+
+        switch (messageType) {
+            case EXECUTION_STATUS_UPDATE -> handleExecutionStatusUpdate(updates, executionId, payload);
+            case STEP_STATUS_UPDATE -> handleStepStatusUpdate(updates, executionId, payload);
+            case STEPS_STATUSES_UPDATE -> handleStepsStatusesUpdate(updates, executionId, payload);
+            case STEP_PROGRESS_UPDATE -> handleStepProgressUpdate(updates, executionId, payload);
+            default -> LOGGER.warn("Unknown message type: {}", messageType);
+        }
+    }
+
+    private static ProcessExecutionUpdates getExecutionUpdates(Map<UUID, ProcessExecutionUpdates> updates, UUID executionId) {
+        return updates.computeIfAbsent(executionId, id -> new ProcessExecutionUpdates());
+    }
+
+    private void handleExecutionStatusUpdate(Map<UUID, ProcessExecutionUpdates> updates, UUID executionId, String payload) {
+        ProcessExecutionStatusUpdate statusUpdate = parsePayload(payload, ProcessExecutionStatusUpdate.class);
+        getExecutionUpdates(updates, executionId).addExecutionStatus(statusUpdate);
+    }
+
+    private void handleStepStatusUpdate(Map<UUID, ProcessExecutionUpdates> updates, UUID executionId, String payload) {
+        ProcessExecutionStep processExecutionStep = parsePayload(payload, ProcessExecutionStep.class);
+        getExecutionUpdates(updates, executionId).addStep(processExecutionStep);
     }
 
-    private void handleStepStatusUpdate(UUID executionId, Message<String> message) {
-        ProcessExecutionStep processExecutionStep = parsePayload(message.getPayload(), ProcessExecutionStep.class);
-        processExecutionService.updateStepStatus(executionId, processExecutionStep);
+    private void handleStepsStatusesUpdate(Map<UUID, ProcessExecutionUpdates> updates, UUID executionId, String payload) {
+        List<ProcessExecutionStep> processExecutionSteps = parsePayload(payload, new TypeReference<List<ProcessExecutionStep>>() { });
+        ProcessExecutionUpdates executionUpdates = getExecutionUpdates(updates, executionId);
+        processExecutionSteps.forEach(executionUpdates::addStep);
     }
 
-    private void handleStepsStatusesUpdate(UUID executionId, Message<String> message) {
-        List<ProcessExecutionStep> processExecutionSteps = parsePayload(message.getPayload(), new TypeReference<List<ProcessExecutionStep>>() { });
-        processExecutionService.updateStepsStatuses(executionId, processExecutionSteps);
+    private void handleStepProgressUpdate(Map<UUID, ProcessExecutionUpdates> updates, UUID executionId, String payload) {
+        ProcessExecutionStepProgress processExecutionStepProgress = parsePayload(payload, ProcessExecutionStepProgress.class);
+        getExecutionUpdates(updates, executionId).addStepProgress(processExecutionStepProgress);
     }
 
     private <T> T parsePayload(String payload, Class<T> clazz) {
@@ -14,6 +14,8 @@ import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -25,16 +27,45 @@ public class NotificationService {
 
     private final StreamBridge publisher;
 
-    public void sendProcessRunMessage(UUID caseUuid, ProcessConfig processConfig, UUID executionId, UUID reportId, String debugFileLocation) {
+    /**
+     * @param scheduledAt time the attempt of the execution was scheduled, identifying it in the cancel messages
+     */
+    public void sendProcessRunMessage(UUID caseUuid, ProcessConfig processConfig, UUID executionId, UUID reportId, String debugFileLocation,
+                                      Instant scheduledAt) {
+        sendProcessRunMessage(caseUuid, processConfig, executionId, reportId, debugFileLocation, scheduledAt, false);
+    }
+
+    /**
+     * @param scheduledAt time the attempt of the execution was scheduled, identifying it in the cancel messages
+     * @param resume whether the worker resumes the execution from the checkpoint of its previous attempt
+     */
+    public void sendProcessRunMessage(UUID caseUuid, ProcessConfig processConfig, UUID executionId, UUID reportId, String debugFileLocation,
+                                      Instant scheduledAt, boolean resume) {
         String bindingName = switch (processConfig.processType()) {
             case SECURITY_ANALYSIS -> "publishRunSecurityAnalysis-out-0";
             case LOADFLOW -> "publishRunLoadFlow-out-0";
             case SHORT_CIRCUIT -> "publishRunShortCircuit-out-0";
         };
-        ProcessRunMessage<?> message = new ProcessRunMessage<>(executionId, caseUuid, processConfig, reportId, debugFileLocation);
+        ProcessRunMessage<?> message = new ProcessRunMessage<>(executionId, caseUuid, processConfig, reportId, debugFileLocation, resume,
+            scheduledAt);
         publisher.send(bindingName, message);
     }
 
+    /**
+     * @param scheduledAt time the cancelled attempt of the execution was scheduled, so that the workers do not cancel
+     *                    a later attempt retrying it
+     */
+    public void sendProcessCancelMessage(UUID executionId, Instant scheduledAt) {
+        String bindingName = "publishCancel-out-0";
+        MessageBuilder<String> message = MessageBuilder.withPayload("")
+            .setHeader("executionId", executionId.toString());
+        if (scheduledAt != null) {
+            message.setHeader("scheduledAt", scheduledAt.toString());
+        }
+
+        publisher.send(bindingName, message.build());
+    }
+
     public void sendProcessUpdatedMessage(UUID executionId, ProcessType processType) {
         String bindingName = "publishMonitorUpdate-out-0";
         Message<?> message = MessageBuilder.withPayload("")
@@ -6,10 +6,19 @@
  */
 package org.gridsuite.monitor.server.repositories;
 
+import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
 import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +26,64 @@ import java.util.UUID;
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
  */
 @Repository
-public interface ProcessExecutionRepository extends JpaRepository<ProcessExecutionEntity, UUID> {
-    List<ProcessExecutionEntity> findByTypeAndStartedAtIsNotNullOrderByStartedAtDesc(String type);
+public interface ProcessExecutionRepository extends JpaRepository<ProcessExecutionEntity, UUID>, JpaSpecificationExecutor<ProcessExecutionEntity> {
+    // the id orders the executions started at the same time, so that pages can resume after the last execution listed
+    Sort LAUNCHED_EXECUTIONS_ORDER = Sort.by(Sort.Direction.DESC, "startedAt", "id");
+
+    /**
+     * Find the first executions matching the specification, most recently started first.
+     */
+    default List<ProcessExecutionEntity> findLaunchedExecutions(Specification<ProcessExecutionEntity> specification, int limit) {
+        return findBy(specification, query -> query.sortBy(LAUNCHED_EXECUTIONS_ORDER).limit(limit).all());
+    }
+
+    @Query("SELECT e.id FROM ProcessExecutionEntity e WHERE e.id IN :executionIds")
+    List<UUID> findExistingIds(@Param("executionIds") Collection<UUID> executionIds);
+
+    /**
+     * Update the status of an execution, unless it is over, without loading it. The current status is kept if it is
+     * one of the kept statuses, while the dates and environment are only updated when given.
+     *
+     * @return 1 if the execution was updated, 0 if it was not found or is over
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProcessExecutionEntity e SET e.status = CASE WHEN e.status IN :keptStatuses THEN e.status ELSE :status END, "
+        + "e.executionEnvName = COALESCE(:executionEnvName, e.executionEnvName), "
+        + "e.startedAt = COALESCE(:startedAt, e.startedAt), "
+        + "e.completedAt = COALESCE(:completedAt, e.completedAt) "
+        + "WHERE e.id = :executionId AND e.status NOT IN :terminalStatuses")
+    int updateStatus(@Param("executionId") UUID executionId,
+                     @Param("status") ProcessStatus status,
+                     @Param("executionEnvName") String executionEnvName,
+                     @Param("startedAt") Instant startedAt,
+                     @Param("completedAt") Instant completedAt,
+                     @Param("keptStatuses") Collection<ProcessStatus> keptStatuses,
+                     @Param("terminalStatuses") Collection<ProcessStatus> terminalStatuses);
+
+    /**
+     * Acquire or renew the lease of an execution, unless another owner holds a lease which has not expired yet or
+     * the execution is over. The condition is checked by the update itself, so that concurrent claims cannot both
+     * succeed.
+     *
+     * @return 1 if the lease was acquired, 0 otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProcessExecutionEntity e SET e.leaseOwner = :owner, e.leaseExpiresAt = :expiresAt "
+        + "WHERE e.id = :executionId AND e.status NOT IN :excludedStatuses "
+        + "AND (e.leaseOwner IS NULL OR e.leaseOwner = :owner OR e.leaseExpiresAt < :now)")
+    int acquireLease(@Param("executionId") UUID executionId,
+                     @Param("owner") String owner,
+                     @Param("now") Instant now,
+                     @Param("expiresAt") Instant expiresAt,
+                     @Param("excludedStatuses") Collection<ProcessStatus> excludedStatuses);
+
+    /**
+     * Release the lease of an execution, if it is still held by the given owner.
+     *
+     * @return 1 if the lease was released, 0 otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProcessExecutionEntity e SET e.leaseOwner = NULL, e.leaseExpiresAt = NULL "
+        + "WHERE e.id = :executionId AND e.leaseOwner = :owner")
+    int releaseLease(@Param("executionId") UUID executionId, @Param("owner") String owner);
 }
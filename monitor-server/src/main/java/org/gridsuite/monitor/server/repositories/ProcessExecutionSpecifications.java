@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.repositories;
+
+import jakarta.persistence.criteria.Predicate;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionFilter;
+import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public final class ProcessExecutionSpecifications {
+
+    private ProcessExecutionSpecifications() {
+    }
+
+    /**
+     * Launched executions, i.e. having a start date, matching the given filter.
+     */
+    public static Specification<ProcessExecutionEntity> launched(ProcessExecutionFilter filter) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(builder.isNotNull(root.get("startedAt")));
+            if (filter.processType() != null) {
+                predicates.add(builder.equal(root.get("type"), filter.processType().name()));
+            }
+            if (filter.statuses() != null && !filter.statuses().isEmpty()) {
+                predicates.add(root.get("status").in(filter.statuses()));
+            }
+            if (filter.userId() != null) {
+                predicates.add(builder.equal(root.get("userId"), filter.userId()));
+            }
+            if (filter.caseUuid() != null) {
+                predicates.add(builder.equal(root.get("caseUuid"), filter.caseUuid()));
+            }
+            if (filter.executionEnvName() != null) {
+                predicates.add(builder.equal(root.get("executionEnvName"), filter.executionEnvName()));
+            }
+            if (filter.startedAfter() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.<Instant>get("startedAt"), filter.startedAfter()));
+            }
+            if (filter.startedBefore() != null) {
+                predicates.add(builder.lessThan(root.<Instant>get("startedAt"), filter.startedBefore()));
+            }
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Executions listed after the given one in the {@link ProcessExecutionRepository#LAUNCHED_EXECUTIONS_ORDER} order.
+     */
+    public static Specification<ProcessExecutionEntity> listedAfter(Instant startedAt, UUID id) {
+        return (root, query, builder) -> builder.or(
+            builder.lessThan(root.<Instant>get("startedAt"), startedAt),
+            builder.and(builder.equal(root.get("startedAt"), startedAt), builder.lessThan(root.<UUID>get("id"), id)));
+    }
+}
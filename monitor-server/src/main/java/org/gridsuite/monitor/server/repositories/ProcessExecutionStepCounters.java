@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.repositories;
+
+import java.util.UUID;
+
+/**
+ * Counters of the steps of an execution, computed by the database without loading the steps.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public interface ProcessExecutionStepCounters {
+    UUID getExecutionId();
+
+    Long getStepCount();
+
+    Long getDoneStepCount();
+
+    Long getFailedStepCount();
+
+    String getCurrentStepType();
+}
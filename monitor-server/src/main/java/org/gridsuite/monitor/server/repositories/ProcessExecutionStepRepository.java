@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.repositories;
+
+import org.gridsuite.monitor.commons.types.processexecution.StepStatus;
+import org.gridsuite.monitor.commons.types.result.ResultType;
+import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionStepEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Steps of the executions, updated one by one without loading the execution and its other steps.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Repository
+public interface ProcessExecutionStepRepository extends JpaRepository<ProcessExecutionStepEntity, UUID> {
+
+    /**
+     * Update a step, if its current status is one of the overwritable statuses and the update is not older than the
+     * latest update applied, according to their sequence numbers, or if the update comes from a newer attempt of the
+     * execution, whatever the status of the step. Updates of an older attempt are ignored. Its progress is kept. The
+     * nullable parameters are only used through COALESCE with their column, which types them when they are null, as
+     * PostgreSQL cannot determine the type of a parameter only tested with IS NULL.
+     *
+     * @param scheduledAt scheduling time of the attempt of the execution reporting the step, or {@code null} if unknown
+     * @return 1 if the step was updated, 0 if it was not found, its status was not overwritable or the update is outdated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProcessExecutionStepEntity s SET s.stepType = :stepType, s.stepOrder = :stepOrder, s.status = :status, "
+        + "s.resultId = :resultId, s.resultType = :resultType, s.startedAt = :startedAt, s.completedAt = :completedAt, "
+        + "s.sequenceNumber = COALESCE(:sequenceNumber, s.sequenceNumber), s.scheduledAt = COALESCE(:scheduledAt, s.scheduledAt) "
+        + "WHERE s.id = :stepId AND ("
+        + "s.scheduledAt < COALESCE(:scheduledAt, s.scheduledAt) "
+        + "OR ((s.scheduledAt IS NULL OR s.scheduledAt = COALESCE(:scheduledAt, s.scheduledAt)) "
+        + "AND s.status IN :overwritableStatuses "
+        + "AND (s.sequenceNumber IS NULL OR s.sequenceNumber < COALESCE(:sequenceNumber, s.sequenceNumber + 1))))")
+    int updateStep(@Param("stepId") UUID stepId,
+                   @Param("stepType") String stepType,
+                   @Param("stepOrder") Integer stepOrder,
+                   @Param("status") StepStatus status,
+                   @Param("resultId") UUID resultId,
+                   @Param("resultType") ResultType resultType,
+                   @Param("startedAt") Instant startedAt,
+                   @Param("completedAt") Instant completedAt,
+                   @Param("sequenceNumber") Long sequenceNumber,
+                   @Param("scheduledAt") Instant scheduledAt,
+                   @Param("overwritableStatuses") Collection<StepStatus> overwritableStatuses);
+
+    /**
+     * Delete the steps of an execution having the given order, except the given step.
+     *
+     * @return the number of deleted steps
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ProcessExecutionStepEntity s "
+        + "WHERE s.executionId = :executionId AND s.stepOrder = :stepOrder AND s.id <> :stepId")
+    int deleteOtherStepsOfOrder(@Param("executionId") UUID executionId,
+                                @Param("stepOrder") Integer stepOrder,
+                                @Param("stepId") UUID stepId);
+
+    /**
+     * Update the progress of a step, unless it was updated with a more recent progress already.
+     *
+     * @return 1 if the progress was updated, 0 if the step was not found or the progress is outdated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProcessExecutionStepEntity s SET s.progressDone = :done, s.progressTotal = :total, s.progressUpdatedAt = :updatedAt "
+        + "WHERE s.id = :stepId AND (s.progressUpdatedAt IS NULL OR s.progressUpdatedAt < :updatedAt)")
+    int updateProgress(@Param("stepId") UUID stepId,
+                       @Param("done") long done,
+                       @Param("total") long total,
+                       @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Count the steps of the given executions, by execution. Executions without steps are not returned.
+     *
+     * @param doneStatuses statuses of the steps counted as done
+     * @param failedStatuses statuses of the steps counted as failed
+     * @param currentStatus status of the step returned as current step
+     */
+    @Query("SELECT s.executionId AS executionId, COUNT(s) AS stepCount, "
+        + "SUM(CASE WHEN s.status IN :doneStatuses THEN 1 ELSE 0 END) AS doneStepCount, "
+        + "SUM(CASE WHEN s.status IN :failedStatuses THEN 1 ELSE 0 END) AS failedStepCount, "
+        + "MAX(CASE WHEN s.status = :currentStatus THEN s.stepType END) AS currentStepType "
+        + "FROM ProcessExecutionStepEntity s WHERE s.executionId IN :executionIds GROUP BY s.executionId")
+    List<ProcessExecutionStepCounters> countSteps(@Param("executionIds") Collection<UUID> executionIds,
+                                                  @Param("doneStatuses") Collection<StepStatus> doneStatuses,
+                                                  @Param("failedStatuses") Collection<StepStatus> failedStatuses,
+                                                  @Param("currentStatus") StepStatus currentStatus);
+}
@@ -8,11 +8,14 @@ package org.gridsuite.monitor.server.services.processexecution;
 
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 
+import java.time.Instant;
+
 /**
  * @author Kevin Le Saulnier <kevin.le-saulnier at rte-france.com>
  */
 public record ProcessCreationResult(
     String debugLocationFile,
-    ProcessConfig processConfig
+    ProcessConfig processConfig,
+    Instant scheduledAt
 ) {
 }
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.services.processexecution;
+
+import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionEntity;
+import org.gridsuite.monitor.server.error.MonitorServerBusinessErrorCode;
+import org.gridsuite.monitor.server.error.MonitorServerException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last execution of a page of launched executions, the next page starting with the executions listed
+ * after it. It is exchanged with the clients as an opaque string.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+record ProcessExecutionCursor(Instant startedAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    static ProcessExecutionCursor of(ProcessExecutionEntity execution) {
+        return new ProcessExecutionCursor(execution.getStartedAt(), execution.getId());
+    }
+
+    static ProcessExecutionCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new ProcessExecutionCursor(Instant.parse(decoded.substring(0, separatorIndex)),
+                UUID.fromString(decoded.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new MonitorServerException(MonitorServerBusinessErrorCode.INVALID_EXECUTION_CURSOR, "Invalid execution cursor: " + cursor, e);
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((startedAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
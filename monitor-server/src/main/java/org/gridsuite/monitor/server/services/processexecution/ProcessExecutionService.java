@@ -7,20 +7,27 @@
 package org.gridsuite.monitor.server.services.processexecution;
 
 import com.powsybl.commons.PowsyblException;
-import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStatusUpdate;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
 import org.gridsuite.monitor.commons.types.result.ResultInfos;
 import org.gridsuite.monitor.server.clients.ReportRestClient;
 import org.gridsuite.monitor.server.clients.S3RestClient;
 import org.gridsuite.monitor.server.dto.processexecution.ProcessExecution;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionFilter;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionPage;
 import org.gridsuite.monitor.server.dto.report.ReportPage;
 import org.gridsuite.monitor.server.messaging.NotificationService;
 import org.gridsuite.monitor.server.services.result.ResultService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +37,7 @@ import java.util.UUID;
  */
 @Service
 public class ProcessExecutionService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessExecutionService.class);
 
     private final ProcessExecutionTxService processExecutionTxService;
     private final NotificationService notificationService;
@@ -66,7 +74,8 @@ public class ProcessExecutionService {
             result.get().processConfig(),
             executionId,
             reportId,
-            result.get().debugLocationFile()
+            result.get().debugLocationFile(),
+            result.get().scheduledAt()
         );
 
         notificationService.sendProcessUpdatedMessage(executionId, result.get().processConfig().processType());
@@ -74,17 +83,103 @@ public class ProcessExecutionService {
         return Optional.of(executionId);
     }
 
-    public void updateExecutionStatus(UUID executionId, ProcessExecutionStatusUpdate payload) {
-        processExecutionTxService.updateExecutionStatus(executionId, payload);
-        notificationService.sendProcessUpdatedMessage(executionId, payload.getProcessType());
+    /**
+     * Apply the updates received from the workers, then notify the executions whose status changed.
+     * <p>
+     * The updates are applied in a single transaction. If it fails, the updates of each execution are applied in their
+     * own transaction, so that an execution whose updates cannot be applied does not prevent applying the updates of
+     * the others. The failure is then thrown, so that the updates are consumed again rather than lost: applying again
+     * the updates already applied has no effect, as they are not newer than the ones stored.
+     *
+     * @param updates coalesced updates, by execution id
+     */
+    public void applyUpdates(Map<UUID, ProcessExecutionUpdates> updates) {
+        try {
+            processExecutionTxService.applyUpdates(updates);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not apply the updates of {} executions at once, applying them one by one", updates.size(), e);
+            applyOneByOne(updates, e);
+            return;
+        }
+        updates.forEach(this::notifyStatusUpdate);
+    }
+
+    private void applyOneByOne(Map<UUID, ProcessExecutionUpdates> updates, RuntimeException batchFailure) {
+        List<UUID> failedExecutionIds = new ArrayList<>();
+        updates.forEach((executionId, executionUpdates) -> {
+            try {
+                processExecutionTxService.applyUpdates(Map.of(executionId, executionUpdates));
+                notifyStatusUpdate(executionId, executionUpdates);
+            } catch (RuntimeException e) {
+                LOGGER.error("Execution {} - Could not apply updates", executionId, e);
+                failedExecutionIds.add(executionId);
+            }
+        });
+        if (failedExecutionIds.size() == updates.size()) {
+            throw batchFailure;
+        }
+        if (!failedExecutionIds.isEmpty()) {
+            throw new IllegalStateException("Could not apply the updates of executions " + failedExecutionIds, batchFailure);
+        }
+    }
+
+    private void notifyStatusUpdate(UUID executionId, ProcessExecutionUpdates updates) {
+        updates.getExecutionStatus().ifPresent(status -> {
+            try {
+                notificationService.sendProcessUpdatedMessage(executionId, status.getProcessType());
+            } catch (RuntimeException e) {
+                // the updates are applied already
+                LOGGER.warn("Execution {} - Could not notify status update", executionId, e);
+            }
+        });
+    }
+
+    /**
+     * Request the cancellation of an execution. The workers stop it cooperatively, and end it with the
+     * {@code CANCELLED} status.
+     *
+     * @return the execution, whose status is {@code CANCELLING} unless it was already over, or an empty optional if
+     * it was not found
+     */
+    public Optional<ProcessExecution> cancelExecution(UUID executionId) {
+        Optional<ProcessExecution> execution = processExecutionTxService.requestCancellation(executionId);
+        execution.filter(cancelledExecution -> cancelledExecution.status() == ProcessStatus.CANCELLING)
+            .ifPresent(cancelledExecution -> {
+                notificationService.sendProcessCancelMessage(executionId, cancelledExecution.scheduledAt());
+                notificationService.sendProcessUpdatedMessage(executionId, ProcessType.valueOf(cancelledExecution.type()));
+            });
+        return execution;
     }
 
-    public void updateStepStatus(UUID executionId, ProcessExecutionStep processExecutionStep) {
-        processExecutionTxService.updateStepStatus(executionId, processExecutionStep);
+    public Optional<ProcessLeaseClaim> acquireLease(UUID executionId, String owner, Duration duration) {
+        return processExecutionTxService.acquireLease(executionId, owner, duration);
     }
 
-    public void updateStepsStatuses(UUID executionId, List<ProcessExecutionStep> processExecutionSteps) {
-        processExecutionTxService.updateStepsStatuses(executionId, processExecutionSteps);
+    public void releaseLease(UUID executionId, String owner) {
+        processExecutionTxService.releaseLease(executionId, owner);
+    }
+
+    /**
+     * Retry an execution which failed, timed out or was cancelled. The worker resumes it after its last checkpointed
+     * step, or starts it over if there is no checkpoint.
+     *
+     * @return the retry result, or an empty optional if the execution was not found
+     */
+    public Optional<ProcessRetryResult> retryExecution(UUID executionId) {
+        Optional<ProcessRetryResult> result = processExecutionTxService.requestRetry(executionId);
+        result.filter(ProcessRetryResult::isRetried).ifPresent(retry -> {
+            notificationService.sendProcessRunMessage(
+                retry.execution().caseUuid(),
+                retry.processConfig(),
+                executionId,
+                retry.execution().reportId(),
+                retry.debugFileLocation(),
+                retry.execution().scheduledAt(),
+                true
+            );
+            notificationService.sendProcessUpdatedMessage(executionId, retry.processConfig().processType());
+        });
+        return result;
     }
 
     public Optional<ReportPage> getReports(UUID executionId) {
@@ -111,10 +206,18 @@ public class ProcessExecutionService {
             });
     }
 
+    /**
+     * @deprecated use {@link #getLaunchedProcesses(ProcessExecutionFilter, String, int)}
+     */
+    @Deprecated
     public List<ProcessExecution> getLaunchedProcesses(ProcessType processType) {
         return processExecutionTxService.getLaunchedProcesses(processType);
     }
 
+    public ProcessExecutionPage getLaunchedProcesses(ProcessExecutionFilter filter, String cursor, int size) {
+        return processExecutionTxService.getLaunchedProcesses(filter, cursor, size);
+    }
+
     public Optional<ProcessExecution> getExecution(UUID executionId) {
         return processExecutionTxService.getExecution(executionId);
     }
@@ -8,28 +8,44 @@ package org.gridsuite.monitor.server.services.processexecution;
 
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStatusUpdate;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStepProgress;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
+import org.gridsuite.monitor.commons.types.processexecution.StepStatus;
 import org.gridsuite.monitor.commons.types.result.ResultInfos;
 import org.gridsuite.monitor.server.dto.processconfig.PersistedProcessConfig;
 import org.gridsuite.monitor.server.dto.processexecution.ProcessExecution;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionFilter;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionPage;
 import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionEntity;
 import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionStepEntity;
 import org.gridsuite.monitor.server.mappers.processexecution.ProcessExecutionMapper;
 import org.gridsuite.monitor.server.mappers.processexecution.ProcessExecutionStepMapper;
 import org.gridsuite.monitor.server.repositories.ProcessExecutionRepository;
+import org.gridsuite.monitor.server.repositories.ProcessExecutionSpecifications;
+import org.gridsuite.monitor.server.repositories.ProcessExecutionStepCounters;
+import org.gridsuite.monitor.server.repositories.ProcessExecutionStepRepository;
 import org.gridsuite.monitor.server.services.processconfig.ProcessConfigService;
 import org.gridsuite.monitor.server.utils.S3PathResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -37,18 +53,35 @@ public class ProcessExecutionTxService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ProcessExecutionTxService.class);
 
+    private static final List<ProcessStatus> TERMINAL_STATUSES = Arrays.stream(ProcessStatus.values())
+        .filter(ProcessStatus::isTerminal)
+        .toList();
+
+    // statuses by increasing precedence, an update not regressing an execution or a step to a status of lower precedence
+    private static final List<ProcessStatus> EXECUTION_STATUS_PRECEDENCE = List.of(ProcessStatus.SCHEDULED, ProcessStatus.RUNNING, ProcessStatus.CANCELLING);
+    private static final List<StepStatus> STEP_STATUS_PRECEDENCE = List.of(StepStatus.SCHEDULED, StepStatus.RUNNING);
+
+    private static final List<StepStatus> DONE_STEP_STATUSES = List.of(StepStatus.COMPLETED, StepStatus.SKIPPED);
+    private static final List<StepStatus> FAILED_STEP_STATUSES = List.of(StepStatus.FAILED, StepStatus.TIMED_OUT);
+
+    // bounds the unpaginated listing, which only lists the most recently started executions
+    static final int MAX_LAUNCHED_PROCESSES = 1000;
+
     private final ProcessExecutionRepository processExecutionRepository;
+    private final ProcessExecutionStepRepository processExecutionStepRepository;
     private final ProcessExecutionStepMapper processExecutionStepMapper;
     private final ProcessExecutionMapper processExecutionMapper;
     private final ProcessConfigService processConfigService;
     private final S3PathResolver s3PathResolver;
 
     public ProcessExecutionTxService(ProcessExecutionRepository processExecutionRepository,
+                                     ProcessExecutionStepRepository processExecutionStepRepository,
                                      ProcessExecutionStepMapper processExecutionStepMapper,
                                      ProcessExecutionMapper processExecutionMapper,
                                      ProcessConfigService processConfigService,
                                      S3PathResolver s3PathResolver) {
         this.processExecutionRepository = processExecutionRepository;
+        this.processExecutionStepRepository = processExecutionStepRepository;
         this.processExecutionStepMapper = processExecutionStepMapper;
         this.processExecutionMapper = processExecutionMapper;
         this.processConfigService = processConfigService;
@@ -65,13 +98,14 @@ public class ProcessExecutionTxService {
                 ? s3PathResolver.toDebugLocation(persistedProcessConfig.processConfig().processType().name(), executionId)
                 : null;
 
+            Instant scheduledAt = getScheduledAt();
             processExecutionRepository.save(ProcessExecutionEntity.builder()
                 .id(executionId)
                 .type(persistedProcessConfig.processConfig().processType().name())
                 .caseUuid(caseUuid)
                 .processConfigId(persistedProcessConfig.id())
                 .status(ProcessStatus.SCHEDULED)
-                .scheduledAt(Instant.now())
+                .scheduledAt(scheduledAt)
                 .reportId(reportId)
                 .userId(userId)
                 .debugFileLocation(debugFileLocation)
@@ -79,47 +113,106 @@ public class ProcessExecutionTxService {
 
             return Optional.of(new ProcessCreationResult(
                 debugFileLocation,
-                persistedProcessConfig.processConfig()
+                persistedProcessConfig.processConfig(),
+                scheduledAt
             ));
         }
         return Optional.empty();
     }
 
+    /**
+     * Apply the updates received from the workers for several executions, in a single transaction. Each update is
+     * written by a single statement, without loading the execution and its steps, and does not regress the status of
+     * an execution or a step updated by a more recent update already.
+     *
+     * @param updates coalesced updates, by execution id
+     */
     @Transactional
-    public void updateExecutionStatus(UUID executionId, ProcessExecutionStatusUpdate payload) {
-        processExecutionRepository.findById(executionId).ifPresentOrElse(execution -> {
-            execution.setStatus(payload.getStatus());
-            if (payload.getExecutionEnvName() != null) {
-                execution.setExecutionEnvName(payload.getExecutionEnvName());
+    public void applyUpdates(Map<UUID, ProcessExecutionUpdates> updates) {
+        Set<UUID> existingExecutionIds = new HashSet<>(processExecutionRepository.findExistingIds(updates.keySet()));
+        updates.forEach((executionId, executionUpdates) -> {
+            if (!existingExecutionIds.contains(executionId)) {
+                LOGGER.warn("Execution {} not found in DB, ignoring updates", executionId);
+                return;
             }
-            if (payload.getStartedAt() != null) {
-                execution.setStartedAt(payload.getStartedAt());
+            executionUpdates.getExecutionStatus().ifPresent(status -> updateStatus(executionId, status));
+            executionUpdates.getSteps().forEach(step -> updateStep(executionId, processExecutionStepMapper.toEntity(step)));
+            executionUpdates.getStepProgresses().forEach(progress -> updateStepProgress(executionId, progress));
+        });
+    }
+
+    /**
+     * Mark an execution as being cancelled, unless it is already over.
+     *
+     * @return the execution, or an empty optional if it was not found
+     */
+    @Transactional
+    public Optional<ProcessExecution> requestCancellation(UUID executionId) {
+        return processExecutionRepository.findById(executionId).map(execution -> {
+            if (!execution.getStatus().isTerminal()) {
+                execution.setStatus(ProcessStatus.CANCELLING);
+                processExecutionRepository.save(execution);
             }
-            if (payload.getCompletedAt() != null) {
-                execution.setCompletedAt(payload.getCompletedAt());
+            return processExecutionMapper.toDto(execution);
+        });
+    }
+
+    /**
+     * Schedule again an execution which failed, timed out or was cancelled. Its completed steps are kept, so that the
+     * worker resuming it from its checkpoint does not report them again, while the other steps are scheduled again.
+     * Without a checkpoint, the worker runs the completed steps again, their updates replacing the kept steps as they
+     * come from a newer attempt.
+     *
+     * @return the retry result, or an empty optional if the execution was not found
+     */
+    @Transactional
+    public Optional<ProcessRetryResult> requestRetry(UUID executionId) {
+        return processExecutionRepository.findById(executionId).map(execution -> {
+            ProcessStatus status = execution.getStatus();
+            Optional<PersistedProcessConfig> processConfig = status.isTerminal() && status != ProcessStatus.COMPLETED
+                ? processConfigService.getProcessConfig(execution.getProcessConfigId())
+                : Optional.empty();
+            if (processConfig.isEmpty()) {
+                return new ProcessRetryResult(processExecutionMapper.toDto(execution), null, execution.getDebugFileLocation());
             }
+            execution.setStatus(ProcessStatus.SCHEDULED);
+            execution.setScheduledAt(getScheduledAt());
+            execution.setStartedAt(null);
+            execution.setCompletedAt(null);
+            execution.setLeaseOwner(null);
+            execution.setLeaseExpiresAt(null);
+            Optional.ofNullable(execution.getSteps()).ifPresent(steps -> steps.removeIf(step -> step.getStatus() != StepStatus.COMPLETED));
             processExecutionRepository.save(execution);
-        }, () -> LOGGER.warn("Execution {} not found in DB, ignoring status update", executionId));
+            return new ProcessRetryResult(processExecutionMapper.toDto(execution), processConfig.get().processConfig(), execution.getDebugFileLocation());
+        });
     }
 
+    /**
+     * Claim the lease of an execution for a worker, or renew it. The lease is refused while another worker holds it,
+     * so that a run message delivered again does not compute the execution twice. Once the execution is over, the
+     * claim tells it apart, so that the worker does not wait for the lease.
+     *
+     * @return the outcome of the claim, or an empty optional if the execution was not found
+     */
     @Transactional
-    public void updateStepStatus(UUID executionId, ProcessExecutionStep processExecutionStep) {
-        processExecutionRepository.findById(executionId).ifPresentOrElse(execution -> {
-            ProcessExecutionStepEntity stepEntity = processExecutionStepMapper.toEntity(processExecutionStep);
-            updateStep(execution, stepEntity);
-            processExecutionRepository.save(execution);
-        }, () -> LOGGER.warn("Execution {} not found in DB, ignoring step update", executionId));
+    public Optional<ProcessLeaseClaim> acquireLease(UUID executionId, String owner, Duration duration) {
+        return processExecutionRepository.findById(executionId).map(execution -> {
+            if (execution.getStatus().isTerminal()) {
+                return ProcessLeaseClaim.OVER;
+            }
+            String previousOwner = execution.getLeaseOwner();
+            Instant now = Instant.now();
+            // also refused if the execution ended since it was read, which the next claim tells
+            if (processExecutionRepository.acquireLease(executionId, owner, now, now.plus(duration), TERMINAL_STATUSES) == 0) {
+                return ProcessLeaseClaim.REFUSED;
+            }
+            return previousOwner != null && !previousOwner.equals(owner) ? ProcessLeaseClaim.TAKEN_OVER : ProcessLeaseClaim.ACQUIRED;
+        });
     }
 
     @Transactional
-    public void updateStepsStatuses(UUID executionId, List<ProcessExecutionStep> processExecutionSteps) {
-        processExecutionRepository.findById(executionId).ifPresentOrElse(execution -> {
-            processExecutionSteps.forEach(processExecutionStep -> {
-                ProcessExecutionStepEntity stepEntity = processExecutionStepMapper.toEntity(processExecutionStep);
-                updateStep(execution, stepEntity);
-            });
-            processExecutionRepository.save(execution);
-        }, () -> LOGGER.warn("Execution {} not found in DB, ignoring steps update", executionId));
+    public void releaseLease(UUID executionId, String owner) {
+        processExecutionRepository.releaseLease(executionId, owner);
     }
 
     public Optional<UUID> getReportId(UUID executionId) {
@@ -140,12 +233,51 @@ public class ProcessExecutionTxService {
             .map(ProcessExecutionEntity::getDebugFileLocation);
     }
 
+    /**
+     * List the most recently started executions of a process type, at most {@link #MAX_LAUNCHED_PROCESSES}.
+     *
+     * @deprecated use {@link #getLaunchedProcesses(ProcessExecutionFilter, String, int)}, which lists all the launched
+     * executions a page at a time
+     */
+    @Deprecated
     public List<ProcessExecution> getLaunchedProcesses(ProcessType processType) {
-        return processExecutionRepository.findByTypeAndStartedAtIsNotNullOrderByStartedAtDesc(processType.name()).stream()
+        ProcessExecutionFilter filter = ProcessExecutionFilter.builder().processType(processType).build();
+        return processExecutionRepository.findLaunchedExecutions(ProcessExecutionSpecifications.launched(filter), MAX_LAUNCHED_PROCESSES).stream()
             .map(processExecutionMapper::toDto)
             .toList();
     }
 
+    /**
+     * List a page of the launched executions matching the filter, most recently started first, summarized with
+     * counters of their steps rather than their steps.
+     *
+     * @param cursor cursor of the page returned by the previous call, or null for the first page
+     */
+    public ProcessExecutionPage getLaunchedProcesses(ProcessExecutionFilter filter, String cursor, int size) {
+        Specification<ProcessExecutionEntity> specification = ProcessExecutionSpecifications.launched(filter);
+        if (cursor != null) {
+            ProcessExecutionCursor position = ProcessExecutionCursor.decode(cursor);
+            specification = specification.and(ProcessExecutionSpecifications.listedAfter(position.startedAt(), position.id()));
+        }
+        // one more execution tells whether there is a next page
+        List<ProcessExecutionEntity> executions = processExecutionRepository.findLaunchedExecutions(specification, size + 1);
+        List<ProcessExecutionEntity> page = executions.subList(0, Math.min(size, executions.size()));
+        String nextCursor = executions.size() > size ? ProcessExecutionCursor.of(page.getLast()).encode() : null;
+        Map<UUID, ProcessExecutionStepCounters> stepCounters = countSteps(page);
+        return new ProcessExecutionPage(page.stream()
+            .map(execution -> processExecutionMapper.toSummary(execution, stepCounters.get(execution.getId())))
+            .toList(), nextCursor);
+    }
+
+    private Map<UUID, ProcessExecutionStepCounters> countSteps(List<ProcessExecutionEntity> executions) {
+        if (executions.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> executionIds = executions.stream().map(ProcessExecutionEntity::getId).toList();
+        return processExecutionStepRepository.countSteps(executionIds, DONE_STEP_STATUSES, FAILED_STEP_STATUSES, StepStatus.RUNNING).stream()
+            .collect(Collectors.toMap(ProcessExecutionStepCounters::getExecutionId, Function.identity()));
+    }
+
     public Optional<ProcessExecution> getExecution(UUID executionId) {
         return processExecutionRepository.findById(executionId)
             .map(processExecutionMapper::toDto);
@@ -174,17 +306,51 @@ public class ProcessExecutionTxService {
         return Optional.of(infos);
     }
 
-    private void updateStep(ProcessExecutionEntity execution, ProcessExecutionStepEntity stepEntity) {
-        List<ProcessExecutionStepEntity> steps = Optional.ofNullable(execution.getSteps()).orElseGet(() -> {
-            List<ProcessExecutionStepEntity> newSteps = new ArrayList<>();
-            execution.setSteps(newSteps);
-            return newSteps;
-        });
-        steps.stream()
-            .filter(s -> s.getId().equals(stepEntity.getId()))
-            .findFirst()
-            .ifPresentOrElse(
-                existingStep -> processExecutionStepMapper.updateEntityFromEntity(stepEntity, existingStep),
-                () -> steps.add(stepEntity));
+    private void updateStatus(UUID executionId, ProcessExecutionStatusUpdate payload) {
+        // the status is kept if it has a higher precedence, e.g. a cancellation requested before the worker started the execution
+        List<ProcessStatus> keptStatuses = new ArrayList<>(TERMINAL_STATUSES);
+        int precedence = EXECUTION_STATUS_PRECEDENCE.indexOf(payload.getStatus());
+        if (precedence >= 0) {
+            keptStatuses.addAll(EXECUTION_STATUS_PRECEDENCE.subList(precedence + 1, EXECUTION_STATUS_PRECEDENCE.size()));
+        }
+        if (processExecutionRepository.updateStatus(executionId, payload.getStatus(), payload.getExecutionEnvName(),
+            payload.getStartedAt(), payload.getCompletedAt(), keptStatuses, TERMINAL_STATUSES) == 0) {
+            LOGGER.info("Execution {} is over, ignoring status update to {}", executionId, payload.getStatus());
+        }
+    }
+
+    private void updateStep(UUID executionId, ProcessExecutionStepEntity step) {
+        int precedence = STEP_STATUS_PRECEDENCE.indexOf(step.getStatus());
+        List<StepStatus> overwritableStatuses = precedence >= 0 ? STEP_STATUS_PRECEDENCE.subList(0, precedence + 1) : STEP_STATUS_PRECEDENCE;
+        if (processExecutionStepRepository.updateStep(step.getId(), step.getStepType(), step.getStepOrder(), step.getStatus(),
+            step.getResultId(), step.getResultType(), step.getStartedAt(), step.getCompletedAt(), step.getSequenceNumber(), step.getScheduledAt(),
+            overwritableStatuses) > 0) {
+            return;
+        }
+        if (processExecutionStepRepository.existsById(step.getId())) {
+            LOGGER.info("Step {} of execution {} has a status of higher precedence or a more recent update or attempt, ignoring status update to {}", step.getId(), executionId, step.getStatus());
+            return;
+        }
+        if (step.getStepOrder() != null) {
+            // a retried execution may run on a worker with other step ids, replacing the steps of the same order
+            processExecutionStepRepository.deleteOtherStepsOfOrder(executionId, step.getStepOrder(), step.getId());
+        }
+        step.setExecutionId(executionId);
+        processExecutionStepRepository.save(step);
+    }
+
+    private void updateStepProgress(UUID executionId, ProcessExecutionStepProgress progress) {
+        // progress messages may be delivered out of order, only the most recent progress being applied
+        if (processExecutionStepRepository.updateProgress(progress.getStepId(), progress.getDone(), progress.getTotal(), progress.getUpdatedAt()) == 0) {
+            LOGGER.debug("Step {} of execution {} not found in DB or progress outdated, ignoring step progress", progress.getStepId(), executionId);
+        }
+    }
+
+    /**
+     * The scheduling time identifies an attempt of an execution in the run and cancel messages, so it is truncated to
+     * the precision of the database, to be sent the same whether it was read from the database or not.
+     */
+    private static Instant getScheduledAt() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
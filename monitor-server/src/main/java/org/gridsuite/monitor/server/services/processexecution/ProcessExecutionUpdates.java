@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.services.processexecution;
+
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStatusUpdate;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStepProgress;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Updates of an execution received from the workers and not applied yet, coalesced so that applying them has the
+ * same outcome as applying each of them in the order they were received.
+ * <p>
+ * Status updates are merged, the latest status and the latest of each reported date being kept. Only the latest state
+ * of each step and the latest progress of each step are kept, as each of them replaces the previous ones. A step update
+ * with a lower sequence number than the one already kept is ignored, as it was delivered out of order.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public class ProcessExecutionUpdates {
+
+    private ProcessExecutionStatusUpdate status;
+    private final Map<UUID, ProcessExecutionStep> steps = new LinkedHashMap<>();
+    private final Map<UUID, ProcessExecutionStepProgress> stepProgresses = new LinkedHashMap<>();
+
+    public void addExecutionStatus(ProcessExecutionStatusUpdate update) {
+        if (status == null) {
+            status = new ProcessExecutionStatusUpdate(update.getProcessType(), update.getStatus(), update.getExecutionEnvName(),
+                update.getStartedAt(), update.getCompletedAt());
+            return;
+        }
+        status.setProcessType(update.getProcessType());
+        status.setStatus(update.getStatus());
+        if (update.getExecutionEnvName() != null) {
+            status.setExecutionEnvName(update.getExecutionEnvName());
+        }
+        if (update.getStartedAt() != null) {
+            status.setStartedAt(update.getStartedAt());
+        }
+        if (update.getCompletedAt() != null) {
+            status.setCompletedAt(update.getCompletedAt());
+        }
+    }
+
+    public void addStep(ProcessExecutionStep step) {
+        ProcessExecutionStep previous = steps.get(step.getId());
+        if (previous != null && isBefore(step, previous)) {
+            // delivered out of order
+            return;
+        }
+        // steps are applied in the order of their latest update, as a step replaces the step of the same order of a previous attempt
+        steps.remove(step.getId());
+        steps.put(step.getId(), step);
+    }
+
+    private static boolean isBefore(ProcessExecutionStep step, ProcessExecutionStep other) {
+        return step.getSequenceNumber() != null && other.getSequenceNumber() != null && step.getSequenceNumber() < other.getSequenceNumber();
+    }
+
+    public void addStepProgress(ProcessExecutionStepProgress progress) {
+        // progress messages may be delivered out of order
+        stepProgresses.merge(progress.getStepId(), progress, (previous, next) ->
+            next.getUpdatedAt().isAfter(previous.getUpdatedAt()) ? next : previous);
+    }
+
+    public Optional<ProcessExecutionStatusUpdate> getExecutionStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    public Collection<ProcessExecutionStep> getSteps() {
+        return steps.values();
+    }
+
+    public Collection<ProcessExecutionStepProgress> getStepProgresses() {
+        return stepProgresses.values();
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.services.processexecution;
+
+/**
+ * Outcome of a worker claiming the lease of an execution.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public enum ProcessLeaseClaim {
+    /** The lease was free, or already held by the claiming worker which renews it */
+    ACQUIRED,
+    /** The lease of another worker had expired, the claiming worker takes the execution over */
+    TAKEN_OVER,
+    /** Another worker holds the lease */
+    REFUSED,
+    /** The execution is over, it is not computed anymore */
+    OVER
+}
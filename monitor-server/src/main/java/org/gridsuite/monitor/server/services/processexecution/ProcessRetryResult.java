@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.services.processexecution;
+
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecution;
+
+/**
+ * @param execution the execution, scheduled again if it could be retried
+ * @param processConfig configuration to run the execution with, or {@code null} if it cannot be retried
+ * @param debugFileLocation debug file location of the execution
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public record ProcessRetryResult(
+    ProcessExecution execution,
+    ProcessConfig processConfig,
+    String debugFileLocation
+) {
+    public boolean isRetried() {
+        return processConfig != null;
+    }
+}
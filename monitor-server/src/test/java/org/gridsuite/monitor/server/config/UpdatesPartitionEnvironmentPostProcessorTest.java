@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.gridsuite.monitor.server.config.UpdatesPartitionEnvironmentPostProcessor.*;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class UpdatesPartitionEnvironmentPostProcessorTest {
+
+    private final UpdatesPartitionEnvironmentPostProcessor postProcessor = new UpdatesPartitionEnvironmentPostProcessor();
+
+    @Test
+    void shouldNotRequirePartitionWhenUpdatesAreNotPartitioned() {
+        MockEnvironment environment = new MockEnvironment().withProperty(HOSTNAME_PROPERTY, "monitor-server-7d9f8b6c4-x2k9p");
+
+        postProcessor.postProcessEnvironment(environment, null);
+
+        assertThat(environment.containsProperty(PARTITION_INDEX_PROPERTY)).isFalse();
+    }
+
+    @Test
+    void shouldTakePartitionFromHostnameOrdinal() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty(PARTITION_COUNT_PROPERTY, "3")
+            .withProperty(HOSTNAME_PROPERTY, "monitor-server-2");
+
+        postProcessor.postProcessEnvironment(environment, null);
+
+        assertThat(environment.getProperty(PARTITION_INDEX_PROPERTY, Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepPartitionSetExplicitly() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty(PARTITION_COUNT_PROPERTY, "3")
+            .withProperty(PARTITION_INDEX_PROPERTY, "1")
+            .withProperty(HOSTNAME_PROPERTY, "monitor-server-2");
+
+        postProcessor.postProcessEnvironment(environment, null);
+
+        assertThat(environment.getProperty(PARTITION_INDEX_PROPERTY, Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailWhenPartitionCannotBeDetermined() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty(PARTITION_COUNT_PROPERTY, "3")
+            .withProperty(HOSTNAME_PROPERTY, "monitor-server-7d9f8b6c4-x2k9p");
+
+        assertThatThrownBy(() -> postProcessor.postProcessEnvironment(environment, null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(PARTITION_INDEX_PROPERTY);
+    }
+
+    @Test
+    void shouldFailWhenPartitionIsOutOfRange() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty(PARTITION_COUNT_PROPERTY, "3")
+            .withProperty(HOSTNAME_PROPERTY, "monitor-server-3");
+
+        assertThatThrownBy(() -> postProcessor.postProcessEnvironment(environment, null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(PARTITION_COUNT_PROPERTY);
+    }
+}
@@ -8,6 +8,7 @@ package org.gridsuite.monitor.server.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.processexecution.ExecutionLease;
 import org.gridsuite.monitor.commons.types.processconfig.ModificationInfo;
 import org.gridsuite.monitor.commons.types.processconfig.SecurityAnalysisConfig;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
@@ -16,11 +17,18 @@ import org.gridsuite.monitor.commons.types.processexecution.StepStatus;
 import org.gridsuite.monitor.server.PropertyServerNameProvider;
 import org.gridsuite.monitor.server.dto.processconfig.PersistedProcessConfig;
 import org.gridsuite.monitor.server.dto.processexecution.ProcessExecution;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionFilter;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionPage;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionSummary;
 import org.gridsuite.monitor.server.dto.report.ReportLog;
 import org.gridsuite.monitor.server.dto.report.ReportPage;
 import org.gridsuite.monitor.server.dto.report.Severity;
+import org.gridsuite.monitor.server.error.MonitorServerBusinessErrorCode;
+import org.gridsuite.monitor.server.error.MonitorServerException;
 import org.gridsuite.monitor.server.services.processconfig.ProcessConfigService;
 import org.gridsuite.monitor.server.services.processexecution.ProcessExecutionService;
+import org.gridsuite.monitor.server.services.processexecution.ProcessLeaseClaim;
+import org.gridsuite.monitor.server.services.processexecution.ProcessRetryResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
@@ -32,6 +40,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -75,7 +84,8 @@ class MonitorControllerTest {
         SecurityAnalysisConfig config = new SecurityAnalysisConfig(
                 parametersUuid,
                 List.of(new ModificationInfo(modificationUuid, "descr", true)),
-                loadflowParametersUuid
+                loadflowParametersUuid,
+                null
         );
         PersistedProcessConfig persistedProcessConfig = new PersistedProcessConfig(processConfigUuid, config);
 
@@ -214,6 +224,60 @@ class MonitorControllerTest {
         verify(processExecutionService).getLaunchedProcesses(ProcessType.SECURITY_ANALYSIS);
     }
 
+    @Test
+    void getLaunchedProcessesPage() throws Exception {
+        UUID caseUuid = UUID.randomUUID();
+        Instant startedAfter = Instant.parse("2026-10-01T00:00:00Z");
+        ProcessExecutionSummary processExecution = new ProcessExecutionSummary(UUID.randomUUID(), ProcessType.SECURITY_ANALYSIS.name(), caseUuid, UUID.randomUUID(), ProcessStatus.COMPLETED, "env1",
+                Instant.now().minusSeconds(80), Instant.now().minusSeconds(60), Instant.now().minusSeconds(30), UUID.randomUUID(), "user1", 3, 3, 0, null);
+        ProcessExecutionPage page = new ProcessExecutionPage(List.of(processExecution), "nextCursor");
+        ProcessExecutionFilter expectedFilter = ProcessExecutionFilter.builder()
+            .processType(ProcessType.SECURITY_ANALYSIS)
+            .statuses(List.of(ProcessStatus.COMPLETED, ProcessStatus.FAILED))
+            .userId("user1")
+            .caseUuid(caseUuid)
+            .startedAfter(startedAfter)
+            .build();
+
+        when(processExecutionService.getLaunchedProcesses(expectedFilter, "cursor", 20)).thenReturn(page);
+
+        mockMvc.perform(get("/v1/executions/page")
+                .param("processType", "SECURITY_ANALYSIS")
+                .param("status", "COMPLETED", "FAILED")
+                .param("userId", "user1")
+                .param("caseUuid", caseUuid.toString())
+                .param("startedAfter", startedAfter.toString())
+                .param("cursor", "cursor")
+                .param("size", "20")
+                .accept(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(objectMapper.writeValueAsString(page)));
+
+        verify(processExecutionService).getLaunchedProcesses(expectedFilter, "cursor", 20);
+    }
+
+    @Test
+    void getLaunchedProcessesPageShouldClampSize() throws Exception {
+        ProcessExecutionFilter expectedFilter = ProcessExecutionFilter.builder().processType(ProcessType.LOADFLOW).build();
+        when(processExecutionService.getLaunchedProcesses(expectedFilter, null, 500)).thenReturn(new ProcessExecutionPage(List.of(), null));
+
+        mockMvc.perform(get("/v1/executions/page?processType=LOADFLOW&size=100000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(0)));
+
+        verify(processExecutionService).getLaunchedProcesses(expectedFilter, null, 500);
+    }
+
+    @Test
+    void getLaunchedProcessesPageShouldReturn400WhenCursorIsInvalid() throws Exception {
+        when(processExecutionService.getLaunchedProcesses(any(), eq("invalid"), anyInt()))
+            .thenThrow(new MonitorServerException(MonitorServerBusinessErrorCode.INVALID_EXECUTION_CURSOR, "Invalid execution cursor: invalid"));
+
+        mockMvc.perform(get("/v1/executions/page?processType=LOADFLOW&cursor=invalid"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getExecutionShouldReturn() throws Exception {
         UUID executionId = UUID.randomUUID();
@@ -244,9 +308,9 @@ class MonitorControllerTest {
     @Test
     void getStepsInfos() throws Exception {
         UUID executionId = UUID.randomUUID();
-        ProcessExecutionStep processExecutionStep1 = new ProcessExecutionStep(UUID.randomUUID(), "loadNetwork", 0, StepStatus.RUNNING, null, null, Instant.now(), null);
-        ProcessExecutionStep processExecutionStep2 = new ProcessExecutionStep(UUID.randomUUID(), "applyModifs", 1, StepStatus.SCHEDULED, null, null, null, null);
-        ProcessExecutionStep processExecutionStep3 = new ProcessExecutionStep(UUID.randomUUID(), "runSA", 2, StepStatus.SCHEDULED, null, null, null, null);
+        ProcessExecutionStep processExecutionStep1 = new ProcessExecutionStep(UUID.randomUUID(), "loadNetwork", 0, StepStatus.RUNNING, null, null, Instant.now(), null, null, null, null, null);
+        ProcessExecutionStep processExecutionStep2 = new ProcessExecutionStep(UUID.randomUUID(), "applyModifs", 1, StepStatus.SCHEDULED, null, null, null, null, null, null, null, null);
+        ProcessExecutionStep processExecutionStep3 = new ProcessExecutionStep(UUID.randomUUID(), "runSA", 2, StepStatus.SCHEDULED, null, null, null, null, null, null, null, null);
         List<ProcessExecutionStep> processExecutionStepList = List.of(processExecutionStep1, processExecutionStep2, processExecutionStep3);
 
         when(processExecutionService.getStepsInfos(executionId)).thenReturn(Optional.of(processExecutionStepList));
@@ -271,6 +335,131 @@ class MonitorControllerTest {
         verify(processExecutionService).getStepsInfos(executionId);
     }
 
+    @Test
+    void cancelExecutionReturnsOK() throws Exception {
+        UUID executionId = UUID.randomUUID();
+        when(processExecutionService.cancelExecution(executionId))
+            .thenReturn(Optional.of(ProcessExecution.builder().id(executionId).type("SECURITY_ANALYSIS").status(ProcessStatus.CANCELLING).build()));
+
+        mockMvc.perform(put("/v1/executions/{executionId}/cancel", executionId))
+            .andExpect(status().isOk());
+
+        verify(processExecutionService).cancelExecution(executionId);
+    }
+
+    @Test
+    void cancelExecutionReturnsConflictWhenExecutionIsOver() throws Exception {
+        UUID executionId = UUID.randomUUID();
+        when(processExecutionService.cancelExecution(executionId))
+            .thenReturn(Optional.of(ProcessExecution.builder().id(executionId).type("SECURITY_ANALYSIS").status(ProcessStatus.COMPLETED).build()));
+
+        mockMvc.perform(put("/v1/executions/{executionId}/cancel", executionId))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void cancelExecutionReturnsNotFound() throws Exception {
+        UUID executionId = UUID.randomUUID();
+        when(processExecutionService.cancelExecution(executionId))
+            .thenReturn(Optional.empty());
+
+        mockMvc.perform(put("/v1/executions/{executionId}/cancel", executionId))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void retryExecutionReturnsOK() throws Exception {
+        UUID executionId = UUID.randomUUID();
+        when(processExecutionService.retryExecution(executionId))
+            .thenReturn(Optional.of(new ProcessRetryResult(ProcessExecution.builder().id(executionId).type("SECURITY_ANALYSIS").status(ProcessStatus.SCHEDULED).build(),
+                mock(SecurityAnalysisConfig.class), null)));
+
+        mockMvc.perform(post("/v1/executions/{executionId}/retry", executionId))
+            .andExpect(status().isOk());
+
+        verify(processExecutionService).retryExecution(executionId);
+    }
+
+    @Test
+    void retryExecutionReturnsConflictWhenExecutionIsNotRetryable() throws Exception {
+        UUID executionId = UUID.randomUUID();
+        when(processExecutionService.retryExecution(executionId))
+            .thenReturn(Optional.of(new ProcessRetryResult(ProcessExecution.builder().id(executionId).type("SECURITY_ANALYSIS").status(ProcessStatus.RUNNING).build(),
+                null, null)));
+
+        mockMvc.perform(post("/v1/executions/{executionId}/retry", executionId))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void retryExecutionReturnsNotFound() throws Exception {
+        UUID executionId = UUID.randomUUID();
+        when(processExecutionService.retryExecution(executionId))
+            .thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/v1/executions/{executionId}/retry", executionId))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void acquireLeaseReturnsWhetherLeaseIsTakenOver() throws Exception {
+        UUID executionId = UUID.randomUUID();
+        when(processExecutionService.acquireLease(executionId, "worker-1", Duration.ofMinutes(2)))
+            .thenReturn(Optional.of(ProcessLeaseClaim.TAKEN_OVER));
+
+        mockMvc.perform(put("/v1/executions/{executionId}/lease", executionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ExecutionLease("worker-1", Duration.ofMinutes(2)))))
+            .andExpect(status().isOk())
+            .andExpect(content().string("true"));
+    }
+
+    @Test
+    void acquireLeaseReturnsConflictWhenLeaseIsHeldByAnotherWorker() throws Exception {
+        UUID executionId = UUID.randomUUID();
+        when(processExecutionService.acquireLease(executionId, "worker-2", Duration.ofMinutes(2)))
+            .thenReturn(Optional.of(ProcessLeaseClaim.REFUSED));
+
+        mockMvc.perform(put("/v1/executions/{executionId}/lease", executionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ExecutionLease("worker-2", Duration.ofMinutes(2)))))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void acquireLeaseReturnsGoneWhenExecutionIsOver() throws Exception {
+        UUID executionId = UUID.randomUUID();
+        when(processExecutionService.acquireLease(executionId, "worker-2", Duration.ofMinutes(2)))
+            .thenReturn(Optional.of(ProcessLeaseClaim.OVER));
+
+        mockMvc.perform(put("/v1/executions/{executionId}/lease", executionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ExecutionLease("worker-2", Duration.ofMinutes(2)))))
+            .andExpect(status().isGone());
+    }
+
+    @Test
+    void acquireLeaseReturnsNotFound() throws Exception {
+        UUID executionId = UUID.randomUUID();
+        when(processExecutionService.acquireLease(executionId, "worker-1", Duration.ofMinutes(2)))
+            .thenReturn(Optional.empty());
+
+        mockMvc.perform(put("/v1/executions/{executionId}/lease", executionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ExecutionLease("worker-1", Duration.ofMinutes(2)))))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void releaseLeaseReturnsOK() throws Exception {
+        UUID executionId = UUID.randomUUID();
+
+        mockMvc.perform(delete("/v1/executions/{executionId}/lease", executionId).param("owner", "worker-1"))
+            .andExpect(status().isOk());
+
+        verify(processExecutionService).releaseLease(executionId, "worker-1");
+    }
+
     @Test
     void deleteExecutionReturnsOK() throws Exception {
         UUID executionId = UUID.randomUUID();
@@ -61,7 +61,7 @@ class ProcessConfigControllerTest {
         UUID processConfigId = UUID.randomUUID();
         SecurityAnalysisConfig config = new SecurityAnalysisConfig(UUID.randomUUID(), List.of(new ModificationInfo(UUID.randomUUID(), "descr1", true),
                 new ModificationInfo(UUID.randomUUID(), "descr2", true)),
-            UUID.randomUUID());
+            UUID.randomUUID(), null);
 
         when(processConfigService.createProcessConfig(any(ProcessConfig.class)))
             .thenReturn(processConfigId);
@@ -83,7 +83,7 @@ class ProcessConfigControllerTest {
             UUID.randomUUID(), List.of(
                 new ModificationInfo(UUID.randomUUID(), "descr1", true),
                 new ModificationInfo(UUID.randomUUID(), "descr2", true)),
-            UUID.randomUUID())
+            UUID.randomUUID(), null)
         );
         String expectedJson = objectMapper.writeValueAsString(config);
 
@@ -141,7 +141,7 @@ class ProcessConfigControllerTest {
         SecurityAnalysisConfig config = new SecurityAnalysisConfig(UUID.randomUUID(),
             List.of(new ModificationInfo(UUID.randomUUID(), "descr1", true),
                 new ModificationInfo(UUID.randomUUID(), "descr2", true)),
-            UUID.randomUUID());
+            UUID.randomUUID(), null);
 
         when(processConfigService.updateProcessConfig(any(UUID.class), any(ProcessConfig.class)))
             .thenReturn(Optional.of(processConfigId));
@@ -159,7 +159,7 @@ class ProcessConfigControllerTest {
         UUID processConfigId = UUID.randomUUID();
         SecurityAnalysisConfig config = new SecurityAnalysisConfig(UUID.randomUUID(),
             List.of(new ModificationInfo(UUID.randomUUID(), "descr", true)),
-            UUID.randomUUID());
+            UUID.randomUUID(), null);
 
         when(processConfigService.updateProcessConfig(any(UUID.class), any(ProcessConfig.class)))
             .thenReturn(Optional.empty());
@@ -230,8 +230,8 @@ class ProcessConfigControllerTest {
     @Test
     void getAllProcessConfigs() throws Exception {
         List<PersistedProcessConfig> configs = List.of(
-            new PersistedProcessConfig(UUID.randomUUID(), new SecurityAnalysisConfig(UUID.randomUUID(), List.of(new ModificationInfo(UUID.randomUUID(), "descr1", true)), UUID.randomUUID())),
-            new PersistedProcessConfig(UUID.randomUUID(), new SecurityAnalysisConfig(UUID.randomUUID(), List.of(new ModificationInfo(UUID.randomUUID(), "descr2", true)), UUID.randomUUID()))
+            new PersistedProcessConfig(UUID.randomUUID(), new SecurityAnalysisConfig(UUID.randomUUID(), List.of(new ModificationInfo(UUID.randomUUID(), "descr1", true)), UUID.randomUUID(), null)),
+            new PersistedProcessConfig(UUID.randomUUID(), new SecurityAnalysisConfig(UUID.randomUUID(), List.of(new ModificationInfo(UUID.randomUUID(), "descr2", true)), UUID.randomUUID(), null))
         );
         String expectedJson = objectMapper.writeValueAsString(configs);
 
@@ -32,7 +32,8 @@ class SecurityAnalysisConfigMapperTest {
                 List.of(new ModificationInfo(UUID.randomUUID(), "descr1", true),
                     new ModificationInfo(UUID.randomUUID(), "descr2", true),
                     new ModificationInfo(UUID.randomUUID(), "descr3", true)),
-                UUID.randomUUID()
+                UUID.randomUUID(),
+                4
         );
 
         SecurityAnalysisConfigEntity entity = mapper.toEntity(dto);
@@ -40,6 +41,7 @@ class SecurityAnalysisConfigMapperTest {
         assertThat(entity).isNotNull();
         assertThat(entity.getSecurityAnalysisParametersUuid()).isEqualTo(dto.securityAnalysisParametersUuid());
         assertThat(entity.getLoadflowParametersUuid()).isEqualTo(dto.loadflowParametersUuid());
+        assertThat(entity.getComputationThreads()).isEqualTo(dto.computationThreads());
         assertThat(entity.getModifications().stream().map(ModificationInfoEmbeddable::getModificationUuid).toList())
             .isEqualTo(dto.modifications().stream().map(ModificationInfo::modificationUuid).toList());
         assertThat(entity.getModifications().stream().map(ModificationInfoEmbeddable::getDescription).toList())
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.mappers.processexecution;
+
+import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
+import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionSummary;
+import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionEntity;
+import org.gridsuite.monitor.server.repositories.ProcessExecutionStepCounters;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class ProcessExecutionMapperTest {
+
+    private final ProcessExecutionMapper mapper = Mappers.getMapper(ProcessExecutionMapper.class);
+
+    private static ProcessExecutionEntity createExecution() {
+        return ProcessExecutionEntity.builder()
+            .id(UUID.randomUUID())
+            .type(ProcessType.SECURITY_ANALYSIS.name())
+            .caseUuid(UUID.randomUUID())
+            .processConfigId(UUID.randomUUID())
+            .status(ProcessStatus.RUNNING)
+            .executionEnvName("env")
+            .startedAt(Instant.now())
+            .userId("user")
+            .build();
+    }
+
+    @Test
+    void toSummaryShouldMapStepCounters() {
+        ProcessExecutionEntity execution = createExecution();
+        ProcessExecutionStepCounters stepCounters = mock(ProcessExecutionStepCounters.class);
+        when(stepCounters.getStepCount()).thenReturn(4L);
+        when(stepCounters.getDoneStepCount()).thenReturn(2L);
+        when(stepCounters.getFailedStepCount()).thenReturn(1L);
+        when(stepCounters.getCurrentStepType()).thenReturn("LOAD_FLOW");
+
+        ProcessExecutionSummary summary = mapper.toSummary(execution, stepCounters);
+
+        assertThat(summary.id()).isEqualTo(execution.getId());
+        assertThat(summary.status()).isEqualTo(ProcessStatus.RUNNING);
+        assertThat(summary.stepCount()).isEqualTo(4L);
+        assertThat(summary.doneStepCount()).isEqualTo(2L);
+        assertThat(summary.failedStepCount()).isEqualTo(1L);
+        assertThat(summary.currentStepType()).isEqualTo("LOAD_FLOW");
+    }
+
+    @Test
+    void toSummaryShouldCountNoStepsForExecutionWithoutSteps() {
+        ProcessExecutionEntity execution = createExecution();
+
+        ProcessExecutionSummary summary = mapper.toSummary(execution, null);
+
+        assertThat(summary.id()).isEqualTo(execution.getId());
+        assertThat(summary.userId()).isEqualTo("user");
+        assertThat(summary.stepCount()).isZero();
+        assertThat(summary.doneStepCount()).isZero();
+        assertThat(summary.failedStepCount()).isZero();
+        assertThat(summary.currentStepType()).isNull();
+    }
+
+    @Test
+    void toSummaryShouldCountNoStepsForNullCounters() {
+        ProcessExecutionStepCounters stepCounters = mock(ProcessExecutionStepCounters.class);
+        when(stepCounters.getStepCount()).thenReturn(null);
+        when(stepCounters.getDoneStepCount()).thenReturn(null);
+        when(stepCounters.getFailedStepCount()).thenReturn(null);
+
+        ProcessExecutionSummary summary = mapper.toSummary(createExecution(), stepCounters);
+
+        assertThat(summary.stepCount()).isZero();
+        assertThat(summary.doneStepCount()).isZero();
+        assertThat(summary.failedStepCount()).isZero();
+    }
+}
@@ -34,7 +34,10 @@ class ProcessExecutionStepMapperTest {
                 UUID.randomUUID(),
                 ResultType.SECURITY_ANALYSIS,
                 Instant.now(),
-                Instant.now().plusSeconds(10)
+                Instant.now().plusSeconds(10),
+                null,
+                null,
+                null
         );
 
         UUID targetID = UUID.randomUUID();
@@ -46,7 +49,10 @@ class ProcessExecutionStepMapperTest {
                 UUID.randomUUID(),
                 ResultType.SECURITY_ANALYSIS,
                 Instant.now().plusSeconds(20),
-                Instant.now().plusSeconds(30)
+                Instant.now().plusSeconds(30),
+                40L,
+                100L,
+                Instant.now().plusSeconds(25)
         );
 
         mapper.updateEntityFromEntity(source, target);
@@ -55,7 +61,10 @@ class ProcessExecutionStepMapperTest {
 
         assertThat(target)
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "progressDone", "progressTotal", "progressUpdatedAt")
                 .isEqualTo(source);
+        assertThat(target.getProgressDone()).isEqualTo(40L);
+        assertThat(target.getProgressTotal()).isEqualTo(100L);
+        assertThat(target.getProgressUpdatedAt()).isNotNull();
     }
 }
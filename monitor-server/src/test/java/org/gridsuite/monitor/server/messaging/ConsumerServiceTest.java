@@ -7,36 +7,35 @@
 package org.gridsuite.monitor.server.messaging;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.gridsuite.monitor.commons.types.messaging.MessageType;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStatusUpdate;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStepProgress;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
+import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
 import org.gridsuite.monitor.commons.types.processexecution.StepStatus;
 import org.gridsuite.monitor.server.services.processexecution.ProcessExecutionService;
+import org.gridsuite.monitor.server.services.processexecution.ProcessExecutionUpdates;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.Message;
-import org.springframework.messaging.support.GenericMessage;
 import org.springframework.messaging.support.MessageBuilder;
 
-import java.io.UncheckedIOException;
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Consumer;
 
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.never;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
@@ -57,119 +56,192 @@ class ConsumerServiceTest {
         consumerService = new ConsumerService(processExecutionService, objectMapper);
     }
 
+    private Message<String> message(MessageType messageType, UUID executionId, Object payload) throws JsonProcessingException {
+        return message(messageType, executionId, objectMapper.writeValueAsString(payload));
+    }
+
+    private static Message<String> message(MessageType messageType, UUID executionId, String payload) {
+        return MessageBuilder.withPayload(payload)
+            .setHeader(ConsumerService.HEADER_MESSAGE_TYPE, messageType.toString())
+            .setHeader(ConsumerService.HEADER_EXECUTION_ID, executionId.toString())
+            .build();
+    }
+
+    @SafeVarargs
+    private static Message<List<String>> batch(Message<String>... messages) {
+        return MessageBuilder.withPayload(Arrays.stream(messages).map(Message::getPayload).toList())
+            .setHeader(ConsumerService.HEADER_BATCHED_HEADERS, Arrays.stream(messages).map(message -> Map.<String, Object>copyOf(message.getHeaders())).toList())
+            .build();
+    }
+
+    private static ProcessExecutionStep step(UUID stepId, StepStatus status) {
+        return ProcessExecutionStep.builder()
+            .id(stepId)
+            .stepType("LOAD_FLOW")
+            .status(status)
+            .startedAt(Instant.now())
+            .build();
+    }
+
     @Test
     void consumeProcessExecutionStatusUpdateMessage() throws JsonProcessingException {
         UUID executionId = UUID.randomUUID();
         Instant startedAt = Instant.parse("2025-01-01T11:59:00Z");
         Instant completedAt = Instant.parse("2025-01-01T12:00:00Z");
-
         ProcessExecutionStatusUpdate statusUpdate = ProcessExecutionStatusUpdate.builder()
                 .status(ProcessStatus.RUNNING)
                 .executionEnvName("env-1")
                 .startedAt(startedAt)
                 .completedAt(completedAt)
                 .build();
+        Consumer<Message<List<String>>> consumer = consumerService.consumeMonitorWorkerUpdate();
 
-        String payload = objectMapper.writeValueAsString(statusUpdate);
-        Message<String> message = MessageBuilder.withPayload(payload)
-            .setHeader(ConsumerService.HEADER_MESSAGE_TYPE, MessageType.EXECUTION_STATUS_UPDATE.toString())
-            .setHeader(ConsumerService.HEADER_EXECUTION_ID, executionId.toString())
-            .build();
-        Consumer<Message<String>> consumer = consumerService.consumeMonitorWorkerUpdate();
-
-        consumer.accept(message);
+        consumer.accept(batch(message(MessageType.EXECUTION_STATUS_UPDATE, executionId, statusUpdate)));
 
-        verify(processExecutionService).updateExecutionStatus(executionId, statusUpdate);
-        verify(processExecutionService, never()).updateStepStatus(any(), any());
+        verify(processExecutionService).applyUpdates(argThat(updates -> {
+            assertThat(updates).containsOnlyKeys(executionId);
+            assertThat(updates.get(executionId).getExecutionStatus()).contains(statusUpdate);
+            assertThat(updates.get(executionId).getSteps()).isEmpty();
+            return true;
+        }));
     }
 
     @Test
-    void consumeMonitorWorkerUpdateThrowsOnInvalidJson() {
+    void consumeProcessExecutionStepUpdateMessage() throws JsonProcessingException {
         UUID executionId = UUID.randomUUID();
-        String invalidPayload = "{invalid json}";
-        Map<String, Object> headers = new HashMap<>();
-        headers.put(ConsumerService.HEADER_MESSAGE_TYPE, MessageType.EXECUTION_STATUS_UPDATE.toString());
-        headers.put(ConsumerService.HEADER_EXECUTION_ID, executionId.toString());
-        Message<String> message = new GenericMessage<>(invalidPayload, headers);
-        Consumer<Message<String>> consumer = consumerService.consumeMonitorWorkerUpdate();
-
-        assertThatThrownBy(() -> consumer.accept(message))
-                .isInstanceOf(UncheckedIOException.class)
-                .hasMessageContaining("Failed to parse payload as ProcessExecutionStatusUpdate");
-
-        verify(processExecutionService, never()).updateExecutionStatus(any(), any());
-        verify(processExecutionService, never()).updateStepStatus(any(), any());
+        UUID stepId = UUID.randomUUID();
+        Consumer<Message<List<String>>> consumer = consumerService.consumeMonitorWorkerUpdate();
+
+        consumer.accept(batch(message(MessageType.STEP_STATUS_UPDATE, executionId, step(stepId, StepStatus.RUNNING))));
+
+        verify(processExecutionService).applyUpdates(argThat(updates -> {
+            assertThat(updates.get(executionId).getSteps()).singleElement()
+                .extracting(ProcessExecutionStep::getId).isEqualTo(stepId);
+            assertThat(updates.get(executionId).getExecutionStatus()).isEmpty();
+            return true;
+        }));
     }
 
     @Test
-    void consumeMonitorWorkerUpdateStepsStatusesThrowsOnInvalidJson() {
+    void consumeProcessExecutionStepsUpdateMessage() throws JsonProcessingException {
         UUID executionId = UUID.randomUUID();
-        String invalidPayload = "{invalid json}";
-        Map<String, Object> headers = new HashMap<>();
-        headers.put(ConsumerService.HEADER_MESSAGE_TYPE, MessageType.STEPS_STATUSES_UPDATE.toString());
-        headers.put(ConsumerService.HEADER_EXECUTION_ID, executionId.toString());
-        Message<String> message = new GenericMessage<>(invalidPayload, headers);
-        Consumer<Message<String>> consumer = consumerService.consumeMonitorWorkerUpdate();
-
-        assertThatThrownBy(() -> consumer.accept(message))
-            .isInstanceOf(UncheckedIOException.class)
-            .hasMessageContaining("Failed to parse payload as " + new TypeReference<List<ProcessExecutionStep>>() { }.getType().getTypeName());
-
-        verify(processExecutionService, never()).updateExecutionStatus(any(), any());
-        verify(processExecutionService, never()).updateStepsStatuses(any(), any());
+        UUID stepId1 = UUID.randomUUID();
+        UUID stepId2 = UUID.randomUUID();
+        Consumer<Message<List<String>>> consumer = consumerService.consumeMonitorWorkerUpdate();
+
+        consumer.accept(batch(message(MessageType.STEPS_STATUSES_UPDATE, executionId,
+            List.of(step(stepId1, StepStatus.SCHEDULED), step(stepId2, StepStatus.SCHEDULED)))));
+
+        verify(processExecutionService).applyUpdates(argThat(updates -> {
+            assertThat(updates.get(executionId).getSteps()).extracting(ProcessExecutionStep::getId).containsExactly(stepId1, stepId2);
+            return true;
+        }));
     }
 
     @Test
-    void consumeProcessExecutionStepUpdateMessage() throws JsonProcessingException {
+    void consumeProcessExecutionStepProgressMessage() throws JsonProcessingException {
         UUID executionId = UUID.randomUUID();
         UUID stepId = UUID.randomUUID();
-        ProcessExecutionStep stepUpdate = ProcessExecutionStep.builder()
-                .id(stepId)
-                .stepType("LOAD_FLOW")
-                .status(StepStatus.RUNNING)
-                .startedAt(Instant.now())
-                .build();
-        String payload = objectMapper.writeValueAsString(stepUpdate);
-        Map<String, Object> headers = new HashMap<>();
-        headers.put(ConsumerService.HEADER_MESSAGE_TYPE, MessageType.STEP_STATUS_UPDATE.toString());
-        headers.put(ConsumerService.HEADER_EXECUTION_ID, executionId.toString());
-        Message<String> message = new GenericMessage<>(payload, headers);
-        Consumer<Message<String>> consumer = consumerService.consumeMonitorWorkerUpdate();
+        ProcessExecutionStepProgress progress = ProcessExecutionStepProgress.builder()
+            .stepId(stepId)
+            .done(40)
+            .total(100)
+            .updatedAt(Instant.now())
+            .build();
+        Consumer<Message<List<String>>> consumer = consumerService.consumeMonitorWorkerUpdate();
+
+        consumer.accept(batch(message(MessageType.STEP_PROGRESS_UPDATE, executionId, progress)));
+
+        verify(processExecutionService).applyUpdates(argThat(updates -> {
+            assertThat(updates.get(executionId).getStepProgresses()).singleElement().satisfies(update -> {
+                assertThat(update.getStepId()).isEqualTo(stepId);
+                assertThat(update.getDone()).isEqualTo(40);
+                assertThat(update.getTotal()).isEqualTo(100);
+            });
+            assertThat(updates.get(executionId).getSteps()).isEmpty();
+            return true;
+        }));
+    }
 
-        consumer.accept(message);
+    @Test
+    void consumeBatchShouldCoalesceUpdatesByExecution() throws JsonProcessingException {
+        UUID executionId = UUID.randomUUID();
+        UUID otherExecutionId = UUID.randomUUID();
+        UUID stepId = UUID.randomUUID();
+        Instant startedAt = Instant.now();
+        Instant progressUpdatedAt = Instant.now();
+        Consumer<Message<List<String>>> consumer = consumerService.consumeMonitorWorkerUpdate();
+
+        consumer.accept(batch(
+            message(MessageType.EXECUTION_STATUS_UPDATE, executionId, new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.RUNNING, "env", startedAt, null)),
+            message(MessageType.STEP_STATUS_UPDATE, executionId, step(stepId, StepStatus.SCHEDULED)),
+            message(MessageType.STEPS_STATUSES_UPDATE, executionId, List.of(step(stepId, StepStatus.RUNNING))),
+            message(MessageType.STEP_PROGRESS_UPDATE, executionId, new ProcessExecutionStepProgress(stepId, 5, 10, progressUpdatedAt)),
+            message(MessageType.STEP_PROGRESS_UPDATE, executionId, new ProcessExecutionStepProgress(stepId, 2, 10, progressUpdatedAt.minusSeconds(1))),
+            message(MessageType.EXECUTION_STATUS_UPDATE, executionId, new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.COMPLETED, null, null, progressUpdatedAt)),
+            message(MessageType.STEP_STATUS_UPDATE, otherExecutionId, step(UUID.randomUUID(), StepStatus.SCHEDULED))));
+
+        verify(processExecutionService).applyUpdates(argThat(updates -> {
+            assertThat(updates).containsOnlyKeys(executionId, otherExecutionId);
+            ProcessExecutionUpdates executionUpdates = updates.get(executionId);
+            assertThat(executionUpdates.getExecutionStatus()).hasValueSatisfying(status -> {
+                assertThat(status.getStatus()).isEqualTo(ProcessStatus.COMPLETED);
+                assertThat(status.getExecutionEnvName()).isEqualTo("env");
+                assertThat(status.getStartedAt()).isEqualTo(startedAt);
+                assertThat(status.getCompletedAt()).isEqualTo(progressUpdatedAt);
+            });
+            assertThat(executionUpdates.getSteps()).singleElement()
+                .extracting(ProcessExecutionStep::getStatus).isEqualTo(StepStatus.RUNNING);
+            assertThat(executionUpdates.getStepProgresses()).singleElement()
+                .extracting(ProcessExecutionStepProgress::getDone).isEqualTo(5L);
+            return true;
+        }));
+    }
 
-        verify(processExecutionService).updateStepStatus(eq(executionId), any(ProcessExecutionStep.class));
-        verify(processExecutionService, never()).updateExecutionStatus(any(), any());
+    @Test
+    void consumeBatchShouldIgnoreStepUpdatesDeliveredOutOfOrder() throws JsonProcessingException {
+        UUID executionId = UUID.randomUUID();
+        UUID stepId = UUID.randomUUID();
+        ProcessExecutionStep completedStep = step(stepId, StepStatus.COMPLETED);
+        completedStep.setSequenceNumber(2L);
+        ProcessExecutionStep runningStep = step(stepId, StepStatus.RUNNING);
+        runningStep.setSequenceNumber(1L);
+        Consumer<Message<List<String>>> consumer = consumerService.consumeMonitorWorkerUpdate();
+
+        consumer.accept(batch(
+            message(MessageType.STEP_STATUS_UPDATE, executionId, completedStep),
+            message(MessageType.STEP_STATUS_UPDATE, executionId, runningStep)));
+
+        verify(processExecutionService).applyUpdates(argThat(updates -> {
+            assertThat(updates.get(executionId).getSteps()).singleElement()
+                .extracting(ProcessExecutionStep::getStatus).isEqualTo(StepStatus.COMPLETED);
+            return true;
+        }));
     }
 
     @Test
-    void consumeProcessExecutionStepsUpdateMessage() throws JsonProcessingException {
+    void consumeBatchShouldIgnoreInvalidMessages() throws JsonProcessingException {
         UUID executionId = UUID.randomUUID();
-        UUID stepId1 = UUID.randomUUID();
-        UUID stepId2 = UUID.randomUUID();
-        ProcessExecutionStep stepUpdate1 = ProcessExecutionStep.builder()
-            .id(stepId1)
-            .stepType("LOAD_NETWORK")
-            .status(StepStatus.SCHEDULED)
-            .startedAt(Instant.now())
-            .build();
-        ProcessExecutionStep stepUpdate2 = ProcessExecutionStep.builder()
-            .id(stepId2)
-            .stepType("SECURITY_ANALYSIS")
-            .status(StepStatus.SCHEDULED)
-            .startedAt(Instant.now())
-            .build();
-        String payload = objectMapper.writeValueAsString(List.of(stepUpdate1, stepUpdate2));
-        Map<String, Object> headers = new HashMap<>();
-        headers.put(ConsumerService.HEADER_MESSAGE_TYPE, MessageType.STEPS_STATUSES_UPDATE.toString());
-        headers.put(ConsumerService.HEADER_EXECUTION_ID, executionId.toString());
-        Message<String> message = new GenericMessage<>(payload, headers);
-        Consumer<Message<String>> consumer = consumerService.consumeMonitorWorkerUpdate();
-
-        consumer.accept(message);
-
-        verify(processExecutionService).updateStepsStatuses(eq(executionId), any(List.class));
-        verify(processExecutionService, never()).updateStepStatus(any(), any());
-        verify(processExecutionService, never()).updateExecutionStatus(any(), any());
+        UUID invalidExecutionId = UUID.randomUUID();
+        Consumer<Message<List<String>>> consumer = consumerService.consumeMonitorWorkerUpdate();
+
+        consumer.accept(batch(
+            message(MessageType.EXECUTION_STATUS_UPDATE, invalidExecutionId, "{invalid json}"),
+            message(MessageType.STEPS_STATUSES_UPDATE, invalidExecutionId, "{invalid json}"),
+            message(MessageType.STEP_STATUS_UPDATE, executionId, step(UUID.randomUUID(), StepStatus.RUNNING))));
+
+        verify(processExecutionService).applyUpdates(argThat(updates -> {
+            assertThat(updates).containsOnlyKeys(executionId);
+            return true;
+        }));
+    }
+
+    @Test
+    void consumeBatchShouldNotApplyUpdatesWhenNoMessageIsValid() {
+        Consumer<Message<List<String>>> consumer = consumerService.consumeMonitorWorkerUpdate();
+
+        consumer.accept(batch(message(MessageType.EXECUTION_STATUS_UPDATE, UUID.randomUUID(), "{invalid json}")));
+
+        verifyNoInteractions(processExecutionService);
     }
 }
@@ -19,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.messaging.Message;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -57,14 +58,16 @@ class NotificationServiceTest {
                 parametersUuid,
                 List.of(new ModificationInfo(UUID.randomUUID(), "descr1", true),
                     new ModificationInfo(UUID.randomUUID(), "descr2", true)),
-                loadflowParametersUuid
+                loadflowParametersUuid,
+                null
         );
     }
 
     @Test
     void sendProcessRunMessage() {
         String debugFileLocation = "debug/file/location";
-        notificationService.sendProcessRunMessage(caseUuid, securityAnalysisConfig, executionId, reportId, debugFileLocation);
+        Instant scheduledAt = Instant.now();
+        notificationService.sendProcessRunMessage(caseUuid, securityAnalysisConfig, executionId, reportId, debugFileLocation, scheduledAt);
 
         verify(publisher).send(
                 eq("publishRunSecurityAnalysis-out-0"),
@@ -73,7 +76,35 @@ class NotificationServiceTest {
                         message.caseUuid().equals(caseUuid) &&
                         message.reportId().equals(reportId) &&
                         message.config().equals(securityAnalysisConfig) &&
-                        message.debugFileLocation().equals(debugFileLocation))
+                        message.debugFileLocation().equals(debugFileLocation) &&
+                        message.scheduledAt().equals(scheduledAt) &&
+                        !message.resume())
+        );
+    }
+
+    @Test
+    void sendProcessRunMessageToResumeExecution() {
+        notificationService.sendProcessRunMessage(caseUuid, securityAnalysisConfig, executionId, reportId, null, Instant.now(), true);
+
+        verify(publisher).send(
+                eq("publishRunSecurityAnalysis-out-0"),
+                argThat((ProcessRunMessage<?> message) ->
+                        message.executionId().equals(executionId) &&
+                        message.resume())
+        );
+    }
+
+    @Test
+    void sendProcessCancelMessage() {
+        Instant scheduledAt = Instant.now();
+        notificationService.sendProcessCancelMessage(executionId, scheduledAt);
+
+        verify(publisher).send(
+                eq("publishCancel-out-0"),
+                argThat((Message<?> message) ->
+                        message.getPayload().equals("") &&
+                            executionId.toString().equals(message.getHeaders().get("executionId")) &&
+                            scheduledAt.toString().equals(message.getHeaders().get("scheduledAt")))
         );
     }
 
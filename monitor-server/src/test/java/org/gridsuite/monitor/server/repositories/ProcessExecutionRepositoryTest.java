@@ -9,6 +9,7 @@ package org.gridsuite.monitor.server.repositories;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
 import org.gridsuite.monitor.commons.types.processexecution.StepStatus;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionFilter;
 import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionEntity;
 import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionStepEntity;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -136,7 +138,8 @@ class ProcessExecutionRepositoryTest {
         entityManager.flush();
         entityManager.clear();
 
-        List<ProcessExecutionEntity> retrieved = executionRepository.findByTypeAndStartedAtIsNotNullOrderByStartedAtDesc(ProcessType.SECURITY_ANALYSIS.name());
+        ProcessExecutionFilter filter = ProcessExecutionFilter.builder().processType(ProcessType.SECURITY_ANALYSIS).build();
+        List<ProcessExecutionEntity> retrieved = executionRepository.findLaunchedExecutions(ProcessExecutionSpecifications.launched(filter), 10);
         assertThat(retrieved).hasSize(2);
 
         assertThat(retrieved.get(0).getType()).isEqualTo(ProcessType.SECURITY_ANALYSIS.name());
@@ -159,4 +162,159 @@ class ProcessExecutionRepositoryTest {
         assertThat(retrieved.get(1).getReportId()).isEqualTo(report1Uuid);
         assertThat(retrieved.get(1).getUserId()).isEqualTo("user1");
     }
+
+    private UUID saveExecution(ProcessStatus status, String leaseOwner, Instant leaseExpiresAt) {
+        ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
+            .id(UUID.randomUUID())
+            .type(ProcessType.SECURITY_ANALYSIS.name())
+            .caseUuid(UUID.randomUUID())
+            .status(status)
+            .scheduledAt(Instant.now())
+            .leaseOwner(leaseOwner)
+            .leaseExpiresAt(leaseExpiresAt)
+            .build();
+        executionRepository.save(execution);
+        entityManager.flush();
+        entityManager.clear();
+        return execution.getId();
+    }
+
+    private int acquireLease(UUID executionId, String owner) {
+        Instant now = Instant.now();
+        return executionRepository.acquireLease(executionId, owner, now, now.plusSeconds(60),
+            List.of(ProcessStatus.COMPLETED, ProcessStatus.FAILED, ProcessStatus.CANCELLED, ProcessStatus.TIMED_OUT));
+    }
+
+    @Test
+    void acquireLeaseShouldOnlySucceedWhenLeaseIsFreeExpiredOrHeldByOwner() {
+        UUID freeExecutionId = saveExecution(ProcessStatus.SCHEDULED, null, null);
+        UUID heldExecutionId = saveExecution(ProcessStatus.RUNNING, "worker-1", Instant.now().plusSeconds(60));
+        UUID expiredExecutionId = saveExecution(ProcessStatus.RUNNING, "worker-1", Instant.now().minusSeconds(60));
+        UUID completedExecutionId = saveExecution(ProcessStatus.COMPLETED, null, null);
+
+        assertThat(acquireLease(freeExecutionId, "worker-2")).isEqualTo(1);
+        assertThat(acquireLease(heldExecutionId, "worker-2")).isZero();
+        assertThat(acquireLease(heldExecutionId, "worker-1")).isEqualTo(1);
+        assertThat(acquireLease(expiredExecutionId, "worker-2")).isEqualTo(1);
+        assertThat(acquireLease(completedExecutionId, "worker-2")).isZero();
+
+        ProcessExecutionEntity expiredExecution = executionRepository.findById(expiredExecutionId).orElseThrow();
+        assertThat(expiredExecution.getLeaseOwner()).isEqualTo("worker-2");
+        assertThat(expiredExecution.getLeaseExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void releaseLeaseShouldOnlyReleaseLeaseOfOwner() {
+        UUID executionId = saveExecution(ProcessStatus.RUNNING, "worker-1", Instant.now().plusSeconds(60));
+
+        assertThat(executionRepository.releaseLease(executionId, "worker-2")).isZero();
+        assertThat(executionRepository.releaseLease(executionId, "worker-1")).isEqualTo(1);
+
+        ProcessExecutionEntity execution = executionRepository.findById(executionId).orElseThrow();
+        assertThat(execution.getLeaseOwner()).isNull();
+        assertThat(execution.getLeaseExpiresAt()).isNull();
+    }
+
+    @Test
+    void updateStatusShouldKeepStatusesGivenAndIgnoreExecutionsOver() {
+        UUID cancellingExecutionId = saveExecution(ProcessStatus.CANCELLING, null, null);
+        UUID completedExecutionId = saveExecution(ProcessStatus.COMPLETED, null, null);
+        UUID scheduledExecutionId = saveExecution(ProcessStatus.SCHEDULED, null, null);
+        List<ProcessStatus> terminalStatuses = List.of(ProcessStatus.COMPLETED, ProcessStatus.FAILED, ProcessStatus.CANCELLED, ProcessStatus.TIMED_OUT);
+        List<ProcessStatus> keptStatuses = List.of(ProcessStatus.CANCELLING, ProcessStatus.COMPLETED);
+        Instant startedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        assertThat(executionRepository.updateStatus(cancellingExecutionId, ProcessStatus.RUNNING, "env", startedAt, null, keptStatuses, terminalStatuses)).isEqualTo(1);
+        assertThat(executionRepository.updateStatus(completedExecutionId, ProcessStatus.RUNNING, "env", startedAt, null, keptStatuses, terminalStatuses)).isZero();
+        assertThat(executionRepository.updateStatus(scheduledExecutionId, ProcessStatus.RUNNING, "env", startedAt, null, keptStatuses, terminalStatuses)).isEqualTo(1);
+        assertThat(executionRepository.updateStatus(scheduledExecutionId, ProcessStatus.RUNNING, null, null, null, keptStatuses, terminalStatuses)).isEqualTo(1);
+
+        ProcessExecutionEntity cancellingExecution = executionRepository.findById(cancellingExecutionId).orElseThrow();
+        assertThat(cancellingExecution.getStatus()).isEqualTo(ProcessStatus.CANCELLING);
+        assertThat(cancellingExecution.getStartedAt()).isEqualTo(startedAt);
+        assertThat(executionRepository.findById(completedExecutionId).orElseThrow().getStartedAt()).isNull();
+        ProcessExecutionEntity runningExecution = executionRepository.findById(scheduledExecutionId).orElseThrow();
+        assertThat(runningExecution.getStatus()).isEqualTo(ProcessStatus.RUNNING);
+        assertThat(runningExecution.getExecutionEnvName()).isEqualTo("env");
+        assertThat(runningExecution.getStartedAt()).isEqualTo(startedAt);
+    }
+
+    @Test
+    void findExistingIdsShouldOnlyReturnIdsOfExistingExecutions() {
+        UUID executionId = saveExecution(ProcessStatus.SCHEDULED, null, null);
+
+        assertThat(executionRepository.findExistingIds(List.of(executionId, UUID.randomUUID()))).containsExactly(executionId);
+    }
+
+    private ProcessExecutionEntity saveLaunchedExecution(String type, ProcessStatus status, String userId, Instant startedAt) {
+        ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
+            .id(UUID.randomUUID())
+            .type(type)
+            .caseUuid(UUID.randomUUID())
+            .status(status)
+            .userId(userId)
+            .scheduledAt(startedAt)
+            .startedAt(startedAt)
+            .build();
+        return executionRepository.save(execution);
+    }
+
+    @Test
+    void findLaunchedExecutionsShouldFilterExecutions() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        ProcessExecutionEntity running = saveLaunchedExecution("SECURITY_ANALYSIS", ProcessStatus.RUNNING, "user1", now.minusSeconds(10));
+        ProcessExecutionEntity failed = saveLaunchedExecution("SECURITY_ANALYSIS", ProcessStatus.FAILED, "user2", now.minusSeconds(20));
+        ProcessExecutionEntity old = saveLaunchedExecution("SECURITY_ANALYSIS", ProcessStatus.COMPLETED, "user1", now.minusSeconds(3600));
+        saveLaunchedExecution("LOADFLOW", ProcessStatus.RUNNING, "user1", now);
+        saveExecution(ProcessStatus.SCHEDULED, null, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        ProcessExecutionFilter securityAnalysis = ProcessExecutionFilter.builder().processType(ProcessType.SECURITY_ANALYSIS).build();
+        assertThat(executionRepository.findLaunchedExecutions(ProcessExecutionSpecifications.launched(securityAnalysis), 10))
+            .extracting(ProcessExecutionEntity::getId).containsExactly(running.getId(), failed.getId(), old.getId());
+
+        ProcessExecutionFilter user1Recent = ProcessExecutionFilter.builder()
+            .processType(ProcessType.SECURITY_ANALYSIS)
+            .userId("user1")
+            .startedAfter(now.minusSeconds(60))
+            .startedBefore(now)
+            .build();
+        assertThat(executionRepository.findLaunchedExecutions(ProcessExecutionSpecifications.launched(user1Recent), 10))
+            .extracting(ProcessExecutionEntity::getId).containsExactly(running.getId());
+
+        ProcessExecutionFilter over = ProcessExecutionFilter.builder()
+            .processType(ProcessType.SECURITY_ANALYSIS)
+            .statuses(List.of(ProcessStatus.FAILED, ProcessStatus.COMPLETED))
+            .build();
+        assertThat(executionRepository.findLaunchedExecutions(ProcessExecutionSpecifications.launched(over), 10))
+            .extracting(ProcessExecutionEntity::getId).containsExactly(failed.getId(), old.getId());
+    }
+
+    @Test
+    void findLaunchedExecutionsShouldResumeAfterLastExecutionListed() {
+        Instant startedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        List<UUID> expectedIds = new ArrayList<>();
+        // executions started at the same time are ordered by id
+        for (int i = 0; i < 3; i++) {
+            expectedIds.add(saveLaunchedExecution("SECURITY_ANALYSIS", ProcessStatus.COMPLETED, "user1", startedAt).getId());
+        }
+        // the database orders uuids as unsigned bytes, i.e. as their string representation
+        expectedIds.sort(Comparator.comparing(UUID::toString).reversed());
+        expectedIds.add(saveLaunchedExecution("SECURITY_ANALYSIS", ProcessStatus.COMPLETED, "user1", startedAt.minusSeconds(10)).getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        ProcessExecutionFilter filter = ProcessExecutionFilter.builder().processType(ProcessType.SECURITY_ANALYSIS).build();
+        List<UUID> listedIds = new ArrayList<>();
+        List<ProcessExecutionEntity> page = executionRepository.findLaunchedExecutions(ProcessExecutionSpecifications.launched(filter), 2);
+        while (!page.isEmpty()) {
+            page.forEach(execution -> listedIds.add(execution.getId()));
+            ProcessExecutionEntity last = page.getLast();
+            page = executionRepository.findLaunchedExecutions(ProcessExecutionSpecifications.launched(filter)
+                .and(ProcessExecutionSpecifications.listedAfter(last.getStartedAt(), last.getId())), 2);
+        }
+
+        assertThat(listedIds).containsExactlyElementsOf(expectedIds);
+    }
 }
@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.server.repositories;
+
+import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
+import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
+import org.gridsuite.monitor.commons.types.processexecution.StepStatus;
+import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionEntity;
+import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionStepEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@DataJpaTest
+class ProcessExecutionStepRepositoryTest {
+
+    @Autowired
+    private ProcessExecutionRepository executionRepository;
+
+    @Autowired
+    private ProcessExecutionStepRepository stepRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UUID executionId;
+
+    private UUID stepId;
+
+    @BeforeEach
+    void setUp() {
+        stepId = UUID.randomUUID();
+        ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
+            .id(UUID.randomUUID())
+            .type(ProcessType.SECURITY_ANALYSIS.name())
+            .caseUuid(UUID.randomUUID())
+            .status(ProcessStatus.RUNNING)
+            .scheduledAt(Instant.now())
+            .steps(new ArrayList<>(List.of(ProcessExecutionStepEntity.builder()
+                .id(stepId)
+                .stepType("LOAD_FLOW")
+                .stepOrder(0)
+                .status(StepStatus.RUNNING)
+                .build())))
+            .build();
+        executionRepository.save(execution);
+        entityManager.flush();
+        entityManager.clear();
+        executionId = execution.getId();
+    }
+
+    private int updateStep(StepStatus status, Long sequenceNumber, List<StepStatus> overwritableStatuses) {
+        return stepRepository.updateStep(stepId, "LOAD_FLOW", 0, status, null, null, null, null, sequenceNumber, null, overwritableStatuses);
+    }
+
+    private int updateStepOfAttempt(StepStatus status, UUID resultId, Long sequenceNumber, Instant scheduledAt, List<StepStatus> overwritableStatuses) {
+        return stepRepository.updateStep(stepId, "LOAD_FLOW", 0, status, resultId, null, null, null, sequenceNumber, scheduledAt, overwritableStatuses);
+    }
+
+    @Test
+    void updateStepShouldOnlyOverwriteGivenStatuses() {
+        assertThat(updateStep(StepStatus.SCHEDULED, null, List.of(StepStatus.SCHEDULED))).isZero();
+        assertThat(updateStep(StepStatus.COMPLETED, null, List.of(StepStatus.SCHEDULED, StepStatus.RUNNING))).isEqualTo(1);
+        assertThat(updateStep(StepStatus.RUNNING, null, List.of(StepStatus.SCHEDULED, StepStatus.RUNNING))).isZero();
+
+        ProcessExecutionStepEntity step = stepRepository.findById(stepId).orElseThrow();
+        assertThat(step.getStatus()).isEqualTo(StepStatus.COMPLETED);
+        assertThat(step.getExecutionId()).isEqualTo(executionId);
+    }
+
+    @Test
+    void updateStepShouldIgnoreUpdatesOlderThanLatestOneApplied() {
+        List<StepStatus> overwritableStatuses = List.of(StepStatus.SCHEDULED, StepStatus.RUNNING);
+
+        assertThat(updateStep(StepStatus.RUNNING, 10L, overwritableStatuses)).isEqualTo(1);
+        assertThat(updateStep(StepStatus.RUNNING, 5L, overwritableStatuses)).isZero();
+        assertThat(updateStep(StepStatus.RUNNING, 10L, overwritableStatuses)).isZero();
+        assertThat(updateStep(StepStatus.RUNNING, null, overwritableStatuses)).isEqualTo(1);
+        assertThat(updateStep(StepStatus.COMPLETED, 20L, overwritableStatuses)).isEqualTo(1);
+
+        assertThat(stepRepository.findById(stepId).orElseThrow().getSequenceNumber()).isEqualTo(20L);
+    }
+
+    @Test
+    void updateStepShouldReplaceCompletedStepWhenRetriedExecutionRunsItAgainOnSameWorker() {
+        Instant firstAttempt = Instant.parse("2026-01-01T10:00:00.123456Z");
+        Instant retry = firstAttempt.plusSeconds(600);
+        UUID firstResultId = UUID.randomUUID();
+        UUID retryResultId = UUID.randomUUID();
+        List<StepStatus> runningOverwritable = List.of(StepStatus.SCHEDULED, StepStatus.RUNNING);
+        assertThat(updateStepOfAttempt(StepStatus.COMPLETED, firstResultId, 10L, firstAttempt, runningOverwritable)).isEqualTo(1);
+
+        // without checkpoint, the retry runs the completed step again with the same step id
+        assertThat(updateStepOfAttempt(StepStatus.SCHEDULED, null, 20L, retry, List.of(StepStatus.SCHEDULED))).isEqualTo(1);
+        assertThat(updateStepOfAttempt(StepStatus.RUNNING, null, 30L, retry, runningOverwritable)).isEqualTo(1);
+        // a late update of the first attempt does not overwrite the retry
+        assertThat(updateStepOfAttempt(StepStatus.COMPLETED, firstResultId, 40L, firstAttempt, runningOverwritable)).isZero();
+        assertThat(updateStepOfAttempt(StepStatus.COMPLETED, retryResultId, 50L, retry, runningOverwritable)).isEqualTo(1);
+        assertThat(updateStepOfAttempt(StepStatus.RUNNING, null, 40L, retry, runningOverwritable)).isZero();
+
+        ProcessExecutionStepEntity step = stepRepository.findById(stepId).orElseThrow();
+        assertThat(step.getStatus()).isEqualTo(StepStatus.COMPLETED);
+        assertThat(step.getResultId()).isEqualTo(retryResultId);
+        assertThat(step.getScheduledAt()).isEqualTo(retry);
+    }
+
+    @Test
+    void updateStepShouldApplyUpdatesWithoutAttemptOrSequenceNumber() {
+        Instant attempt = Instant.parse("2026-01-01T10:00:00Z");
+        List<StepStatus> runningOverwritable = List.of(StepStatus.SCHEDULED, StepStatus.RUNNING);
+        assertThat(updateStepOfAttempt(StepStatus.RUNNING, null, null, null, runningOverwritable)).isEqualTo(1);
+        assertThat(updateStepOfAttempt(StepStatus.RUNNING, null, 10L, attempt, runningOverwritable)).isEqualTo(1);
+
+        // an update of an unknown attempt without sequence number is applied to the stored attempt
+        assertThat(updateStepOfAttempt(StepStatus.RUNNING, null, null, null, runningOverwritable)).isEqualTo(1);
+        assertThat(updateStepOfAttempt(StepStatus.COMPLETED, null, null, null, runningOverwritable)).isEqualTo(1);
+        assertThat(updateStepOfAttempt(StepStatus.FAILED, null, null, null, runningOverwritable)).isZero();
+
+        ProcessExecutionStepEntity step = stepRepository.findById(stepId).orElseThrow();
+        assertThat(step.getStatus()).isEqualTo(StepStatus.COMPLETED);
+        assertThat(step.getSequenceNumber()).isEqualTo(10L);
+        assertThat(step.getScheduledAt()).isEqualTo(attempt);
+    }
+
+    @Test
+    void savedStepShouldBelongToExecutionReplacingStepOfSameOrder() {
+        UUID newStepId = UUID.randomUUID();
+
+        assertThat(stepRepository.deleteOtherStepsOfOrder(executionId, 0, newStepId)).isEqualTo(1);
+        stepRepository.save(ProcessExecutionStepEntity.builder()
+            .id(newStepId)
+            .executionId(executionId)
+            .stepType("LOAD_FLOW")
+            .stepOrder(0)
+            .status(StepStatus.RUNNING)
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(executionRepository.findById(executionId).orElseThrow().getSteps())
+            .singleElement()
+            .extracting(ProcessExecutionStepEntity::getId)
+            .isEqualTo(newStepId);
+    }
+
+    @Test
+    void updateProgressShouldOnlyApplyNewerProgress() {
+        Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        assertThat(stepRepository.updateProgress(stepId, 40, 100, updatedAt)).isEqualTo(1);
+        assertThat(stepRepository.updateProgress(stepId, 20, 100, updatedAt.minusSeconds(5))).isZero();
+        assertThat(stepRepository.updateProgress(stepId, 60, 100, updatedAt.plusSeconds(5))).isEqualTo(1);
+        assertThat(stepRepository.updateProgress(UUID.randomUUID(), 60, 100, updatedAt)).isZero();
+
+        ProcessExecutionStepEntity step = stepRepository.findById(stepId).orElseThrow();
+        assertThat(step.getProgressDone()).isEqualTo(60L);
+        assertThat(step.getProgressTotal()).isEqualTo(100L);
+        assertThat(step.getProgressUpdatedAt()).isEqualTo(updatedAt.plusSeconds(5));
+    }
+
+    private void saveStep(int stepOrder, StepStatus status) {
+        stepRepository.save(ProcessExecutionStepEntity.builder()
+            .id(UUID.randomUUID())
+            .executionId(executionId)
+            .stepType("STEP_" + stepOrder)
+            .stepOrder(stepOrder)
+            .status(status)
+            .build());
+    }
+
+    @Test
+    void countStepsShouldCountStepsByExecution() {
+        saveStep(1, StepStatus.COMPLETED);
+        saveStep(2, StepStatus.SKIPPED);
+        saveStep(3, StepStatus.FAILED);
+        saveStep(4, StepStatus.SCHEDULED);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ProcessExecutionStepCounters> stepCounters = stepRepository.countSteps(List.of(executionId, UUID.randomUUID()),
+            List.of(StepStatus.COMPLETED, StepStatus.SKIPPED), List.of(StepStatus.FAILED, StepStatus.TIMED_OUT), StepStatus.RUNNING);
+
+        assertThat(stepCounters).singleElement().satisfies(counters -> {
+            assertThat(counters.getExecutionId()).isEqualTo(executionId);
+            assertThat(counters.getStepCount()).isEqualTo(5L);
+            assertThat(counters.getDoneStepCount()).isEqualTo(2L);
+            assertThat(counters.getFailedStepCount()).isEqualTo(1L);
+            assertThat(counters.getCurrentStepType()).isEqualTo("LOAD_FLOW");
+        });
+    }
+}
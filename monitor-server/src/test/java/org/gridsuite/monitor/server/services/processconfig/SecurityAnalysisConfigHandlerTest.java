@@ -43,7 +43,7 @@ class SecurityAnalysisConfigHandlerTest extends AbstractProcessConfigHandlerTest
     @Override
     SecurityAnalysisConfig createProcessConfig() {
         return new SecurityAnalysisConfig(UUID.randomUUID(), List.of(new ModificationInfo(UUID.randomUUID(), "descr", true)),
-            UUID.randomUUID());
+            UUID.randomUUID(), null);
     }
 
     @Override
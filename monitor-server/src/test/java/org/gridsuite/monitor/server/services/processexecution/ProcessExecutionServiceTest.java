@@ -19,6 +19,9 @@ import org.gridsuite.monitor.commons.types.result.ResultType;
 import org.gridsuite.monitor.server.clients.ReportRestClient;
 import org.gridsuite.monitor.server.clients.S3RestClient;
 import org.gridsuite.monitor.server.dto.processexecution.ProcessExecution;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionFilter;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionPage;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionSummary;
 import org.gridsuite.monitor.server.dto.report.ReportLog;
 import org.gridsuite.monitor.server.dto.report.ReportPage;
 import org.gridsuite.monitor.server.dto.report.Severity;
@@ -34,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -81,7 +85,8 @@ class ProcessExecutionServiceTest {
         securityAnalysisConfig = new SecurityAnalysisConfig(
             UUID.randomUUID(),
             List.of(new ModificationInfo(UUID.randomUUID(), "descr1", true)),
-            UUID.randomUUID()
+            UUID.randomUUID(),
+            null
         );
     }
 
@@ -89,7 +94,8 @@ class ProcessExecutionServiceTest {
     void executeProcessCreateExecutionAndSendNotifications() {
         String debugFileLocation = "debug/file/location";
 
-        doReturn(Optional.of(new ProcessCreationResult(debugFileLocation, securityAnalysisConfig)))
+        Instant scheduledAt = Instant.now();
+        doReturn(Optional.of(new ProcessCreationResult(debugFileLocation, securityAnalysisConfig, scheduledAt)))
             .when(processExecutionTxService).createExecution(eq(caseUuid), eq(userId), any(UUID.class), any(UUID.class), any(UUID.class), anyBoolean());
 
         Optional<UUID> result = processExecutionService.executeProcess(caseUuid, userId, UUID.randomUUID(), true);
@@ -100,61 +106,80 @@ class ProcessExecutionServiceTest {
             eq(securityAnalysisConfig),
             eq(result.get()),
             any(UUID.class),
-            eq(debugFileLocation)
+            eq(debugFileLocation),
+            eq(scheduledAt)
         );
         verify(notificationService).sendProcessUpdatedMessage(any(UUID.class), any(ProcessType.class));
     }
 
-    @Test
-    void updateExecutionStatusShouldDelegateToTxService() {
-        Instant startedAt = Instant.now().minusSeconds(60);
-        Instant completedAt = Instant.now();
-        String executionEnvName = "test-env";
-
-        ProcessExecutionStatusUpdate update = new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.COMPLETED, executionEnvName, startedAt, completedAt);
-        processExecutionService.updateExecutionStatus(executionId, update);
-
-        verify(processExecutionTxService).updateExecutionStatus(executionId, update);
-        verify(notificationService).sendProcessUpdatedMessage(executionId, ProcessType.SECURITY_ANALYSIS);
+    private static ProcessExecutionUpdates statusUpdates(ProcessType processType) {
+        ProcessExecutionUpdates updates = new ProcessExecutionUpdates();
+        updates.addExecutionStatus(new ProcessExecutionStatusUpdate(processType, ProcessStatus.RUNNING, "env", Instant.now(), null));
+        return updates;
     }
 
     @Test
-    void updateStepStatusShouldDelegateToTxService() {
-        ProcessExecutionStep step = ProcessExecutionStep.builder()
+    void applyUpdatesShouldApplyUpdatesInOneTransactionThenNotifyStatusUpdates() {
+        UUID otherExecutionId = UUID.randomUUID();
+        ProcessExecutionUpdates stepUpdates = new ProcessExecutionUpdates();
+        stepUpdates.addStep(ProcessExecutionStep.builder()
             .id(UUID.randomUUID())
             .stepType("LOAD_FLOW")
             .stepOrder(1)
             .status(StepStatus.RUNNING)
-            .resultId(UUID.randomUUID())
-            .resultType(ResultType.SECURITY_ANALYSIS)
-            .startedAt(Instant.now())
-            .build();
+            .build());
+        Map<UUID, ProcessExecutionUpdates> updates = Map.of(executionId, statusUpdates(ProcessType.SECURITY_ANALYSIS), otherExecutionId, stepUpdates);
 
-        processExecutionService.updateStepStatus(executionId, step);
+        processExecutionService.applyUpdates(updates);
 
-        verify(processExecutionTxService).updateStepStatus(executionId, step);
+        verify(processExecutionTxService).applyUpdates(updates);
+        verify(notificationService).sendProcessUpdatedMessage(executionId, ProcessType.SECURITY_ANALYSIS);
+        verify(notificationService, never()).sendProcessUpdatedMessage(eq(otherExecutionId), any());
     }
 
     @Test
-    void updateStepsStatusesShouldDelegateToTxService() {
-        List<ProcessExecutionStep> steps = List.of(
-            ProcessExecutionStep.builder()
-                .id(UUID.randomUUID())
-                .stepType("LOAD_FLOW")
-                .stepOrder(1)
-                .status(StepStatus.RUNNING)
-                .build(),
-            ProcessExecutionStep.builder()
-                .id(UUID.randomUUID())
-                .stepType("SECURITY_ANALYSIS")
-                .stepOrder(2)
-                .status(StepStatus.SCHEDULED)
-                .build()
-        );
+    void applyUpdatesShouldApplyOtherExecutionsThenThrowWhenUpdatesOfOneExecutionFail() {
+        UUID failingExecutionId = UUID.randomUUID();
+        doAnswer(invocation -> {
+            if (invocation.<Map<UUID, ProcessExecutionUpdates>>getArgument(0).containsKey(failingExecutionId)) {
+                throw new IllegalStateException("Updates failed");
+            }
+            return null;
+        }).when(processExecutionTxService).applyUpdates(any());
+        Map<UUID, ProcessExecutionUpdates> updates = Map.of(failingExecutionId, statusUpdates(ProcessType.SECURITY_ANALYSIS),
+            executionId, statusUpdates(ProcessType.LOADFLOW));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> processExecutionService.applyUpdates(updates));
+
+        assertThat(exception.getMessage()).contains(failingExecutionId.toString()).doesNotContain(executionId.toString());
+        verify(processExecutionTxService).applyUpdates(argThat(appliedUpdates -> appliedUpdates.size() == 1 && appliedUpdates.containsKey(executionId)));
+        verify(notificationService).sendProcessUpdatedMessage(executionId, ProcessType.LOADFLOW);
+        verify(notificationService, never()).sendProcessUpdatedMessage(eq(failingExecutionId), any());
+    }
+
+    @Test
+    void applyUpdatesShouldNotifyOnceWhenUpdatesAreAppliedOneByOne() {
+        UUID otherExecutionId = UUID.randomUUID();
+        Map<UUID, ProcessExecutionUpdates> updates = Map.of(otherExecutionId, statusUpdates(ProcessType.SECURITY_ANALYSIS),
+            executionId, statusUpdates(ProcessType.LOADFLOW));
+        doThrow(new IllegalStateException("Deadlock")).doNothing().when(processExecutionTxService).applyUpdates(any());
+
+        processExecutionService.applyUpdates(updates);
+
+        verify(processExecutionTxService, times(3)).applyUpdates(any());
+        verify(notificationService).sendProcessUpdatedMessage(otherExecutionId, ProcessType.SECURITY_ANALYSIS);
+        verify(notificationService).sendProcessUpdatedMessage(executionId, ProcessType.LOADFLOW);
+    }
+
+    @Test
+    void applyUpdatesShouldThrowWhenNoUpdatesCanBeApplied() {
+        Map<UUID, ProcessExecutionUpdates> updates = Map.of(executionId, statusUpdates(ProcessType.SECURITY_ANALYSIS));
+        doThrow(new IllegalStateException("Database unavailable")).when(processExecutionTxService).applyUpdates(any());
 
-        processExecutionService.updateStepsStatuses(executionId, steps);
+        assertThrows(IllegalStateException.class, () -> processExecutionService.applyUpdates(updates));
 
-        verify(processExecutionTxService).updateStepsStatuses(executionId, steps);
+        verify(processExecutionTxService, times(2)).applyUpdates(any());
+        verifyNoInteractions(notificationService);
     }
 
     @Test
@@ -295,6 +320,19 @@ class ProcessExecutionServiceTest {
         verify(processExecutionTxService).getLaunchedProcesses(ProcessType.SECURITY_ANALYSIS);
     }
 
+    @Test
+    void getLaunchedProcessesPageShouldDelegateToTxService() {
+        ProcessExecutionFilter filter = ProcessExecutionFilter.builder().processType(ProcessType.SECURITY_ANALYSIS).build();
+        ProcessExecutionPage page = new ProcessExecutionPage(List.of(mock(ProcessExecutionSummary.class)), "nextCursor");
+
+        when(processExecutionTxService.getLaunchedProcesses(filter, "cursor", 10)).thenReturn(page);
+
+        ProcessExecutionPage result = processExecutionService.getLaunchedProcesses(filter, "cursor", 10);
+
+        assertThat(result).isEqualTo(page);
+        verify(processExecutionTxService).getLaunchedProcesses(filter, "cursor", 10);
+    }
+
     @Test
     void getExecutionReturnsExecution() {
         ProcessExecution processExecution = mock(ProcessExecution.class);
@@ -338,6 +376,75 @@ class ProcessExecutionServiceTest {
         verify(processExecutionTxService).getStepsInfos(executionId);
     }
 
+    @Test
+    void cancelExecutionShouldPublishCancelMessage() {
+        ProcessExecution execution = ProcessExecution.builder()
+            .id(executionId)
+            .type(ProcessType.SECURITY_ANALYSIS.name())
+            .status(ProcessStatus.CANCELLING)
+            .scheduledAt(Instant.now())
+            .build();
+        when(processExecutionTxService.requestCancellation(executionId)).thenReturn(Optional.of(execution));
+
+        Optional<ProcessExecution> result = processExecutionService.cancelExecution(executionId);
+
+        assertThat(result).contains(execution);
+        verify(notificationService).sendProcessCancelMessage(executionId, execution.scheduledAt());
+        verify(notificationService).sendProcessUpdatedMessage(executionId, ProcessType.SECURITY_ANALYSIS);
+    }
+
+    @Test
+    void cancelExecutionShouldNotPublishCancelMessageWhenExecutionIsOver() {
+        ProcessExecution execution = ProcessExecution.builder()
+            .id(executionId)
+            .type(ProcessType.SECURITY_ANALYSIS.name())
+            .status(ProcessStatus.COMPLETED)
+            .build();
+        when(processExecutionTxService.requestCancellation(executionId)).thenReturn(Optional.of(execution));
+
+        Optional<ProcessExecution> result = processExecutionService.cancelExecution(executionId);
+
+        assertThat(result).contains(execution);
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void retryExecutionShouldPublishResumingRunMessage() {
+        UUID reportId = UUID.randomUUID();
+        ProcessExecution execution = ProcessExecution.builder()
+            .id(executionId)
+            .type(ProcessType.SECURITY_ANALYSIS.name())
+            .caseUuid(caseUuid)
+            .reportId(reportId)
+            .status(ProcessStatus.SCHEDULED)
+            .scheduledAt(Instant.now())
+            .build();
+        ProcessRetryResult retry = new ProcessRetryResult(execution, securityAnalysisConfig, "debug/file/location");
+        when(processExecutionTxService.requestRetry(executionId)).thenReturn(Optional.of(retry));
+
+        Optional<ProcessRetryResult> result = processExecutionService.retryExecution(executionId);
+
+        assertThat(result).contains(retry);
+        verify(notificationService).sendProcessRunMessage(caseUuid, securityAnalysisConfig, executionId, reportId, "debug/file/location",
+            execution.scheduledAt(), true);
+        verify(notificationService).sendProcessUpdatedMessage(executionId, ProcessType.SECURITY_ANALYSIS);
+    }
+
+    @Test
+    void retryExecutionShouldNotPublishRunMessageWhenExecutionIsNotRetried() {
+        ProcessExecution execution = ProcessExecution.builder()
+            .id(executionId)
+            .type(ProcessType.SECURITY_ANALYSIS.name())
+            .status(ProcessStatus.RUNNING)
+            .build();
+        when(processExecutionTxService.requestRetry(executionId)).thenReturn(Optional.of(new ProcessRetryResult(execution, null, null)));
+
+        Optional<ProcessRetryResult> result = processExecutionService.retryExecution(executionId);
+
+        assertThat(result).map(ProcessRetryResult::isRetried).contains(false);
+        verifyNoInteractions(notificationService);
+    }
+
     @Test
     void getExecutionWithoutDebugInfo() {
         when(processExecutionTxService.getDebugFileLocation(executionId)).thenReturn(Optional.empty());
@@ -8,6 +8,7 @@ package org.gridsuite.monitor.server.services.processexecution;
 
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStatusUpdate;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStepProgress;
 import org.gridsuite.monitor.commons.types.processconfig.ModificationInfo;
 import org.gridsuite.monitor.commons.types.processconfig.SecurityAnalysisConfig;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
@@ -17,11 +18,18 @@ import org.gridsuite.monitor.commons.types.result.ResultInfos;
 import org.gridsuite.monitor.commons.types.result.ResultType;
 import org.gridsuite.monitor.server.dto.processconfig.PersistedProcessConfig;
 import org.gridsuite.monitor.server.dto.processexecution.ProcessExecution;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionFilter;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionPage;
+import org.gridsuite.monitor.server.dto.processexecution.ProcessExecutionSummary;
 import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionEntity;
 import org.gridsuite.monitor.server.entities.processexecution.ProcessExecutionStepEntity;
+import org.gridsuite.monitor.server.error.MonitorServerBusinessErrorCode;
+import org.gridsuite.monitor.server.error.MonitorServerException;
 import org.gridsuite.monitor.server.mappers.processexecution.ProcessExecutionMapper;
 import org.gridsuite.monitor.server.mappers.processexecution.ProcessExecutionStepMapper;
 import org.gridsuite.monitor.server.repositories.ProcessExecutionRepository;
+import org.gridsuite.monitor.server.repositories.ProcessExecutionStepCounters;
+import org.gridsuite.monitor.server.repositories.ProcessExecutionStepRepository;
 import org.gridsuite.monitor.server.services.processconfig.ProcessConfigService;
 import org.gridsuite.monitor.server.utils.S3PathResolver;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,13 +40,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -49,6 +64,9 @@ class ProcessExecutionTxServiceTest {
     @Mock
     private ProcessExecutionRepository executionRepository;
 
+    @Mock
+    private ProcessExecutionStepRepository stepRepository;
+
     @Mock
     private ProcessConfigService processConfigService;
 
@@ -79,7 +97,8 @@ class ProcessExecutionTxServiceTest {
         securityAnalysisConfig = new SecurityAnalysisConfig(
                 UUID.randomUUID(),
                 List.of(new ModificationInfo(UUID.randomUUID(), "descr", true)),
-                UUID.randomUUID()
+                UUID.randomUUID(),
+                null
         );
     }
 
@@ -93,90 +112,242 @@ class ProcessExecutionTxServiceTest {
 
         assertThat(result).isNotEmpty();
         verify(processConfigService).getProcessConfig(any(UUID.class));
+        Instant scheduledAt = result.get().scheduledAt();
         verify(executionRepository).save(argThat(execution ->
                         execution.getId() != null &&
                         ProcessType.SECURITY_ANALYSIS.name().equals(execution.getType()) &&
                         caseUuid.equals(execution.getCaseUuid()) &&
                         userId.equals(execution.getUserId()) &&
                         ProcessStatus.SCHEDULED.equals(execution.getStatus()) &&
-                        execution.getScheduledAt() != null &&
+                        scheduledAt.equals(execution.getScheduledAt()) &&
                         execution.getStartedAt() == null
         ));
         verify(s3PathResolver).toDebugLocation(eq(ProcessType.SECURITY_ANALYSIS.name()), any(UUID.class));
     }
 
     @Test
-    void updateExecutionStatusShouldUpdateStatusOnly() {
+    void updateExecutionStatusShouldUpdateStatusWithoutLoadingExecution() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of(executionId));
+        when(executionRepository.updateStatus(eq(executionId), eq(ProcessStatus.RUNNING), isNull(), isNull(), isNull(), anyCollection(), anyCollection())).thenReturn(1);
+
+        processExecutionTxService.applyUpdates(Map.of(executionId, statusUpdates(new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.RUNNING, null, null, null))));
+
+        verify(executionRepository).updateStatus(eq(executionId), eq(ProcessStatus.RUNNING), isNull(), isNull(), isNull(),
+            argThat(keptStatuses -> keptStatuses.containsAll(List.of(ProcessStatus.CANCELLING, ProcessStatus.COMPLETED))
+                && !keptStatuses.contains(ProcessStatus.SCHEDULED) && !keptStatuses.contains(ProcessStatus.RUNNING)),
+            argThat(terminalStatuses -> terminalStatuses.contains(ProcessStatus.COMPLETED) && !terminalStatuses.contains(ProcessStatus.CANCELLING)));
+        verify(executionRepository, never()).findById(any());
+        verify(executionRepository, never()).save(any());
+    }
+
+    @Test
+    void updateExecutionStatusShouldKeepStatusesOfHigherPrecedence() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of(executionId));
+
+        processExecutionTxService.applyUpdates(Map.of(executionId, statusUpdates(new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.SCHEDULED, null, null, null))));
+
+        verify(executionRepository).updateStatus(eq(executionId), eq(ProcessStatus.SCHEDULED), isNull(), isNull(), isNull(),
+            argThat(keptStatuses -> keptStatuses.containsAll(List.of(ProcessStatus.RUNNING, ProcessStatus.CANCELLING, ProcessStatus.FAILED))
+                && !keptStatuses.contains(ProcessStatus.SCHEDULED)),
+            anyCollection());
+    }
+    @Test
+    void requestCancellationShouldSetCancellingStatus() {
+        ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
+                .id(executionId)
+                .type(ProcessType.SECURITY_ANALYSIS.name())
+                .caseUuid(caseUuid)
+                .userId(userId)
+                .status(ProcessStatus.RUNNING)
+                .scheduledAt(Instant.now())
+                .build();
+        when(executionRepository.findById(executionId)).thenReturn(Optional.of(execution));
+
+        Optional<ProcessExecution> result = processExecutionTxService.requestCancellation(executionId);
+
+        assertThat(result).map(ProcessExecution::status).contains(ProcessStatus.CANCELLING);
+        assertThat(execution.getStatus()).isEqualTo(ProcessStatus.CANCELLING);
+        verify(executionRepository).save(execution);
+    }
+
+    @Test
+    void requestCancellationShouldNotChangeExecutionAlreadyOver() {
         ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
                 .id(executionId)
                 .type(ProcessType.SECURITY_ANALYSIS.name())
                 .caseUuid(caseUuid)
-                .reportId(reportId)
                 .userId(userId)
-                .status(ProcessStatus.SCHEDULED)
+                .status(ProcessStatus.COMPLETED)
                 .scheduledAt(Instant.now())
                 .build();
         when(executionRepository.findById(executionId)).thenReturn(Optional.of(execution));
 
-        processExecutionTxService.updateExecutionStatus(executionId, new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.RUNNING, null, null, null));
+        Optional<ProcessExecution> result = processExecutionTxService.requestCancellation(executionId);
 
-        verify(executionRepository).findById(executionId);
-        assertThat(execution.getStatus()).isEqualTo(ProcessStatus.RUNNING);
-        assertThat(execution.getExecutionEnvName()).isNull();
+        assertThat(result).map(ProcessExecution::status).contains(ProcessStatus.COMPLETED);
+        verify(executionRepository, never()).save(any());
+    }
+
+    @Test
+    void requestRetryShouldRescheduleFailedExecutionKeepingCompletedSteps() {
+        UUID processConfigId = UUID.randomUUID();
+        ProcessExecutionStepEntity completedStep = ProcessExecutionStepEntity.builder()
+                .id(UUID.randomUUID())
+                .stepType("LOAD_NETWORK")
+                .stepOrder(0)
+                .status(StepStatus.COMPLETED)
+                .build();
+        ProcessExecutionStepEntity failedStep = ProcessExecutionStepEntity.builder()
+                .id(UUID.randomUUID())
+                .stepType("RUN_COMPUTATION")
+                .stepOrder(1)
+                .status(StepStatus.FAILED)
+                .build();
+        ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
+                .id(executionId)
+                .type(ProcessType.SECURITY_ANALYSIS.name())
+                .caseUuid(caseUuid)
+                .userId(userId)
+                .processConfigId(processConfigId)
+                .status(ProcessStatus.FAILED)
+                .scheduledAt(Instant.now().minusSeconds(60))
+                .startedAt(Instant.now().minusSeconds(50))
+                .completedAt(Instant.now().minusSeconds(10))
+                .debugFileLocation("debug/file/location")
+                .steps(new ArrayList<>(List.of(completedStep, failedStep)))
+                .build();
+        when(executionRepository.findById(executionId)).thenReturn(Optional.of(execution));
+        when(processConfigService.getProcessConfig(processConfigId)).thenReturn(Optional.of(new PersistedProcessConfig(processConfigId, securityAnalysisConfig)));
+
+        Optional<ProcessRetryResult> result = processExecutionTxService.requestRetry(executionId);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().isRetried()).isTrue();
+        assertThat(result.get().processConfig()).isEqualTo(securityAnalysisConfig);
+        assertThat(result.get().debugFileLocation()).isEqualTo("debug/file/location");
+        assertThat(execution.getStatus()).isEqualTo(ProcessStatus.SCHEDULED);
+        // a new attempt, told apart from the previous one by the workers
+        assertThat(execution.getScheduledAt()).isAfter(Instant.now().minusSeconds(60));
+        assertThat(result.get().execution().scheduledAt()).isEqualTo(execution.getScheduledAt());
         assertThat(execution.getStartedAt()).isNull();
         assertThat(execution.getCompletedAt()).isNull();
-        assertThat(execution.getReportId()).isEqualTo(reportId);
+        assertThat(execution.getSteps()).containsExactly(completedStep);
+        assertThat(execution.getLeaseOwner()).isNull();
         verify(executionRepository).save(execution);
     }
 
     @Test
-    void updateExecutionStatusShouldUpdateAllFields() {
+    void acquireLeaseShouldTellWhetherLeaseIsTakenOver() {
         ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
                 .id(executionId)
                 .type(ProcessType.SECURITY_ANALYSIS.name())
                 .caseUuid(caseUuid)
-                .reportId(reportId)
                 .userId(userId)
                 .status(ProcessStatus.RUNNING)
-                .scheduledAt(Instant.now())
+                .leaseOwner("worker-1")
+                .leaseExpiresAt(Instant.now().minusSeconds(10))
                 .build();
         when(executionRepository.findById(executionId)).thenReturn(Optional.of(execution));
-        String envName = "production-env";
-        Instant startedAt = Instant.now().minusSeconds(60);
-        Instant completedAt = Instant.now();
+        when(executionRepository.acquireLease(eq(executionId), anyString(), any(Instant.class), any(Instant.class), anyCollection())).thenReturn(1);
 
-        processExecutionTxService.updateExecutionStatus(executionId, new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.COMPLETED, envName, startedAt, completedAt));
+        assertThat(processExecutionTxService.acquireLease(executionId, "worker-2", Duration.ofMinutes(2))).contains(ProcessLeaseClaim.TAKEN_OVER);
+        assertThat(processExecutionTxService.acquireLease(executionId, "worker-1", Duration.ofMinutes(2))).contains(ProcessLeaseClaim.ACQUIRED);
+        verify(executionRepository).acquireLease(eq(executionId), eq("worker-2"), any(Instant.class), any(Instant.class),
+            argThat(statuses -> statuses.contains(ProcessStatus.COMPLETED) && !statuses.contains(ProcessStatus.RUNNING)));
+    }
 
-        verify(executionRepository).findById(executionId);
-        assertThat(execution.getStatus()).isEqualTo(ProcessStatus.COMPLETED);
-        assertThat(execution.getExecutionEnvName()).isEqualTo(envName);
-        assertThat(execution.getStartedAt()).isEqualTo(startedAt);
-        assertThat(execution.getCompletedAt()).isEqualTo(completedAt);
-        assertThat(execution.getReportId()).isEqualTo(reportId);
-        verify(executionRepository).save(execution);
+    @Test
+    void acquireLeaseShouldBeRefusedWhenConditionalUpdateFails() {
+        ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
+                .id(executionId)
+                .type(ProcessType.SECURITY_ANALYSIS.name())
+                .caseUuid(caseUuid)
+                .userId(userId)
+                .status(ProcessStatus.RUNNING)
+                .leaseOwner("worker-1")
+                .leaseExpiresAt(Instant.now().plusSeconds(60))
+                .build();
+        when(executionRepository.findById(executionId)).thenReturn(Optional.of(execution));
+        when(executionRepository.acquireLease(eq(executionId), eq("worker-2"), any(Instant.class), any(Instant.class), anyCollection())).thenReturn(0);
+
+        assertThat(processExecutionTxService.acquireLease(executionId, "worker-2", Duration.ofMinutes(2))).contains(ProcessLeaseClaim.REFUSED);
     }
 
     @Test
-    void updateExecutionStatusShouldHandleExecutionNotFound() {
-        when(executionRepository.findById(executionId)).thenReturn(Optional.empty());
+    void acquireLeaseShouldTellWhenExecutionIsOver() {
+        ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
+                .id(executionId)
+                .type(ProcessType.SECURITY_ANALYSIS.name())
+                .caseUuid(caseUuid)
+                .userId(userId)
+                .status(ProcessStatus.COMPLETED)
+                .build();
+        when(executionRepository.findById(executionId)).thenReturn(Optional.of(execution));
 
-        processExecutionTxService.updateExecutionStatus(executionId, new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.COMPLETED, "env", Instant.now(), Instant.now()));
+        assertThat(processExecutionTxService.acquireLease(executionId, "worker-2", Duration.ofMinutes(2))).contains(ProcessLeaseClaim.OVER);
+        verify(executionRepository, never()).acquireLease(any(), any(), any(), any(), any());
+    }
 
-        verify(executionRepository).findById(executionId);
-        verify(executionRepository, never()).save(any());
+    @Test
+    void acquireLeaseShouldReturnEmptyWhenExecutionNotFound() {
+        when(executionRepository.findById(executionId)).thenReturn(Optional.empty());
+
+        assertThat(processExecutionTxService.acquireLease(executionId, "worker-1", Duration.ofMinutes(2))).isEmpty();
+        verify(executionRepository, never()).acquireLease(any(), any(), any(), any(), any());
     }
 
     @Test
-    void updateStepStatusShouldAddNewStep() {
+    void requestRetryShouldNotRetryCompletedExecution() {
         ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
                 .id(executionId)
                 .type(ProcessType.SECURITY_ANALYSIS.name())
                 .caseUuid(caseUuid)
                 .userId(userId)
-                .status(ProcessStatus.RUNNING)
-                .steps(new ArrayList<>())
+                .processConfigId(UUID.randomUUID())
+                .status(ProcessStatus.COMPLETED)
+                .scheduledAt(Instant.now())
                 .build();
         when(executionRepository.findById(executionId)).thenReturn(Optional.of(execution));
+
+        Optional<ProcessRetryResult> result = processExecutionTxService.requestRetry(executionId);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().isRetried()).isFalse();
+        assertThat(execution.getStatus()).isEqualTo(ProcessStatus.COMPLETED);
+        verify(processConfigService, never()).getProcessConfig(any());
+        verify(executionRepository, never()).save(any());
+    }
+
+    @Test
+    void updateExecutionStatusShouldUpdateAllFields() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of(executionId));
+        String envName = "production-env";
+        Instant startedAt = Instant.now().minusSeconds(60);
+        Instant completedAt = Instant.now();
+        when(executionRepository.updateStatus(eq(executionId), eq(ProcessStatus.COMPLETED), eq(envName), eq(startedAt), eq(completedAt), anyCollection(), anyCollection())).thenReturn(1);
+
+        processExecutionTxService.applyUpdates(Map.of(executionId, statusUpdates(new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.COMPLETED, envName, startedAt, completedAt))));
+
+        // a terminal status does not overwrite another terminal status, the update being ignored once the execution is over
+        verify(executionRepository).updateStatus(eq(executionId), eq(ProcessStatus.COMPLETED), eq(envName), eq(startedAt), eq(completedAt),
+            argThat(keptStatuses -> keptStatuses.contains(ProcessStatus.FAILED) && !keptStatuses.contains(ProcessStatus.CANCELLING)),
+            anyCollection());
+    }
+
+    @Test
+    void updateExecutionStatusShouldHandleExecutionNotFound() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of());
+
+        processExecutionTxService.applyUpdates(Map.of(executionId, statusUpdates(new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.COMPLETED, "env", Instant.now(), Instant.now()))));
+
+        verify(executionRepository).findExistingIds(Set.of(executionId));
+        verify(executionRepository, never()).updateStatus(any(), any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(stepRepository);
+    }
+
+    @Test
+    void updateStepStatusShouldAddNewStep() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of(executionId));
         UUID stepId = UUID.randomUUID();
         UUID resultId = UUID.randomUUID();
         Instant startedAt = Instant.now();
@@ -188,145 +359,183 @@ class ProcessExecutionTxServiceTest {
                 .resultType(ResultType.SECURITY_ANALYSIS)
                 .startedAt(startedAt)
                 .build();
-
-        processExecutionTxService.updateStepStatus(executionId, processExecutionStep);
-
-        verify(executionRepository).findById(executionId);
-        assertThat(execution.getSteps()).hasSize(1);
-        ProcessExecutionStepEntity addedStep = execution.getSteps().getFirst();
-        assertThat(addedStep.getId()).isEqualTo(stepId);
-        assertThat(addedStep.getStepType()).isEqualTo("LOAD_FLOW");
-        assertThat(addedStep.getStatus()).isEqualTo(StepStatus.RUNNING);
-        assertThat(addedStep.getResultId()).isEqualTo(resultId);
-        assertThat(addedStep.getResultType()).isEqualTo(ResultType.SECURITY_ANALYSIS);
-        assertThat(addedStep.getStartedAt()).isEqualTo(startedAt);
-        verify(executionRepository).save(execution);
+        when(stepRepository.existsById(stepId)).thenReturn(false);
+
+        processExecutionTxService.applyUpdates(Map.of(executionId, stepUpdates(List.of(processExecutionStep))));
+
+        verify(stepRepository).save(argThat(addedStep -> {
+            assertThat(addedStep.getId()).isEqualTo(stepId);
+            assertThat(addedStep.getExecutionId()).isEqualTo(executionId);
+            assertThat(addedStep.getStepType()).isEqualTo("LOAD_FLOW");
+            assertThat(addedStep.getStatus()).isEqualTo(StepStatus.RUNNING);
+            assertThat(addedStep.getResultId()).isEqualTo(resultId);
+            assertThat(addedStep.getResultType()).isEqualTo(ResultType.SECURITY_ANALYSIS);
+            assertThat(addedStep.getStartedAt()).isEqualTo(startedAt);
+            return true;
+        }));
+        verify(stepRepository, never()).deleteOtherStepsOfOrder(any(), any(), any());
+        verify(executionRepository, never()).findById(any());
     }
 
     @Test
     void updateStepStatusShouldUpdateExistingStep() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of(executionId));
         UUID stepId = UUID.randomUUID();
-        UUID originalResultId = UUID.randomUUID();
         UUID newResultId = UUID.randomUUID();
         Instant startedAt = Instant.now().minusSeconds(60);
         Instant completedAt = Instant.now();
-        ProcessExecutionStepEntity existingStep = ProcessExecutionStepEntity.builder()
-                .id(stepId)
-                .stepType("LOAD_FLOW")
-                .status(StepStatus.RUNNING)
-                .resultId(originalResultId)
-                .startedAt(startedAt)
-                .build();
-        ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
-                .id(executionId)
-                .type(ProcessType.SECURITY_ANALYSIS.name())
-                .caseUuid(caseUuid)
-                .userId(userId)
-                .status(ProcessStatus.RUNNING)
-                .steps(new ArrayList<>(List.of(existingStep)))
-                .build();
-        when(executionRepository.findById(executionId)).thenReturn(Optional.of(execution));
         ProcessExecutionStep updateDto = ProcessExecutionStep.builder()
                 .id(stepId)
                 .stepType("LOAD_FLOW_UPDATED")
+                .stepOrder(0)
                 .status(StepStatus.COMPLETED)
                 .resultId(newResultId)
                 .resultType(ResultType.SECURITY_ANALYSIS)
                 .startedAt(startedAt)
                 .completedAt(completedAt)
+                .sequenceNumber(5L)
                 .build();
+        when(stepRepository.updateStep(eq(stepId), eq("LOAD_FLOW_UPDATED"), eq(0), eq(StepStatus.COMPLETED), eq(newResultId),
+            eq(ResultType.SECURITY_ANALYSIS), eq(startedAt), eq(completedAt), eq(5L), isNull(), anyCollection())).thenReturn(1);
 
-        processExecutionTxService.updateStepStatus(executionId, updateDto);
+        processExecutionTxService.applyUpdates(Map.of(executionId, stepUpdates(List.of(updateDto))));
 
-        verify(executionRepository).findById(executionId);
-        assertThat(execution.getSteps()).hasSize(1);
-        ProcessExecutionStepEntity updatedStep = execution.getSteps().getFirst();
-        assertThat(updatedStep.getId()).isEqualTo(stepId);
-        assertThat(updatedStep.getStepType()).isEqualTo("LOAD_FLOW_UPDATED");
-        assertThat(updatedStep.getStatus()).isEqualTo(StepStatus.COMPLETED);
-        assertThat(updatedStep.getResultId()).isEqualTo(newResultId);
-        assertThat(updatedStep.getResultType()).isEqualTo(ResultType.SECURITY_ANALYSIS);
-        assertThat(updatedStep.getCompletedAt()).isEqualTo(completedAt);
-        verify(executionRepository).save(execution);
+        verify(stepRepository).updateStep(eq(stepId), eq("LOAD_FLOW_UPDATED"), eq(0), eq(StepStatus.COMPLETED), eq(newResultId),
+            eq(ResultType.SECURITY_ANALYSIS), eq(startedAt), eq(completedAt), eq(5L), isNull(),
+            argThat(overwritableStatuses -> overwritableStatuses.containsAll(List.of(StepStatus.SCHEDULED, StepStatus.RUNNING))
+                && !overwritableStatuses.contains(StepStatus.COMPLETED)));
+        verify(stepRepository, never()).save(any());
+    }
+
+    @Test
+    void updateStepStatusShouldNotRegressStepOfHigherPrecedence() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of(executionId));
+        UUID stepId = UUID.randomUUID();
+        ProcessExecutionStep staleStep = ProcessExecutionStep.builder()
+                .id(stepId)
+                .stepType("LOAD_FLOW")
+                .stepOrder(0)
+                .status(StepStatus.SCHEDULED)
+                .build();
+        when(stepRepository.existsById(stepId)).thenReturn(true);
+
+        processExecutionTxService.applyUpdates(Map.of(executionId, stepUpdates(List.of(staleStep))));
+
+        verify(stepRepository).updateStep(eq(stepId), eq("LOAD_FLOW"), eq(0), eq(StepStatus.SCHEDULED), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+            argThat(overwritableStatuses -> overwritableStatuses.equals(List.of(StepStatus.SCHEDULED))));
+        verify(stepRepository, never()).save(any());
+    }
+
+    @Test
+    void updateStepStatusShouldSendAttemptOfStep() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of(executionId));
+        UUID stepId = UUID.randomUUID();
+        Instant scheduledAt = Instant.parse("2026-01-01T10:00:00.123456Z");
+        ProcessExecutionStep rescheduledStep = ProcessExecutionStep.builder()
+                .id(stepId)
+                .stepType("LOAD_FLOW")
+                .stepOrder(0)
+                .status(StepStatus.SCHEDULED)
+                .scheduledAt(scheduledAt)
+                .build();
+        when(stepRepository.updateStep(eq(stepId), any(), any(), any(), any(), any(), any(), any(), any(), eq(scheduledAt), anyCollection())).thenReturn(1);
+
+        processExecutionTxService.applyUpdates(Map.of(executionId, stepUpdates(List.of(rescheduledStep))));
+
+        verify(stepRepository).updateStep(eq(stepId), eq("LOAD_FLOW"), eq(0), eq(StepStatus.SCHEDULED), isNull(), isNull(), isNull(), isNull(), isNull(),
+            eq(scheduledAt), anyCollection());
+        verify(stepRepository, never()).save(any());
+    }
+
+    @Test
+    void updateStepStatusShouldReplaceStepOfSameOrderFromPreviousAttempt() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of(executionId));
+        UUID stepId = UUID.randomUUID();
+        ProcessExecutionStep processExecutionStep = ProcessExecutionStep.builder()
+                .id(stepId)
+                .stepType("RUN_COMPUTATION")
+                .stepOrder(1)
+                .status(StepStatus.RUNNING)
+                .startedAt(Instant.now())
+                .build();
+        when(stepRepository.existsById(stepId)).thenReturn(false);
+
+        processExecutionTxService.applyUpdates(Map.of(executionId, stepUpdates(List.of(processExecutionStep))));
+
+        verify(stepRepository).deleteOtherStepsOfOrder(executionId, 1, stepId);
+        verify(stepRepository).save(argThat(step -> stepId.equals(step.getId()) && executionId.equals(step.getExecutionId())));
+    }
+
+    @Test
+    void updateStepProgressShouldOnlyApplyNewerProgress() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of(executionId));
+        UUID stepId = UUID.randomUUID();
+        Instant progressUpdatedAt = Instant.now();
+        when(stepRepository.updateProgress(stepId, 60, 100, progressUpdatedAt)).thenReturn(1);
+
+        processExecutionTxService.applyUpdates(Map.of(executionId,
+            progressUpdates(new ProcessExecutionStepProgress(stepId, 60, 100, progressUpdatedAt))));
+
+        // the update itself checks that the progress is newer than the stored one
+        verify(stepRepository).updateProgress(stepId, 60, 100, progressUpdatedAt);
+        verify(stepRepository, never()).save(any());
+    }
+
+    @Test
+    void applyUpdatesShouldUpdateSeveralExecutionsAtOnce() {
+        UUID otherExecutionId = UUID.randomUUID();
+        UUID missingExecutionId = UUID.randomUUID();
+        when(executionRepository.findExistingIds(Set.of(executionId, otherExecutionId, missingExecutionId))).thenReturn(List.of(executionId, otherExecutionId));
+        UUID stepId = UUID.randomUUID();
+        Instant progressUpdatedAt = Instant.now();
+        ProcessExecutionUpdates otherUpdates = stepUpdates(List.of(ProcessExecutionStep.builder()
+                .id(stepId)
+                .stepType("LOAD_FLOW")
+                .stepOrder(0)
+                .status(StepStatus.RUNNING)
+                .build()));
+        otherUpdates.addStepProgress(new ProcessExecutionStepProgress(stepId, 1, 10, progressUpdatedAt));
+        when(stepRepository.updateStep(eq(stepId), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyCollection())).thenReturn(1);
+
+        processExecutionTxService.applyUpdates(Map.of(
+            executionId, statusUpdates(new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.RUNNING, "env", Instant.now(), null)),
+            otherExecutionId, otherUpdates,
+            missingExecutionId, statusUpdates(new ProcessExecutionStatusUpdate(ProcessType.SECURITY_ANALYSIS, ProcessStatus.RUNNING, null, null, null))));
+
+        verify(executionRepository, times(1)).findExistingIds(any());
+        verify(executionRepository).updateStatus(eq(executionId), eq(ProcessStatus.RUNNING), eq("env"), any(), isNull(), anyCollection(), anyCollection());
+        verify(executionRepository, never()).updateStatus(eq(missingExecutionId), any(), any(), any(), any(), any(), any());
+        verify(stepRepository).updateProgress(stepId, 1, 10, progressUpdatedAt);
+        verify(executionRepository, never()).findAllById(any());
     }
 
     @Test
     void updateStepsStatusesShouldUpdateExistingSteps() {
+        when(executionRepository.findExistingIds(Set.of(executionId))).thenReturn(List.of(executionId));
         UUID stepId1 = UUID.randomUUID();
         UUID stepId2 = UUID.randomUUID();
-        UUID originalResultId1 = UUID.randomUUID();
-        UUID originalResultId2 = UUID.randomUUID();
-        UUID newResultId1 = UUID.randomUUID();
-        UUID newResultId2 = UUID.randomUUID();
-        Instant startedAt1 = Instant.now().minusSeconds(60);
-        Instant startedAt2 = Instant.now().minusSeconds(40);
-        Instant completedAt1 = Instant.now();
-        Instant completedAt2 = Instant.now();
-
-        ProcessExecutionStepEntity existingStep1 = ProcessExecutionStepEntity.builder()
-            .id(stepId1)
-            .stepType("LOAD_NETWORK")
-            .status(StepStatus.RUNNING)
-            .resultId(originalResultId1)
-            .startedAt(startedAt1)
-            .build();
-        ProcessExecutionStepEntity existingStep2 = ProcessExecutionStepEntity.builder()
-            .id(stepId2)
-            .stepType("LOAD_FLOW")
-            .status(StepStatus.RUNNING)
-            .resultId(originalResultId2)
-            .startedAt(startedAt2)
-            .build();
-        ProcessExecutionEntity execution = ProcessExecutionEntity.builder()
-            .id(executionId)
-            .type(ProcessType.SECURITY_ANALYSIS.name())
-            .caseUuid(caseUuid)
-            .userId(userId)
-            .status(ProcessStatus.RUNNING)
-            .steps(new ArrayList<>(List.of(existingStep1, existingStep2)))
-            .build();
-        when(executionRepository.findById(executionId)).thenReturn(Optional.of(execution));
         ProcessExecutionStep updateDto1 = ProcessExecutionStep.builder()
             .id(stepId1)
-            .stepType("LOAD_NETWORK_UPDATED")
+            .stepType("LOAD_NETWORK")
+            .stepOrder(0)
             .status(StepStatus.COMPLETED)
-            .resultId(newResultId1)
-            .resultType(ResultType.SECURITY_ANALYSIS)
-            .startedAt(startedAt1)
-            .completedAt(completedAt1)
+            .completedAt(Instant.now())
             .build();
         ProcessExecutionStep updateDto2 = ProcessExecutionStep.builder()
             .id(stepId2)
-            .stepType("LOAD_FLOW_UPDATED")
-            .status(StepStatus.COMPLETED)
-            .resultId(newResultId2)
-            .resultType(ResultType.SECURITY_ANALYSIS)
-            .startedAt(startedAt2)
-            .completedAt(completedAt2)
+            .stepType("LOAD_FLOW")
+            .stepOrder(1)
+            .status(StepStatus.RUNNING)
+            .startedAt(Instant.now())
             .build();
-        processExecutionTxService.updateStepsStatuses(executionId, List.of(updateDto1, updateDto2));
+        when(stepRepository.updateStep(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyCollection())).thenReturn(1);
 
-        verify(executionRepository).findById(executionId);
-        assertThat(execution.getSteps()).hasSize(2);
-        ProcessExecutionStepEntity updatedStep1 = execution.getSteps().get(0);
-        assertThat(updatedStep1.getId()).isEqualTo(stepId1);
-        assertThat(updatedStep1.getStepType()).isEqualTo("LOAD_NETWORK_UPDATED");
-        assertThat(updatedStep1.getStatus()).isEqualTo(StepStatus.COMPLETED);
-        assertThat(updatedStep1.getResultId()).isEqualTo(newResultId1);
-        assertThat(updatedStep1.getResultType()).isEqualTo(ResultType.SECURITY_ANALYSIS);
-        assertThat(updatedStep1.getCompletedAt()).isEqualTo(completedAt1);
-
-        ProcessExecutionStepEntity updatedStep2 = execution.getSteps().get(1);
-        assertThat(updatedStep2.getId()).isEqualTo(stepId2);
-        assertThat(updatedStep2.getStepType()).isEqualTo("LOAD_FLOW_UPDATED");
-        assertThat(updatedStep2.getStatus()).isEqualTo(StepStatus.COMPLETED);
-        assertThat(updatedStep2.getResultId()).isEqualTo(newResultId2);
-        assertThat(updatedStep2.getResultType()).isEqualTo(ResultType.SECURITY_ANALYSIS);
-        assertThat(updatedStep2.getCompletedAt()).isEqualTo(completedAt2);
+        processExecutionTxService.applyUpdates(Map.of(executionId, stepUpdates(List.of(updateDto1, updateDto2))));
 
-        verify(executionRepository).save(execution);
+        verify(stepRepository).updateStep(eq(stepId1), eq("LOAD_NETWORK"), eq(0), eq(StepStatus.COMPLETED), isNull(), isNull(), isNull(), eq(updateDto1.getCompletedAt()), isNull(), isNull(), anyCollection());
+        verify(stepRepository).updateStep(eq(stepId2), eq("LOAD_FLOW"), eq(1), eq(StepStatus.RUNNING), isNull(), isNull(), eq(updateDto2.getStartedAt()), isNull(), isNull(), isNull(), anyCollection());
+        verify(stepRepository, never()).save(any());
     }
-
     @Test
     void getReportIdShouldReturnExecutionReportId() {
         ProcessExecutionStepEntity step0 = ProcessExecutionStepEntity.builder()
@@ -448,7 +657,7 @@ class ProcessExecutionTxServiceTest {
             .userId("user2")
             .build();
 
-        when(executionRepository.findByTypeAndStartedAtIsNotNullOrderByStartedAtDesc(ProcessType.SECURITY_ANALYSIS.name())).thenReturn(List.of(execution2, execution1));
+        when(executionRepository.findLaunchedExecutions(any(), eq(ProcessExecutionTxService.MAX_LAUNCHED_PROCESSES))).thenReturn(List.of(execution2, execution1));
 
         List<ProcessExecution> result = processExecutionTxService.getLaunchedProcesses(ProcessType.SECURITY_ANALYSIS);
 
@@ -458,7 +667,78 @@ class ProcessExecutionTxServiceTest {
                 startedAt2, null, report2Uuid, "user2");
 
         assertThat(result).hasSize(2).containsExactly(processExecution2, processExecution1);
-        verify(executionRepository).findByTypeAndStartedAtIsNotNullOrderByStartedAtDesc(ProcessType.SECURITY_ANALYSIS.name());
+        verify(executionRepository).findLaunchedExecutions(any(), eq(ProcessExecutionTxService.MAX_LAUNCHED_PROCESSES));
+    }
+
+    private static ProcessExecutionEntity launchedExecution(Instant startedAt) {
+        return ProcessExecutionEntity.builder()
+            .id(UUID.randomUUID())
+            .type(ProcessType.SECURITY_ANALYSIS.name())
+            .status(ProcessStatus.COMPLETED)
+            .startedAt(startedAt)
+            .build();
+    }
+
+    @Test
+    void getLaunchedProcessesPageShouldReturnNextCursorWhenMoreExecutions() {
+        Instant now = Instant.now();
+        ProcessExecutionEntity execution1 = launchedExecution(now);
+        ProcessExecutionEntity execution2 = launchedExecution(now.minusSeconds(10));
+        ProcessExecutionEntity execution3 = launchedExecution(now.minusSeconds(20));
+        ProcessExecutionFilter filter = ProcessExecutionFilter.builder().processType(ProcessType.SECURITY_ANALYSIS).build();
+
+        ProcessExecutionStepCounters stepCounters = mock(ProcessExecutionStepCounters.class);
+        when(stepCounters.getExecutionId()).thenReturn(execution1.getId());
+        when(stepCounters.getStepCount()).thenReturn(3L);
+        when(stepCounters.getDoneStepCount()).thenReturn(1L);
+        when(stepCounters.getFailedStepCount()).thenReturn(0L);
+        when(stepCounters.getCurrentStepType()).thenReturn("RUN_COMPUTATION");
+
+        when(executionRepository.findLaunchedExecutions(any(), eq(3))).thenReturn(List.of(execution1, execution2, execution3));
+        when(stepRepository.countSteps(eq(List.of(execution1.getId(), execution2.getId())), anyCollection(), anyCollection(), eq(StepStatus.RUNNING)))
+            .thenReturn(List.of(stepCounters));
+
+        ProcessExecutionPage page = processExecutionTxService.getLaunchedProcesses(filter, null, 2);
+
+        assertThat(page.content()).extracting(ProcessExecutionSummary::id).containsExactly(execution1.getId(), execution2.getId());
+        assertThat(page.content().get(0)).satisfies(summary -> {
+            assertThat(summary.stepCount()).isEqualTo(3);
+            assertThat(summary.doneStepCount()).isEqualTo(1);
+            assertThat(summary.failedStepCount()).isZero();
+            assertThat(summary.currentStepType()).isEqualTo("RUN_COMPUTATION");
+        });
+        // executions without steps have no counters
+        assertThat(page.content().get(1)).satisfies(summary -> {
+            assertThat(summary.stepCount()).isZero();
+            assertThat(summary.currentStepType()).isNull();
+        });
+        assertThat(ProcessExecutionCursor.decode(page.nextCursor())).isEqualTo(new ProcessExecutionCursor(execution2.getStartedAt(), execution2.getId()));
+    }
+
+    @Test
+    void getLaunchedProcessesPageShouldResumeAfterCursor() {
+        ProcessExecutionEntity execution = launchedExecution(Instant.now().minusSeconds(30));
+        ProcessExecutionFilter filter = ProcessExecutionFilter.builder().processType(ProcessType.SECURITY_ANALYSIS).build();
+        String cursor = new ProcessExecutionCursor(Instant.now(), UUID.randomUUID()).encode();
+
+        when(executionRepository.findLaunchedExecutions(any(), eq(3))).thenReturn(List.of(execution));
+        when(stepRepository.countSteps(eq(List.of(execution.getId())), anyCollection(), anyCollection(), eq(StepStatus.RUNNING))).thenReturn(List.of());
+
+        ProcessExecutionPage page = processExecutionTxService.getLaunchedProcesses(filter, cursor, 2);
+
+        assertThat(page.content()).extracting(ProcessExecutionSummary::id).containsExactly(execution.getId());
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getLaunchedProcessesPageShouldThrowWhenCursorIsInvalid() {
+        ProcessExecutionFilter filter = ProcessExecutionFilter.builder().processType(ProcessType.SECURITY_ANALYSIS).build();
+
+        assertThatThrownBy(() -> processExecutionTxService.getLaunchedProcesses(filter, "invalid", 2))
+            .isInstanceOf(MonitorServerException.class)
+            .extracting(e -> ((MonitorServerException) e).getBusinessErrorCode())
+            .isEqualTo(MonitorServerBusinessErrorCode.INVALID_EXECUTION_CURSOR);
+        verifyNoInteractions(executionRepository);
     }
 
     @Test
@@ -522,8 +802,8 @@ class ProcessExecutionTxServiceTest {
 
         Optional<List<ProcessExecutionStep>> result = processExecutionTxService.getStepsInfos(executionUuid);
 
-        ProcessExecutionStep processExecutionStep1 = new ProcessExecutionStep(stepId1, "loadNetwork", 0, StepStatus.RUNNING, null, null, startedAt1, null);
-        ProcessExecutionStep processExecutionStep2 = new ProcessExecutionStep(stepId2, "applyModifs", 1, StepStatus.SCHEDULED, null, null, null, null);
+        ProcessExecutionStep processExecutionStep1 = new ProcessExecutionStep(stepId1, "loadNetwork", 0, StepStatus.RUNNING, null, null, startedAt1, null, null, null, null, null);
+        ProcessExecutionStep processExecutionStep2 = new ProcessExecutionStep(stepId2, "applyModifs", 1, StepStatus.SCHEDULED, null, null, null, null, null, null, null, null);
 
         assertThat(result).isPresent();
         assertThat(result.get()).hasSize(2).containsExactly(processExecutionStep1, processExecutionStep2);
@@ -639,4 +919,22 @@ class ProcessExecutionTxServiceTest {
 
         verify(executionRepository).findById(executionId);
     }
+
+    private static ProcessExecutionUpdates statusUpdates(ProcessExecutionStatusUpdate update) {
+        ProcessExecutionUpdates updates = new ProcessExecutionUpdates();
+        updates.addExecutionStatus(update);
+        return updates;
+    }
+
+    private static ProcessExecutionUpdates stepUpdates(List<ProcessExecutionStep> steps) {
+        ProcessExecutionUpdates updates = new ProcessExecutionUpdates();
+        steps.forEach(updates::addStep);
+        return updates;
+    }
+
+    private static ProcessExecutionUpdates progressUpdates(ProcessExecutionStepProgress progress) {
+        ProcessExecutionUpdates updates = new ProcessExecutionUpdates();
+        updates.addStepProgress(progress);
+        return updates;
+    }
 }
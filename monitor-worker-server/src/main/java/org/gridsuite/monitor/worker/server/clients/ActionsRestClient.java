@@ -9,7 +9,9 @@ package org.gridsuite.monitor.worker.server.clients;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.gridsuite.actions.dto.contingency.AbstractContingencyList;
+import org.gridsuite.monitor.worker.server.config.ReferenceDataCacheConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -35,6 +37,7 @@ public class ActionsRestClient {
             .build();
     }
 
+    @Cacheable(ReferenceDataCacheConfig.CONTINGENCY_LISTS_CACHE)
     public List<AbstractContingencyList> getPersistentContingencyLists(List<UUID> contingenciesUuids) {
         if (CollectionUtils.isEmpty(contingenciesUuids)) {
             return List.of();
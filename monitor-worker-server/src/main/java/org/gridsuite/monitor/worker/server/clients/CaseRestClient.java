@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.clients;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class CaseRestClient {
+    static final String CASE_API_VERSION = "v1";
+    private static final String DELIMITER = "/";
+
+    private final RestClient restClient;
+
+    public CaseRestClient(@Value("${powsybl.services.case-server.base-uri:http://case-server/}") String caseServerBaseUri,
+                          RestClient.Builder restClientBuilder) {
+        this.restClient = restClientBuilder
+            .baseUrl(caseServerBaseUri + DELIMITER + CASE_API_VERSION + DELIMITER + "cases")
+            .build();
+    }
+
+    /**
+     * Download the file of a case into a directory, streaming it to disk.
+     *
+     * @param caseUuid uuid of the case to download
+     * @param targetDirectory existing directory in which the case file is written
+     * @return path of the downloaded file, named after the original case file
+     */
+    public Path downloadCase(UUID caseUuid, Path targetDirectory) {
+        return restClient.get()
+            .uri("/{caseUuid}", caseUuid)
+            .accept(MediaType.APPLICATION_OCTET_STREAM)
+            .exchange((request, response) -> {
+                if (response.getStatusCode().isError()) {
+                    throw new RestClientResponseException("Error while downloading case " + caseUuid,
+                        response.getStatusCode(), response.getStatusText(), response.getHeaders(), null, null);
+                }
+                String fileName = response.getHeaders().getContentDisposition().getFilename();
+                if (fileName == null || fileName.isBlank()) {
+                    throw new IOException("No file name received for case " + caseUuid);
+                }
+                Path caseFile = targetDirectory.resolve(Path.of(fileName).getFileName().toString());
+                long size;
+                try (InputStream body = response.getBody()) {
+                    size = Files.copy(body, caseFile);
+                }
+                long expectedSize = response.getHeaders().getContentLength();
+                if (expectedSize >= 0 && size != expectedSize) {
+                    throw new IOException("Incomplete download of case " + caseUuid + ": received " + size + " bytes out of " + expectedSize);
+                }
+                return caseFile;
+            });
+    }
+}
@@ -8,7 +8,9 @@ package org.gridsuite.monitor.worker.server.clients;
 
 import org.gridsuite.actions.FilterProvider;
 import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.monitor.worker.server.config.ReferenceDataCacheConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
@@ -33,6 +35,7 @@ public class FilterRestClient implements FilterProvider {
             .build();
     }
 
+    @Cacheable(ReferenceDataCacheConfig.FILTERS_CACHE)
     public List<AbstractFilter> getFilters(List<UUID> filtersUuids) {
         return restClient.get()
             .uri(uriBuilder -> uriBuilder
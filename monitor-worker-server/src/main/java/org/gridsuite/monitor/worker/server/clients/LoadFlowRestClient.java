@@ -7,15 +7,20 @@
 package org.gridsuite.monitor.worker.server.clients;
 
 import com.powsybl.commons.PowsyblException;
-import com.powsybl.loadflow.LoadFlowResult;
+import org.gridsuite.monitor.worker.server.config.ReferenceDataCacheConfig;
 import org.gridsuite.monitor.worker.server.dto.parameters.loadflow.LoadFlowParametersInfos;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 /**
  * @author Franck Lecuyer <franck.lecuyer at rte-france.com>
@@ -34,6 +39,7 @@ public class LoadFlowRestClient {
             .build();
     }
 
+    @Cacheable(ReferenceDataCacheConfig.LOADFLOW_PARAMETERS_CACHE)
     public LoadFlowParametersInfos getParameters(UUID loadFlowParametersUuid) {
         if (loadFlowParametersUuid == null) {
             throw new PowsyblException("Loadflow parameters UUID is null !!");
@@ -45,12 +51,19 @@ public class LoadFlowRestClient {
             .body(LoadFlowParametersInfos.class);
     }
 
-    public UUID saveResult(LoadFlowResult result) {
-        Objects.requireNonNull(result);
+    /**
+     * Save a result from its gzip compressed JSON file, streamed without being loaded in memory.
+     */
+    public UUID saveResult(Path compressedResult) {
+        Objects.requireNonNull(compressedResult);
         return restClient.post()
             .uri("/results")
             .contentType(MediaType.APPLICATION_JSON)
-            .body(result)
+            .body(outputStream -> {
+                try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(compressedResult))) {
+                    inputStream.transferTo(outputStream);
+                }
+            })
             .retrieve()
             .body(UUID.class);
     }
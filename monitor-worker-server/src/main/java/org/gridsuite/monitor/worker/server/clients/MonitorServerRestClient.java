@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.clients;
+
+import org.gridsuite.monitor.commons.types.processexecution.ExecutionLease;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class MonitorServerRestClient {
+    static final String MONITOR_API_VERSION = "v1";
+    private static final String DELIMITER = "/";
+
+    /**
+     * Outcome of a worker claiming the lease of an execution.
+     */
+    public enum LeaseClaim {
+        /** The lease was free, or already held by the claiming worker which renews it */
+        ACQUIRED,
+        /** The lease of another worker had expired, the claiming worker takes the execution over */
+        TAKEN_OVER,
+        /** Another worker holds the lease */
+        HELD,
+        /** The execution is over */
+        OVER
+    }
+
+    private final RestClient restClient;
+
+    public MonitorServerRestClient(@Value("${gridsuite.services.monitor-server.base-uri:http://monitor-server/}") String monitorServerBaseUri,
+                                   RestClient.Builder restClientBuilder) {
+        this.restClient = restClientBuilder
+            .baseUrl(monitorServerBaseUri + DELIMITER + MONITOR_API_VERSION + DELIMITER + "executions")
+            .build();
+    }
+
+    /**
+     * Claim or renew the lease of a worker on an execution.
+     */
+    public LeaseClaim acquireLease(UUID executionId, String owner, Duration duration) {
+        try {
+            Boolean takenOver = restClient.put()
+                .uri("/{executionId}/lease", executionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ExecutionLease(owner, duration))
+                .retrieve()
+                .body(Boolean.class);
+            return Boolean.TRUE.equals(takenOver) ? LeaseClaim.TAKEN_OVER : LeaseClaim.ACQUIRED;
+        } catch (HttpClientErrorException.Conflict e) {
+            return LeaseClaim.HELD;
+        } catch (HttpClientErrorException.Gone e) {
+            return LeaseClaim.OVER;
+        }
+    }
+
+    public void releaseLease(UUID executionId, String owner) {
+        restClient.delete()
+            .uri(uriBuilder -> uriBuilder.path("/{executionId}/lease").queryParam("owner", owner).build(executionId))
+            .retrieve()
+            .toBodilessEntity();
+    }
+}
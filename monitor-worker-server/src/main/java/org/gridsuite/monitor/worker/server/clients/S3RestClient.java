@@ -9,9 +9,14 @@ package org.gridsuite.monitor.worker.server.clients;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.Map;
 
@@ -42,4 +47,33 @@ public class S3RestClient {
             throw new IOException("Error occurred while uploading file to S3: " + e.getMessage(), e);
         }
     }
+
+    public InputStream downloadFile(String s3Key) throws IOException {
+        try {
+            GetObjectRequest getRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .build();
+            return s3Client.getObject(getRequest);
+        } catch (SdkException e) {
+            throw new IOException("Error occurred while downloading file from S3: " + e.getMessage(), e);
+        }
+    }
+
+    public void deleteDirectory(String s3Prefix) throws IOException {
+        try {
+            ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(s3Prefix)
+                .build();
+            for (S3Object s3Object : s3Client.listObjectsV2Paginator(listRequest).contents()) {
+                s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Object.key())
+                    .build());
+            }
+        } catch (SdkException e) {
+            throw new IOException("Error occurred while deleting files from S3: " + e.getMessage(), e);
+        }
+    }
 }
@@ -6,15 +6,23 @@
  */
 package org.gridsuite.monitor.worker.server.clients;
 
-import com.powsybl.security.SecurityAnalysisResult;
+import org.gridsuite.monitor.worker.server.config.ReferenceDataCacheConfig;
 import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisParametersValues;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 /**
  * @author Kevin Le Saulnier <kevin.le-saulnier at rte-france.com>
@@ -23,27 +31,50 @@ import java.util.UUID;
 public class SecurityAnalysisRestClient {
     static final String SA_API_VERSION = "v1";
     private static final String DELIMITER = "/";
+    private static final String GZIP_ENCODING = "gzip";
 
     private final RestClient restClient;
+    private final boolean compressResults;
 
     public SecurityAnalysisRestClient(
         RestClient.Builder restClientBuilder,
-        @Value("${gridsuite.services.security-analysis-server.base-uri:http://security-analysis-server/}") String securityAnalysisServerBaseUri) {
+        @Value("${gridsuite.services.security-analysis-server.base-uri:http://security-analysis-server/}") String securityAnalysisServerBaseUri,
+        @Value("${gridsuite.services.security-analysis-server.compress-results:false}") boolean compressResults) {
         this.restClient = restClientBuilder
             .baseUrl(securityAnalysisServerBaseUri + DELIMITER + SA_API_VERSION)
             .build();
+        this.compressResults = compressResults;
     }
 
-    public void saveResult(UUID resultUuid, SecurityAnalysisResult result) {
-        Objects.requireNonNull(result);
+    /**
+     * Save a result from its gzip compressed JSON file, streamed without being loaded in memory.
+     */
+    public void saveResult(UUID resultUuid, Path compressedResult) {
+        Objects.requireNonNull(compressedResult);
         restClient.post()
             .uri("/results/{resultUuid}", resultUuid)
             .contentType(MediaType.APPLICATION_JSON)
-            .body(result)
+            .headers(headers -> {
+                if (compressResults) {
+                    headers.set(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+                }
+            })
+            .body(outputStream -> writeCompressedResult(outputStream, compressedResult))
             .retrieve()
             .toBodilessEntity();
     }
 
+    private void writeCompressedResult(OutputStream outputStream, Path compressedResult) throws IOException {
+        if (compressResults) {
+            Files.copy(compressedResult, outputStream);
+            return;
+        }
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(compressedResult))) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+
+    @Cacheable(ReferenceDataCacheConfig.SECURITY_ANALYSIS_PARAMETERS_CACHE)
     public SecurityAnalysisParametersValues getParameters(UUID securityAnalysisParametersUuid) {
         return restClient.get()
             .uri("/parameters/{securityAnalysisParametersUuid}",
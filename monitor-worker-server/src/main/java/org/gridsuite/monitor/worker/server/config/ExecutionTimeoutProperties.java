@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.config;
+
+import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Time limits of the executions, by process type, and of their steps, by step type name. Executions and steps
+ * without a configured time limit are never timed out.
+ *
+ * @param steps time limits of the steps, by step type name, e.g. {@code RUN_SA_COMPUTATION}
+ * @param processes time limits of the executions, from their start to their last step, by process type
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ConfigurationProperties(prefix = "worker.timeouts")
+public record ExecutionTimeoutProperties(Map<String, Duration> steps, Map<ProcessType, Duration> processes) {
+
+    public ExecutionTimeoutProperties {
+        steps = steps != null ? Map.copyOf(steps) : Map.of();
+        processes = processes != null ? Map.copyOf(processes) : Map.of();
+    }
+}
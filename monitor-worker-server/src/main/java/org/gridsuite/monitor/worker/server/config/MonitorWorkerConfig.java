@@ -15,6 +15,7 @@ import com.powsybl.loadflow.json.LoadFlowParametersJsonModule;
 import com.powsybl.loadflow.json.LoadFlowResultJsonModule;
 import com.powsybl.security.json.SecurityAnalysisJsonModule;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,6 +23,7 @@ import org.springframework.context.annotation.Configuration;
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
  */
 @Configuration
+@EnableConfigurationProperties(ExecutionTimeoutProperties.class)
 public class MonitorWorkerConfig {
 
     @Bean
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Caches the reference data fetched from other servers, such as computation parameters, contingency lists and
+ * filters, which are read by many executions.
+ * <p>
+ * Entries expire after a configured time and each cache is bounded by a number of entries. Cached values are shared
+ * by executions and must not be modified. Caches are created at startup so that their statistics are exposed as
+ * {@code cache.*} metrics.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Configuration
+@EnableCaching
+public class ReferenceDataCacheConfig {
+
+    public static final String LOADFLOW_PARAMETERS_CACHE = "loadflowParameters";
+    public static final String SECURITY_ANALYSIS_PARAMETERS_CACHE = "securityAnalysisParameters";
+    public static final String CONTINGENCY_LISTS_CACHE = "contingencyLists";
+    public static final String FILTERS_CACHE = "filters";
+
+    public static final List<String> CACHE_NAMES = List.of(
+        LOADFLOW_PARAMETERS_CACHE,
+        SECURITY_ANALYSIS_PARAMETERS_CACHE,
+        CONTINGENCY_LISTS_CACHE,
+        FILTERS_CACHE
+    );
+
+    @Bean
+    public CacheManager referenceDataCacheManager(@Value("${worker.reference-data-cache.ttl:10m}") Duration ttl,
+                                                  @Value("${worker.reference-data-cache.max-entries:1000}") long maxEntries) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxEntries)
+            .recordStats());
+        cacheManager.setCacheNames(CACHE_NAMES);
+        return cacheManager;
+    }
+}
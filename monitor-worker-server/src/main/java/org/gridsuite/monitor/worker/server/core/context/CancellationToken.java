@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.core.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Signals the cancellation of an execution to its steps.
+ * <p>
+ * Steps check the token between their phases, and long computations register a listener to be stopped as soon as
+ * the execution is cancelled. A token is also cancelled when the execution or the step it belongs to exceeds its time
+ * limit, in which case it is timed out, or when the worker stops before the execution is done, in which case the
+ * execution is requeued to be resumed by another worker.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public class CancellationToken {
+
+    /**
+     * Removes a cancellation listener, once the work it stops is done.
+     */
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final List<Runnable> listeners = new ArrayList<>();
+    private volatile boolean cancelled;
+    private volatile boolean timedOut;
+    private volatile boolean requeued;
+    private Registration parentRegistration = () -> { };
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Whether the token was cancelled because of a time limit.
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Whether the token was cancelled because the worker stops, the execution being requeued.
+     */
+    public boolean isRequeued() {
+        return requeued;
+    }
+
+    /**
+     * @throws CancellationException if the execution is cancelled
+     */
+    public void throwIfCancelled() {
+        if (cancelled) {
+            if (timedOut) {
+                throw new CancellationException("Time limit exceeded");
+            }
+            throw new CancellationException(requeued ? "Execution requeued" : "Execution cancelled");
+        }
+    }
+
+    /**
+     * Cancel the execution, calling the registered listeners on the calling thread.
+     */
+    public void cancel() {
+        cancel(false, false);
+    }
+
+    /**
+     * Cancel the token because its time limit is exceeded.
+     */
+    public void timeOut() {
+        cancel(true, false);
+    }
+
+    /**
+     * Cancel the token because the worker stops, the execution being requeued to be resumed by another worker.
+     */
+    public void requeue() {
+        cancel(false, true);
+    }
+
+    private void cancel(boolean timeout, boolean requeue) {
+        List<Runnable> listenersToCall;
+        synchronized (listeners) {
+            if (cancelled) {
+                return;
+            }
+            timedOut = timeout;
+            requeued = requeue;
+            cancelled = true;
+            listenersToCall = List.copyOf(listeners);
+            listeners.clear();
+        }
+        listenersToCall.forEach(Runnable::run);
+    }
+
+    /**
+     * Register a listener called when the execution is cancelled, or right away if it already is.
+     *
+     * @return the registration, to close once the listener is not needed anymore
+     */
+    public Registration onCancel(Runnable listener) {
+        synchronized (listeners) {
+            if (!cancelled) {
+                listeners.add(listener);
+                return () -> {
+                    synchronized (listeners) {
+                        listeners.remove(listener);
+                    }
+                };
+            }
+        }
+        listener.run();
+        return () -> { };
+    }
+
+    /**
+     * Interrupt the calling thread when the token is cancelled, to stop a blocking call such as a request to another
+     * server. Once the registration is closed, the thread is not interrupted anymore and an interruption caused by
+     * the token is cleared, so that the thread can report the outcome of its work.
+     */
+    public Registration interruptOnCancel() {
+        Thread thread = Thread.currentThread();
+        AtomicBoolean active = new AtomicBoolean(true);
+        Registration registration = onCancel(() -> {
+            synchronized (active) {
+                if (active.get()) {
+                    thread.interrupt();
+                }
+            }
+        });
+        return () -> {
+            synchronized (active) {
+                active.set(false);
+            }
+            registration.close();
+            if (cancelled) {
+                Thread.interrupted();
+            }
+        };
+    }
+
+    /**
+     * Create a token cancelled along with this one, which can also be cancelled on its own, e.g. when a step exceeds
+     * its time limit without stopping the other steps of the execution.
+     */
+    public CancellationToken newChild() {
+        CancellationToken child = new CancellationToken();
+        child.parentRegistration = onCancel(() -> child.cancel(timedOut, requeued));
+        return child;
+    }
+
+    /**
+     * Stop following the cancellation of the parent token, once the work stopped by this token is done.
+     */
+    public void detach() {
+        parentRegistration.close();
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.core.context;
+
+/**
+ * Part of the computation of a process execution, delegated by the worker coordinating the execution to another
+ * worker. A shard executes the steps of the process without publishing their statuses, the coordinating worker
+ * being the only one reporting on the execution.
+ *
+ * @param index index of the shard, the worker coordinating the execution computing the shard 0 itself
+ * @param count total number of parts of the computation
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public record ExecutionShard(int index, int count) {
+
+    public ExecutionShard {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard index " + index + " is out of bounds for " + count + " shards");
+        }
+    }
+}
@@ -9,12 +9,27 @@ package org.gridsuite.monitor.worker.server.core.context;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.commons.report.TypedValue;
 import com.powsybl.iidm.network.Network;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.commons.types.result.ResultInfos;
 import org.gridsuite.monitor.worker.server.core.process.ProcessStep;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
 
 /**
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
@@ -22,6 +37,8 @@ import java.util.UUID;
 @Getter
 public class ProcessExecutionContext<C extends ProcessConfig> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessExecutionContext.class);
+
     private final UUID executionId;
     private final UUID caseUuid;
     private final C config;
@@ -31,14 +48,49 @@ public class ProcessExecutionContext<C extends ProcessConfig> {
     private final String executionEnvName;
     private final String debugFileLocation;
     private final ReportNode reportNode;
+    private final ExecutionShard shard;
+    /**
+     * Number of active modifications of the configuration already applied to the network, when it was restored from
+     * the cache of modified networks.
+     */
+    @Setter
+    private int appliedModificationsCount;
+    /**
+     * Time the attempt of the execution was scheduled by the server, identifying the attempt in the cancellation
+     * requests, or {@code null} if unknown.
+     */
+    @Setter
+    private Instant scheduledAt;
+    private final CancellationToken cancellationToken = new CancellationToken();
+    /**
+     * Orders of the completed steps, including the steps completed by a previous attempt of the execution when it is
+     * resumed from a checkpoint.
+     */
+    private final Set<Integer> completedStepOrders = ConcurrentHashMap.newKeySet();
+    /**
+     * Results of the completed steps by step order, including the results of the steps completed by a previous attempt
+     * of the execution when it is resumed from a checkpoint.
+     */
+    private final Map<Integer, ResultInfos> stepResults = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<ProcessInputKey<?>, Future<?>> prefetchedInputs = new ConcurrentHashMap<>();
 
     public ProcessExecutionContext(UUID executionId, UUID caseUuid, C config, UUID reportId, String executionEnvName, String debugFileLocation) {
+        this(executionId, caseUuid, config, reportId, executionEnvName, debugFileLocation, null);
+    }
+
+    /**
+     * @param shard part of the computation delegated to this worker, or {@code null} for the whole execution
+     */
+    public ProcessExecutionContext(UUID executionId, UUID caseUuid, C config, UUID reportId, String executionEnvName, String debugFileLocation,
+                                   ExecutionShard shard) {
         this.executionId = executionId;
         this.caseUuid = caseUuid;
         this.config = config;
         this.reportId = reportId;
         this.executionEnvName = executionEnvName;
         this.debugFileLocation = debugFileLocation;
+        this.shard = shard;
         this.reportNode = ReportNode.newRootReportNode()
                 .withAllResourceBundlesFromClasspath()
                 .withMessageTemplate("monitor.worker.server.process")
@@ -47,6 +99,75 @@ public class ProcessExecutionContext<C extends ProcessConfig> {
                 .build();
     }
 
+    public boolean isShard() {
+        return shard != null;
+    }
+
+    public boolean isCancelled() {
+        return cancellationToken.isCancelled();
+    }
+
+    public boolean isTimedOut() {
+        return cancellationToken.isTimedOut();
+    }
+
+    public boolean isRequeued() {
+        return cancellationToken.isRequeued();
+    }
+
+    /**
+     * Start loading an input on a virtual thread, so that it is fetched while previous steps are running.
+     *
+     * @param key key of the input
+     * @param loader function loading the input, which must only depend on the configuration of the process
+     */
+    public <T> void prefetchInput(ProcessInputKey<T> key, Supplier<T> loader) {
+        FutureTask<T> input = new FutureTask<>(loader::get);
+        prefetchedInputs.put(key, input);
+        Thread.ofVirtual().start(input);
+    }
+
+    /**
+     * Store an input loaded by a step, so that the steps depending on it read it as a prefetched input.
+     *
+     * @param key key of the input
+     * @param input the loaded input
+     */
+    public <T> void putInput(ProcessInputKey<T> key, T input) {
+        prefetchedInputs.put(key, CompletableFuture.completedFuture(input));
+    }
+
+    /**
+     * Get a prefetched input, waiting for it to be loaded. The wait is interrupted when the execution is cancelled.
+     *
+     * @param key key of the input
+     * @return the input, or an empty optional if it was not prefetched or could not be loaded, the caller then fetching
+     * it itself
+     */
+    @SuppressWarnings("unchecked") // safe: inputs are only stored by prefetchInput with a key of the same type
+    public <T> Optional<T> getPrefetchedInput(ProcessInputKey<T> key) {
+        Future<T> input = (Future<T>) prefetchedInputs.get(key);
+        if (input == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(input.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for input " + key.name(), e);
+        } catch (ExecutionException | CancellationException e) {
+            LOGGER.warn("Execution id: {} - Could not prefetch input {}, fetching it again", executionId, key.name(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stop loading the prefetched inputs which are not loaded yet, once the execution is over.
+     */
+    public void cancelPrefetchedInputs() {
+        prefetchedInputs.values().forEach(input -> input.cancel(true));
+    }
+
     public ProcessStepExecutionContext<C> createStepContext(ProcessStep<? super C> step, int stepOrder) {
         return new ProcessStepExecutionContext<>(this, step.getType(), step.getId(), stepOrder);
     }
@@ -0,0 +1,21 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.core.context;
+
+/**
+ * Typed key of an input prefetched into a {@link ProcessExecutionContext}.
+ * <p>
+ * Keys are compared by name, so a step should declare its keys as constants.
+ *
+ * @param name unique name of the input within a process execution
+ * @param <T> type of the input
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@SuppressWarnings("unused") // T only types the inputs stored and read with this key
+public record ProcessInputKey<T>(String name) {
+}
@@ -17,6 +17,9 @@ import org.gridsuite.monitor.worker.server.core.process.ProcessStepType;
 import org.gridsuite.monitor.worker.server.report.MonitorWorkerServerReportResourceBundle;
 
 import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -36,15 +39,29 @@ public class ProcessStepExecutionContext<C extends ProcessConfig> {
     private final Instant startedAt = Instant.now();
     @Getter
     private final ProcessStepType processStepType;
+    @Getter
+    private final CancellationToken cancellationToken;
 
     @Getter
     @Setter
     private ResultInfos resultInfos;
 
+    @Setter
+    private StepProgressListener progressListener = StepProgressListener.NONE;
+
+    /**
+     * Whether the state of the execution must be checkpointed once the step is completed, as other steps depend on it.
+     */
+    @Getter
+    @Setter
+    private boolean checkpointRequired;
+
     public ProcessStepExecutionContext(ProcessExecutionContext<C> processContext, ProcessStepType processStepType, UUID stepId, int stepOrder) {
         this.processContext = processContext;
         this.stepExecutionId = stepId;
         this.processStepType = processStepType;
+        // the step can time out on its own, while a cancellation of the execution also cancels the step
+        this.cancellationToken = processContext.getCancellationToken().newChild();
         this.reportNode = ReportNode.newRootReportNode()
                 .withAllResourceBundlesFromClasspath()
                 .withMessageTemplate("monitor.worker.server.step.execution")
@@ -82,7 +99,66 @@ public class ProcessStepExecutionContext<C extends ProcessConfig> {
         return processContext.getDebugFileLocation();
     }
 
+    public ExecutionShard getShard() {
+        return processContext.getShard();
+    }
+
+    public Instant getScheduledAt() {
+        return processContext.getScheduledAt();
+    }
+
+    public boolean isShard() {
+        return processContext.isShard();
+    }
+
+    public boolean isCancelled() {
+        return cancellationToken.isCancelled();
+    }
+
+    public boolean isTimedOut() {
+        return cancellationToken.isTimedOut();
+    }
+
     public void setNetwork(Network network) {
         processContext.setNetwork(network);
     }
+
+    public int getAppliedModificationsCount() {
+        return processContext.getAppliedModificationsCount();
+    }
+
+    public void setAppliedModificationsCount(int appliedModificationsCount) {
+        processContext.setAppliedModificationsCount(appliedModificationsCount);
+    }
+
+    public Set<Integer> getCompletedStepOrders() {
+        return processContext.getCompletedStepOrders();
+    }
+
+    public Map<Integer, ResultInfos> getStepResults() {
+        return processContext.getStepResults();
+    }
+
+    public void markCompleted() {
+        if (resultInfos != null) {
+            processContext.getStepResults().put(stepOrder, resultInfos);
+        }
+        processContext.getCompletedStepOrders().add(stepOrder);
+    }
+
+    /**
+     * Report the progress of the step, in work units meaningful to the step, e.g. contingencies of a security
+     * analysis. Can be called from the computation threads of the step.
+     */
+    public void updateProgress(long done, long total) {
+        progressListener.onProgress(done, total);
+    }
+
+    public <T> Optional<T> getPrefetchedInput(ProcessInputKey<T> key) {
+        return processContext.getPrefetchedInput(key);
+    }
+
+    public <T> void putInput(ProcessInputKey<T> key, T input) {
+        processContext.putInput(key, input);
+    }
 }
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.core.context;
+
+/**
+ * Receives the progress reported by a running step.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@FunctionalInterface
+public interface StepProgressListener {
+
+    StepProgressListener NONE = (done, total) -> { };
+
+    /**
+     * Called each time the step progresses, possibly from several threads.
+     *
+     * @param done number of work units done
+     * @param total total number of work units of the step
+     */
+    void onProgress(long done, long total);
+}
@@ -8,6 +8,7 @@ package org.gridsuite.monitor.worker.server.core.messaging;
 
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStatusUpdate;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStepProgress;
 
 import java.util.List;
 import java.util.UUID;
@@ -44,4 +45,12 @@ public interface Notificator {
      * @param step the step status snapshot to publish
      */
     void updateStepStatus(UUID executionId, ProcessExecutionStep step);
+
+    /**
+     * Publish the progress of a running step.
+     *
+     * @param executionId the process execution identifier used to correlate all updates of the same run
+     * @param progress the step progress snapshot to publish
+     */
+    void updateStepProgress(UUID executionId, ProcessExecutionStepProgress progress);
 }
@@ -8,6 +8,7 @@ package org.gridsuite.monitor.worker.server.core.orchestrator;
 
 import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
 
 /**
  * Root orchestrator interface responsible for executing a {@code Process} run request.
@@ -26,4 +27,15 @@ public interface ProcessExecutor {
      *                          update execution status accordingly before propagating)
      */
     <T extends ProcessConfig> void executeProcess(ProcessRunMessage<T> runMessage);
+
+    /**
+     * Execute a part of a process run delegated by the worker coordinating it, without publishing the statuses of
+     * the execution.
+     *
+     * @param runMessage run request
+     * @param shard part of the computation to execute
+     * @param <T> concrete {@link ProcessConfig} type associated with the target {@code Process}
+     * @throws IllegalArgumentException if no process is registered for {@code runMessage.processType()}
+     */
+    <T extends ProcessConfig> void executeShard(ProcessRunMessage<T> runMessage, ExecutionShard shard);
 }
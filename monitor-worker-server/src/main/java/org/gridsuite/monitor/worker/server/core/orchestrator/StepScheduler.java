@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.core.orchestrator;
+
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.process.Process;
+
+/**
+ * Orchestrator interface responsible for running the steps of a process according to their dependencies.
+ * <p>
+ * Each step is delegated to the {@link StepExecutor} as soon as all the steps it depends on are completed, so that
+ * independent steps run concurrently.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public interface StepScheduler {
+
+    /**
+     * Execute all the steps of a process run.
+     * <p>
+     * When a step fails, the steps depending on it (directly or transitively) are skipped, while the steps which do
+     * not depend on it keep running.
+     *
+     * @param process process whose steps are executed
+     * @param context process execution context
+     * @param <C> concrete {@link ProcessConfig} type associated with the process
+     * @return {@code true} if all steps completed, {@code false} if at least one step failed
+     * @throws IllegalArgumentException if the step dependencies reference unknown steps or contain a cycle
+     */
+    <C extends ProcessConfig> boolean executeSteps(Process<C> process, ProcessExecutionContext<C> context);
+}
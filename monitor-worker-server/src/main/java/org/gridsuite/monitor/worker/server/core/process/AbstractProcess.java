@@ -12,6 +12,10 @@ import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
@@ -27,8 +31,26 @@ public abstract class AbstractProcess<C extends ProcessConfig> implements Proces
 
     protected abstract List<ProcessStep<C>> defineSteps();
 
+    /**
+     * Steps that are not keys of the returned map depend on their predecessor in {@link #defineSteps()}. Steps
+     * running concurrently must not both change the network, see {@link ProcessStep#changesNetwork()}.
+     *
+     * @return for each step, the steps that must complete before it can start
+     */
+    protected Map<ProcessStep<C>, List<ProcessStep<C>>> defineDependencies() {
+        return Map.of();
+    }
+
     @Override
     public List<ProcessStep<C>> getSteps() {
         return Collections.unmodifiableList(defineSteps());
     }
+
+    @Override
+    public Map<UUID, Set<UUID>> getStepDependencies() {
+        return defineDependencies().entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(
+                entry -> entry.getKey().getId(),
+                entry -> entry.getValue().stream().map(ProcessStep::getId).collect(Collectors.toUnmodifiableSet())));
+    }
 }
@@ -10,12 +10,16 @@ import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Definition of a runnable process.
  * <p>
  * A {@code Process} is identified by a {@link ProcessType} and provides an ordered list of {@link ProcessStep}s
- * to be orchestrated by {@code ProcessExecutor}.
+ * to be orchestrated by {@code ProcessExecutor}. Steps may declare dependencies on other steps so that independent
+ * steps can run concurrently.
  *
  * @param <C> the concrete {@link ProcessConfig} type required by this process
  *
@@ -36,4 +40,17 @@ public interface Process<C extends ProcessConfig> {
      * @return ordered process steps
      */
     List<ProcessStep<C>> getSteps();
+
+    /**
+     * Defines the dependencies between the steps of this process, indexed by step id.
+     * <p>
+     * A step which is not a key of the returned map depends on the step preceding it in {@link #getSteps()}, so a
+     * process declaring no dependency runs its steps sequentially. A step mapped to an empty set can start as soon
+     * as the execution starts.
+     *
+     * @return for each step id, the ids of the steps that must complete before it can start
+     */
+    default Map<UUID, Set<UUID>> getStepDependencies() {
+        return Map.of();
+    }
 }
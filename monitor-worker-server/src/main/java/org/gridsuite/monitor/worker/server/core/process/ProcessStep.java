@@ -7,6 +7,7 @@
 package org.gridsuite.monitor.worker.server.core.process;
 
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
 
 import java.util.UUID;
@@ -42,4 +43,27 @@ public interface ProcessStep<C extends ProcessConfig> {
      *                          translating it into monitoring status updates and deciding what to do next
      */
     void execute(ProcessStepExecutionContext<C> context);
+
+    /**
+     * Whether the step changes the network of the execution. The execution is only checkpointed after such steps, so
+     * a step which does not change the network can run concurrently with the steps which do.
+     *
+     * @return {@code true} by default
+     */
+    default boolean changesNetwork() {
+        return true;
+    }
+
+    /**
+     * Starts fetching the inputs of the step which only depend on the process configuration, before the steps it
+     * depends on are completed. Called once when the execution starts.
+     * <p>
+     * Prefetched inputs are registered with {@link ProcessExecutionContext#prefetchInput} and read by {@link #execute}
+     * with {@link ProcessStepExecutionContext#getPrefetchedInput}.
+     *
+     * @param context execution context of the process
+     */
+    default void prefetchInputs(ProcessExecutionContext<C> context) {
+        // no input to prefetch by default
+    }
 }
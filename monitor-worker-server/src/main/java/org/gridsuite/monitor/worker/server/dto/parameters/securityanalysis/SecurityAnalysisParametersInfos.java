@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis;
+
+import com.powsybl.security.SecurityAnalysisParameters;
+import org.gridsuite.actions.dto.contingency.AbstractContingencyList;
+
+import java.util.List;
+
+/**
+ * Inputs of a security analysis which do not depend on the network.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public record SecurityAnalysisParametersInfos(
+    SecurityAnalysisParameters securityAnalysisParameters,
+    List<AbstractContingencyList> contingencyLists
+) {
+}
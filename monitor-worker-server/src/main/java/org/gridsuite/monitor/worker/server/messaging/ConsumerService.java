@@ -6,14 +6,26 @@
  */
 package org.gridsuite.monitor.worker.server.messaging;
 
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
-import org.gridsuite.monitor.worker.server.core.orchestrator.ProcessExecutor;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
+import org.gridsuite.monitor.worker.server.orchestrator.ExecutionCancellationService;
+import org.gridsuite.monitor.worker.server.orchestrator.ProcessExecutionPoolService;
+import org.gridsuite.monitor.worker.server.orchestrator.ShardCoordinationService;
+import org.gridsuite.monitor.worker.server.services.ReferenceDataCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.function.Consumer;
 
 /**
@@ -22,11 +34,122 @@ import java.util.function.Consumer;
 @Configuration
 @RequiredArgsConstructor
 public class ConsumerService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConsumerService.class);
 
-    private final ProcessExecutor executionService;
+    public static final String HEADER_ELEMENT_UUID = "elementUuid";
+    public static final String HEADER_EXECUTION_ID = "executionId";
+    public static final String HEADER_SCHEDULED_AT = "scheduledAt";
 
+    private final ProcessExecutionPoolService executionPoolService;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final ShardCoordinationService shardCoordinationService;
+    private final ExecutionCancellationService cancellationService;
+
+    /**
+     * Hands the process over to the execution pool, blocking until it is admitted. The message is manually
+     * acknowledged once the execution ends, so that it is delivered again if the worker stops while computing it.
+     * It is requeued if the execution cannot be started.
+     */
     @Bean
     public <T extends ProcessConfig> Consumer<Message<ProcessRunMessage<T>>> consumeRun() {
-        return message -> executionService.executeProcess(message.getPayload());
+        return message -> submit(message, null);
+    }
+
+    /**
+     * Hands the shard of an execution coordinated by another worker over to the execution pool, which admits it in a
+     * shard slot. Shards are consumed from their own destination, so that they are not queued behind run messages
+     * waiting for a slot held by their coordinating execution. The message is acknowledged once the shard is done.
+     */
+    @Bean
+    public <T extends ProcessConfig> Consumer<Message<ProcessRunMessage<T>>> consumeShardRun() {
+        return message -> {
+            ExecutionShard shard = new ExecutionShard(
+                Integer.parseInt(Objects.requireNonNull(message.getHeaders().get(ShardCoordinationService.HEADER_SHARD_INDEX, String.class))),
+                Integer.parseInt(Objects.requireNonNull(message.getHeaders().get(ShardCoordinationService.HEADER_SHARD_COUNT, String.class))));
+            submit(message, shard);
+        };
+    }
+
+    private <T extends ProcessConfig> void submit(Message<ProcessRunMessage<T>> message, ExecutionShard shard) {
+        try {
+            executionPoolService.submit(message.getPayload(), shard, getAcknowledgement(message));
+        } catch (RuntimeException e) {
+            // the acknowledgement is only called by started executions, so the message would stay unacknowledged
+            LOGGER.error("Execution id: {} - Could not start execution, requeuing it", message.getPayload().executionId(), e);
+            requeue(message);
+        }
+    }
+
+    private static void requeue(Message<?> message) {
+        Channel channel = message.getHeaders().get(AmqpHeaders.CHANNEL, Channel.class);
+        Long deliveryTag = message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+        if (channel == null || deliveryTag == null) {
+            return;
+        }
+        try {
+            channel.basicNack(deliveryTag, false, true);
+        } catch (IOException | RuntimeException e) {
+            // the channel is closed, so the message is delivered again
+            LOGGER.warn("Could not requeue run message {}", deliveryTag, e);
+        }
+    }
+
+    private static Runnable getAcknowledgement(Message<?> message) {
+        Channel channel = message.getHeaders().get(AmqpHeaders.CHANNEL, Channel.class);
+        Long deliveryTag = message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+        if (channel == null || deliveryTag == null) {
+            // automatically acknowledged by the binder
+            return () -> { };
+        }
+        return () -> {
+            try {
+                channel.basicAck(deliveryTag, false);
+            } catch (IOException | RuntimeException e) {
+                // the channel is closed, so the message is delivered again and its execution lease keeps it from being computed twice
+                LOGGER.warn("Could not acknowledge run message {}", deliveryTag, e);
+            }
+        };
+    }
+
+    /**
+     * Notifies the coordination of sharded executions that a worker is done with a shard.
+     */
+    @Bean
+    public Consumer<Message<String>> consumeShardDone() {
+        return message -> shardCoordinationService.onShardDone(
+            UUID.fromString(Objects.requireNonNull(message.getHeaders().get(ShardCoordinationService.HEADER_EXECUTION_ID, String.class))),
+            Integer.parseInt(Objects.requireNonNull(message.getHeaders().get(ShardCoordinationService.HEADER_SHARD_INDEX, String.class))),
+            Boolean.parseBoolean(message.getHeaders().get(ShardCoordinationService.HEADER_SHARD_SUCCEEDED, String.class)));
+    }
+
+    /**
+     * Cancels the attempt of the execution whose id and scheduling time are given in the message headers, or all its
+     * attempts if no scheduling time is given. Cancellation messages are received by all the workers, as the execution
+     * may run on any of them.
+     */
+    @Bean
+    public Consumer<Message<String>> consumeCancel() {
+        return message -> {
+            String scheduledAt = message.getHeaders().get(HEADER_SCHEDULED_AT, String.class);
+            cancellationService.cancel(
+                UUID.fromString(Objects.requireNonNull(message.getHeaders().get(HEADER_EXECUTION_ID, String.class))),
+                scheduledAt != null ? Instant.parse(scheduledAt) : null);
+        };
+    }
+
+    /**
+     * Invalidates the cached reference data of the element whose uuid is given in the message headers, or all of it
+     * if no uuid is given.
+     */
+    @Bean
+    public Consumer<Message<String>> consumeReferenceDataUpdate() {
+        return message -> {
+            String elementUuid = message.getHeaders().get(HEADER_ELEMENT_UUID, String.class);
+            if (elementUuid != null) {
+                referenceDataCacheService.invalidate(UUID.fromString(elementUuid));
+            } else {
+                referenceDataCacheService.invalidateAll();
+            }
+        };
     }
 }
@@ -9,6 +9,7 @@ package org.gridsuite.monitor.worker.server.messaging;
 import org.gridsuite.monitor.commons.types.messaging.MessageType;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStatusUpdate;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStepProgress;
 import org.gridsuite.monitor.worker.server.core.messaging.Notificator;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.messaging.Message;
@@ -17,8 +18,13 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Publishes the updates of the executions to the monitor server. The updates are partitioned by execution id, so that
+ * the updates of an execution are consumed in order.
+ *
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
  */
 @Service
@@ -30,10 +36,19 @@ public class NotificationService implements Notificator {
     public static final String HEADER_MESSAGE_TYPE = "messageType";
     public static final String HEADER_EXECUTION_ID = "executionId";
 
+    // steps are sequenced from the clock, increasing for the updates of this worker; the updates of a step resumed by
+    // another worker come after the previous ones only if the clocks of the workers are synchronized
+    private final AtomicLong lastSequenceNumber = new AtomicLong();
+
     public NotificationService(StreamBridge updatePublisher) {
         this.updatePublisher = updatePublisher;
     }
 
+    private long nextSequenceNumber() {
+        long now = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        return lastSequenceNumber.updateAndGet(last -> Math.max(last + 1, now));
+    }
+
     private <T> void sendMonitorUpdate(
             UUID executionId,
             MessageType messageType,
@@ -58,6 +73,7 @@ public class NotificationService implements Notificator {
 
     @Override
     public void updateStepStatus(UUID executionId, ProcessExecutionStep processExecutionStep) {
+        processExecutionStep.setSequenceNumber(nextSequenceNumber());
         sendMonitorUpdate(
                 executionId,
                 MessageType.STEP_STATUS_UPDATE,
@@ -67,10 +83,20 @@ public class NotificationService implements Notificator {
 
     @Override
     public void updateStepsStatuses(UUID executionId, List<ProcessExecutionStep> processExecutionSteps) {
+        processExecutionSteps.forEach(step -> step.setSequenceNumber(nextSequenceNumber()));
         sendMonitorUpdate(
             executionId,
             MessageType.STEPS_STATUSES_UPDATE,
             processExecutionSteps
         );
     }
+
+    @Override
+    public void updateStepProgress(UUID executionId, ProcessExecutionStepProgress processExecutionStepProgress) {
+        sendMonitorUpdate(
+            executionId,
+            MessageType.STEP_PROGRESS_UPDATE,
+            processExecutionStepProgress
+        );
+    }
 }
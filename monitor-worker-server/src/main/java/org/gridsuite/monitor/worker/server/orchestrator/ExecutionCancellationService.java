@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cancels the executions running on this worker when the monitor server requests it.
+ * <p>
+ * Cancellation requests are received by all the workers. Requested cancellations are remembered for a while, so that
+ * an execution whose run message is still waiting in the queue, or for admission, is cancelled as soon as it starts.
+ * A cancellation only applies to the attempt of the execution it was requested for, identified by the time the attempt
+ * was scheduled, so that retrying a cancelled execution runs it again.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ExecutionCancellationService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionCancellationService.class);
+
+    // an execution may run on this worker both as a coordinator and as a shard
+    private final Map<UUID, Set<RunningAttempt>> runningExecutions = new ConcurrentHashMap<>();
+    // scheduling time of the cancelled attempt, empty when all the attempts are cancelled
+    private final Cache<UUID, Optional<Instant>> cancelledExecutions;
+    private volatile boolean requeuing;
+
+    public ExecutionCancellationService(@Value("${worker.cancellation.retention:24h}") Duration retention) {
+        this.cancelledExecutions = Caffeine.newBuilder()
+            .expireAfterWrite(retention)
+            .build();
+    }
+
+    /**
+     * Register the cancellation token of an execution starting on this worker, cancelling it right away if the
+     * attempt was cancelled before, or requeuing it if the worker is drained.
+     *
+     * @param scheduledAt time the attempt was scheduled, or {@code null} if unknown
+     */
+    public void register(UUID executionId, Instant scheduledAt, CancellationToken cancellationToken) {
+        runningExecutions.computeIfAbsent(executionId, id -> ConcurrentHashMap.newKeySet()).add(new RunningAttempt(scheduledAt, cancellationToken));
+        if (isCancelled(executionId, scheduledAt)) {
+            cancellationToken.cancel();
+        } else if (requeuing) {
+            cancellationToken.requeue();
+        }
+    }
+
+    /**
+     * Unregister the cancellation token of an execution done on this worker.
+     */
+    public void unregister(UUID executionId, CancellationToken cancellationToken) {
+        runningExecutions.computeIfPresent(executionId, (id, attempts) -> {
+            attempts.removeIf(attempt -> attempt.cancellationToken() == cancellationToken);
+            return attempts.isEmpty() ? null : attempts;
+        });
+    }
+
+    /**
+     * @param scheduledAt time the attempt was scheduled, or {@code null} if unknown
+     */
+    public boolean isCancelled(UUID executionId, Instant scheduledAt) {
+        Optional<Instant> cancelledAttempt = cancelledExecutions.getIfPresent(executionId);
+        return cancelledAttempt != null && isSameAttempt(cancelledAttempt, scheduledAt);
+    }
+
+    /**
+     * Cancel an attempt of an execution, whether it is running on this worker, will run on it, or runs on another
+     * worker.
+     *
+     * @param scheduledAt time the cancelled attempt was scheduled, or {@code null} to cancel all the attempts
+     */
+    public void cancel(UUID executionId, Instant scheduledAt) {
+        Optional<Instant> cancelledAttempt = Optional.ofNullable(scheduledAt);
+        cancelledExecutions.put(executionId, cancelledAttempt);
+        Set<RunningAttempt> attempts = runningExecutions.get(executionId);
+        if (attempts != null) {
+            attempts.stream()
+                .filter(attempt -> isSameAttempt(cancelledAttempt, attempt.scheduledAt()))
+                .forEach(attempt -> {
+                    LOGGER.info("Execution id: {} - Cancelling execution", executionId);
+                    attempt.cancellationToken().cancel();
+                });
+        }
+    }
+
+    /**
+     * Stop all the executions running on this worker, to requeue them when the worker is drained. The executions
+     * starting afterwards, which were waiting for admission, are requeued as soon as they are registered.
+     */
+    public void requeueAll() {
+        requeuing = true;
+        runningExecutions.forEach((executionId, attempts) -> {
+            LOGGER.info("Execution id: {} - Requeuing execution", executionId);
+            attempts.forEach(attempt -> attempt.cancellationToken().requeue());
+        });
+    }
+
+    /**
+     * @return the number of executions running on this worker, an execution running both as a coordinator and as a
+     * shard being counted once
+     */
+    public int getRunningExecutionCount() {
+        return runningExecutions.size();
+    }
+
+    private static boolean isSameAttempt(Optional<Instant> cancelledAttempt, Instant scheduledAt) {
+        // an unknown attempt is cancelled with any attempt, as before attempts were told apart
+        return cancelledAttempt.isEmpty() || scheduledAt == null || cancelledAttempt.get().equals(scheduledAt);
+    }
+
+    private record RunningAttempt(Instant scheduledAt, CancellationToken cancellationToken) {
+    }
+}
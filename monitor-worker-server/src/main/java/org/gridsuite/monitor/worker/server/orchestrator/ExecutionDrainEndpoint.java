@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint draining the worker before it is stopped: a POST starts draining, and a GET tells whether the
+ * worker is drained.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Component
+@Endpoint(id = "drain")
+public class ExecutionDrainEndpoint {
+
+    /**
+     * @param state drain state of the worker
+     * @param runningExecutions number of executions still running on the worker
+     */
+    public record DrainStatus(ExecutionDrainService.State state, int runningExecutions) { }
+
+    private final ExecutionDrainService drainService;
+
+    public ExecutionDrainEndpoint(ExecutionDrainService drainService) {
+        this.drainService = drainService;
+    }
+
+    @ReadOperation
+    public DrainStatus status() {
+        return new DrainStatus(drainService.getState(), drainService.getRunningExecutionCount());
+    }
+
+    @WriteOperation
+    public DrainStatus drain() {
+        drainService.startDrain();
+        return status();
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.binding.BindingsLifecycleController;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drains the worker before it stops, so that a deployment or a scale-down does not lose the executions it computes.
+ * <p>
+ * Draining stops consuming run and shard run messages, then waits for the executions of the worker to end within a grace period,
+ * counting the executions admitted by the execution pool and those still waiting for admission. The executions still
+ * running afterwards are stopped and their run messages are published again, to be resumed from their checkpoint by
+ * another worker, as are the executions starting afterwards. A worker is drained when it stops, or beforehand through the {@code drain}
+ * actuator endpoint, whose state tells when the worker can be stopped. Requeued executions are counted in the
+ * {@code monitor.worker.executions.requeued} metric.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ExecutionDrainService implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionDrainService.class);
+
+    static final String RUN_BINDING = "consumeRun-in-0";
+    static final String SHARD_RUN_BINDING = "consumeShardRun-in-0";
+    static final String REQUEUE_BINDING = "publishRequeuedRun-out-0";
+    static final String REQUEUE_SHARD_BINDING = "publishRequeuedShardRun-out-0";
+    static final String REQUEUED_METER = "monitor.worker.executions.requeued";
+
+    // the end of an execution is not signaled, so the running executions are checked periodically while draining
+    private static final long DRAIN_CHECK_PERIOD_MS = 1000;
+
+    public enum State {
+        ACTIVE,
+        DRAINING,
+        DRAINED
+    }
+
+    private final BindingsLifecycleController bindingsController;
+    private final ExecutionCancellationService cancellationService;
+    private final ProcessExecutionPoolService executionPoolService;
+    private final StreamBridge publisher;
+    private final Counter requeuedExecutions;
+    private final Duration gracePeriod;
+    private final Duration requeueTimeout;
+    private final ExecutorService drainExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("execution-drain").daemon().factory());
+    private volatile State state = State.ACTIVE;
+    private volatile boolean running;
+    private Future<?> drain;
+
+    public ExecutionDrainService(BindingsLifecycleController bindingsController,
+                                 ExecutionCancellationService cancellationService,
+                                 // lazy, as the execution pool depends on this service through the process executor
+                                 @Lazy ProcessExecutionPoolService executionPoolService,
+                                 StreamBridge publisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${worker.drain.grace-period:5m}") Duration gracePeriod,
+                                 @Value("${worker.drain.requeue-timeout:30s}") Duration requeueTimeout) {
+        this.bindingsController = bindingsController;
+        this.cancellationService = cancellationService;
+        this.executionPoolService = executionPoolService;
+        this.publisher = publisher;
+        this.requeuedExecutions = Counter.builder(REQUEUED_METER).register(meterRegistry);
+        this.gracePeriod = gracePeriod;
+        this.requeueTimeout = requeueTimeout;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainExecutor.shutdownNow();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * @return the number of executions of the worker, admitted by the execution pool or waiting for admission
+     */
+    public int getRunningExecutionCount() {
+        return executionPoolService.getRunningExecutions() + executionPoolService.getWaitingExecutions();
+    }
+
+    /**
+     * Start draining the worker in the background, unless it is already draining.
+     *
+     * @return the drain, done once the worker is drained
+     */
+    public synchronized Future<?> startDrain() {
+        if (drain == null) {
+            state = State.DRAINING;
+            drain = drainExecutor.submit(this::drain);
+        }
+        return drain;
+    }
+
+    private void drain() {
+        LOGGER.info("Draining worker, {} executions running", getRunningExecutionCount());
+        bindingsController.changeState(RUN_BINDING, BindingsLifecycleController.State.STOPPED);
+        bindingsController.changeState(SHARD_RUN_BINDING, BindingsLifecycleController.State.STOPPED);
+        if (!awaitExecutions(gracePeriod)) {
+            LOGGER.warn("{} executions still running after {}, requeuing them", getRunningExecutionCount(), gracePeriod);
+            cancellationService.requeueAll();
+            if (!awaitExecutions(requeueTimeout)) {
+                // their leases expire once the worker is stopped, so that they are taken over when their run message is retried
+                LOGGER.error("{} executions not stopped after {}", getRunningExecutionCount(), requeueTimeout);
+            }
+        }
+        state = State.DRAINED;
+        LOGGER.info("Worker drained");
+    }
+
+    private boolean awaitExecutions(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            while (getRunningExecutionCount() > 0) {
+                long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMs <= 0) {
+                    return false;
+                }
+                Thread.sleep(Math.min(remainingMs, DRAIN_CHECK_PERIOD_MS));
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Publish again the run message of an execution stopped by the drain, once this worker is done with it.
+     *
+     * @param runMessage run message of the execution
+     * @param shard part of the execution computed by this worker, or {@code null} for the whole execution, which is
+     *              then resumed from its checkpoint
+     */
+    public <T extends ProcessConfig> void requeue(ProcessRunMessage<T> runMessage, ExecutionShard shard) {
+        if (shard != null) {
+            publisher.send(REQUEUE_SHARD_BINDING, MessageBuilder.withPayload(runMessage)
+                .setHeader(ShardCoordinationService.HEADER_SHARD_INDEX, String.valueOf(shard.index()))
+                .setHeader(ShardCoordinationService.HEADER_SHARD_COUNT, String.valueOf(shard.count()))
+                .build());
+        } else {
+            publisher.send(REQUEUE_BINDING, MessageBuilder.withPayload(new ProcessRunMessage<>(runMessage.executionId(), runMessage.caseUuid(),
+                runMessage.config(), runMessage.reportId(), runMessage.debugFileLocation(), true, runMessage.scheduledAt())).build());
+        }
+        requeuedExecutions.increment();
+        LOGGER.info("Execution id: {} - Execution requeued", runMessage.executionId());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * Drain the worker when it stops, blocking until it is drained.
+     */
+    @Override
+    public void stop() {
+        try {
+            startDrain().get();
+        } catch (ExecutionException e) {
+            LOGGER.error("Could not drain worker", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stopped before the other components, so that the consumption of run messages is stopped first and the running
+     * executions can still publish their updates while the worker is drained.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.monitor.worker.server.clients.MonitorServerRestClient;
+import org.gridsuite.monitor.worker.server.clients.MonitorServerRestClient.LeaseClaim;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leases the executions computed by this worker through the monitor server, so that a run message delivered again
+ * by the broker, when an acknowledgement is lost, is not computed twice.
+ * <p>
+ * A lease is claimed before an execution starts and renewed periodically while it runs. A run message is ignored
+ * while this worker holds the lease of its execution. A claim refused because another worker holds the lease is
+ * tried again for a lease duration, as the broker delivers the run message of a worker which died right away: its
+ * lease then expires and its execution is taken over by this worker, which resumes it from its checkpoint. The run
+ * message is ignored if the lease is still held afterwards, or right away if the execution is over. The claim stops
+ * waiting when the execution is cancelled or requeued. A worker whose lease was taken over stops its execution. Claims are counted in the {@code monitor.worker.leases} metric, tagged with their {@code outcome}.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ExecutionLeaseService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionLeaseService.class);
+
+    static final String LEASES_METER = "monitor.worker.leases";
+
+    /**
+     * @param takenOver whether the execution was taken over from another worker whose lease expired
+     * @param registration stops renewing the lease and releases it, once the execution is over
+     */
+    public record Lease(boolean takenOver, CancellationToken.Registration registration) implements CancellationToken.Registration {
+        @Override
+        public void close() {
+            registration.close();
+        }
+    }
+
+    private final MonitorServerRestClient monitorServerRestClient;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration duration;
+    private final Duration renewInterval;
+    // unique among the worker instances, including the instances of a restarted worker
+    private final String owner;
+    private final Set<UUID> heldLeases = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("execution-leases").daemon().factory());
+
+    public ExecutionLeaseService(MonitorServerRestClient monitorServerRestClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${worker.leases.enabled:true}") boolean enabled,
+                                 @Value("${worker.leases.duration:2m}") Duration duration,
+                                 @Value("${worker.leases.renew-interval:30s}") Duration renewInterval,
+                                 @Value("${worker.execution-env-name:default-env}") String executionEnvName) {
+        if (renewInterval.compareTo(duration) >= 0) {
+            throw new IllegalArgumentException("Lease renew interval must be shorter than the lease duration");
+        }
+        this.monitorServerRestClient = monitorServerRestClient;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.duration = duration;
+        this.renewInterval = renewInterval;
+        this.owner = executionEnvName + "-" + UUID.randomUUID();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Claim the lease of an execution before computing it, and renew it until the returned lease is closed.
+     *
+     * @param executionId execution id
+     * @param cancellationToken cancellation token of the execution, cancelled if its lease is taken over
+     * @return the lease, or an empty optional if the execution is computed by another worker or is over
+     */
+    public Optional<Lease> acquire(UUID executionId, CancellationToken cancellationToken) {
+        if (!enabled) {
+            return Optional.of(new Lease(false, () -> { }));
+        }
+        // the lease of an execution computed by this worker is renewed, not claimed again
+        if (!heldLeases.add(executionId)) {
+            LOGGER.info("Execution id: {} - Already computed by this worker", executionId);
+            count("refused");
+            return Optional.empty();
+        }
+        boolean takenOver;
+        try {
+            LeaseClaim claim = claim(executionId, cancellationToken);
+            if (claim == LeaseClaim.HELD || claim == LeaseClaim.OVER) {
+                heldLeases.remove(executionId);
+                LOGGER.info("Execution id: {} - {}", executionId, claim == LeaseClaim.OVER ? "Execution over" : "Computed by another worker");
+                count("refused");
+                return Optional.empty();
+            }
+            takenOver = claim == LeaseClaim.TAKEN_OVER;
+        } catch (RestClientException e) {
+            // leases only prevent duplicate computations, so an unavailable monitor server does not prevent computing
+            LOGGER.warn("Execution id: {} - Could not claim lease, computing without it", executionId, e);
+            takenOver = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            heldLeases.remove(executionId);
+            return Optional.empty();
+        }
+        if (takenOver) {
+            LOGGER.info("Execution id: {} - Lease of another worker expired, taking the execution over", executionId);
+        }
+        count(takenOver ? "taken-over" : "acquired");
+        ScheduledFuture<?> renewal = scheduler.scheduleWithFixedDelay(() -> renew(executionId, cancellationToken),
+            renewInterval.toNanos(), renewInterval.toNanos(), TimeUnit.NANOSECONDS);
+        return Optional.of(new Lease(takenOver, () -> {
+            renewal.cancel(false);
+            release(executionId);
+        }));
+    }
+
+    /**
+     * Claim the lease of an execution, trying again while another worker holds it for at most a lease duration, after
+     * which the lease of a worker which died has expired, unless the execution is cancelled or requeued meanwhile.
+     */
+    private LeaseClaim claim(UUID executionId, CancellationToken cancellationToken) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        LeaseClaim claim = monitorServerRestClient.acquireLease(executionId, owner, duration);
+        while (claim == LeaseClaim.HELD && System.nanoTime() < deadline) {
+            LOGGER.debug("Execution id: {} - Lease held by another worker, waiting for it to expire", executionId);
+            try (CancellationToken.Registration interruption = cancellationToken.interruptOnCancel()) {
+                Thread.sleep(renewInterval);
+            } catch (InterruptedException e) {
+                if (!cancellationToken.isCancelled()) {
+                    throw e;
+                }
+            }
+            if (cancellationToken.isCancelled()) {
+                break;
+            }
+            claim = monitorServerRestClient.acquireLease(executionId, owner, duration);
+        }
+        return claim;
+    }
+
+    private void renew(UUID executionId, CancellationToken cancellationToken) {
+        try {
+            // an execution over is not stopped, its lease being released once its worker is done with it
+            if (monitorServerRestClient.acquireLease(executionId, owner, duration) == LeaseClaim.HELD && !cancellationToken.isCancelled()) {
+                LOGGER.error("Execution id: {} - Lease taken over by another worker, stopping the execution", executionId);
+                count("lost");
+                cancellationToken.cancel();
+            }
+        } catch (RestClientException e) {
+            // renewed again before the lease expires, as it lasts several renewal intervals
+            LOGGER.warn("Execution id: {} - Could not renew lease", executionId, e);
+        }
+    }
+
+    private void release(UUID executionId) {
+        try {
+            monitorServerRestClient.releaseLease(executionId, owner);
+        } catch (RestClientException e) {
+            // the lease expires anyway, the execution being over
+            LOGGER.warn("Execution id: {} - Could not release lease", executionId, e);
+        } finally {
+            heldLeases.remove(executionId);
+        }
+    }
+
+    private void count(String outcome) {
+        Counter.builder(LEASES_METER)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
+import org.gridsuite.monitor.worker.server.config.ExecutionTimeoutProperties;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
+import org.gridsuite.monitor.worker.server.core.process.ProcessStepType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Times out the executions and the steps exceeding the time limit configured for their type, by timing out their
+ * cancellation token. Each timeout is counted in the {@code monitor.worker.timeouts} metric, tagged with its scope,
+ * {@code process} or {@code step}, and the process or step type.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ExecutionTimeoutService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionTimeoutService.class);
+
+    static final String TIMEOUTS_METER = "monitor.worker.timeouts";
+
+    private final Map<String, Duration> stepTimeouts;
+    private final Map<ProcessType, Duration> processTimeouts;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("execution-timeouts").daemon().factory());
+
+    public ExecutionTimeoutService(ExecutionTimeoutProperties properties, MeterRegistry meterRegistry) {
+        // step type names are matched whatever their case and separators, configuration keys being normalized
+        this.stepTimeouts = properties.steps().entrySet().stream()
+            .collect(Collectors.toMap(entry -> normalize(entry.getKey()), Map.Entry::getValue));
+        this.processTimeouts = properties.processes();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public Optional<Duration> getStepTimeout(ProcessStepType stepType) {
+        return Optional.ofNullable(stepTimeouts.get(normalize(stepType.getName())));
+    }
+
+    public Optional<Duration> getProcessTimeout(ProcessType processType) {
+        return Optional.ofNullable(processTimeouts.get(processType));
+    }
+
+    /**
+     * Time out an execution if it is still running after the time limit of its process type.
+     *
+     * @return the registration, to close once the execution is over
+     */
+    public CancellationToken.Registration watchProcess(ProcessExecutionContext<?> context) {
+        ProcessType processType = context.getConfig().processType();
+        return getProcessTimeout(processType)
+            .map(timeout -> schedule(context.getExecutionId(), context.getCancellationToken(), timeout, "process", processType.name()))
+            .orElse(() -> { });
+    }
+
+    /**
+     * Time out a step if it is still running after the time limit of its step type.
+     *
+     * @return the registration, to close once the step is done
+     */
+    public CancellationToken.Registration watchStep(ProcessStepExecutionContext<?> context) {
+        ProcessStepType stepType = context.getProcessStepType();
+        return getStepTimeout(stepType)
+            .map(timeout -> schedule(context.getProcessExecutionId(), context.getCancellationToken(), timeout, "step", stepType.getName()))
+            .orElse(() -> { });
+    }
+
+    private CancellationToken.Registration schedule(UUID executionId, CancellationToken cancellationToken, Duration timeout,
+                                                    String scope, String type) {
+        ScheduledFuture<?> timeoutTask = scheduler.schedule(() -> {
+            if (cancellationToken.isCancelled()) {
+                return;
+            }
+            LOGGER.warn("Execution id: {} - {} {} timed out after {}", executionId, scope, type, timeout);
+            Counter.builder(TIMEOUTS_METER)
+                .tag("scope", scope)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+            cancellationToken.timeOut();
+        }, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        return () -> timeoutTask.cancel(false);
+    }
+
+    private static String normalize(String name) {
+        return name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
+import org.gridsuite.monitor.worker.server.core.orchestrator.ProcessExecutor;
+import org.gridsuite.monitor.worker.server.services.NetworkCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Executes several processes concurrently, each one on its own virtual thread.
+ * <p>
+ * A process is only admitted when an execution slot is free and the heap it is estimated to need is available.
+ * The estimation is the size of the network of the case if it is cached, or a configured default otherwise.
+ * Admission blocks the calling thread, so that no more run messages are taken than the worker can execute. The run
+ * message is only acknowledged once the execution ends, so that the broker delivers it again if the worker stops
+ * before, the execution lease then letting another worker take it over.
+ * A process is always admitted when no other process is running, so that a case larger than the heap estimations
+ * is still executed. A process cancelled while waiting for admission is admitted right away, to end its execution.
+ * <p>
+ * Shards of executions coordinated by other workers have their own execution slots, not counted against the slots of
+ * the processes, so that they are computed even when all the process slots are held by coordinating executions waiting
+ * for their shards. A shard is likewise always admitted when no other shard is running.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ProcessExecutionPoolService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessExecutionPoolService.class);
+
+    // free heap is not signaled, so it is checked again periodically while waiting for admission
+    private static final long ADMISSION_CHECK_PERIOD_MS = 1000;
+
+    private final ProcessExecutor processExecutor;
+    private final NetworkCacheService networkCacheService;
+    private final ExecutionCancellationService cancellationService;
+    private final int maxConcurrentExecutions;
+    private final int maxConcurrentShards;
+    private final long defaultHeapEstimate;
+    private final Supplier<MemoryUsage> heapUsage;
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private final Lock lock = new ReentrantLock();
+    private final Condition executionCompleted = lock.newCondition();
+    private final Timer admissionTimer;
+    private int runningExecutions;
+    private int runningShards;
+    private int waitingExecutions;
+    private long reservedHeap;
+
+    @Autowired
+    public ProcessExecutionPoolService(ProcessExecutor processExecutor,
+                                       NetworkCacheService networkCacheService,
+                                       ExecutionCancellationService cancellationService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${worker.executions.max-concurrent:4}") int maxConcurrentExecutions,
+                                       @Value("${worker.executions.max-concurrent-shards:2}") int maxConcurrentShards,
+                                       @Value("${worker.executions.default-heap-estimate:1GB}") DataSize defaultHeapEstimate) {
+        this(processExecutor, networkCacheService, cancellationService, meterRegistry, maxConcurrentExecutions, maxConcurrentShards,
+            defaultHeapEstimate, ManagementFactory.getMemoryMXBean()::getHeapMemoryUsage);
+    }
+
+    ProcessExecutionPoolService(ProcessExecutor processExecutor,
+                                NetworkCacheService networkCacheService,
+                                ExecutionCancellationService cancellationService,
+                                MeterRegistry meterRegistry,
+                                int maxConcurrentExecutions,
+                                int maxConcurrentShards,
+                                DataSize defaultHeapEstimate,
+                                Supplier<MemoryUsage> heapUsage) {
+        if (maxConcurrentExecutions < 1) {
+            throw new IllegalArgumentException("Maximum number of concurrent executions must be at least 1");
+        }
+        if (maxConcurrentShards < 1) {
+            throw new IllegalArgumentException("Maximum number of concurrent shards must be at least 1");
+        }
+        this.processExecutor = processExecutor;
+        this.networkCacheService = networkCacheService;
+        this.cancellationService = cancellationService;
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.maxConcurrentShards = maxConcurrentShards;
+        this.defaultHeapEstimate = defaultHeapEstimate.toBytes();
+        this.heapUsage = heapUsage;
+        this.admissionTimer = Timer.builder("monitor.worker.executions.admission").register(meterRegistry);
+        Gauge.builder("monitor.worker.executions.running", this, ProcessExecutionPoolService::getRunningExecutions)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Wait for the process to be admitted, then start its execution in the background.
+     *
+     * @param runMessage process to execute
+     */
+    public <T extends ProcessConfig> void submit(ProcessRunMessage<T> runMessage) {
+        submit(runMessage, null, () -> { });
+    }
+
+    /**
+     * Wait for the process, or the part of it delegated by another worker, to be admitted, then start its execution
+     * in the background. A shard is admitted in a shard slot.
+     *
+     * @param runMessage process to execute
+     * @param shard part of the process to execute, or {@code null} for the whole process
+     * @param acknowledgement acknowledges the run message, called once the execution ends whatever its outcome
+     * @throws RuntimeException if the execution could not be admitted or started, the acknowledgement then not being
+     * called
+     */
+    public <T extends ProcessConfig> void submit(ProcessRunMessage<T> runMessage, ExecutionShard shard, Runnable acknowledgement) {
+        long heapEstimate = networkCacheService.getEstimatedSize(runMessage.caseUuid()).orElse(defaultHeapEstimate);
+        boolean isShard = shard != null;
+        admissionTimer.record(() -> admit(runMessage, isShard, heapEstimate));
+        try {
+            executorService.execute(() -> execute(runMessage, shard, heapEstimate, acknowledgement));
+        } catch (RuntimeException e) {
+            release(isShard, heapEstimate);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of admitted executions, of processes and of shards
+     */
+    public int getRunningExecutions() {
+        lock.lock();
+        try {
+            return runningExecutions + runningShards;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of executions waiting for admission, whose run messages are taken but not started yet
+     */
+    public int getWaitingExecutions() {
+        lock.lock();
+        try {
+            return waitingExecutions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T extends ProcessConfig> void admit(ProcessRunMessage<T> runMessage, boolean isShard, long heapEstimate) {
+        lock.lock();
+        waitingExecutions++;
+        try {
+            while (!canAdmit(isShard, heapEstimate) && !cancellationService.isCancelled(runMessage.executionId(), runMessage.scheduledAt())) {
+                LOGGER.debug("Execution id: {} - Waiting for admission, {} executions and {} shards running", runMessage.executionId(),
+                    runningExecutions, runningShards);
+                executionCompleted.await(ADMISSION_CHECK_PERIOD_MS, TimeUnit.MILLISECONDS);
+            }
+            if (isShard) {
+                runningShards++;
+            } else {
+                runningExecutions++;
+            }
+            reservedHeap += heapEstimate;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for admission of execution " + runMessage.executionId(), e);
+        } finally {
+            waitingExecutions--;
+            lock.unlock();
+        }
+    }
+
+    private boolean canAdmit(boolean isShard, long heapEstimate) {
+        int running = isShard ? runningShards : runningExecutions;
+        if (running == 0) {
+            return true;
+        }
+        if (running >= (isShard ? maxConcurrentShards : maxConcurrentExecutions)) {
+            return false;
+        }
+        MemoryUsage usage = heapUsage.get();
+        if (usage.getMax() < 0) {
+            // undefined maximum heap, only the number of executions is bounded
+            return true;
+        }
+        // the reserved heap guards against executions admitted but not loaded yet, which free heap does not account for
+        return heapEstimate <= usage.getMax() - usage.getUsed() && reservedHeap + heapEstimate <= usage.getMax();
+    }
+
+    private <T extends ProcessConfig> void execute(ProcessRunMessage<T> runMessage, ExecutionShard shard, long heapEstimate,
+                                                   Runnable acknowledgement) {
+        try {
+            if (shard != null) {
+                processExecutor.executeShard(runMessage, shard);
+            } else {
+                processExecutor.executeProcess(runMessage);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Execution id: {} - Process execution failed", runMessage.executionId(), e);
+        } finally {
+            release(shard != null, heapEstimate);
+            // failed, cancelled and requeued executions are acknowledged too, their outcome being already published
+            acknowledgement.run();
+        }
+    }
+
+    private void release(boolean isShard, long heapEstimate) {
+        lock.lock();
+        try {
+            if (isShard) {
+                runningShards--;
+            } else {
+                runningExecutions--;
+            }
+            reservedHeap -= heapEstimate;
+            executionCompleted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -12,13 +12,15 @@ import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 import org.gridsuite.monitor.commons.types.processexecution.*;
 import org.gridsuite.monitor.worker.server.clients.ReportRestClient;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
 import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
-import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
 import org.gridsuite.monitor.worker.server.core.messaging.Notificator;
 import org.gridsuite.monitor.worker.server.core.orchestrator.ProcessExecutor;
-import org.gridsuite.monitor.worker.server.core.orchestrator.StepExecutor;
+import org.gridsuite.monitor.worker.server.core.orchestrator.StepScheduler;
 import org.gridsuite.monitor.worker.server.core.process.Process;
 import org.gridsuite.monitor.worker.server.core.process.ProcessStep;
+import org.gridsuite.monitor.worker.server.services.ExecutionCheckpointService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,6 +28,7 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -38,31 +41,45 @@ public class ProcessExecutionService implements ProcessExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(ProcessExecutionService.class);
 
     private final Map<ProcessType, Process<? extends ProcessConfig>> processes;
-    private final StepExecutor stepExecutor;
+    private final StepScheduler stepScheduler;
     private final Notificator notificationService;
     private final String executionEnvName;
     private final ReportRestClient reportRestClient;
+    private final ShardCoordinationService shardCoordinationService;
+    private final ExecutionCancellationService cancellationService;
+    private final ExecutionTimeoutService timeoutService;
+    private final ExecutionCheckpointService checkpointService;
+    private final ExecutionLeaseService leaseService;
+    private final ExecutionDrainService drainService;
 
     public ProcessExecutionService(List<Process<? extends ProcessConfig>> processList,
-                                   StepExecutor stepExecutor,
+                                   StepScheduler stepScheduler,
                                    Notificator notificationService,
                                    ReportRestClient reportRestClient,
+                                   ShardCoordinationService shardCoordinationService,
+                                   ExecutionCancellationService cancellationService,
+                                   ExecutionTimeoutService timeoutService,
+                                   ExecutionCheckpointService checkpointService,
+                                   ExecutionLeaseService leaseService,
+                                   ExecutionDrainService drainService,
                                    @Value("${worker.execution-env-name:default-env}") String executionEnvName) {
         this.processes = processList.stream()
             .collect(Collectors.toMap(Process::getProcessType, w -> w));
-        this.stepExecutor = stepExecutor;
+        this.stepScheduler = stepScheduler;
         this.notificationService = notificationService;
         this.executionEnvName = executionEnvName;
         this.reportRestClient = reportRestClient;
+        this.shardCoordinationService = shardCoordinationService;
+        this.cancellationService = cancellationService;
+        this.timeoutService = timeoutService;
+        this.checkpointService = checkpointService;
+        this.leaseService = leaseService;
+        this.drainService = drainService;
     }
 
     @Override
     public <T extends ProcessConfig> void executeProcess(ProcessRunMessage<T> runMessage) {
-        @SuppressWarnings("unchecked") // safe: ProcessType uniquely maps to a Process with the matching ProcessConfig subtype
-        Process<T> process = (Process<T>) processes.get(runMessage.processType());
-        if (process == null) {
-            throw new IllegalArgumentException("No process found for type: " + runMessage.processType());
-        }
+        Process<T> process = getProcess(runMessage);
 
         ProcessExecutionContext<T> context = new ProcessExecutionContext<>(
             runMessage.executionId(),
@@ -72,68 +89,145 @@ public class ProcessExecutionService implements ProcessExecutor {
             executionEnvName,
             runMessage.debugFileLocation()
         );
+        context.setScheduledAt(runMessage.scheduledAt());
 
+        // registered before the lease is claimed, so that cancelling or draining stops waiting for the lease of another worker
+        cancellationService.register(context.getExecutionId(), runMessage.scheduledAt(), context.getCancellationToken());
         try {
-            initializeSteps(process, context);
-            executeSteps(process, context);
-        } catch (Exception e) {
-            updateExecutionStatus(context, ProcessStatus.FAILED);
-            throw e;
+            // a run message delivered again while the execution is computed, here or by another worker, is ignored
+            Optional<ExecutionLeaseService.Lease> lease = leaseService.acquire(context.getExecutionId(), context.getCancellationToken());
+            if (lease.isEmpty()) {
+                return;
+            }
+            try (ExecutionLeaseService.Lease executionLease = lease.get();
+                 CancellationToken.Registration timeout = timeoutService.watchProcess(context)) {
+                if (runMessage.resume() || executionLease.takenOver()) {
+                    checkpointService.restore(context);
+                }
+                initializeSteps(process, context);
+                prefetchInputs(process, context);
+                executeSteps(process, context);
+            } catch (Exception e) {
+                if (!context.isRequeued()) {
+                    updateExecutionStatus(context, getUnsuccessfulStatus(context));
+                }
+                throw e;
+            }
+        } finally {
+            context.cancelPrefetchedInputs();
+            cancellationService.unregister(context.getExecutionId(), context.getCancellationToken());
+            // requeued once its lease is released, so that another worker can claim the execution
+            if (context.isRequeued()) {
+                drainService.requeue(runMessage, null);
+            }
+        }
+    }
+
+    @Override
+    public <T extends ProcessConfig> void executeShard(ProcessRunMessage<T> runMessage, ExecutionShard shard) {
+        Process<T> process = getProcess(runMessage);
+
+        ProcessExecutionContext<T> context = new ProcessExecutionContext<>(
+            runMessage.executionId(),
+            runMessage.caseUuid(),
+            runMessage.config(),
+            runMessage.reportId(),
+            executionEnvName,
+            null,
+            shard
+        );
+        context.setScheduledAt(runMessage.scheduledAt());
+
+        cancellationService.register(context.getExecutionId(), runMessage.scheduledAt(), context.getCancellationToken());
+        boolean succeeded = false;
+        try (CancellationToken.Registration timeout = timeoutService.watchProcess(context)) {
+            prefetchInputs(process, context);
+            succeeded = stepScheduler.executeSteps(process, context);
+        } finally {
+            context.cancelPrefetchedInputs();
+            cancellationService.unregister(context.getExecutionId(), context.getCancellationToken());
+            // a requeued shard is computed by another worker, the coordinating worker still waiting for it
+            if (context.isRequeued()) {
+                drainService.requeue(runMessage, shard);
+            } else {
+                shardCoordinationService.publishShardDone(context.getExecutionId(), shard, succeeded);
+            }
         }
     }
 
+    private <T extends ProcessConfig> Process<T> getProcess(ProcessRunMessage<T> runMessage) {
+        @SuppressWarnings("unchecked") // safe: ProcessType uniquely maps to a Process with the matching ProcessConfig subtype
+        Process<T> process = (Process<T>) processes.get(runMessage.processType());
+        if (process == null) {
+            throw new IllegalArgumentException("No process found for type: " + runMessage.processType());
+        }
+        return process;
+    }
+
     private <T extends ProcessConfig> void initializeSteps(Process<T> process, ProcessExecutionContext<T> context) {
         List<ProcessStep<T>> steps = process.getSteps();
+        // steps restored from a checkpoint keep their completed status
         notificationService.updateStepsStatuses(context.getExecutionId(),
                 IntStream.range(0, steps.size())
+                        .filter(i -> !context.getCompletedStepOrders().contains(i))
                         .mapToObj(i -> ProcessExecutionStep.builder()
                                 .id(steps.get(i).getId())
                                 .stepType(steps.get(i).getType().getName())
                                 .stepOrder(i)
+                                .scheduledAt(context.getScheduledAt())
                                 .status(StepStatus.SCHEDULED)
                                 .build())
                         .toList());
     }
 
-    private <T extends ProcessConfig> void executeSteps(Process<T> process, ProcessExecutionContext<T> context) {
-        updateExecutionStatus(context, ProcessStatus.RUNNING);
-        doExecuteSteps(process, context);
-        updateExecutionStatus(context, ProcessStatus.COMPLETED);
-    }
-
-    private <T extends ProcessConfig> void doExecuteSteps(Process<T> process, ProcessExecutionContext<T> context) {
+    private <T extends ProcessConfig> void prefetchInputs(Process<T> process, ProcessExecutionContext<T> context) {
+        if (context.isCancelled()) {
+            return;
+        }
         List<ProcessStep<T>> steps = process.getSteps();
-        boolean skipRemaining = false;
-
-        reportRestClient.sendReport(context.getReportId(), context.getReportNode());
-
         for (int i = 0; i < steps.size(); i++) {
-            ProcessStep<T> step = steps.get(i);
-            ProcessStepExecutionContext<T> stepContext = context.createStepContext(step, i);
-
-            if (skipRemaining) {
-                stepExecutor.skipStep(stepContext, step);
+            if (context.getCompletedStepOrders().contains(i)) {
                 continue;
             }
-
+            ProcessStep<T> step = steps.get(i);
             try {
-                stepExecutor.executeStep(stepContext, step);
+                step.prefetchInputs(context);
             } catch (Exception e) {
-                // TODO better error handling
-                LOGGER.error("Execution id: {} - Step failed: {} - {}", context.getExecutionId(), step.getType(), e.getMessage());
-                updateExecutionStatus(context, ProcessStatus.FAILED);
-                skipRemaining = true;
+                // the step fetches its inputs itself when they were not prefetched
+                LOGGER.warn("Execution id: {} - Could not prefetch inputs of step {}", context.getExecutionId(), step.getType(), e);
             }
         }
     }
 
+    private <T extends ProcessConfig> void executeSteps(Process<T> process, ProcessExecutionContext<T> context) {
+        updateExecutionStatus(context, ProcessStatus.RUNNING);
+        reportRestClient.sendReport(context.getReportId(), context.getReportNode());
+        boolean succeeded = stepScheduler.executeSteps(process, context);
+        if (!succeeded && context.isRequeued()) {
+            // the execution goes on with another worker, resuming from its checkpoint
+            return;
+        }
+        if (succeeded) {
+            // checkpoints are only kept to retry executions which are not completed
+            checkpointService.delete(context.getExecutionId());
+        }
+        updateExecutionStatus(context, succeeded ? ProcessStatus.COMPLETED : getUnsuccessfulStatus(context));
+    }
+
+    private static ProcessStatus getUnsuccessfulStatus(ProcessExecutionContext<?> context) {
+        if (context.isTimedOut()) {
+            return ProcessStatus.TIMED_OUT;
+        }
+        return context.isCancelled() ? ProcessStatus.CANCELLED : ProcessStatus.FAILED;
+    }
+
     private <T extends ProcessConfig> void updateExecutionStatus(ProcessExecutionContext<T> context, ProcessStatus status) {
         ProcessExecutionStatusUpdate processExecutionStatusUpdate = new ProcessExecutionStatusUpdate(
             context.getConfig().processType(),
             status,
             context.getExecutionEnvName(),
             status == ProcessStatus.RUNNING ? Instant.now() : null,
-            status == ProcessStatus.COMPLETED || status == ProcessStatus.FAILED ? Instant.now() : null
+            status.isTerminal() ? Instant.now() : null
         );
 
         notificationService.updateExecutionStatus(context.getExecutionId(), processExecutionStatusUpdate);
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Delegates parts of a process execution to other workers and waits for them.
+ * <p>
+ * Shards are published as run messages of the execution on the shard run destination of the process, with the shard
+ * in the headers, so that any worker handling the process can compute them. Shards are consumed and admitted apart
+ * from the run messages, so that they are computed while their coordinating executions hold the execution slots. When a shard is done, the worker which computed
+ * it publishes its outcome on a destination received by all the workers, and the coordinating worker, the only one
+ * waiting for the shards of the execution, is notified.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ShardCoordinationService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardCoordinationService.class);
+
+    public static final String HEADER_SHARD_INDEX = "shardIndex";
+    public static final String HEADER_SHARD_COUNT = "shardCount";
+    public static final String HEADER_SHARD_SUCCEEDED = "shardSucceeded";
+    public static final String HEADER_EXECUTION_ID = "executionId";
+
+    private static final String SHARD_RUN_BINDING = "publishShardRun-out-0";
+    private static final String SHARD_RESULT_BINDING = "publishShardResult-out-0";
+
+    private record ShardOutcome(int index, boolean succeeded) { }
+
+    // stops waiting for the shards when the execution is cancelled
+    private static final ShardOutcome CANCELLED = new ShardOutcome(0, false);
+
+    /**
+     * @param count number of published shards
+     * @param outcomes outcomes of the shards, in the order they are received
+     */
+    private record PendingShards(int count, BlockingQueue<ShardOutcome> outcomes) { }
+
+    private final StreamBridge publisher;
+    private final Map<UUID, PendingShards> pendingShards = new ConcurrentHashMap<>();
+
+    public ShardCoordinationService(StreamBridge publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * Publish the shards of an execution, except the first one which is computed by the coordinating worker.
+     *
+     * @param runMessage run message of the execution
+     * @param shardCount total number of shards, including the first one
+     */
+    public <T extends ProcessConfig> void publishShards(ProcessRunMessage<T> runMessage, int shardCount) {
+        UUID executionId = runMessage.executionId();
+        pendingShards.put(executionId, new PendingShards(shardCount - 1, new LinkedBlockingQueue<>()));
+        // shards do not export debug files, the coordinating worker does, and are cancelled with the attempt of the execution
+        ProcessRunMessage<T> shardRunMessage = new ProcessRunMessage<>(executionId, runMessage.caseUuid(), runMessage.config(),
+            runMessage.reportId(), null, false, runMessage.scheduledAt());
+        for (int index = 1; index < shardCount; index++) {
+            Message<ProcessRunMessage<T>> message = MessageBuilder.withPayload(shardRunMessage)
+                .setHeader(HEADER_SHARD_INDEX, String.valueOf(index))
+                .setHeader(HEADER_SHARD_COUNT, String.valueOf(shardCount))
+                .build();
+            publisher.send(SHARD_RUN_BINDING, message);
+        }
+        LOGGER.info("Execution id: {} - {} shards published", executionId, shardCount - 1);
+    }
+
+    /**
+     * Wait for the published shards of an execution to be done.
+     *
+     * @param executionId execution id
+     * @param timeout maximum time to wait for all the shards
+     * @param cancellationToken cancellation token of the execution
+     * @param onShardDone called on the calling thread with the index of each shard when it is done
+     * @throws IllegalStateException if a shard failed or was not done in time
+     * @throws CancellationException if the execution is cancelled
+     */
+    public void awaitShards(UUID executionId, Duration timeout, CancellationToken cancellationToken, IntConsumer onShardDone) {
+        PendingShards shards = pendingShards.get(executionId);
+        if (shards == null) {
+            throw new IllegalStateException("No shards published for execution " + executionId);
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try (CancellationToken.Registration registration = cancellationToken.onCancel(() -> shards.outcomes().add(CANCELLED))) {
+            // shard messages may be delivered more than once, so shards are counted only once
+            Set<Integer> doneShards = new HashSet<>();
+            while (doneShards.size() < shards.count()) {
+                ShardOutcome outcome = shards.outcomes().poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (outcome == null) {
+                    throw new IllegalStateException("Shards of execution " + executionId + " not done after " + timeout);
+                }
+                if (outcome == CANCELLED) {
+                    throw new CancellationException("Execution " + executionId + " cancelled while waiting for its shards");
+                }
+                if (!outcome.succeeded()) {
+                    throw new IllegalStateException("Shard " + outcome.index() + " of execution " + executionId + " failed");
+                }
+                if (doneShards.add(outcome.index())) {
+                    onShardDone.accept(outcome.index());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for shards of execution " + executionId, e);
+        }
+    }
+
+    /**
+     * Stop waiting for the shards of an execution, whose later outcomes are then ignored.
+     */
+    public void discardShards(UUID executionId) {
+        pendingShards.remove(executionId);
+    }
+
+    /**
+     * Called when a worker publishes the outcome of a shard. Outcomes of executions not coordinated by this worker
+     * are ignored.
+     */
+    public void onShardDone(UUID executionId, int shardIndex, boolean succeeded) {
+        PendingShards shards = pendingShards.get(executionId);
+        if (shards == null || shardIndex < 1 || shardIndex > shards.count()) {
+            return;
+        }
+        LOGGER.info("Execution id: {} - Shard {} done, succeeded: {}", executionId, shardIndex, succeeded);
+        shards.outcomes().add(new ShardOutcome(shardIndex, succeeded));
+    }
+
+    /**
+     * Publish the outcome of a shard computed by this worker to the coordinating worker.
+     */
+    public void publishShardDone(UUID executionId, ExecutionShard shard, boolean succeeded) {
+        Message<String> message = MessageBuilder.withPayload("")
+            .setHeader(HEADER_EXECUTION_ID, executionId.toString())
+            .setHeader(HEADER_SHARD_INDEX, String.valueOf(shard.index()))
+            .setHeader(HEADER_SHARD_SUCCEEDED, String.valueOf(succeeded))
+            .build();
+        publisher.send(SHARD_RESULT_BINDING, message);
+    }
+}
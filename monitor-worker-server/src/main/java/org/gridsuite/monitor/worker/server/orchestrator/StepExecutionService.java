@@ -6,26 +6,47 @@
  */
 package org.gridsuite.monitor.worker.server.orchestrator;
 
-import lombok.RequiredArgsConstructor;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStepProgress;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 import org.gridsuite.monitor.commons.types.processexecution.StepStatus;
 import org.gridsuite.monitor.worker.server.clients.ReportRestClient;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
+import org.gridsuite.monitor.worker.server.core.context.StepProgressListener;
 import org.gridsuite.monitor.worker.server.core.messaging.Notificator;
 import org.gridsuite.monitor.worker.server.core.orchestrator.StepExecutor;
 import org.gridsuite.monitor.worker.server.core.process.ProcessStep;
+import org.gridsuite.monitor.worker.server.services.ExecutionCheckpointService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+
+import java.time.Duration;
 import java.time.Instant;
+import java.util.UUID;
 
 /**
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
  */
 @Service
-@RequiredArgsConstructor
 public class StepExecutionService implements StepExecutor {
     private final Notificator notificationService;
     private final ReportRestClient reportRestClient;
+    private final ExecutionTimeoutService timeoutService;
+    private final ExecutionCheckpointService checkpointService;
+    private final Duration progressMinInterval;
+
+    public StepExecutionService(Notificator notificationService,
+                                ReportRestClient reportRestClient,
+                                ExecutionTimeoutService timeoutService,
+                                ExecutionCheckpointService checkpointService,
+                                @Value("${worker.step-progress.min-interval:5s}") Duration progressMinInterval) {
+        this.notificationService = notificationService;
+        this.reportRestClient = reportRestClient;
+        this.timeoutService = timeoutService;
+        this.checkpointService = checkpointService;
+        this.progressMinInterval = progressMinInterval;
+    }
 
     @Override
     public <C extends ProcessConfig> void skipStep(ProcessStepExecutionContext<C> context, ProcessStep<C> step) {
@@ -33,11 +54,12 @@ public class StepExecutionService implements StepExecutor {
                 .id(context.getStepExecutionId())
                 .stepType(step.getType().getName())
                 .stepOrder(context.getStepOrder())
+                .scheduledAt(context.getScheduledAt())
                 .status(StepStatus.SKIPPED)
                 .startedAt(context.getStartedAt())
                 .completedAt(Instant.now())
                 .build();
-        notificationService.updateStepStatus(context.getProcessExecutionId(), executionStep);
+        notifyStepStatus(context, executionStep);
     }
 
     @Override
@@ -46,20 +68,55 @@ public class StepExecutionService implements StepExecutor {
                 .id(context.getStepExecutionId())
                 .stepType(step.getType().getName())
                 .stepOrder(context.getStepOrder())
+                .scheduledAt(context.getScheduledAt())
                 .status(StepStatus.RUNNING)
                 .startedAt(context.getStartedAt())
                 .build();
-        notificationService.updateStepStatus(context.getProcessExecutionId(), executionStep);
+        notifyStepStatus(context, executionStep);
+        if (!context.isShard()) {
+            context.setProgressListener(new ThrottledProgressNotifier(context.getProcessExecutionId(), context.getStepExecutionId()));
+        }
 
         try {
-            step.execute(context);
+            executeInterruptibly(context, step);
+            context.markCompleted();
+            // the state is checkpointed before the dependent steps start changing it
+            if (context.isCheckpointRequired() && !context.isShard()) {
+                checkpointService.save(context);
+            }
             updateStepStatus(context, StepStatus.COMPLETED, step);
         } catch (Exception e) {
-            updateStepStatus(context, StepStatus.FAILED, step);
+            updateStepStatus(context, getUnsuccessfulStatus(context), step);
             throw e;
         } finally {
-            reportRestClient.sendReport(context.getProcessReportId(), context.getReportNode());
+            context.getCancellationToken().detach();
+            if (!context.isShard()) {
+                reportRestClient.sendReport(context.getProcessReportId(), context.getReportNode());
+            }
+        }
+    }
+
+    /**
+     * Execute the step, interrupting it when it is cancelled or exceeds its time limit, so that a blocking call does
+     * not hold the worker forever.
+     */
+    private <C extends ProcessConfig> void executeInterruptibly(ProcessStepExecutionContext<C> context, ProcessStep<C> step) {
+        try (CancellationToken.Registration timeout = timeoutService.watchStep(context);
+             CancellationToken.Registration interruption = context.getCancellationToken().interruptOnCancel()) {
+            step.execute(context);
+        } finally {
+            if (context.isTimedOut()) {
+                // the network of a timed out step may be left in an inconsistent state, and is not used by the skipped steps
+                context.setNetwork(null);
+            }
+        }
+    }
+
+    private static StepStatus getUnsuccessfulStatus(ProcessStepExecutionContext<?> context) {
+        if (context.isTimedOut()) {
+            return StepStatus.TIMED_OUT;
         }
+        return context.isCancelled() ? StepStatus.CANCELLED : StepStatus.FAILED;
     }
 
     private void updateStepStatus(ProcessStepExecutionContext<?> context, StepStatus status, ProcessStep<?> step) {
@@ -67,12 +124,52 @@ public class StepExecutionService implements StepExecutor {
                 .id(context.getStepExecutionId())
                 .stepType(step.getType().getName())
                 .stepOrder(context.getStepOrder())
+                .scheduledAt(context.getScheduledAt())
                 .status(status)
                 .resultId(context.getResultInfos() != null ? context.getResultInfos().resultUUID() : null)
                 .resultType(context.getResultInfos() != null ? context.getResultInfos().resultType() : null)
                 .startedAt(context.getStartedAt())
                 .completedAt(Instant.now())
                 .build();
-        notificationService.updateStepStatus(context.getProcessExecutionId(), updated);
+        notifyStepStatus(context, updated);
+    }
+
+    private void notifyStepStatus(ProcessStepExecutionContext<?> context, ProcessExecutionStep executionStep) {
+        // the steps of a shard are reported by the worker coordinating the execution
+        if (!context.isShard()) {
+            notificationService.updateStepStatus(context.getProcessExecutionId(), executionStep);
+        }
+    }
+
+    /**
+     * Publishes the progress of a step at most once per interval, so that fine-grained progress does not flood the
+     * monitor server. The completion of the step's work is always published.
+     */
+    private final class ThrottledProgressNotifier implements StepProgressListener {
+        private final UUID executionId;
+        private final UUID stepId;
+        private long lastNotification;
+        private boolean notified;
+
+        private ThrottledProgressNotifier(UUID executionId, UUID stepId) {
+            this.executionId = executionId;
+            this.stepId = stepId;
+        }
+
+        @Override
+        public synchronized void onProgress(long done, long total) {
+            long now = System.nanoTime();
+            if (notified && done < total && now - lastNotification < progressMinInterval.toNanos()) {
+                return;
+            }
+            notified = true;
+            lastNotification = now;
+            notificationService.updateStepProgress(executionId, ProcessExecutionStepProgress.builder()
+                .stepId(stepId)
+                .done(done)
+                .total(total)
+                .updatedAt(Instant.now())
+                .build());
+        }
     }
 }
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
+import org.gridsuite.monitor.worker.server.core.orchestrator.StepExecutor;
+import org.gridsuite.monitor.worker.server.core.orchestrator.StepScheduler;
+import org.gridsuite.monitor.worker.server.core.process.Process;
+import org.gridsuite.monitor.worker.server.core.process.ProcessStep;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the steps of a process as a dependency graph on virtual threads, with a bounded number of concurrent steps
+ * per process. CPU-bound computations are delegated by the steps to the computation pool.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class StepSchedulingService implements StepScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StepSchedulingService.class);
+
+    private final StepExecutor stepExecutor;
+    private final int stepsParallelism;
+    private final ExecutorService executorService;
+
+    public StepSchedulingService(StepExecutor stepExecutor,
+                                 @Value("${worker.steps-parallelism:4}") int stepsParallelism) {
+        this.stepExecutor = stepExecutor;
+        this.stepsParallelism = stepsParallelism;
+        this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    @Override
+    public <C extends ProcessConfig> boolean executeSteps(Process<C> process, ProcessExecutionContext<C> context) {
+        List<ProcessStep<C>> steps = process.getSteps();
+        Map<UUID, Set<UUID>> dependencies = resolveDependencies(steps, process.getStepDependencies());
+        Map<UUID, Integer> stepOrders = new HashMap<>();
+        for (int i = 0; i < steps.size(); i++) {
+            stepOrders.put(steps.get(i).getId(), i);
+        }
+
+        Set<UUID> stepsWithDependents = new HashSet<>();
+        dependencies.values().forEach(stepsWithDependents::addAll);
+
+        // steps are visited in topological order, so that skipping a step also skips its dependents in the same pass
+        List<ProcessStep<C>> pendingSteps = sortTopologically(steps, dependencies);
+        Set<UUID> completedSteps = new HashSet<>();
+        // steps completed by a previous attempt of a resumed execution are not executed again
+        Set<Integer> restoredStepOrders = Set.copyOf(context.getCompletedStepOrders());
+        pendingSteps.removeIf(step -> {
+            boolean restored = restoredStepOrders.contains(stepOrders.get(step.getId()));
+            if (restored) {
+                completedSteps.add(step.getId());
+            }
+            return restored;
+        });
+        Set<UUID> unsuccessfulSteps = new HashSet<>();
+        CompletionService<StepOutcome> completionService = new ExecutorCompletionService<>(executorService);
+        int runningSteps = 0;
+
+        while (!pendingSteps.isEmpty() || runningSteps > 0) {
+            Iterator<ProcessStep<C>> iterator = pendingSteps.iterator();
+            while (iterator.hasNext()) {
+                ProcessStep<C> step = iterator.next();
+                Set<UUID> stepDependencies = dependencies.get(step.getId());
+                // once the execution is cancelled, the steps not started yet are skipped
+                if (context.isCancelled() || stepDependencies.stream().anyMatch(unsuccessfulSteps::contains)) {
+                    stepExecutor.skipStep(context.createStepContext(step, stepOrders.get(step.getId())), step);
+                    unsuccessfulSteps.add(step.getId());
+                    iterator.remove();
+                } else if (runningSteps < stepsParallelism && completedSteps.containsAll(stepDependencies)) {
+                    ProcessStepExecutionContext<C> stepContext = context.createStepContext(step, stepOrders.get(step.getId()));
+                    // a step leaving the network unchanged is not checkpointed, as other steps may be changing it
+                    stepContext.setCheckpointRequired(stepsWithDependents.contains(step.getId()) && step.changesNetwork());
+                    completionService.submit(() -> runStep(stepContext, step));
+                    runningSteps++;
+                    iterator.remove();
+                }
+            }
+
+            if (runningSteps > 0) {
+                StepOutcome outcome = awaitNextOutcome(completionService);
+                runningSteps--;
+                if (outcome.succeeded()) {
+                    completedSteps.add(outcome.stepId());
+                } else {
+                    unsuccessfulSteps.add(outcome.stepId());
+                }
+            }
+        }
+
+        return unsuccessfulSteps.isEmpty();
+    }
+
+    private <C extends ProcessConfig> StepOutcome runStep(ProcessStepExecutionContext<C> stepContext, ProcessStep<C> step) {
+        try {
+            stepExecutor.executeStep(stepContext, step);
+            return new StepOutcome(step.getId(), true);
+        } catch (Exception e) {
+            // the step status is already reported by the step executor, the failure is only logged with its cause here
+            LOGGER.error("Execution id: {} - Step failed: {}", stepContext.getProcessExecutionId(), step.getType(), e);
+            return new StepOutcome(step.getId(), false);
+        }
+    }
+
+    private static StepOutcome awaitNextOutcome(CompletionService<StepOutcome> completionService) {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for process steps", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unexpected error while executing process step", e.getCause());
+        }
+    }
+
+    private static <C extends ProcessConfig> Map<UUID, Set<UUID>> resolveDependencies(List<ProcessStep<C>> steps,
+                                                                                      Map<UUID, Set<UUID>> declaredDependencies) {
+        Set<UUID> stepIds = new HashSet<>();
+        steps.forEach(step -> stepIds.add(step.getId()));
+        declaredDependencies.forEach((stepId, stepDependencies) -> {
+            if (!stepIds.contains(stepId) || !stepIds.containsAll(stepDependencies)) {
+                throw new IllegalArgumentException("Dependencies of step " + stepId + " reference steps which are not part of the process");
+            }
+        });
+
+        Map<UUID, Set<UUID>> dependencies = new HashMap<>();
+        for (int i = 0; i < steps.size(); i++) {
+            UUID stepId = steps.get(i).getId();
+            Set<UUID> defaultDependencies = i > 0 ? Set.of(steps.get(i - 1).getId()) : Set.of();
+            dependencies.put(stepId, declaredDependencies.getOrDefault(stepId, defaultDependencies));
+        }
+        return dependencies;
+    }
+
+    private static <C extends ProcessConfig> List<ProcessStep<C>> sortTopologically(List<ProcessStep<C>> steps,
+                                                                                   Map<UUID, Set<UUID>> dependencies) {
+        List<ProcessStep<C>> sortedSteps = new ArrayList<>();
+        Set<UUID> sortedStepIds = new HashSet<>();
+        while (sortedSteps.size() < steps.size()) {
+            ProcessStep<C> nextStep = steps.stream()
+                .filter(step -> !sortedStepIds.contains(step.getId()) && sortedStepIds.containsAll(dependencies.get(step.getId())))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Process steps have cyclic dependencies"));
+            sortedSteps.add(nextStep);
+            sortedStepIds.add(nextStep.getId());
+        }
+        return sortedSteps;
+    }
+
+    private record StepOutcome(UUID stepId, boolean succeeded) { }
+}
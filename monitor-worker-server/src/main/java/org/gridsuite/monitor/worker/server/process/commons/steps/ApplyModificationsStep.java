@@ -14,12 +14,16 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.gridsuite.monitor.commons.types.processconfig.ModificationInfo;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 import org.gridsuite.monitor.worker.server.clients.NetworkModificationRestClient;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.context.ProcessInputKey;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
 import org.gridsuite.monitor.worker.server.core.process.AbstractProcessStep;
 import org.gridsuite.monitor.worker.server.dto.networkmodifications.NetworkModificationsWithMissingInfo;
 import org.gridsuite.monitor.worker.server.report.MonitorWorkerServerReportResourceBundle;
 import org.gridsuite.monitor.worker.server.services.FilterService;
+import org.gridsuite.monitor.worker.server.services.ModifiedNetworkCacheService;
 import org.gridsuite.monitor.worker.server.services.NetworkModificationService;
+import org.gridsuite.monitor.worker.server.services.NetworkStateKey;
 import org.gridsuite.monitor.worker.server.services.S3Service;
 import org.gridsuite.monitor.worker.server.utils.S3PathResolver;
 import org.springframework.stereotype.Component;
@@ -30,6 +34,9 @@ import java.util.stream.Collectors;
 
 /**
  *     Apply modifications passed in context to network passed in context<br/>
+ *     Modifications already applied to a network restored from the cache by {@link LoadNetworkStep} are skipped, so
+ *     that only the modifications which were not applied yet are fetched and applied<br/>
+ *     These modifications are prefetched while the network is loading<br/>
  *     If <b>debug</b> is enabled, resulting network will be saved into S3
  *
  *     @author Antoine Bouhours <antoine.bouhours at rte-france.com>
@@ -41,6 +48,9 @@ public class ApplyModificationsStep<C extends ProcessConfig> extends AbstractPro
     private final NetworkModificationRestClient networkModificationRestClient;
     private final S3Service s3Service;
     private final FilterService filterService;
+    private final ModifiedNetworkCacheService modifiedNetworkCacheService;
+
+    private static final ProcessInputKey<PrefetchedModifications> MODIFICATIONS_INPUT = new ProcessInputKey<>("modifications");
 
     private static final String DEBUG_FILENAME_PREFIX = "debug";
     private static final String DEBUG_FILENAME_SUFFIX = ".xiidm";
@@ -48,19 +58,38 @@ public class ApplyModificationsStep<C extends ProcessConfig> extends AbstractPro
     public ApplyModificationsStep(NetworkModificationService networkModificationService,
                                   NetworkModificationRestClient networkModificationRestClient,
                                   S3Service s3Service,
-                                  FilterService filterService) {
+                                  FilterService filterService,
+                                  ModifiedNetworkCacheService modifiedNetworkCacheService) {
         super(CommonStepType.APPLY_MODIFICATIONS);
         this.networkModificationService = networkModificationService;
         this.networkModificationRestClient = networkModificationRestClient;
         this.s3Service = s3Service;
         this.filterService = filterService;
+        this.modifiedNetworkCacheService = modifiedNetworkCacheService;
+    }
+
+    private record PrefetchedModifications(List<UUID> modificationUuids, NetworkModificationsWithMissingInfo modifications) { }
+
+    @Override
+    public void prefetchInputs(ProcessExecutionContext<C> context) {
+        List<ModificationInfo> modifications = context.getConfig().modifications();
+        if (CollectionUtils.isEmpty(modifications)) {
+            return;
+        }
+        List<UUID> activeModificationUuids = getActiveModificationUuids(modifications);
+        int cachedModificationsCount = modifiedNetworkCacheService.getClosestStateLength(new NetworkStateKey(context.getCaseUuid(), activeModificationUuids));
+        List<UUID> modificationUuidsToApply = activeModificationUuids.subList(cachedModificationsCount, activeModificationUuids.size());
+        if (!modificationUuidsToApply.isEmpty()) {
+            context.prefetchInput(MODIFICATIONS_INPUT, () -> new PrefetchedModifications(modificationUuidsToApply,
+                networkModificationRestClient.getModifications(modificationUuidsToApply)));
+        }
     }
 
     @Override
     public void execute(ProcessStepExecutionContext<C> context) {
         List<ModificationInfo> modifications = context.getConfig().modifications();
         if (CollectionUtils.isNotEmpty(modifications)) {
-            applyModifications(modifications, context.getNetwork(), context.getReportNode());
+            applyModifications(modifications, context);
         }
         if (context.getDebugFileLocation() != null) {
             try {
@@ -84,7 +113,8 @@ public class ApplyModificationsStep<C extends ProcessConfig> extends AbstractPro
         );
     }
 
-    private void applyModifications(List<ModificationInfo> modifications, Network network, ReportNode reportNode) {
+    private void applyModifications(List<ModificationInfo> modifications, ProcessStepExecutionContext<C> context) {
+        ReportNode reportNode = context.getReportNode();
         List<UUID> modificationUuidsNotApplied = modifications.stream()
             .filter(m -> !m.active()).map(ModificationInfo::modificationUuid).toList();
         if (!modificationUuidsNotApplied.isEmpty()) {
@@ -96,12 +126,24 @@ public class ApplyModificationsStep<C extends ProcessConfig> extends AbstractPro
                 .add();
         }
 
-        List<UUID> activeModificationUuids = modifications.stream().filter(ModificationInfo::active).map(ModificationInfo::modificationUuid).toList();
+        List<UUID> activeModificationUuids = getActiveModificationUuids(modifications);
         if (activeModificationUuids.isEmpty()) {
             return;
         }
 
-        NetworkModificationsWithMissingInfo networkModificationsWithMissingInfo = networkModificationRestClient.getModifications(activeModificationUuids);
+        // the first modifications may already be applied to the network restored from the cache when it was loaded
+        NetworkStateKey networkStateKey = new NetworkStateKey(context.getCaseUuid(), activeModificationUuids);
+        List<UUID> modificationUuidsToApply = activeModificationUuids.subList(context.getAppliedModificationsCount(), activeModificationUuids.size());
+        if (modificationUuidsToApply.isEmpty()) {
+            return;
+        }
+
+        // the prefetched modifications are ignored if the cached network states changed since they were fetched
+        List<UUID> modificationUuidsToFetch = modificationUuidsToApply;
+        NetworkModificationsWithMissingInfo networkModificationsWithMissingInfo = context.getPrefetchedInput(MODIFICATIONS_INPUT)
+            .filter(prefetched -> prefetched.modificationUuids().equals(modificationUuidsToFetch))
+            .map(PrefetchedModifications::modifications)
+            .orElseGet(() -> networkModificationRestClient.getModifications(modificationUuidsToFetch));
         if (CollectionUtils.isNotEmpty(networkModificationsWithMissingInfo.missingCompositeModifications())) {
             String missingUuids = networkModificationsWithMissingInfo.missingCompositeModifications().stream().map(UUID::toString).collect(Collectors.joining(", "));
 
@@ -113,6 +155,12 @@ public class ApplyModificationsStep<C extends ProcessConfig> extends AbstractPro
                 .add();
             throw new PowsyblException("Some network composite modifications are missing");
         }
+        Network network = context.getNetwork();
         networkModificationService.applyModifications(network, networkModificationsWithMissingInfo.networkModifications(), reportNode, filterService);
+        modifiedNetworkCacheService.putState(networkStateKey, network);
+    }
+
+    private static List<UUID> getActiveModificationUuids(List<ModificationInfo> modifications) {
+        return modifications.stream().filter(ModificationInfo::active).map(ModificationInfo::modificationUuid).toList();
     }
 }
@@ -7,30 +7,56 @@
 package org.gridsuite.monitor.worker.server.process.commons.steps;
 
 import com.powsybl.commons.report.ReportNode;
+import com.powsybl.commons.report.TypedValue;
 import com.powsybl.iidm.network.Network;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
 import org.gridsuite.monitor.worker.server.core.process.AbstractProcessStep;
-import org.gridsuite.monitor.worker.server.services.NetworkConversionService;
+import org.gridsuite.monitor.worker.server.report.MonitorWorkerServerReportResourceBundle;
+import org.gridsuite.monitor.worker.server.services.ModifiedNetworkCacheService;
+import org.gridsuite.monitor.worker.server.services.NetworkCacheService;
+import org.gridsuite.monitor.worker.server.services.NetworkStateKey;
 import org.springframework.stereotype.Component;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
+ *     Load the network of the case passed in context<br/>
+ *     If a network with the first active modifications of the configuration already applied is cached, it is used
+ *     instead of importing the case, and the number of modifications it holds is set in context so that
+ *     {@link ApplyModificationsStep} only applies the remaining ones
+ *
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
  */
 @Component
 public class LoadNetworkStep<C extends ProcessConfig> extends AbstractProcessStep<C> {
 
-    private final NetworkConversionService networkConversionService;
+    private final NetworkCacheService networkCacheService;
+    private final ModifiedNetworkCacheService modifiedNetworkCacheService;
 
-    public LoadNetworkStep(NetworkConversionService networkConversionService) {
+    public LoadNetworkStep(NetworkCacheService networkCacheService, ModifiedNetworkCacheService modifiedNetworkCacheService) {
         super(CommonStepType.LOAD_NETWORK);
-        this.networkConversionService = networkConversionService;
+        this.networkCacheService = networkCacheService;
+        this.modifiedNetworkCacheService = modifiedNetworkCacheService;
     }
 
     @Override
     public void execute(ProcessStepExecutionContext<C> context) {
         UUID caseId = context.getCaseUuid();
+        NetworkStateKey networkStateKey = NetworkStateKey.ofActiveModifications(caseId, context.getConfig().modifications());
+        Optional<ModifiedNetworkCacheService.NetworkState> cachedState = modifiedNetworkCacheService.findClosestState(networkStateKey);
+        if (cachedState.isPresent()) {
+            int appliedModificationsCount = cachedState.get().key().modificationUuids().size();
+            context.getReportNode().newReportNode()
+                .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+                .withMessageTemplate("monitor.worker.server.modifications.cached")
+                .withUntypedValue("count", appliedModificationsCount)
+                .withSeverity(TypedValue.INFO_SEVERITY)
+                .add();
+            context.setNetwork(cachedState.get().network());
+            context.setAppliedModificationsCount(appliedModificationsCount);
+            return;
+        }
         Network network = loadNetworkFromCase(caseId, context.getReportNode());
         context.setNetwork(network);
     }
@@ -40,6 +66,6 @@ public class LoadNetworkStep<C extends ProcessConfig> extends AbstractProcessSte
                     .withMessageTemplate("monitor.worker.server.importCase")
                     .withUntypedValue("caseUuid", caseUuid.toString())
                     .add();
-        return networkConversionService.createNetwork(caseUuid, reporter);
+        return networkCacheService.getNetwork(caseUuid, reporter);
     }
 }
@@ -16,12 +16,20 @@ import org.gridsuite.monitor.commons.types.processconfig.LoadFlowConfig;
 import org.gridsuite.monitor.commons.types.result.ResultInfos;
 import org.gridsuite.monitor.commons.types.result.ResultType;
 import org.gridsuite.monitor.worker.server.clients.LoadFlowRestClient;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.context.ProcessInputKey;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
 import org.gridsuite.monitor.worker.server.core.process.AbstractProcessStep;
+import org.gridsuite.monitor.worker.server.dto.parameters.loadflow.LoadFlowParametersInfos;
 import org.gridsuite.monitor.worker.server.process.loadflow.LoadflowStepType;
+import org.gridsuite.monitor.worker.server.report.MonitorWorkerServerReportResourceBundle;
+import org.gridsuite.monitor.worker.server.services.ComputationService;
+import org.gridsuite.monitor.worker.server.services.ResultSpoolService;
+import org.gridsuite.monitor.worker.server.services.ResultSpoolService.SpooledResult;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -30,11 +38,25 @@ import java.util.UUID;
 @Component
 public class LoadflowRunComputationStep extends AbstractProcessStep<LoadFlowConfig> {
 
+    private static final ProcessInputKey<LoadFlowParametersInfos> PARAMETERS_INPUT = new ProcessInputKey<>("loadflowParameters");
+
     private final LoadFlowRestClient loadflowRestClient;
+    private final ComputationService computationService;
+    private final ResultSpoolService resultSpoolService;
 
-    protected LoadflowRunComputationStep(LoadFlowRestClient loadflowRestClient) {
+    protected LoadflowRunComputationStep(LoadFlowRestClient loadflowRestClient,
+                                         ComputationService computationService,
+                                         ResultSpoolService resultSpoolService) {
         super(LoadflowStepType.RUN_LF_COMPUTATION);
         this.loadflowRestClient = loadflowRestClient;
+        this.computationService = computationService;
+        this.resultSpoolService = resultSpoolService;
+    }
+
+    @Override
+    public void prefetchInputs(ProcessExecutionContext<LoadFlowConfig> context) {
+        UUID loadflowParametersUuid = context.getConfig().loadflowParametersUuid();
+        context.prefetchInput(PARAMETERS_INPUT, () -> loadflowRestClient.getParameters(loadflowParametersUuid));
     }
 
     @Override
@@ -44,15 +66,23 @@ public class LoadflowRunComputationStep extends AbstractProcessStep<LoadFlowConf
         ReportNode reportNode = context.getReportNode();
 
         try {
-            LoadFlowParameters loadflowParameters = loadflowRestClient.getParameters(context.getConfig().loadflowParametersUuid()).getCommonParameters();
+            Optional<SpooledResult> previousResult = resultSpoolService.find(context.getProcessExecutionId(), getType().getName());
+            if (previousResult.isPresent()) {
+                reportSpooledResult(reportNode);
+                saveResult(context, previousResult.get());
+                return;
+            }
+
+            LoadFlowParameters loadflowParameters = context.getPrefetchedInput(PARAMETERS_INPUT)
+                .orElseGet(() -> loadflowRestClient.getParameters(context.getConfig().loadflowParametersUuid()))
+                .getCommonParameters();
             LoadFlowRunParameters runParameters = new LoadFlowRunParameters()
                 .setParameters(loadflowParameters)
                 .setReportNode(reportNode);
-            LoadFlowResult result = LoadFlow.run(context.getNetwork(), runParameters);
+            LoadFlowResult result = computationService.runComputation(() -> LoadFlow.run(context.getNetwork(), runParameters),
+                context.getCancellationToken());
 
-            UUID resultUuid = loadflowRestClient.saveResult(result);
-            ResultInfos resultInfos = new ResultInfos(resultUuid, ResultType.LOADFLOW);
-            context.setResultInfos(resultInfos);
+            saveResult(context, resultSpoolService.spool(context.getProcessExecutionId(), getType().getName(), result));
         } catch (Exception e) {
             reportNode.newReportNode()
                 .withMessageTemplate("monitor.worker.server.loadflow.step.error")
@@ -62,4 +92,18 @@ public class LoadflowRunComputationStep extends AbstractProcessStep<LoadFlowConf
             throw e;
         }
     }
+
+    private void saveResult(ProcessStepExecutionContext<LoadFlowConfig> context, SpooledResult spooledResult) {
+        // the result uuid is chosen by the loadflow server, so that sending the result again would save it twice
+        UUID resultUuid = resultSpoolService.uploadCreatingId(context.getProcessExecutionId(), spooledResult, loadflowRestClient::saveResult);
+        context.setResultInfos(new ResultInfos(resultUuid, ResultType.LOADFLOW));
+    }
+
+    private static void reportSpooledResult(ReportNode reportNode) {
+        reportNode.newReportNode()
+            .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+            .withMessageTemplate("monitor.worker.server.result.spooled")
+            .withSeverity(TypedValue.INFO_SEVERITY)
+            .add();
+    }
 }
@@ -12,10 +12,12 @@ import org.gridsuite.monitor.worker.server.core.process.AbstractProcess;
 import org.gridsuite.monitor.worker.server.core.process.ProcessStep;
 import org.gridsuite.monitor.worker.server.process.commons.steps.ApplyModificationsStep;
 import org.gridsuite.monitor.worker.server.process.commons.steps.LoadNetworkStep;
+import org.gridsuite.monitor.worker.server.process.securityanalysis.steps.SecurityAnalysisResolveInputsStep;
 import org.gridsuite.monitor.worker.server.process.securityanalysis.steps.SecurityAnalysisRunComputationStep;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
@@ -25,15 +27,18 @@ public class SecurityAnalysisProcess extends AbstractProcess<SecurityAnalysisCon
 
     private final LoadNetworkStep<SecurityAnalysisConfig> loadNetworkStep;
     private final ApplyModificationsStep<SecurityAnalysisConfig> applyModificationsStep;
+    private final SecurityAnalysisResolveInputsStep resolveInputsStep;
     private final SecurityAnalysisRunComputationStep runComputationStep;
 
     public SecurityAnalysisProcess(
             LoadNetworkStep<SecurityAnalysisConfig> loadNetworkStep,
             ApplyModificationsStep<SecurityAnalysisConfig> applyModificationsStep,
+            SecurityAnalysisResolveInputsStep resolveInputsStep,
             SecurityAnalysisRunComputationStep runComputationStep) {
         super(ProcessType.SECURITY_ANALYSIS);
         this.loadNetworkStep = loadNetworkStep;
         this.applyModificationsStep = applyModificationsStep;
+        this.resolveInputsStep = resolveInputsStep;
         this.runComputationStep = runComputationStep;
     }
 
@@ -42,7 +47,17 @@ public class SecurityAnalysisProcess extends AbstractProcess<SecurityAnalysisCon
         return List.of(
             loadNetworkStep,
             applyModificationsStep,
+            resolveInputsStep,
             runComputationStep
         );
     }
+
+    @Override
+    protected Map<ProcessStep<SecurityAnalysisConfig>, List<ProcessStep<SecurityAnalysisConfig>>> defineDependencies() {
+        // the parameters and contingency lists are resolved while the network is loaded and modified
+        return Map.of(
+            resolveInputsStep, List.of(),
+            runComputationStep, List.of(applyModificationsStep, resolveInputsStep)
+        );
+    }
 }
@@ -16,6 +16,7 @@ import org.gridsuite.monitor.worker.server.core.process.ProcessStepType;
 @Getter
 @RequiredArgsConstructor
 public enum SecurityAnalysisStepType implements ProcessStepType {
+    RESOLVE_SA_INPUTS("RESOLVE_SA_INPUTS"),
     RUN_SA_COMPUTATION("RUN_SA_COMPUTATION");
 
     private final String name;
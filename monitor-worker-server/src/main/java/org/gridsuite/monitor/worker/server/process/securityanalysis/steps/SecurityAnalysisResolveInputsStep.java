@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.process.securityanalysis.steps;
+
+import org.gridsuite.monitor.commons.types.processconfig.SecurityAnalysisConfig;
+import org.gridsuite.monitor.worker.server.core.context.ProcessInputKey;
+import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
+import org.gridsuite.monitor.worker.server.core.process.AbstractProcessStep;
+import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisParametersInfos;
+import org.gridsuite.monitor.worker.server.process.securityanalysis.SecurityAnalysisStepType;
+import org.gridsuite.monitor.worker.server.services.SecurityAnalysisParametersService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the parameters and contingency lists of a security analysis, which do not depend on the network, so that
+ * they are fetched while the network is loaded and modified. They are read by {@link SecurityAnalysisRunComputationStep}.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Component
+public class SecurityAnalysisResolveInputsStep extends AbstractProcessStep<SecurityAnalysisConfig> {
+
+    static final ProcessInputKey<SecurityAnalysisParametersInfos> PARAMETERS_INPUT = new ProcessInputKey<>("securityAnalysisParameters");
+
+    private final SecurityAnalysisParametersService securityAnalysisParametersService;
+
+    public SecurityAnalysisResolveInputsStep(SecurityAnalysisParametersService securityAnalysisParametersService) {
+        super(SecurityAnalysisStepType.RESOLVE_SA_INPUTS);
+        this.securityAnalysisParametersService = securityAnalysisParametersService;
+    }
+
+    @Override
+    public void execute(ProcessStepExecutionContext<SecurityAnalysisConfig> context) {
+        SecurityAnalysisConfig config = context.getConfig();
+        context.putInput(PARAMETERS_INPUT, securityAnalysisParametersService.getSecurityAnalysisParametersInfos(
+            config.securityAnalysisParametersUuid(), config.loadflowParametersUuid()));
+    }
+
+    @Override
+    public boolean changesNetwork() {
+        return false;
+    }
+}
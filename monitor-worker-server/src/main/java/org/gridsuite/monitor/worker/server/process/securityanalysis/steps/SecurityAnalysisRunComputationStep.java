@@ -8,9 +8,13 @@ package org.gridsuite.monitor.worker.server.process.securityanalysis.steps;
 
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.commons.report.TypedValue;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.security.SecurityAnalysis;
-import com.powsybl.security.SecurityAnalysisReport;
+import com.powsybl.security.SecurityAnalysisResult;
 import com.powsybl.security.SecurityAnalysisRunParameters;
+import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
 import org.gridsuite.monitor.commons.types.processconfig.SecurityAnalysisConfig;
 import org.gridsuite.monitor.commons.types.result.ResultInfos;
 import org.gridsuite.monitor.commons.types.result.ResultType;
@@ -18,26 +22,92 @@ import org.gridsuite.monitor.worker.server.clients.SecurityAnalysisRestClient;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
 import org.gridsuite.monitor.worker.server.core.process.AbstractProcessStep;
 import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisInputData;
+import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisParametersInfos;
+import org.gridsuite.monitor.worker.server.orchestrator.ShardCoordinationService;
 import org.gridsuite.monitor.worker.server.process.securityanalysis.SecurityAnalysisStepType;
+import org.gridsuite.monitor.worker.server.report.MonitorWorkerServerReportResourceBundle;
+import org.gridsuite.monitor.worker.server.services.ComputationService;
+import org.gridsuite.monitor.worker.server.services.NetworkStateKey;
+import org.gridsuite.monitor.worker.server.services.ResultSpoolService;
+import org.gridsuite.monitor.worker.server.services.ResultSpoolService.SpooledResult;
 import org.gridsuite.monitor.worker.server.services.SecurityAnalysisParametersService;
+import org.gridsuite.monitor.worker.server.services.SecurityAnalysisShardService;
+import org.gridsuite.monitor.worker.server.utils.ContingencyPartitioner;
+import org.gridsuite.monitor.worker.server.utils.SecurityAnalysisResultMerger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
+ * Runs a security analysis on the network.
+ * <p>
+ * When sharding is enabled and there are more contingencies than the shard size, the contingencies are split into
+ * shards of balanced cost. The worker coordinating the execution computes the first shard and delegates the others
+ * to the workers handling security analyses, then merges the results of all the shards.
+ * <p>
+ * Within a worker, the contingencies can also be split into partitions computed in parallel, each on its own variant
+ * of the network. The number of partitions is set by the configuration or derived from the computation threads, the
+ * number of contingencies and the heap needed by the network variants.
+ * <p>
+ * The progress of the step is reported in contingencies, each time a partition or a shard is done.
+ *
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
  */
 @Component
 public class SecurityAnalysisRunComputationStep extends AbstractProcessStep<SecurityAnalysisConfig> {
 
+    private static final long BYTES_PER_VARIANT_IDENTIFIABLE = 512;
+
     private final SecurityAnalysisRestClient securityAnalysisRestClient;
     private final SecurityAnalysisParametersService securityAnalysisParametersService;
+    private final ComputationService computationService;
+    private final SecurityAnalysisShardService shardService;
+    private final ShardCoordinationService shardCoordinationService;
+    private final ResultSpoolService resultSpoolService;
+    private final int shardSize;
+    private final int maxShards;
+    private final Duration shardTimeout;
+    private final int contingenciesPerThread;
+    private final long variantsMaxHeap;
 
     public SecurityAnalysisRunComputationStep(SecurityAnalysisRestClient securityAnalysisRestClient,
-                                              SecurityAnalysisParametersService securityAnalysisParametersService) {
+                                              SecurityAnalysisParametersService securityAnalysisParametersService,
+                                              ComputationService computationService,
+                                              SecurityAnalysisShardService shardService,
+                                              ShardCoordinationService shardCoordinationService,
+                                              ResultSpoolService resultSpoolService,
+                                              @Value("${worker.security-analysis.shard-size:0}") int shardSize,
+                                              @Value("${worker.security-analysis.max-shards:8}") int maxShards,
+                                              @Value("${worker.security-analysis.shard-timeout:12h}") Duration shardTimeout,
+                                              @Value("${worker.security-analysis.contingencies-per-thread:200}") int contingenciesPerThread,
+                                              @Value("${worker.security-analysis.variants-max-heap:1GB}") DataSize variantsMaxHeap) {
         super(SecurityAnalysisStepType.RUN_SA_COMPUTATION);
         this.securityAnalysisRestClient = securityAnalysisRestClient;
         this.securityAnalysisParametersService = securityAnalysisParametersService;
+        this.computationService = computationService;
+        this.shardService = shardService;
+        this.shardCoordinationService = shardCoordinationService;
+        this.resultSpoolService = resultSpoolService;
+        this.shardSize = shardSize;
+        this.maxShards = maxShards;
+        this.shardTimeout = shardTimeout;
+        this.contingenciesPerThread = contingenciesPerThread;
+        this.variantsMaxHeap = variantsMaxHeap.toBytes();
     }
 
     @Override
@@ -47,17 +117,45 @@ public class SecurityAnalysisRunComputationStep extends AbstractProcessStep<Secu
         ReportNode reportNode = context.getReportNode();
 
         try {
-            SecurityAnalysisInputData inputData = securityAnalysisParametersService.buildSecurityAnalysisInputData(
-                context.getConfig().securityAnalysisParametersUuid(), context.getConfig().loadflowParametersUuid(), context.getNetwork());
+            Optional<SpooledResult> previousResult = context.isShard()
+                ? Optional.empty()
+                : resultSpoolService.find(context.getProcessExecutionId(), getType().getName());
+            if (previousResult.isPresent()) {
+                reportNode.newReportNode()
+                    .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+                    .withMessageTemplate("monitor.worker.server.result.spooled")
+                    .withSeverity(TypedValue.INFO_SEVERITY)
+                    .add();
+                saveResult(context, previousResult.get());
+                return;
+            }
+
+            // the inputs are not resolved again when the resolving step was restored from a checkpoint
+            SecurityAnalysisParametersInfos parametersInfos = context.getPrefetchedInput(SecurityAnalysisResolveInputsStep.PARAMETERS_INPUT)
+                .orElseGet(() -> securityAnalysisParametersService.getSecurityAnalysisParametersInfos(
+                    context.getConfig().securityAnalysisParametersUuid(), context.getConfig().loadflowParametersUuid()));
+            SecurityAnalysisInputData inputData = securityAnalysisParametersService.buildSecurityAnalysisInputData(parametersInfos, context.getNetwork(),
+                NetworkStateKey.ofActiveModifications(context.getCaseUuid(), context.getConfig().modifications()), reportNode,
+                context.getCancellationToken());
 
             SecurityAnalysisRunParameters runParameters = new SecurityAnalysisRunParameters()
                 .setSecurityAnalysisParameters(inputData.securityAnalysisParameters())
                 .setReportNode(reportNode);
-            SecurityAnalysisReport saReport = SecurityAnalysis.run(context.getNetwork(), inputData.contingencies(), runParameters);
+            if (context.isShard()) {
+                runShard(context, inputData.contingencies(), runParameters);
+                return;
+            }
 
-            ResultInfos resultInfos = new ResultInfos(UUID.randomUUID(), ResultType.SECURITY_ANALYSIS);
-            securityAnalysisRestClient.saveResult(resultInfos.resultUUID(), saReport.getResult());
-            context.setResultInfos(resultInfos);
+            int contingenciesCount = inputData.contingencies().size();
+            AtomicLong doneContingenciesCount = new AtomicLong();
+            LongConsumer onContingenciesDone = count -> context.updateProgress(doneContingenciesCount.addAndGet(count), contingenciesCount);
+            context.updateProgress(0, contingenciesCount);
+            int shardCount = getShardCount(contingenciesCount);
+            SecurityAnalysisResult result = shardCount > 1
+                ? runShards(context, inputData.contingencies(), runParameters, shardCount, onContingenciesDone)
+                : run(context, inputData.contingencies(), runParameters, onContingenciesDone);
+
+            saveResult(context, resultSpoolService.spool(context.getProcessExecutionId(), getType().getName(), result));
         } catch (Exception e) {
             reportNode.newReportNode()
                 .withMessageTemplate("monitor.worker.server.securityanalysis.step.error")
@@ -67,4 +165,163 @@ public class SecurityAnalysisRunComputationStep extends AbstractProcessStep<Secu
             throw e;
         }
     }
+
+    private void saveResult(ProcessStepExecutionContext<SecurityAnalysisConfig> context, SpooledResult spooledResult) {
+        // the id of the spooled result is the result uuid, so that a replayed execution saves it under the same uuid
+        resultSpoolService.upload(context.getProcessExecutionId(), spooledResult, file -> {
+            securityAnalysisRestClient.saveResult(spooledResult.id(), file);
+            return spooledResult.id();
+        });
+        context.setResultInfos(new ResultInfos(spooledResult.id(), ResultType.SECURITY_ANALYSIS));
+    }
+
+    /**
+     * @param onContingenciesDone called with the number of contingencies done, possibly from the computation threads
+     */
+    private SecurityAnalysisResult run(ProcessStepExecutionContext<SecurityAnalysisConfig> context, List<Contingency> contingencies,
+                                       SecurityAnalysisRunParameters runParameters, LongConsumer onContingenciesDone) {
+        Network network = context.getNetwork();
+        int threadCount = getThreadCount(context.getConfig(), network, contingencies.size());
+        if (threadCount > 1) {
+            return runOnVariants(context, contingencies, runParameters, threadCount, onContingenciesDone);
+        }
+        SecurityAnalysisResult result = computationService.runComputation(() -> SecurityAnalysis.run(network, contingencies, runParameters),
+            context.getCancellationToken()).getResult();
+        onContingenciesDone.accept(contingencies.size());
+        return result;
+    }
+
+    private int getThreadCount(SecurityAnalysisConfig config, Network network, int contingenciesCount) {
+        if (config.computationThreads() != null) {
+            // more partitions than computation threads would only wait for a thread while holding a network variant
+            return Math.clamp(config.computationThreads(), 1, Math.max(Math.min(contingenciesCount, computationService.getParallelism()), 1));
+        }
+        if (contingenciesPerThread <= 0) {
+            return 1;
+        }
+        // the computation threads default to the available processors
+        long variantSize = Math.max(network.getIdentifiables().size() * BYTES_PER_VARIANT_IDENTIFIABLE, 1);
+        long maxThreadCount = Math.min(computationService.getParallelism(),
+            Math.min(contingenciesCount / contingenciesPerThread, variantsMaxHeap / variantSize));
+        return (int) Math.max(maxThreadCount, 1);
+    }
+
+    private SecurityAnalysisResult runOnVariants(ProcessStepExecutionContext<SecurityAnalysisConfig> context, List<Contingency> contingencies,
+                                                 SecurityAnalysisRunParameters runParameters, int threadCount, LongConsumer onContingenciesDone) {
+        Network network = context.getNetwork();
+        ReportNode reportNode = context.getReportNode();
+        List<List<Contingency>> partitions = ContingencyPartitioner.partition(contingencies, threadCount);
+        reportNode.newReportNode()
+            .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+            .withMessageTemplate("monitor.worker.server.securityanalysis.partitioned")
+            .withUntypedValue("contingenciesCount", contingencies.size())
+            .withUntypedValue("partitionCount", threadCount)
+            .withSeverity(TypedValue.INFO_SEVERITY)
+            .add();
+
+        VariantManager variantManager = network.getVariantManager();
+        String variantIdPrefix = "security-analysis-" + UUID.randomUUID() + "-";
+        List<String> variantIds = IntStream.range(0, threadCount).mapToObj(index -> variantIdPrefix + index).toList();
+        boolean multiThreadAccessAllowed = variantManager.isVariantMultiThreadAccessAllowed();
+        variantManager.cloneVariant(variantManager.getWorkingVariantId(), variantIds);
+        variantManager.allowVariantMultiThreadAccess(true);
+        try {
+            List<Supplier<SecurityAnalysisResult>> computations = new ArrayList<>(threadCount);
+            for (int index = 0; index < threadCount; index++) {
+                String variantId = variantIds.get(index);
+                List<Contingency> partition = partitions.get(index);
+                // report nodes are not thread safe, each partition reports to its own node
+                ReportNode partitionReportNode = reportNode.newReportNode()
+                    .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+                    .withMessageTemplate("monitor.worker.server.securityanalysis.partition")
+                    .withUntypedValue("partitionIndex", index)
+                    .withUntypedValue("contingenciesCount", partition.size())
+                    .add();
+                SecurityAnalysisRunParameters partitionRunParameters = new SecurityAnalysisRunParameters()
+                    .setSecurityAnalysisParameters(runParameters.getSecurityAnalysisParameters())
+                    .setReportNode(partitionReportNode);
+                computations.add(() -> {
+                    SecurityAnalysisResult partitionResult = SecurityAnalysis.run(network, variantId, variantNetwork -> partition, partitionRunParameters).getResult();
+                    onContingenciesDone.accept(partition.size());
+                    return partitionResult;
+                });
+            }
+            return SecurityAnalysisResultMerger.merge(computationService.runComputations(computations, context.getCancellationToken()), contingencies);
+        } finally {
+            // the computations are stopped once runComputations returns, even when cancelled or timed out
+            variantManager.allowVariantMultiThreadAccess(multiThreadAccessAllowed);
+            variantIds.forEach(variantManager::removeVariant);
+        }
+    }
+
+    private int getShardCount(int contingenciesCount) {
+        if (shardSize <= 0) {
+            return 1;
+        }
+        return Math.clamp((contingenciesCount + shardSize - 1L) / shardSize, 1, Math.max(maxShards, 1));
+    }
+
+    private SecurityAnalysisResult runShards(ProcessStepExecutionContext<SecurityAnalysisConfig> context, List<Contingency> contingencies,
+                                             SecurityAnalysisRunParameters runParameters, int shardCount, LongConsumer onContingenciesDone) {
+        UUID executionId = context.getProcessExecutionId();
+        ReportNode reportNode = context.getReportNode();
+        List<List<Contingency>> shards = ContingencyPartitioner.partition(contingencies, shardCount);
+        reportNode.newReportNode()
+            .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+            .withMessageTemplate("monitor.worker.server.securityanalysis.sharded")
+            .withUntypedValue("contingenciesCount", contingencies.size())
+            .withUntypedValue("shardCount", shardCount)
+            .withSeverity(TypedValue.INFO_SEVERITY)
+            .add();
+
+        try {
+            for (int index = 1; index < shardCount; index++) {
+                shardService.saveContingencyIds(executionId, index, shards.get(index).stream().map(Contingency::getId).toList());
+            }
+            shardCoordinationService.publishShards(new ProcessRunMessage<>(executionId, context.getCaseUuid(), context.getConfig(),
+                context.getProcessReportId(), null, false, context.getScheduledAt()), shardCount);
+
+            List<SecurityAnalysisResult> results = new ArrayList<>(Collections.nCopies(shardCount, null));
+            results.set(0, run(context, shards.getFirst(), runParameters, onContingenciesDone));
+            AtomicInteger doneCount = new AtomicInteger(1);
+            reportShardDone(reportNode, 0, doneCount.get(), shardCount);
+            shardCoordinationService.awaitShards(executionId, shardTimeout, context.getCancellationToken(), index -> {
+                results.set(index, shardService.getResult(executionId, index));
+                reportShardDone(reportNode, index, doneCount.incrementAndGet(), shardCount);
+                onContingenciesDone.accept(shards.get(index).size());
+            });
+            return SecurityAnalysisResultMerger.merge(results, contingencies);
+        } finally {
+            shardCoordinationService.discardShards(executionId);
+            shardService.deleteShards(executionId);
+        }
+    }
+
+    private void runShard(ProcessStepExecutionContext<SecurityAnalysisConfig> context, List<Contingency> contingencies,
+                          SecurityAnalysisRunParameters runParameters) {
+        UUID executionId = context.getProcessExecutionId();
+        int shardIndex = context.getShard().index();
+        Set<String> shardContingencyIds = new HashSet<>(shardService.getContingencyIds(executionId, shardIndex));
+        List<Contingency> shardContingencies = contingencies.stream()
+            .filter(contingency -> shardContingencyIds.contains(contingency.getId()))
+            .toList();
+        if (shardContingencies.size() != shardContingencyIds.size()) {
+            // the contingency lists changed since the coordinating worker evaluated them
+            throw new IllegalStateException("Only " + shardContingencies.size() + " of the " + shardContingencyIds.size()
+                + " contingencies of shard " + shardIndex + " were found");
+        }
+        // the progress of the shards is reported by the coordinating worker
+        shardService.saveResult(executionId, shardIndex, run(context, shardContingencies, runParameters, count -> { }));
+    }
+
+    private static void reportShardDone(ReportNode reportNode, int shardIndex, int doneCount, int shardCount) {
+        reportNode.newReportNode()
+            .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+            .withMessageTemplate("monitor.worker.server.securityanalysis.shard.done")
+            .withUntypedValue("shardIndex", shardIndex)
+            .withUntypedValue("doneCount", doneCount)
+            .withUntypedValue("shardCount", shardCount)
+            .withSeverity(TypedValue.INFO_SEVERITY)
+            .add();
+    }
 }
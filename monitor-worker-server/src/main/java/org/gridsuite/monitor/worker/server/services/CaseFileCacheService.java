@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gridsuite.monitor.worker.server.clients.CaseRestClient;
+import org.gridsuite.monitor.worker.server.utils.DiskLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps the files of the cases downloaded from case-server on local disk, so that executions on the same case read
+ * them locally instead of streaming them again. Cases are immutable, so a cached file never needs to be refreshed.
+ * <p>
+ * Concurrent requests for the same case share a single download.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class CaseFileCacheService {
+    private static final String CACHE_REQUESTS_METER = "monitor.worker.case.cache.requests";
+
+    private final CaseRestClient caseRestClient;
+    private final boolean enabled;
+    private final Map<UUID, CompletableFuture<Void>> downloadingCases = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final DiskLruCache cache;
+
+    public CaseFileCacheService(CaseRestClient caseRestClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${worker.case-cache.enabled:false}") boolean enabled,
+                                @Value("${worker.case-cache.directory:${java.io.tmpdir}/monitor-case-cache}") Path cacheDirectory,
+                                @Value("${worker.case-cache.max-size:20GB}") DataSize maxSize) {
+        this.caseRestClient = caseRestClient;
+        this.enabled = enabled;
+        this.hitCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("monitor.worker.case.cache.evictions").register(meterRegistry);
+        this.cache = enabled ? new DiskLruCache(cacheDirectory, maxSize.toBytes(), key -> evictionCounter.increment()) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Read the file of a case, downloading it first if it is not cached yet.
+     * <p>
+     * The file is guaranteed not to be evicted while the reader runs.
+     *
+     * @param caseUuid uuid of the case to read
+     * @param reader function reading the local case file, which must not return {@code null}
+     * @return the result of the reader
+     */
+    public <T> T readCase(UUID caseUuid, Function<Path, T> reader) {
+        while (true) {
+            Optional<T> result = cache.read(caseUuid.toString(), reader);
+            if (result.isPresent()) {
+                hitCounter.increment();
+                return result.get();
+            }
+
+            CompletableFuture<Void> download = new CompletableFuture<>();
+            CompletableFuture<Void> ongoingDownload = downloadingCases.putIfAbsent(caseUuid, download);
+            if (ongoingDownload == null) {
+                missCounter.increment();
+                try {
+                    return cache.write(caseUuid.toString(), directory -> caseRestClient.downloadCase(caseUuid, directory), reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Error while caching file of case " + caseUuid, e);
+                } finally {
+                    downloadingCases.remove(caseUuid, download);
+                    download.complete(null);
+                }
+            }
+
+            // another execution is downloading the same case, wait for it and look the case up again (or download it
+            // if that download failed)
+            ongoingDownload.join();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs the CPU-bound computations of all the executions of the worker on a bounded pool of platform threads, while
+ * the executions themselves are orchestrated on virtual threads.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ComputationService {
+
+    private final int parallelism;
+    private final ExecutorService executorService;
+
+    public ComputationService(@Value("${worker.computations-parallelism:0}") int computationsParallelism) {
+        // the available processors account for the CPU quota of the container
+        this.parallelism = computationsParallelism > 0
+            ? computationsParallelism
+            : Runtime.getRuntime().availableProcessors();
+        this.executorService = Executors.newFixedThreadPool(parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Get the number of computations which can run at the same time on the computation pool.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Run a computation on the computation pool, waiting for a thread of the pool to be free.
+     *
+     * @param computation computation to run
+     * @return the result of the computation
+     */
+    public <T> T runComputation(Supplier<T> computation) {
+        return runComputation(computation, new CancellationToken());
+    }
+
+    /**
+     * Run a computation on the computation pool, interrupting it when the execution is cancelled.
+     *
+     * @param computation computation to run
+     * @param cancellationToken cancellation token of the execution
+     * @return the result of the computation
+     * @throws CancellationException if the execution is cancelled
+     */
+    public <T> T runComputation(Supplier<T> computation, CancellationToken cancellationToken) {
+        return runComputations(List.of(computation), cancellationToken).getFirst();
+    }
+
+    /**
+     * Run independent computations concurrently on the computation pool.
+     *
+     * @param computations computations to run
+     * @return the results of the computations, in the same order
+     * @throws RuntimeException the exception thrown by the first failed computation, in which case the others are
+     *                          cancelled
+     */
+    public <T> List<T> runComputations(List<Supplier<T>> computations) {
+        return runComputations(computations, new CancellationToken());
+    }
+
+    /**
+     * Run independent computations concurrently on the computation pool, interrupting them when the execution is
+     * cancelled. Whatever the outcome, the caller is only released once the started computations are stopped, so
+     * that it can release the resources they use, such as network variants. Computations not responding to the
+     * interruption thus delay the cancellation until their next check.
+     *
+     * @param computations computations to run
+     * @param cancellationToken cancellation token of the execution
+     * @return the results of the computations, in the same order
+     * @throws CancellationException if the execution is cancelled
+     */
+    public <T> List<T> runComputations(List<Supplier<T>> computations, CancellationToken cancellationToken) {
+        cancellationToken.throwIfCancelled();
+        List<Computation<T>> tasks = computations.stream().map(Computation::new).toList();
+        List<Future<T>> futures = tasks.stream()
+            .map(executorService::submit)
+            .toList();
+        try (CancellationToken.Registration registration = cancellationToken.onCancel(() -> futures.forEach(future -> future.cancel(true)))) {
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for computation", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Computation failed", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+            tasks.forEach(Computation::awaitStopped);
+        }
+    }
+
+    /**
+     * Computation whose end can be awaited, as a cancelled future is done before its computation is stopped.
+     */
+    private static final class Computation<T> implements Callable<T> {
+        private final Supplier<T> supplier;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CountDownLatch stopped = new CountDownLatch(1);
+
+        private Computation(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public T call() {
+            if (!started.compareAndSet(false, true)) {
+                throw new CancellationException("Computation cancelled before it started");
+            }
+            try {
+                return supplier.get();
+            } finally {
+                stopped.countDown();
+            }
+        }
+
+        void awaitStopped() {
+            // a computation which did not start yet never runs, its future being cancelled
+            if (started.compareAndSet(false, true)) {
+                return;
+            }
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    stopped.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
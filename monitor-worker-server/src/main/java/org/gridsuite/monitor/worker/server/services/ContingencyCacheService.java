@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.powsybl.contingency.Contingency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gridsuite.actions.dto.contingency.AbstractContingencyList;
+import org.gridsuite.actions.dto.contingency.IdBasedContingencyList;
+import org.gridsuite.monitor.worker.server.utils.WeightedLruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps in memory the contingencies obtained by evaluating contingency lists on network states, so that executions
+ * on the same network state, with only other parameters changed, do not evaluate the lists again.
+ * <p>
+ * Entries are keyed by the network state and the uuid and modification date of the list, so that a new version of a
+ * list is evaluated again. The heap footprint of an entry is estimated from its number of contingency elements.
+ * A maximum size of zero disables the cache.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ContingencyCacheService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContingencyCacheService.class);
+
+    private static final String CACHE_REQUESTS_METER = "monitor.worker.contingency.cache.requests";
+
+    private static final long BYTES_PER_CONTINGENCY_ELEMENT = 256;
+
+    private record ContingenciesKey(NetworkStateKey networkStateKey, UUID contingencyListUuid, Instant contingencyListDate) { }
+
+    /**
+     * @param contingencies evaluated contingencies
+     * @param filterBased whether the list is defined by filters, in which case its evaluation depends on them
+     */
+    private record CachedContingencies(List<Contingency> contingencies, boolean filterBased) { }
+
+    private final boolean enabled;
+    private final WeightedLruCache<ContingenciesKey, CachedContingencies> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public ContingencyCacheService(MeterRegistry meterRegistry,
+                                   @Value("${worker.contingency-cache.max-size:256MB}") DataSize maxSize) {
+        this.enabled = maxSize.toBytes() > 0;
+        this.cache = new WeightedLruCache<>(maxSize.toBytes(), ContingencyCacheService::estimateSize, this::onEviction);
+        this.hitCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("monitor.worker.contingency.cache.evictions").register(meterRegistry);
+        Gauge.builder("monitor.worker.contingency.cache.size", cache, WeightedLruCache::getTotalWeight)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Get the contingencies of a list previously evaluated on a network state.
+     *
+     * @return the cached contingencies, which must not be modified, or an empty optional if the list was not evaluated
+     * on this state
+     */
+    public Optional<List<Contingency>> getContingencies(NetworkStateKey networkStateKey, AbstractContingencyList contingencyList) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Optional<List<Contingency>> contingencies = cache.get(getKey(networkStateKey, contingencyList)).map(CachedContingencies::contingencies);
+        (contingencies.isPresent() ? hitCounter : missCounter).increment();
+        return contingencies;
+    }
+
+    public void putContingencies(NetworkStateKey networkStateKey, AbstractContingencyList contingencyList, List<Contingency> contingencies) {
+        if (!enabled) {
+            return;
+        }
+        CachedContingencies cachedContingencies = new CachedContingencies(List.copyOf(contingencies), !(contingencyList instanceof IdBasedContingencyList));
+        if (!cache.put(getKey(networkStateKey, contingencyList), cachedContingencies)) {
+            LOGGER.warn("Contingencies of list {} are too large to be cached", contingencyList.getId());
+        }
+    }
+
+    /**
+     * Evict the contingencies of an updated element. As the lists using a filter are not known, an updated element
+     * which is not a contingency list evicts the contingencies of all the lists defined by filters. The contingencies
+     * evaluated on a network state to which an updated modification was applied are also evicted.
+     *
+     * @param elementUuid uuid of the updated contingency list, filter or modification
+     */
+    public void invalidate(UUID elementUuid) {
+        int evictedCount = cache.invalidateIf((key, value) -> key.contingencyListUuid().equals(elementUuid) || value.filterBased()
+            || key.networkStateKey().modificationUuids().contains(elementUuid));
+        LOGGER.debug("{} cached contingency lists invalidated by update of element {}", evictedCount, elementUuid);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateIf((key, value) -> true);
+    }
+
+    private static ContingenciesKey getKey(NetworkStateKey networkStateKey, AbstractContingencyList contingencyList) {
+        return new ContingenciesKey(networkStateKey, contingencyList.getId(), contingencyList.getModificationDate());
+    }
+
+    private static long estimateSize(CachedContingencies cachedContingencies) {
+        return cachedContingencies.contingencies().stream()
+            .mapToLong(contingency -> 1L + contingency.getElements().size())
+            .sum() * BYTES_PER_CONTINGENCY_ELEMENT;
+    }
+
+    private void onEviction(ContingenciesKey key, CachedContingencies cachedContingencies) {
+        LOGGER.info("Contingencies of list {} evicted from cache", key.contingencyListUuid());
+        evictionCounter.increment();
+    }
+}
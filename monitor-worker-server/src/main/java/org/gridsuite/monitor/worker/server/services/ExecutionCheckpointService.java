@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.ImportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.commons.types.result.ResultInfos;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
+import org.gridsuite.monitor.worker.server.utils.S3PathResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Checkpoints the state of the executions in S3 after their steps, so that a retried execution resumes from its last
+ * completed steps instead of loading and modifying the network again.
+ * <p>
+ * A checkpoint holds the orders of the completed steps, which do not depend on the worker, their results, and the
+ * binary IIDM network as left by the last checkpointed step. It is only restored when the case and the configuration
+ * of the retried execution are those of the checkpointed attempt. Checkpoints are deleted once the execution is
+ * completed, and kept otherwise so that it can be retried.
+ * <p>
+ * Checkpointing uploads the network once per checkpointed step, delaying the next steps, so it is disabled by default.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ExecutionCheckpointService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionCheckpointService.class);
+
+    private static final String CHECKPOINT_FILE_PREFIX = "checkpoint";
+    private static final String JSON_SUFFIX = ".json";
+    private static final String NETWORK_FILE_PREFIX = "network";
+    private static final String BINARY_IIDM_SUFFIX = ".biidm";
+
+    /**
+     * @param fingerprint hash of the case and configuration of the execution
+     * @param completedStepOrders orders of the completed steps
+     * @param networkStepOrder order of the step which saved the network, or {@code null} if there was no network
+     * @param appliedModificationsCount number of modifications already applied to a network restored from the cache,
+     *                                  {@code null} in checkpoints saved before it was recorded
+     * @param stepResults results of the completed steps by step order, {@code null} in checkpoints saved before they
+     *                    were recorded
+     */
+    record Checkpoint(String fingerprint, Set<Integer> completedStepOrders, Integer networkStepOrder, Integer appliedModificationsCount,
+                      Map<Integer, ResultInfos> stepResults) { }
+
+    private final S3Service s3Service;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public ExecutionCheckpointService(S3Service s3Service,
+                                      ObjectMapper objectMapper,
+                                      @Value("${worker.checkpoints.enabled:false}") boolean enabled) {
+        this.s3Service = s3Service;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checkpoint the state of an execution once a step is completed. A failed checkpoint only prevents resuming from
+     * this step and does not fail the execution.
+     */
+    public void save(ProcessStepExecutionContext<?> context) {
+        if (!enabled) {
+            return;
+        }
+        UUID executionId = context.getProcessExecutionId();
+        try {
+            Network network = context.getNetwork();
+            // each step saves its own network file, so that the previous checkpoint stays valid until replaced
+            if (network != null) {
+                s3Service.exportCompressedToS3(getNetworkFilePath(executionId, context.getStepOrder()), NETWORK_FILE_PREFIX, BINARY_IIDM_SUFFIX,
+                    file -> NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), file));
+            }
+            Checkpoint checkpoint = new Checkpoint(getFingerprint(context.getCaseUuid(), context.getConfig()),
+                Set.copyOf(context.getCompletedStepOrders()), network != null ? context.getStepOrder() : null,
+                context.getAppliedModificationsCount(), Map.copyOf(context.getStepResults()));
+            s3Service.exportCompressedToS3(getCheckpointFilePath(executionId), CHECKPOINT_FILE_PREFIX, JSON_SUFFIX,
+                file -> objectMapper.writeValue(file.toFile(), checkpoint));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Execution id: {} - Could not checkpoint step {}", executionId, context.getProcessStepType().getName(), e);
+        }
+    }
+
+    /**
+     * Restore the checkpoint of a previous attempt of an execution into its context.
+     *
+     * @return whether a checkpoint was restored, otherwise the execution starts over
+     */
+    public boolean restore(ProcessExecutionContext<?> context) {
+        if (!enabled) {
+            return false;
+        }
+        UUID executionId = context.getExecutionId();
+        try {
+            Checkpoint checkpoint = s3Service.importCompressedFromS3(getCheckpointFilePath(executionId),
+                in -> objectMapper.readValue(in, Checkpoint.class));
+            if (!checkpoint.fingerprint().equals(getFingerprint(context.getCaseUuid(), context.getConfig()))) {
+                LOGGER.info("Execution id: {} - Configuration changed since the checkpoint, starting over", executionId);
+                return false;
+            }
+            if (checkpoint.networkStepOrder() != null) {
+                context.setNetwork(s3Service.importCompressedFromS3(getNetworkFilePath(executionId, checkpoint.networkStepOrder()),
+                    in -> NetworkSerDe.read(in, new ImportOptions().setFormat(TreeDataFormat.BIN), null)));
+            }
+            if (checkpoint.appliedModificationsCount() != null) {
+                context.setAppliedModificationsCount(checkpoint.appliedModificationsCount());
+            }
+            if (checkpoint.stepResults() != null) {
+                context.getStepResults().putAll(checkpoint.stepResults());
+            }
+            context.getCompletedStepOrders().addAll(checkpoint.completedStepOrders());
+            LOGGER.info("Execution id: {} - Resuming after steps {}", executionId, checkpoint.completedStepOrders());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Execution id: {} - No usable checkpoint, starting over", executionId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Delete the checkpoints of an execution, once it is completed.
+     */
+    public void delete(UUID executionId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            s3Service.deleteDirectoryFromS3(S3PathResolver.getExecutionCheckpointsPath(executionId));
+        } catch (IOException e) {
+            // leftover checkpoints do not affect the execution
+            LOGGER.warn("Execution id: {} - Could not delete checkpoints", executionId, e);
+        }
+    }
+
+    private String getFingerprint(UUID caseUuid, ProcessConfig config) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(caseUuid.toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(config));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String getCheckpointFilePath(UUID executionId) {
+        return S3PathResolver.getExecutionCheckpointFilePath(executionId, CHECKPOINT_FILE_PREFIX + JSON_SUFFIX + ".gz");
+    }
+
+    private static String getNetworkFilePath(UUID executionId, int stepOrder) {
+        return S3PathResolver.getExecutionCheckpointFilePath(executionId, NETWORK_FILE_PREFIX + "_" + stepOrder + BINARY_IIDM_SUFFIX + ".gz");
+    }
+}
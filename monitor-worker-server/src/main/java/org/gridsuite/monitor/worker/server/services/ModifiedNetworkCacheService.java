@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.ImportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.gridsuite.monitor.worker.server.utils.WeightedLruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps in memory the networks obtained by applying lists of modifications to cases, so that executions applying the
+ * same modifications, or only appending modifications to an already applied list, start from the cached state.
+ * <p>
+ * The states are cached as binary IIDM snapshots rather than networks, so that a cached state does not hold a live
+ * network next to the working network of the execution which cached it, and weighs the exact size of its snapshot.
+ * Each state found is read from its snapshot into a network owned by the caller, the time taken to write and read the
+ * snapshots being measured. As for {@link NetworkCacheService}, the cache is bounded by a fraction of the maximum heap
+ * unless its maximum size is configured, and a maximum size of zero disables the cache. As a state is keyed by the
+ * uuids of its modifications only, the states to which an updated modification was applied are evicted on reference
+ * data updates.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ModifiedNetworkCacheService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModifiedNetworkCacheService.class);
+
+    private static final String CACHE_REQUESTS_METER = "monitor.worker.modified.network.cache.requests";
+
+    /**
+     * Working copy of a cached network state.
+     *
+     * @param key state of the network, whose modifications are a prefix of the requested ones
+     * @param network network owned by the caller
+     */
+    public record NetworkState(NetworkStateKey key, Network network) { }
+
+    private final boolean enabled;
+    private final WeightedLruCache<NetworkStateKey, byte[]> cache;
+    private final Counter hitCounter;
+    private final Counter partialHitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Timer copyTimer;
+
+    @Autowired
+    public ModifiedNetworkCacheService(MeterRegistry meterRegistry,
+                                       @Value("${worker.modified-network-cache.max-size:#{null}}") DataSize maxSize,
+                                       @Value("${worker.modified-network-cache.heap-fraction:0.1}") double heapFraction) {
+        this(meterRegistry, NetworkCacheService.getMaxSize(maxSize, heapFraction));
+    }
+
+    ModifiedNetworkCacheService(MeterRegistry meterRegistry, DataSize maxSize) {
+        this.enabled = maxSize.toBytes() > 0;
+        this.cache = new WeightedLruCache<>(maxSize.toBytes(), snapshot -> snapshot.length, this::onEviction);
+        this.hitCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "hit").register(meterRegistry);
+        this.partialHitCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "partial-hit").register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("monitor.worker.modified.network.cache.evictions").register(meterRegistry);
+        this.copyTimer = Timer.builder("monitor.worker.modified.network.cache.copy").register(meterRegistry);
+        Gauge.builder("monitor.worker.modified.network.cache.size", cache, WeightedLruCache::getTotalWeight)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Find the cached network state with the longest list of modifications which is a prefix of the requested one.
+     *
+     * @param key requested network state
+     * @return a working copy of the closest cached state, or an empty optional if no prefix is cached
+     */
+    public Optional<NetworkState> findClosestState(NetworkStateKey key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        for (int length = key.modificationUuids().size(); length > 0; length--) {
+            NetworkStateKey prefix = key.prefix(length);
+            Optional<byte[]> snapshot = cache.get(prefix);
+            if (snapshot.isPresent()) {
+                (length == key.modificationUuids().size() ? hitCounter : partialHitCounter).increment();
+                return Optional.of(new NetworkState(prefix, read(snapshot.get())));
+            }
+        }
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Get the number of modifications of the closest cached network state, without copying it.
+     *
+     * @param key requested network state
+     * @return the length of the longest cached prefix of the requested modifications, or zero if none is cached
+     */
+    public int getClosestStateLength(NetworkStateKey key) {
+        if (!enabled) {
+            return 0;
+        }
+        for (int length = key.modificationUuids().size(); length > 0; length--) {
+            if (cache.getWeight(key.prefix(length)).isPresent()) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Cache a snapshot of a network state, unless it is cached already, so that later changes to the given network do
+     * not affect the cache.
+     */
+    public void putState(NetworkStateKey key, Network network) {
+        if (!enabled || key.modificationUuids().isEmpty() || cache.getWeight(key).isPresent()) {
+            return;
+        }
+        if (!cache.put(key, write(network))) {
+            LOGGER.warn("Modified network of case {} is too large to be cached", key.caseUuid());
+        }
+    }
+
+    /**
+     * Evict the cached network states to which a modification was applied, as it may have been updated since.
+     *
+     * @param modificationUuid uuid of the updated modification
+     */
+    public void invalidate(UUID modificationUuid) {
+        int evictedCount = cache.invalidateIf((key, snapshot) -> key.modificationUuids().contains(modificationUuid));
+        LOGGER.debug("{} cached network states invalidated by update of element {}", evictedCount, modificationUuid);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateIf((key, snapshot) -> true);
+    }
+
+    private byte[] write(Network network) {
+        return copyTimer.record(() -> {
+            ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+            NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), snapshot);
+            return snapshot.toByteArray();
+        });
+    }
+
+    private Network read(byte[] snapshot) {
+        return copyTimer.record(() -> NetworkSerDe.read(new ByteArrayInputStream(snapshot), new ImportOptions().setFormat(TreeDataFormat.BIN), null));
+    }
+
+    private void onEviction(NetworkStateKey key, byte[] snapshot) {
+        LOGGER.info("Network of case {} with {} modifications evicted from cache", key.caseUuid(), key.modificationUuids().size());
+        evictionCounter.increment();
+    }
+}
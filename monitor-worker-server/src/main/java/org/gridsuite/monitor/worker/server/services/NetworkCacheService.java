@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.commons.report.TypedValue;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.gridsuite.monitor.worker.server.report.MonitorWorkerServerReportResourceBundle;
+import org.gridsuite.monitor.worker.server.utils.WeightedLruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the networks imported from cases in memory, so that executions on the same case do not download and
+ * convert it again.
+ * <p>
+ * The cached networks are never handed out: each call returns a working copy which can be freely modified, the copy
+ * time being measured. A network which is not cached is handed out as imported, without copying it.
+ * The heap footprint of a network is estimated from its number of identifiables, the estimated size of an
+ * identifiable being configurable to match the actual heap footprint of the networks. A maximum size of zero disables
+ * the cache. Without a configured maximum size, the cache is bounded by a fraction of the maximum heap, as the cached
+ * networks are counted as used heap by the admission control of the execution pool.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class NetworkCacheService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkCacheService.class);
+
+    private static final String CACHE_REQUESTS_METER = "monitor.worker.network.cache.requests";
+
+    private final NetworkConversionService networkConversionService;
+    private final boolean enabled;
+    private final long bytesPerIdentifiable;
+    private final WeightedLruCache<UUID, Network> cache;
+    private final Map<UUID, CompletableFuture<Network>> loadingNetworks = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Timer copyTimer;
+
+    @Autowired
+    public NetworkCacheService(NetworkConversionService networkConversionService,
+                               MeterRegistry meterRegistry,
+                               @Value("${worker.network-cache.max-size:#{null}}") DataSize maxSize,
+                               @Value("${worker.network-cache.heap-fraction:0.1}") double heapFraction,
+                               @Value("${worker.network-cache.bytes-per-identifiable:2KB}") DataSize bytesPerIdentifiable) {
+        this(networkConversionService, meterRegistry, getMaxSize(maxSize, heapFraction), bytesPerIdentifiable);
+    }
+
+    NetworkCacheService(NetworkConversionService networkConversionService,
+                        MeterRegistry meterRegistry,
+                        DataSize maxSize,
+                        DataSize bytesPerIdentifiable) {
+        if (bytesPerIdentifiable.toBytes() <= 0) {
+            throw new IllegalArgumentException("Estimated size of a network identifiable must be positive");
+        }
+        this.networkConversionService = networkConversionService;
+        this.enabled = maxSize.toBytes() > 0;
+        this.bytesPerIdentifiable = bytesPerIdentifiable.toBytes();
+        this.cache = new WeightedLruCache<>(maxSize.toBytes(), this::estimateSize, this::onEviction);
+        this.hitCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("monitor.worker.network.cache.evictions").register(meterRegistry);
+        this.copyTimer = Timer.builder("monitor.worker.network.cache.copy").register(meterRegistry);
+        Gauge.builder("monitor.worker.network.cache.size", cache, WeightedLruCache::getTotalWeight)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param maxSize configured maximum size of a network cache, or {@code null} if not configured
+     * @param heapFraction fraction of the maximum heap used when no maximum size is configured
+     * @return the maximum size of the cache, zero disabling it when the maximum heap is not bounded
+     */
+    static DataSize getMaxSize(DataSize maxSize, double heapFraction) {
+        if (maxSize != null) {
+            return maxSize;
+        }
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        return DataSize.ofBytes(maxHeap == Long.MAX_VALUE ? 0 : (long) (maxHeap * heapFraction));
+    }
+
+    /**
+     * Get a working copy of the network of a case, importing it if it is not cached yet.
+     *
+     * @param caseUuid uuid of the case to import
+     * @param reporter report node receiving the import logs
+     * @return a network owned by the caller, independent of the cached one
+     */
+    public Network getNetwork(UUID caseUuid, ReportNode reporter) {
+        if (!enabled) {
+            return networkConversionService.createNetwork(caseUuid, reporter);
+        }
+
+        Optional<Network> cachedNetwork = cache.get(caseUuid);
+        if (cachedNetwork.isPresent()) {
+            hitCounter.increment();
+            reportLoadedFromCache(caseUuid, reporter);
+            return copy(cachedNetwork.get());
+        }
+        missCounter.increment();
+        return loadNetwork(caseUuid, reporter);
+    }
+
+    /**
+     * Get the estimated heap size of the network of a case, if it is cached.
+     */
+    public OptionalLong getEstimatedSize(UUID caseUuid) {
+        return enabled ? cache.getWeight(caseUuid) : OptionalLong.empty();
+    }
+
+    private Network loadNetwork(UUID caseUuid, ReportNode reporter) {
+        CompletableFuture<Network> loading = new CompletableFuture<>();
+        CompletableFuture<Network> ongoingLoading = loadingNetworks.putIfAbsent(caseUuid, loading);
+        if (ongoingLoading != null) {
+            // another execution is importing the same case, wait for it instead of importing it twice
+            Network network = joinLoading(ongoingLoading);
+            if (network == null) {
+                // not cached, so that it is owned by the execution which imported it and cannot be copied
+                return networkConversionService.createNetwork(caseUuid, reporter);
+            }
+            reportLoadedFromCache(caseUuid, reporter);
+            return copy(network);
+        }
+
+        try {
+            Network network = networkConversionService.createNetwork(caseUuid, reporter);
+            if (cache.put(caseUuid, network)) {
+                loading.complete(network);
+                return copy(network);
+            }
+            LOGGER.warn("Network of case {} is too large to be cached", caseUuid);
+            loading.complete(null);
+            return network;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadingNetworks.remove(caseUuid, loading);
+        }
+    }
+
+    private Network copy(Network network) {
+        return copyTimer.record(() -> NetworkSerDe.copy(network, TreeDataFormat.BIN));
+    }
+
+    private static Network joinLoading(CompletableFuture<Network> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+    }
+
+    private long estimateSize(Network network) {
+        return network.getIdentifiables().size() * bytesPerIdentifiable;
+    }
+
+    private void onEviction(UUID caseUuid, Network network) {
+        LOGGER.info("Network of case {} evicted from cache", caseUuid);
+        evictionCounter.increment();
+    }
+
+    private static void reportLoadedFromCache(UUID caseUuid, ReportNode reporter) {
+        reporter.newReportNode()
+            .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+            .withMessageTemplate("monitor.worker.server.importCase.cached")
+            .withUntypedValue("caseUuid", caseUuid.toString())
+            .withSeverity(TypedValue.INFO_SEVERITY)
+            .add();
+    }
+}
@@ -7,6 +7,7 @@
 package org.gridsuite.monitor.worker.server.services;
 
 import com.powsybl.cases.datasource.CaseDataSourceClient;
+import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Network;
 import org.slf4j.Logger;
@@ -25,14 +26,29 @@ public class NetworkConversionService {
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkConversionService.class);
 
     private final String caseServerBaseUri;
+    private final CaseFileCacheService caseFileCacheService;
+    private final NetworkSnapshotCacheService networkSnapshotCacheService;
 
-    public NetworkConversionService(@Value("${powsybl.services.case-server.base-uri:http://case-server/}") String caseServerBaseUri) {
+    public NetworkConversionService(@Value("${powsybl.services.case-server.base-uri:http://case-server/}") String caseServerBaseUri,
+                                    CaseFileCacheService caseFileCacheService,
+                                    NetworkSnapshotCacheService networkSnapshotCacheService) {
         this.caseServerBaseUri = caseServerBaseUri;
+        this.caseFileCacheService = caseFileCacheService;
+        this.networkSnapshotCacheService = networkSnapshotCacheService;
     }
 
     public Network createNetwork(UUID caseUuid, ReportNode reporter) {
         LOGGER.info("Creating network");
+        Properties importParameters = new Properties();
+        return networkSnapshotCacheService.getNetwork(caseUuid, importParameters, reporter,
+            () -> importNetwork(caseUuid, importParameters, reporter));
+    }
+
+    private Network importNetwork(UUID caseUuid, Properties importParameters, ReportNode reporter) {
+        if (caseFileCacheService.isEnabled()) {
+            return caseFileCacheService.readCase(caseUuid, caseFile -> Network.read(DataSource.fromPath(caseFile), importParameters, reporter));
+        }
         CaseDataSourceClient dataSource = new CaseDataSourceClient(caseServerBaseUri, caseUuid);
-        return Network.read(dataSource, new Properties(), reporter);
+        return Network.read(dataSource, importParameters, reporter);
     }
 }
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.commons.report.TypedValue;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.ImportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.gridsuite.monitor.worker.server.report.MonitorWorkerServerReportResourceBundle;
+import org.gridsuite.monitor.worker.server.utils.DiskLruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Keeps binary IIDM snapshots of the networks imported from cases on local disk, so that executions on the same case
+ * deserialize the snapshot instead of converting the case again.
+ * <p>
+ * Snapshots are keyed by case uuid and import parameters. The time needed to load a network is recorded with its
+ * source, either the snapshot or the full import, to compare both.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class NetworkSnapshotCacheService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkSnapshotCacheService.class);
+
+    private static final String CACHE_REQUESTS_METER = "monitor.worker.network.snapshot.cache.requests";
+    private static final String NETWORK_LOAD_METER = "monitor.worker.network.load";
+    private static final String SNAPSHOT_FILE_NAME = "network.biidm";
+
+    private final boolean enabled;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Timer snapshotLoadTimer;
+    private final Timer importTimer;
+    private final DiskLruCache cache;
+
+    public NetworkSnapshotCacheService(MeterRegistry meterRegistry,
+                                       @Value("${worker.network-snapshot-cache.enabled:false}") boolean enabled,
+                                       @Value("${worker.network-snapshot-cache.directory:${java.io.tmpdir}/monitor-network-snapshot-cache}") Path cacheDirectory,
+                                       @Value("${worker.network-snapshot-cache.max-size:10GB}") DataSize maxSize) {
+        this.enabled = enabled;
+        this.hitCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_REQUESTS_METER).tag("result", "miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("monitor.worker.network.snapshot.cache.evictions").register(meterRegistry);
+        this.snapshotLoadTimer = Timer.builder(NETWORK_LOAD_METER).tag("source", "snapshot").register(meterRegistry);
+        this.importTimer = Timer.builder(NETWORK_LOAD_METER).tag("source", "import").register(meterRegistry);
+        this.cache = enabled ? new DiskLruCache(cacheDirectory, maxSize.toBytes(), key -> evictionCounter.increment()) : null;
+    }
+
+    /**
+     * Load the network of a case from its snapshot, or import it and save its snapshot if there is none.
+     *
+     * @param caseUuid uuid of the imported case
+     * @param importParameters parameters of the import
+     * @param reporter report node receiving the import logs
+     * @param importer function importing the network from the case
+     * @return the loaded network
+     */
+    public Network getNetwork(UUID caseUuid, Properties importParameters, ReportNode reporter, Supplier<Network> importer) {
+        if (!enabled) {
+            return importTimer.record(importer);
+        }
+
+        String key = getSnapshotKey(caseUuid, importParameters);
+        Timer.Sample sample = Timer.start();
+        Optional<Network> snapshot = cache.read(key, file -> NetworkSerDe.read(file, new ImportOptions().setFormat(TreeDataFormat.BIN)));
+        if (snapshot.isPresent()) {
+            sample.stop(snapshotLoadTimer);
+            hitCounter.increment();
+            reporter.newReportNode()
+                .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+                .withMessageTemplate("monitor.worker.server.importCase.snapshot")
+                .withUntypedValue("caseUuid", caseUuid.toString())
+                .withSeverity(TypedValue.INFO_SEVERITY)
+                .add();
+            return snapshot.get();
+        }
+
+        missCounter.increment();
+        Network network = importTimer.record(importer);
+        try {
+            cache.write(key, directory -> {
+                Path file = directory.resolve(SNAPSHOT_FILE_NAME);
+                NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), file);
+                return file;
+            }, file -> null);
+        } catch (IOException | RuntimeException e) {
+            // the snapshot only speeds up later executions, failing to save it must not fail this one
+            LOGGER.warn("Could not save snapshot of network of case {}", caseUuid, e);
+        }
+        return network;
+    }
+
+    private static String getSnapshotKey(UUID caseUuid, Properties importParameters) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        // parameters are sorted so that the key does not depend on their insertion order
+        String parameters = new TreeMap<>(importParameters).toString();
+        String parametersHash = HexFormat.of().formatHex(digest.digest(parameters.getBytes(StandardCharsets.UTF_8)));
+        return caseUuid + "-" + parametersHash.substring(0, 16);
+    }
+}
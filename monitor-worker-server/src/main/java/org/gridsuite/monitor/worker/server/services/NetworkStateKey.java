@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import org.gridsuite.monitor.commons.types.processconfig.ModificationInfo;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Identifies the state of a network obtained by applying an ordered list of modifications to the network of a case.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public record NetworkStateKey(UUID caseUuid, List<UUID> modificationUuids) {
+
+    public NetworkStateKey {
+        Objects.requireNonNull(caseUuid);
+        modificationUuids = List.copyOf(modificationUuids);
+    }
+
+    /**
+     * @return the key of the state obtained by applying the active modifications of a process configuration
+     */
+    public static NetworkStateKey ofActiveModifications(UUID caseUuid, List<ModificationInfo> modifications) {
+        return new NetworkStateKey(caseUuid, modifications == null ? List.of() : modifications.stream()
+            .filter(ModificationInfo::active)
+            .map(ModificationInfo::modificationUuid)
+            .toList());
+    }
+
+    /**
+     * @return the key of the state obtained by applying only the first {@code length} modifications
+     */
+    public NetworkStateKey prefix(int length) {
+        return new NetworkStateKey(caseUuid, modificationUuids.subList(0, length));
+    }
+}
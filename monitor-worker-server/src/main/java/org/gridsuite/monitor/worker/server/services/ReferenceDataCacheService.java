@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import org.gridsuite.monitor.worker.server.config.ReferenceDataCacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Invalidates the cached reference data when it is updated on the server owning it.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ReferenceDataCacheService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataCacheService.class);
+
+    private final CacheManager cacheManager;
+    private final ContingencyCacheService contingencyCacheService;
+    private final ModifiedNetworkCacheService modifiedNetworkCacheService;
+
+    public ReferenceDataCacheService(CacheManager cacheManager, ContingencyCacheService contingencyCacheService,
+                                     ModifiedNetworkCacheService modifiedNetworkCacheService) {
+        this.cacheManager = cacheManager;
+        this.contingencyCacheService = contingencyCacheService;
+        this.modifiedNetworkCacheService = modifiedNetworkCacheService;
+    }
+
+    /**
+     * Evict the cached entries referencing an element, either by its uuid or in a list of uuids, the contingencies
+     * evaluated from it and the modified networks to which it was applied.
+     *
+     * @param elementUuid uuid of the updated parameters, contingency list, filter or modification
+     */
+    public void invalidate(UUID elementUuid) {
+        LOGGER.info("Invalidating cached reference data of element {}", elementUuid);
+        for (String cacheName : ReferenceDataCacheConfig.CACHE_NAMES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                caffeineCache.getNativeCache().asMap().keySet().removeIf(key -> isReferencing(key, elementUuid));
+            } else if (cache != null) {
+                cache.clear();
+            }
+        }
+        contingencyCacheService.invalidate(elementUuid);
+        modifiedNetworkCacheService.invalidate(elementUuid);
+    }
+
+    public void invalidateAll() {
+        LOGGER.info("Invalidating all cached reference data");
+        for (String cacheName : ReferenceDataCacheConfig.CACHE_NAMES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        contingencyCacheService.invalidateAll();
+        modifiedNetworkCacheService.invalidateAll();
+    }
+
+    private static boolean isReferencing(Object key, UUID elementUuid) {
+        return elementUuid.equals(key) || key instanceof Collection<?> uuids && uuids.contains(elementUuid);
+    }
+}
@@ -0,0 +1,276 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the computed results on local disk until they are uploaded, so that a failed upload does not force the
+ * computation to be run again.
+ * <p>
+ * Results are spooled as gzip compressed JSON under {@code <directory>/<executionId>/<stepType>}, out of the heap
+ * while they wait for their upload. Uploads are retried with an exponential backoff, and a result whose upload
+ * still fails stays spooled, so that a replayed execution on the same worker only has to upload it. Spooled results
+ * older than the retention are deleted at startup.
+ * <p>
+ * A result whose uuid is chosen by the server, for which sending it again would save it twice, is only sent again
+ * when the previous attempt did not reach the server, and the uuid returned by the server is recorded next to the
+ * spooled file until the result is removed from the spool.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class ResultSpoolService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultSpoolService.class);
+
+    private static final String SPOOLED_RESULT_SUFFIX = ".json.gz";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final String UPLOADED_ID_SUFFIX = ".uploaded";
+
+    /**
+     * @param file compressed JSON file of the result
+     * @param id id of the spooled result, used as result uuid when the worker chooses it, so that a replayed
+     *           execution saves its result under the same uuid
+     */
+    public record SpooledResult(Path file, UUID id) { }
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration retention;
+
+    public ResultSpoolService(ObjectMapper objectMapper,
+                              @Value("${worker.result-spool.directory:${java.io.tmpdir}/monitor-worker/result-spool}") String directory,
+                              @Value("${worker.result-spool.max-attempts:5}") int maxAttempts,
+                              @Value("${worker.result-spool.initial-backoff:5s}") Duration initialBackoff,
+                              @Value("${worker.result-spool.retention:7d}") Duration retention) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.initialBackoff = initialBackoff;
+        this.retention = retention;
+    }
+
+    @PostConstruct
+    public void deleteExpiredResults() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Instant expiration = Instant.now().minus(retention);
+        try (Stream<Path> executionDirectories = Files.list(directory)) {
+            for (Path executionDirectory : executionDirectories.toList()) {
+                if (Files.getLastModifiedTime(executionDirectory).toInstant().isBefore(expiration)) {
+                    LOGGER.warn("Spooled results of execution {} expired without being uploaded", executionDirectory.getFileName());
+                    FileUtils.deleteDirectory(executionDirectory.toFile());
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error deleting expired spooled results in {}", directory, e);
+        }
+    }
+
+    /**
+     * Find the result of a step spooled by a previous attempt of the execution.
+     */
+    public Optional<SpooledResult> find(UUID executionId, String stepType) {
+        Path stepDirectory = getStepDirectory(executionId, stepType);
+        if (!Files.isDirectory(stepDirectory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(stepDirectory)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(SPOOLED_RESULT_SUFFIX))
+                .findFirst()
+                .map(file -> {
+                    String fileName = file.getFileName().toString();
+                    return new SpooledResult(file, UUID.fromString(fileName.substring(0, fileName.length() - SPOOLED_RESULT_SUFFIX.length())));
+                });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write the result of a step to the spool. The file only appears once completely written, so that a worker
+     * stopped while spooling does not leave a truncated result.
+     */
+    public SpooledResult spool(UUID executionId, String stepType, Object result) {
+        UUID id = UUID.randomUUID();
+        Path stepDirectory = getStepDirectory(executionId, stepType);
+        Path file = stepDirectory.resolve(id + SPOOLED_RESULT_SUFFIX);
+        Path temporaryFile = stepDirectory.resolve(id + TEMPORARY_SUFFIX);
+        try {
+            Files.createDirectories(stepDirectory);
+            try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(temporaryFile))) {
+                objectMapper.writeValue(outputStream, result);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+            return new SpooledResult(file, id);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(temporaryFile);
+        }
+    }
+
+    /**
+     * Upload a spooled result, retrying with an exponential backoff when the server fails or cannot be reached.
+     * The result is removed from the spool once uploaded.
+     *
+     * @param uploader uploads the compressed JSON file of the result, and must be idempotent, as an attempt failing
+     *                 after the server saved the result is retried, see {@link #uploadCreatingId} otherwise
+     * @return the value returned by the uploader
+     * @throws RestClientException the exception of the last attempt, in which case the result stays spooled
+     */
+    public <T> T upload(UUID executionId, SpooledResult spooledResult, Function<Path, T> uploader) {
+        return upload(executionId, spooledResult, uploader, e -> true);
+    }
+
+    /**
+     * Upload a spooled result whose uuid is chosen by the server, so that an upload is not idempotent. Only the
+     * attempts which did not reach the server are retried, as the server may have saved the result of another failed
+     * attempt. The uuid returned by the server is recorded next to the spooled file, so that a replayed execution
+     * finding the result still spooled returns it instead of saving the result again.
+     *
+     * @param uploader uploads the compressed JSON file of the result and returns the uuid chosen by the server
+     * @return the uuid of the uploaded result
+     * @throws RestClientException the exception of the last attempt, in which case the result stays spooled
+     */
+    public UUID uploadCreatingId(UUID executionId, SpooledResult spooledResult, Function<Path, UUID> uploader) {
+        Optional<UUID> uploadedId = findUploadedId(spooledResult);
+        if (uploadedId.isPresent()) {
+            LOGGER.info("Execution id: {} - Spooled result {} was already uploaded as {}", executionId, spooledResult.id(), uploadedId.get());
+            delete(executionId, spooledResult);
+            return uploadedId.get();
+        }
+        return upload(executionId, spooledResult, file -> {
+            UUID id = uploader.apply(file);
+            recordUploadedId(spooledResult, id);
+            return id;
+        }, ResultSpoolService::isNotReceived);
+    }
+
+    private <T> T upload(UUID executionId, SpooledResult spooledResult, Function<Path, T> uploader, Predicate<RestClientException> retryable) {
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T uploaded = uploader.apply(spooledResult.file());
+                delete(executionId, spooledResult);
+                return uploaded;
+            } catch (HttpClientErrorException e) {
+                // the request is refused, sending it again would not help
+                throw e;
+            } catch (RestClientException e) {
+                if (attempt >= maxAttempts || !retryable.test(e)) {
+                    throw e;
+                }
+                LOGGER.warn("Execution id: {} - Upload of spooled result {} failed, attempt {}/{}, retrying in {}",
+                    executionId, spooledResult.id(), attempt, maxAttempts, backoff, e);
+                sleep(backoff);
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    /**
+     * Whether a failed request surely did not reach the server: the connection could not be opened, or the server
+     * was unavailable.
+     */
+    private static boolean isNotReceived(RestClientException e) {
+        return e instanceof ResourceAccessException && (e.getCause() instanceof ConnectException || e.getCause() instanceof UnknownHostException)
+            || e instanceof HttpServerErrorException.ServiceUnavailable;
+    }
+
+    private static Path getUploadedIdFile(SpooledResult spooledResult) {
+        return spooledResult.file().resolveSibling(spooledResult.id() + UPLOADED_ID_SUFFIX);
+    }
+
+    private static Optional<UUID> findUploadedId(SpooledResult spooledResult) {
+        Path uploadedIdFile = getUploadedIdFile(spooledResult);
+        if (!Files.exists(uploadedIdFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(Files.readString(uploadedIdFile).trim()));
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Could not read uploaded id of spooled result {}", spooledResult.id(), e);
+            return Optional.empty();
+        }
+    }
+
+    private static void recordUploadedId(SpooledResult spooledResult, UUID id) {
+        try {
+            Files.writeString(getUploadedIdFile(spooledResult), id.toString());
+        } catch (IOException e) {
+            // the result is uploaded, it is only saved again if it cannot be removed from the spool either
+            LOGGER.warn("Could not record uploaded id {} of spooled result {}", id, spooledResult.id(), e);
+        }
+    }
+
+    private Path getStepDirectory(UUID executionId, String stepType) {
+        return directory.resolve(executionId.toString()).resolve(stepType);
+    }
+
+    private static void delete(UUID executionId, SpooledResult spooledResult) {
+        Path stepDirectory = spooledResult.file().getParent();
+        try {
+            FileUtils.deleteDirectory(stepDirectory.toFile());
+            Files.deleteIfExists(stepDirectory.getParent());
+        } catch (DirectoryNotEmptyException e) {
+            // results of other steps of the execution are still spooled
+        } catch (IOException e) {
+            // the directory is deleted at a later startup once expired
+            LOGGER.warn("Execution id: {} - Could not delete spooled results", executionId, e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete temporary spool file {}", file, e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to upload a spooled result", e);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.function.ThrowingConsumer;
+import org.springframework.util.function.ThrowingFunction;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -22,6 +23,7 @@ import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 /**
@@ -65,4 +67,21 @@ public class S3Service {
             }
         }
     }
+
+    /**
+     * Read a file exported by {@link #exportCompressedToS3}.
+     */
+    public <T> T importCompressedFromS3(String s3Key, ThrowingFunction<InputStream, T> reader) throws IOException {
+        try (InputStream in = new GZIPInputStream(s3RestClient.downloadFile(s3Key))) {
+            return reader.applyWithException(in);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Error reading file " + s3Key + " from S3: " + e.getMessage(), e);
+        }
+    }
+
+    public void deleteDirectoryFromS3(String s3Prefix) throws IOException {
+        s3RestClient.deleteDirectory(s3Prefix);
+    }
 }
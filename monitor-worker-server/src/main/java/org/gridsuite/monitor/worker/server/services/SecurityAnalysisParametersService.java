@@ -6,8 +6,11 @@
  */
 package org.gridsuite.monitor.worker.server.services;
 
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.commons.report.TypedValue;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.security.SecurityAnalysisParameters;
 import org.gridsuite.actions.ContingencyListEvaluator;
 import org.gridsuite.actions.dto.contingency.AbstractContingencyList;
@@ -16,16 +19,27 @@ import org.gridsuite.monitor.worker.server.clients.ActionsRestClient;
 import org.gridsuite.monitor.worker.server.clients.FilterRestClient;
 import org.gridsuite.monitor.worker.server.clients.LoadFlowRestClient;
 import org.gridsuite.monitor.worker.server.clients.SecurityAnalysisRestClient;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
 import org.gridsuite.monitor.worker.server.dto.parameters.loadflow.LoadFlowParametersInfos;
 import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.ContingencyListsInfos;
 import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisInputData;
+import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisParametersInfos;
 import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisParametersValues;
+import org.gridsuite.monitor.worker.server.report.MonitorWorkerServerReportResourceBundle;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * @author Franck Lecyer <franck.lecuyer at rte-france.com>
@@ -36,18 +50,27 @@ public class SecurityAnalysisParametersService {
     private final LoadFlowRestClient loadFlowRestClient;
     private final ActionsRestClient actionsRestClient;
     private final FilterRestClient filterRestClient;
+    private final ComputationService computationService;
+    private final ContingencyCacheService contingencyCacheService;
 
     public SecurityAnalysisParametersService(SecurityAnalysisRestClient securityAnalysisRestClient,
                                              LoadFlowRestClient loadFlowRestClient,
                                              ActionsRestClient actionsRestClient,
-                                             FilterRestClient filterRestClient) {
+                                             FilterRestClient filterRestClient,
+                                             ComputationService computationService,
+                                             ContingencyCacheService contingencyCacheService) {
         this.securityAnalysisRestClient = securityAnalysisRestClient;
         this.loadFlowRestClient = loadFlowRestClient;
         this.actionsRestClient = actionsRestClient;
         this.filterRestClient = filterRestClient;
+        this.computationService = computationService;
+        this.contingencyCacheService = contingencyCacheService;
     }
 
-    public SecurityAnalysisInputData buildSecurityAnalysisInputData(UUID securityAnalysisParametersUuid, UUID loadflowParametersUuid, Network network) {
+    /**
+     * Fetch the parameters and contingency lists of a security analysis, which do not depend on the network.
+     */
+    public SecurityAnalysisParametersInfos getSecurityAnalysisParametersInfos(UUID securityAnalysisParametersUuid, UUID loadflowParametersUuid) {
         SecurityAnalysisParametersValues securityAnalysisParametersValues = securityAnalysisRestClient.getParameters(securityAnalysisParametersUuid);
         LoadFlowParametersInfos loadFlowParametersInfos = loadFlowRestClient.getParameters(loadflowParametersUuid);
 
@@ -60,19 +83,150 @@ public class SecurityAnalysisParametersService {
 
         List<AbstractContingencyList> persistentContingencyLists = actionsRestClient.getPersistentContingencyLists(contingenciesListUuids);
 
-        List<Contingency> contingencyList = new ArrayList<>();
-        ContingencyListEvaluator contingencyListEvaluator = new ContingencyListEvaluator(filterRestClient);
+        return new SecurityAnalysisParametersInfos(securityAnalysisParameters, persistentContingencyLists);
+    }
+
+    /**
+     * Evaluate the contingency lists of a security analysis on the network.
+     * <p>
+     * Lists whose contingencies are not cached are evaluated concurrently on the computation pool. As a network is not
+     * thread-safe, each thread evaluates its lists on its own variant of the network, cloned from the working one.
+     * Contingencies are returned in the order of the lists, and a contingency defined in several lists is only kept
+     * once, in the first list defining it.
+     *
+     * @param networkStateKey state of the network, used to reuse the contingencies evaluated by previous executions on
+     *                        the same state, or {@code null} if it is unknown
+     * @param cancellationToken cancellation token of the execution, interrupting the evaluations
+     */
+    public SecurityAnalysisInputData buildSecurityAnalysisInputData(SecurityAnalysisParametersInfos parametersInfos, Network network,
+                                                                    NetworkStateKey networkStateKey, ReportNode reportNode,
+                                                                    CancellationToken cancellationToken) {
+        List<AbstractContingencyList> contingencyLists = parametersInfos.contingencyLists();
+        List<List<Contingency>> contingenciesPerList = new ArrayList<>(Collections.nCopies(contingencyLists.size(), null));
+        List<Integer> listIndexesToEvaluate = new ArrayList<>();
+        for (int index = 0; index < contingencyLists.size(); index++) {
+            Optional<List<Contingency>> cachedContingencies = getCachedContingencies(contingencyLists.get(index), networkStateKey, reportNode);
+            if (cachedContingencies.isPresent()) {
+                contingenciesPerList.set(index, cachedContingencies.get());
+            } else {
+                listIndexesToEvaluate.add(index);
+            }
+        }
+        evaluateContingencyLists(contingencyLists, listIndexesToEvaluate, network, reportNode, cancellationToken)
+            .forEach((index, contingencies) -> {
+                contingenciesPerList.set(index, contingencies);
+                if (networkStateKey != null) {
+                    contingencyCacheService.putContingencies(networkStateKey, contingencyLists.get(index), contingencies);
+                }
+            });
+
+        Map<String, Contingency> contingenciesById = new LinkedHashMap<>();
+        int duplicatesCount = 0;
+        for (List<Contingency> contingencies : contingenciesPerList) {
+            for (Contingency contingency : contingencies) {
+                if (contingenciesById.putIfAbsent(contingency.getId(), contingency) != null) {
+                    duplicatesCount++;
+                }
+            }
+        }
+        if (duplicatesCount > 0) {
+            reportNode.newReportNode()
+                .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+                .withMessageTemplate("monitor.worker.server.securityanalysis.contingencies.duplicated")
+                .withUntypedValue("duplicatesCount", duplicatesCount)
+                .withSeverity(TypedValue.INFO_SEVERITY)
+                .add();
+        }
+
+        return new SecurityAnalysisInputData(parametersInfos.securityAnalysisParameters(), new ArrayList<>(contingenciesById.values()));
+    }
 
-        persistentContingencyLists.forEach(persistentContingencyList -> {
-            List<Contingency> contingencies = contingencyListEvaluator.evaluateContingencyList(persistentContingencyList, network)
-                .stream()
-                .map(ContingencyInfos::getContingency)
-                .filter(Objects::nonNull)
-                .toList();
-            contingencyList.addAll(contingencies);
-        });
+    private Optional<List<Contingency>> getCachedContingencies(AbstractContingencyList persistentContingencyList, NetworkStateKey networkStateKey,
+                                                               ReportNode reportNode) {
+        if (networkStateKey == null) {
+            return Optional.empty();
+        }
+        Optional<List<Contingency>> cachedContingencies = contingencyCacheService.getContingencies(networkStateKey, persistentContingencyList);
+        cachedContingencies.ifPresent(contingencies -> reportNode.newReportNode()
+            .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+            .withMessageTemplate("monitor.worker.server.securityanalysis.contingencyList.cached")
+            .withUntypedValue("contingencyListUuid", String.valueOf(persistentContingencyList.getId()))
+            .withUntypedValue("contingenciesCount", contingencies.size())
+            .withSeverity(TypedValue.INFO_SEVERITY)
+            .add());
+        return cachedContingencies;
+    }
+
+    /**
+     * @return the contingencies of the evaluated lists, by index of the list
+     */
+    private Map<Integer, List<Contingency>> evaluateContingencyLists(List<AbstractContingencyList> contingencyLists, List<Integer> listIndexes,
+                                                                     Network network, ReportNode reportNode, CancellationToken cancellationToken) {
+        Map<Integer, List<Contingency>> contingenciesPerList = new ConcurrentHashMap<>();
+        if (listIndexes.isEmpty()) {
+            return contingenciesPerList;
+        }
+        int threadCount = Math.min(listIndexes.size(), computationService.getParallelism());
+        if (threadCount <= 1) {
+            computationService.runComputation(() -> {
+                listIndexes.forEach(index -> contingenciesPerList.put(index, evaluateContingencyList(contingencyLists.get(index), network, reportNode)));
+                return null;
+            }, cancellationToken);
+            return contingenciesPerList;
+        }
+
+        VariantManager variantManager = network.getVariantManager();
+        String variantIdPrefix = "contingency-lists-" + UUID.randomUUID() + "-";
+        List<String> variantIds = IntStream.range(0, threadCount).mapToObj(index -> variantIdPrefix + index).toList();
+        boolean multiThreadAccessAllowed = variantManager.isVariantMultiThreadAccessAllowed();
+        variantManager.cloneVariant(variantManager.getWorkingVariantId(), variantIds);
+        variantManager.allowVariantMultiThreadAccess(true);
+        try {
+            List<Supplier<Void>> evaluations = new ArrayList<>(threadCount);
+            for (int thread = 0; thread < threadCount; thread++) {
+                String variantId = variantIds.get(thread);
+                // the lists are spread over the threads in turn
+                List<Integer> threadListIndexes = new ArrayList<>();
+                for (int position = thread; position < listIndexes.size(); position += threadCount) {
+                    threadListIndexes.add(listIndexes.get(position));
+                }
+                evaluations.add(() -> {
+                    // the working variant is local to the thread while multi-thread access is allowed
+                    variantManager.setWorkingVariant(variantId);
+                    threadListIndexes.forEach(index -> contingenciesPerList.put(index, evaluateContingencyList(contingencyLists.get(index), network, reportNode)));
+                    return null;
+                });
+            }
+            computationService.runComputations(evaluations, cancellationToken);
+            return contingenciesPerList;
+        } finally {
+            // the evaluations are stopped once runComputations returns, even when cancelled
+            variantManager.allowVariantMultiThreadAccess(multiThreadAccessAllowed);
+            variantIds.forEach(variantManager::removeVariant);
+        }
+    }
 
-        return new SecurityAnalysisInputData(securityAnalysisParameters, contingencyList);
+    private List<Contingency> evaluateContingencyList(AbstractContingencyList persistentContingencyList, Network network, ReportNode reportNode) {
+        long start = System.nanoTime();
+        // the evaluator is not shared between threads, the filters are resolved through the thread-safe rest client
+        List<Contingency> contingencies = new ContingencyListEvaluator(filterRestClient).evaluateContingencyList(persistentContingencyList, network)
+            .stream()
+            .map(ContingencyInfos::getContingency)
+            .filter(Objects::nonNull)
+            .toList();
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // report nodes are not thread-safe
+        synchronized (reportNode) {
+            reportNode.newReportNode()
+                .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+                .withMessageTemplate("monitor.worker.server.securityanalysis.contingencyList.evaluated")
+                .withUntypedValue("contingencyListUuid", String.valueOf(persistentContingencyList.getId()))
+                .withUntypedValue("duration", duration)
+                .withUntypedValue("contingenciesCount", contingencies.size())
+                .withSeverity(TypedValue.INFO_SEVERITY)
+                .add();
+        }
+        return contingencies;
     }
 
     private static SecurityAnalysisParameters buildSecurityAnalysisParameters(LoadFlowParametersInfos loadFlowParametersInfos,
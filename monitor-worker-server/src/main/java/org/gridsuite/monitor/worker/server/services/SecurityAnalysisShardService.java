@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.security.SecurityAnalysisResult;
+import org.gridsuite.monitor.worker.server.utils.S3PathResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Exchanges the contingencies and the results of the shards of a security analysis through S3.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@Service
+public class SecurityAnalysisShardService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SecurityAnalysisShardService.class);
+
+    private static final String CONTINGENCIES_FILE_PREFIX = "contingencies";
+    private static final String RESULT_FILE_PREFIX = "result";
+    private static final String JSON_SUFFIX = ".json";
+
+    private final S3Service s3Service;
+    private final ObjectMapper objectMapper;
+
+    public SecurityAnalysisShardService(S3Service s3Service, ObjectMapper objectMapper) {
+        this.s3Service = s3Service;
+        this.objectMapper = objectMapper;
+    }
+
+    public void saveContingencyIds(UUID executionId, int shardIndex, List<String> contingencyIds) {
+        write(getFilePath(executionId, shardIndex, CONTINGENCIES_FILE_PREFIX), CONTINGENCIES_FILE_PREFIX, contingencyIds);
+    }
+
+    public List<String> getContingencyIds(UUID executionId, int shardIndex) {
+        return read(getFilePath(executionId, shardIndex, CONTINGENCIES_FILE_PREFIX), new TypeReference<>() { });
+    }
+
+    public void saveResult(UUID executionId, int shardIndex, SecurityAnalysisResult result) {
+        write(getFilePath(executionId, shardIndex, RESULT_FILE_PREFIX), RESULT_FILE_PREFIX, result);
+    }
+
+    public SecurityAnalysisResult getResult(UUID executionId, int shardIndex) {
+        return read(getFilePath(executionId, shardIndex, RESULT_FILE_PREFIX), new TypeReference<>() { });
+    }
+
+    /**
+     * Delete the files of all the shards of an execution, once their results are merged.
+     */
+    public void deleteShards(UUID executionId) {
+        try {
+            s3Service.deleteDirectoryFromS3(S3PathResolver.getExecutionShardsPath(executionId));
+        } catch (IOException e) {
+            // leftover files do not affect the execution
+            LOGGER.warn("Execution id: {} - Could not delete shards files", executionId, e);
+        }
+    }
+
+    private static String getFilePath(UUID executionId, int shardIndex, String fileNamePrefix) {
+        return S3PathResolver.getExecutionShardFilePath(executionId, shardIndex, fileNamePrefix + JSON_SUFFIX + ".gz");
+    }
+
+    private void write(String s3Key, String fileNamePrefix, Object value) {
+        try {
+            s3Service.exportCompressedToS3(s3Key, fileNamePrefix, JSON_SUFFIX, file -> objectMapper.writeValue(file.toFile(), value));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T read(String s3Key, TypeReference<T> type) {
+        try {
+            return s3Service.importCompressedFromS3(s3Key, in -> objectMapper.readValue(in, type));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
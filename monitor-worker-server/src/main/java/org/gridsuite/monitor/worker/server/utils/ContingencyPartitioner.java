@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.utils;
+
+import com.powsybl.contingency.Contingency;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Splits contingencies into parts of balanced computation cost, a contingency costing more the more elements it
+ * disconnects.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public final class ContingencyPartitioner {
+
+    private record Part(int index, List<Integer> contingencyIndexes, long cost) { }
+
+    private ContingencyPartitioner() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Assign each contingency, from the most to the least costly, to the part of lowest cost so far.
+     *
+     * @param contingencies contingencies to split
+     * @param partsCount number of parts
+     * @return the parts, possibly empty if there are fewer contingencies than parts, each keeping the order of the
+     * given contingencies
+     */
+    public static List<List<Contingency>> partition(List<Contingency> contingencies, int partsCount) {
+        if (partsCount < 1) {
+            throw new IllegalArgumentException("Number of parts must be at least 1");
+        }
+        PriorityQueue<Part> parts = new PriorityQueue<>(Comparator.comparingLong(Part::cost).thenComparingInt(Part::index));
+        IntStream.range(0, partsCount).forEach(i -> parts.add(new Part(i, new ArrayList<>(), 0)));
+
+        IntStream.range(0, contingencies.size()).boxed()
+            .sorted(Comparator.comparingLong((Integer i) -> getCost(contingencies.get(i))).reversed())
+            .forEachOrdered(i -> {
+                Part part = parts.poll();
+                part.contingencyIndexes().add(i);
+                parts.add(new Part(part.index(), part.contingencyIndexes(), part.cost() + getCost(contingencies.get(i))));
+            });
+
+        List<List<Contingency>> partitions = new ArrayList<>(partsCount);
+        IntStream.range(0, partsCount).forEach(i -> partitions.add(List.of()));
+        for (Part part : parts) {
+            partitions.set(part.index(), part.contingencyIndexes().stream().sorted().map(contingencies::get).toList());
+        }
+        return partitions;
+    }
+
+    private static long getCost(Contingency contingency) {
+        return 1L + contingency.getElements().size();
+    }
+}
@@ -0,0 +1,300 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe cache of files stored on local disk, bounded by their total size and evicting the least recently used
+ * entries first. Entries are kept across restarts.
+ * <p>
+ * Each entry is a directory holding a single data file and its SHA-256 checksum, which is checked before the first use
+ * of an entry found on disk. An entry only appears once completely written, and is never evicted while being read.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public class DiskLruCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiskLruCache.class);
+
+    private static final String DATA_DIRECTORY_NAME = "data";
+    private static final String CHECKSUM_FILE_NAME = "sha256";
+    private static final String WRITE_DIRECTORY_SUFFIX = ".tmp";
+
+    /**
+     * Writes the data file of an entry.
+     */
+    @FunctionalInterface
+    public interface EntryWriter {
+        /**
+         * @param directory empty directory in which the data file must be written
+         * @return path of the written data file
+         */
+        Path write(Path directory) throws IOException;
+    }
+
+    private static final class Entry {
+        private final Path directory;
+        private final Path file;
+        private final long size;
+        private boolean verified;
+        private int readers;
+
+        private Entry(Path directory, Path file, long size, boolean verified) {
+            this.directory = directory;
+            this.file = file;
+            this.size = size;
+            this.verified = verified;
+        }
+    }
+
+    private final Path directory;
+    private final long maxSize;
+    private final Consumer<String> evictionListener;
+    // guarded by this, in access order so that the least recently used entries come first
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+
+    /**
+     * @param directory directory of the cache, created if needed
+     * @param maxSize total size of the data files above which entries are evicted
+     * @param evictionListener called with the key of each evicted entry
+     */
+    public DiskLruCache(Path directory, long maxSize, Consumer<String> evictionListener) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.evictionListener = evictionListener;
+        loadEntries();
+    }
+
+    /**
+     * Read the data file of an entry if it is cached and intact.
+     *
+     * @param key key of the entry, which must be a valid file name
+     * @param reader function reading the data file, which must not return {@code null}
+     * @return the result of the reader, or an empty optional if the entry is not cached
+     */
+    public <T> Optional<T> read(String key, Function<Path, T> reader) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            entry.readers++;
+        }
+
+        try {
+            if (!verify(key, entry)) {
+                return Optional.empty();
+            }
+            touch(entry);
+            return Optional.of(reader.apply(entry.file));
+        } finally {
+            release(entry);
+        }
+    }
+
+    /**
+     * Write an entry and read it before it can be evicted. If the entry was concurrently cached, the cached one is
+     * kept and read instead.
+     *
+     * @param key key of the entry, which must be a valid file name
+     * @param writer function writing the data file
+     * @param reader function reading the data file
+     * @return the result of the reader
+     */
+    public <T> T write(String key, EntryWriter writer, Function<Path, T> reader) throws IOException {
+        Path writeDirectory = directory.resolve(key + WRITE_DIRECTORY_SUFFIX + UUID.randomUUID());
+        Entry entry = null;
+        try {
+            Path dataDirectory = Files.createDirectories(writeDirectory.resolve(DATA_DIRECTORY_NAME));
+            Path file = writer.write(dataDirectory);
+            Files.writeString(writeDirectory.resolve(CHECKSUM_FILE_NAME), computeChecksum(file));
+            entry = commit(key, writeDirectory, file.getFileName());
+        } finally {
+            // no-op once moved to the entry directory
+            deleteDirectory(writeDirectory);
+        }
+
+        try {
+            return reader.apply(entry.file);
+        } finally {
+            release(entry);
+        }
+    }
+
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    private synchronized Entry commit(String key, Path writeDirectory, Path fileName) throws IOException {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            Path entryDirectory = directory.resolve(key);
+            deleteDirectory(entryDirectory);
+            Files.move(writeDirectory, entryDirectory, StandardCopyOption.ATOMIC_MOVE);
+            Path file = entryDirectory.resolve(DATA_DIRECTORY_NAME).resolve(fileName);
+            entry = new Entry(entryDirectory, file, Files.size(file), true);
+            entries.put(key, entry);
+            totalSize += entry.size;
+        }
+        entry.readers++;
+        return entry;
+    }
+
+    private boolean verify(String key, Entry entry) {
+        synchronized (this) {
+            if (entry.verified) {
+                return true;
+            }
+        }
+        if (isIntact(entry)) {
+            synchronized (this) {
+                entry.verified = true;
+            }
+            return true;
+        }
+
+        LOGGER.warn("Cache entry {} is corrupted, deleting it", entry.directory);
+        synchronized (this) {
+            // the entry directory may already be reused by a new entry if it was removed by another reader
+            if (entries.remove(key, entry)) {
+                totalSize -= entry.size;
+                deleteDirectory(entry.directory);
+            }
+        }
+        return false;
+    }
+
+    private synchronized void release(Entry entry) {
+        entry.readers--;
+        evict();
+    }
+
+    // entry directories are deleted while holding the lock, so that they cannot be deleted once reused by new entries
+    private synchronized void evict() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalSize > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Entry> entry = iterator.next();
+            if (entry.getValue().readers == 0) {
+                iterator.remove();
+                totalSize -= entry.getValue().size;
+                LOGGER.info("Cache entry {} evicted", entry.getValue().directory);
+                deleteDirectory(entry.getValue().directory);
+                evictionListener.accept(entry.getKey());
+            }
+        }
+    }
+
+    private void loadEntries() {
+        List<Path> entryDirectories;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> paths = Files.list(directory)) {
+                entryDirectories = paths.sorted(Comparator.comparing(DiskLruCache::getLastModifiedTime)).toList();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while loading cache directory " + directory, e);
+        }
+
+        for (Path entryDirectory : entryDirectories) {
+            Optional<Entry> entry = readEntry(entryDirectory);
+            if (entry.isPresent()) {
+                entries.put(entryDirectory.getFileName().toString(), entry.get());
+                totalSize += entry.get().size;
+            } else {
+                LOGGER.info("Deleting incomplete cache entry {}", entryDirectory);
+                deleteDirectory(entryDirectory);
+            }
+        }
+        evict();
+    }
+
+    private static Optional<Entry> readEntry(Path entryDirectory) {
+        Path dataDirectory = entryDirectory.resolve(DATA_DIRECTORY_NAME);
+        if (entryDirectory.getFileName().toString().contains(WRITE_DIRECTORY_SUFFIX)
+            || !Files.isDirectory(dataDirectory)
+            || !Files.isRegularFile(entryDirectory.resolve(CHECKSUM_FILE_NAME))) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(dataDirectory)) {
+            List<Path> dataFiles = files.toList();
+            if (dataFiles.size() != 1) {
+                return Optional.empty();
+            }
+            return Optional.of(new Entry(entryDirectory, dataFiles.getFirst(), Files.size(dataFiles.getFirst()), false));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isIntact(Entry entry) {
+        try {
+            String expectedChecksum = Files.readString(entry.directory.resolve(CHECKSUM_FILE_NAME)).trim();
+            return expectedChecksum.equals(computeChecksum(entry.file));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String computeChecksum(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static FileTime getLastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void touch(Entry entry) {
+        try {
+            // keeps the least recently used order across restarts
+            Files.setLastModifiedTime(entry.directory, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            LOGGER.warn("Could not update last access time of cache entry {}", entry.directory, e);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+        try {
+            FileUtils.deleteDirectory(directory.toFile());
+        } catch (IOException e) {
+            LOGGER.error("Error deleting cache directory: {}", directory, e);
+        }
+    }
+}
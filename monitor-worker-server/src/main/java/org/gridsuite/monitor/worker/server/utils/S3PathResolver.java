@@ -6,17 +6,38 @@
  */
 package org.gridsuite.monitor.worker.server.utils;
 
+import java.util.UUID;
+
 /**
  * @author Kevin Le Saulnier <kevin.le-saulnier at rte-france.com>
  */
 public final class S3PathResolver {
+    private static final String S3_DELIMITER = "/";
+    private static final String SHARDS_DIRECTORY = "shards";
+    private static final String CHECKPOINTS_DIRECTORY = "checkpoints";
+
     private S3PathResolver() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
 
+    public static String getExecutionShardsPath(UUID executionId) {
+        return String.join(S3_DELIMITER, SHARDS_DIRECTORY, executionId.toString());
+    }
+
+    public static String getExecutionShardFilePath(UUID executionId, int shardIndex, String fileName) {
+        return String.join(S3_DELIMITER, getExecutionShardsPath(executionId), String.valueOf(shardIndex), fileName);
+    }
+
+    public static String getExecutionCheckpointsPath(UUID executionId) {
+        return String.join(S3_DELIMITER, CHECKPOINTS_DIRECTORY, executionId.toString());
+    }
+
+    public static String getExecutionCheckpointFilePath(UUID executionId, String fileName) {
+        return String.join(S3_DELIMITER, getExecutionCheckpointsPath(executionId), fileName);
+    }
+
     public static String getProcessStepDebugFilePath(String debugFileLocation, String processStepType, Integer stepOrder, String fileName) {
-        String s3Delimiter = "/";
-        return String.join(s3Delimiter,
+        return String.join(S3_DELIMITER,
             debugFileLocation,
             processStepType + "_" + stepOrder,
             fileName);
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.utils;
+
+import com.powsybl.contingency.Contingency;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges the results of security analyses run on parts of the contingencies of a same network state.
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public final class SecurityAnalysisResultMerger {
+
+    private SecurityAnalysisResultMerger() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * @param results results of the parts, all holding the same pre-contingency result
+     * @param contingencies all the contingencies, whose order is kept in the merged post-contingency results
+     * @return the merged result
+     */
+    public static SecurityAnalysisResult merge(List<SecurityAnalysisResult> results, List<Contingency> contingencies) {
+        if (results.isEmpty()) {
+            throw new IllegalArgumentException("No security analysis result to merge");
+        }
+        Map<String, Integer> contingencyOrders = new HashMap<>();
+        for (int i = 0; i < contingencies.size(); i++) {
+            contingencyOrders.put(contingencies.get(i).getId(), i);
+        }
+        List<PostContingencyResult> postContingencyResults = results.stream()
+            .flatMap(result -> result.getPostContingencyResults().stream())
+            .sorted(Comparator.comparingInt(result -> contingencyOrders.getOrDefault(result.getContingency().getId(), Integer.MAX_VALUE)))
+            .toList();
+        List<OperatorStrategyResult> operatorStrategyResults = results.stream()
+            .flatMap(result -> result.getOperatorStrategyResults().stream())
+            .toList();
+        return new SecurityAnalysisResult(results.getFirst().getPreContingencyResult(), postContingencyResults, operatorStrategyResults);
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe cache bounded by the total weight of its values, evicting the least recently used entries first.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ *
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+public class WeightedLruCache<K, V> {
+
+    private record WeightedValue<V>(V value, long weight) { }
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final BiConsumer<K, V> evictionListener;
+    private final LinkedHashMap<K, WeightedValue<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    public WeightedLruCache(long maxWeight, ToLongFunction<V> weigher, BiConsumer<K, V> evictionListener) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.evictionListener = evictionListener;
+    }
+
+    public synchronized Optional<V> get(K key) {
+        return Optional.ofNullable(entries.get(key)).map(WeightedValue::value);
+    }
+
+    /**
+     * Get the weight of a cached value, which counts as a use of the entry.
+     */
+    public synchronized OptionalLong getWeight(K key) {
+        WeightedValue<V> weightedValue = entries.get(key);
+        return weightedValue != null ? OptionalLong.of(weightedValue.weight()) : OptionalLong.empty();
+    }
+
+    /**
+     * Add a value to the cache, evicting the least recently used entries until the total weight fits again.
+     *
+     * @return {@code false} if the value alone is heavier than the maximum weight, in which case it is not cached
+     */
+    public synchronized boolean put(K key, V value) {
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            return false;
+        }
+        WeightedValue<V> previous = entries.put(key, new WeightedValue<>(value, weight));
+        if (previous != null) {
+            totalWeight -= previous.weight();
+        }
+        totalWeight += weight;
+
+        Iterator<Map.Entry<K, WeightedValue<V>>> iterator = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            Map.Entry<K, WeightedValue<V>> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            iterator.remove();
+            totalWeight -= eldest.getValue().weight();
+            evictionListener.accept(eldest.getKey(), eldest.getValue().value());
+        }
+        return true;
+    }
+
+    public synchronized void invalidate(K key) {
+        WeightedValue<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight();
+        }
+    }
+
+    /**
+     * Remove the entries matching a predicate, without notifying the eviction listener.
+     *
+     * @return the number of removed entries
+     */
+    public synchronized int invalidateIf(BiPredicate<K, V> predicate) {
+        int removedCount = 0;
+        Iterator<Map.Entry<K, WeightedValue<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, WeightedValue<V>> entry = iterator.next();
+            if (predicate.test(entry.getKey(), entry.getValue().value())) {
+                iterator.remove();
+                totalWeight -= entry.getValue().weight();
+                removedCount++;
+            }
+        }
+        return removedCount;
+    }
+
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.clients;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.match.MockRestRequestMatchers;
+import org.springframework.test.web.client.response.MockRestResponseCreators;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@RestClientTest(CaseRestClient.class)
+class CaseRestClientTest {
+    @Autowired
+    private CaseRestClient caseRestClient;
+
+    @Autowired
+    private MockRestServiceServer server;
+
+    @TempDir
+    private Path tempDir;
+
+    private static final UUID CASE_UUID = UUID.fromString("11111111-7977-4592-ba19-88027e4254e4");
+
+    @AfterEach
+    void tearDown() {
+        server.verify();
+    }
+
+    private static HttpHeaders attachmentHeaders(String fileName) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentDisposition(ContentDisposition.attachment().filename(fileName).build());
+        return headers;
+    }
+
+    @Test
+    void downloadCaseShouldWriteCaseFile() throws Exception {
+        server.expect(MockRestRequestMatchers.method(HttpMethod.GET))
+            .andExpect(MockRestRequestMatchers.requestTo("http://case-server/v1/cases/" + CASE_UUID))
+            .andRespond(MockRestResponseCreators.withSuccess("caseContent", MediaType.APPLICATION_OCTET_STREAM)
+                .headers(attachmentHeaders("network.xiidm")));
+
+        Path caseFile = caseRestClient.downloadCase(CASE_UUID, tempDir);
+
+        assertThat(caseFile).isEqualTo(tempDir.resolve("network.xiidm"));
+        assertThat(Files.readString(caseFile)).isEqualTo("caseContent");
+    }
+
+    @Test
+    void downloadCaseShouldFailWithoutFileName() {
+        server.expect(MockRestRequestMatchers.method(HttpMethod.GET))
+            .andExpect(MockRestRequestMatchers.requestTo("http://case-server/v1/cases/" + CASE_UUID))
+            .andRespond(MockRestResponseCreators.withSuccess("caseContent", MediaType.APPLICATION_OCTET_STREAM));
+
+        assertThatThrownBy(() -> caseRestClient.downloadCase(CASE_UUID, tempDir))
+            .isInstanceOf(RestClientException.class)
+            .hasMessageContaining("No file name received");
+    }
+
+    @Test
+    void downloadCaseNotFound() {
+        server.expect(MockRestRequestMatchers.method(HttpMethod.GET))
+            .andExpect(MockRestRequestMatchers.requestTo("http://case-server/v1/cases/" + CASE_UUID))
+            .andRespond(MockRestResponseCreators.withResourceNotFound());
+
+        assertThatThrownBy(() -> caseRestClient.downloadCase(CASE_UUID, tempDir))
+            .isInstanceOf(RestClientResponseException.class);
+    }
+}
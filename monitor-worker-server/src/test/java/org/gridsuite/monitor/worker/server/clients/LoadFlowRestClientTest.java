@@ -13,6 +13,7 @@ import com.powsybl.loadflow.LoadFlowResultImpl;
 import org.gridsuite.monitor.worker.server.dto.parameters.loadflow.LoadFlowParametersInfos;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.http.HttpMethod;
@@ -23,8 +24,13 @@ import org.springframework.test.web.client.response.MockRestResponseCreators;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClientException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -81,8 +87,9 @@ class LoadFlowRestClientTest {
     }
 
     @Test
-    void saveResult() throws JsonProcessingException {
+    void saveCompressedResult(@TempDir Path directory) throws IOException {
         LoadFlowResult result = new LoadFlowResultImpl(true, Map.of(), "");
+        Path compressedResult = writeCompressedResult(directory, result);
 
         server.expect(MockRestRequestMatchers.method(HttpMethod.POST))
             .andExpect(MockRestRequestMatchers.requestTo("http://loadflow-server/v1/results"))
@@ -92,9 +99,7 @@ class LoadFlowRestClientTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(objectMapper.writeValueAsString(RESULT_UUID)));
 
-        UUID returnedUuid = loadFlowRestClient.saveResult(result);
-
-        assertThat(returnedUuid).isEqualTo(RESULT_UUID);
+        assertThat(loadFlowRestClient.saveResult(compressedResult)).isEqualTo(RESULT_UUID);
     }
 
     @Test
@@ -104,14 +109,22 @@ class LoadFlowRestClientTest {
     }
 
     @Test
-    void saveResultFailed() {
-        LoadFlowResult result = new LoadFlowResultImpl(true, Map.of(), "");
+    void saveResultFailed(@TempDir Path directory) throws IOException {
+        Path compressedResult = writeCompressedResult(directory, new LoadFlowResultImpl(true, Map.of(), ""));
 
         server.expect(MockRestRequestMatchers.method(HttpMethod.POST))
             .andExpect(MockRestRequestMatchers.requestTo("http://loadflow-server/v1/results"))
             .andRespond(MockRestResponseCreators.withServerError());
 
-        assertThatThrownBy(() -> loadFlowRestClient.saveResult(result))
+        assertThatThrownBy(() -> loadFlowRestClient.saveResult(compressedResult))
             .isInstanceOf(RestClientException.class);
     }
+
+    private Path writeCompressedResult(Path directory, LoadFlowResult result) throws IOException {
+        Path compressedResult = directory.resolve("result.json.gz");
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(compressedResult))) {
+            objectMapper.writeValue(outputStream, result);
+        }
+        return compressedResult;
+    }
 }
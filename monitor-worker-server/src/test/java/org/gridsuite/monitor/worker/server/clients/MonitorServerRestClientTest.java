@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.clients;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gridsuite.monitor.commons.types.processexecution.ExecutionLease;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.match.MockRestRequestMatchers;
+import org.springframework.test.web.client.response.MockRestResponseCreators;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@RestClientTest(MonitorServerRestClient.class)
+class MonitorServerRestClientTest {
+
+    private static final UUID EXECUTION_UUID = UUID.randomUUID();
+    private static final String OWNER = "test-env-worker";
+    private static final Duration DURATION = Duration.ofMinutes(2);
+
+    @Autowired
+    private MonitorServerRestClient monitorServerRestClient;
+
+    @Autowired
+    private MockRestServiceServer server;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        server.verify();
+    }
+
+    @Test
+    void acquireLease() throws JsonProcessingException {
+        server.expect(MockRestRequestMatchers.method(HttpMethod.PUT))
+            .andExpect(MockRestRequestMatchers.requestTo("http://monitor-server/v1/executions/" + EXECUTION_UUID + "/lease"))
+            .andExpect(MockRestRequestMatchers.content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(MockRestRequestMatchers.content().json(objectMapper.writeValueAsString(new ExecutionLease(OWNER, DURATION))))
+            .andRespond(MockRestResponseCreators.withSuccess("true", MediaType.APPLICATION_JSON));
+
+        assertThat(monitorServerRestClient.acquireLease(EXECUTION_UUID, OWNER, DURATION)).isEqualTo(MonitorServerRestClient.LeaseClaim.TAKEN_OVER);
+    }
+
+    @Test
+    void acquireLeaseHeldByAnotherWorker() {
+        server.expect(MockRestRequestMatchers.method(HttpMethod.PUT))
+            .andExpect(MockRestRequestMatchers.requestTo("http://monitor-server/v1/executions/" + EXECUTION_UUID + "/lease"))
+            .andRespond(MockRestResponseCreators.withStatus(HttpStatus.CONFLICT));
+
+        assertThat(monitorServerRestClient.acquireLease(EXECUTION_UUID, OWNER, DURATION)).isEqualTo(MonitorServerRestClient.LeaseClaim.HELD);
+    }
+
+    @Test
+    void acquireLeaseOfExecutionOver() {
+        server.expect(MockRestRequestMatchers.method(HttpMethod.PUT))
+            .andExpect(MockRestRequestMatchers.requestTo("http://monitor-server/v1/executions/" + EXECUTION_UUID + "/lease"))
+            .andRespond(MockRestResponseCreators.withStatus(HttpStatus.GONE));
+
+        assertThat(monitorServerRestClient.acquireLease(EXECUTION_UUID, OWNER, DURATION)).isEqualTo(MonitorServerRestClient.LeaseClaim.OVER);
+    }
+
+    @Test
+    void acquireLeaseFailed() {
+        server.expect(MockRestRequestMatchers.method(HttpMethod.PUT))
+            .andExpect(MockRestRequestMatchers.requestTo("http://monitor-server/v1/executions/" + EXECUTION_UUID + "/lease"))
+            .andRespond(MockRestResponseCreators.withServerError());
+
+        assertThatThrownBy(() -> monitorServerRestClient.acquireLease(EXECUTION_UUID, OWNER, DURATION))
+            .isInstanceOf(HttpServerErrorException.class);
+    }
+
+    @Test
+    void releaseLease() {
+        server.expect(MockRestRequestMatchers.method(HttpMethod.DELETE))
+            .andExpect(MockRestRequestMatchers.requestTo("http://monitor-server/v1/executions/" + EXECUTION_UUID + "/lease?owner=" + OWNER))
+            .andRespond(MockRestResponseCreators.withSuccess());
+
+        assertThatNoException().isThrownBy(() -> monitorServerRestClient.releaseLease(EXECUTION_UUID, OWNER));
+    }
+}
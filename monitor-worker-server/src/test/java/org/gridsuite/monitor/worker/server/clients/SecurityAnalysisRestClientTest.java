@@ -13,18 +13,29 @@ import org.gridsuite.monitor.worker.server.config.MonitorWorkerConfig;
 import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisParametersValues;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.test.web.client.match.MockRestRequestMatchers;
 import org.springframework.test.web.client.response.MockRestResponseCreators;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -53,8 +64,9 @@ class SecurityAnalysisRestClientTest {
     }
 
     @Test
-    void saveResult() throws JsonProcessingException {
+    void saveCompressedResult(@TempDir Path directory) throws IOException {
         SecurityAnalysisResult result = SecurityAnalysisResult.empty();
+        Path compressedResult = writeCompressedResult(directory, result);
 
         server.expect(MockRestRequestMatchers.method(HttpMethod.POST))
             .andExpect(MockRestRequestMatchers.requestTo("http://security-analysis-server/v1/results/" + RESULT_UUID))
@@ -62,17 +74,41 @@ class SecurityAnalysisRestClientTest {
             .andExpect(MockRestRequestMatchers.content().json(objectMapper.writeValueAsString(result)))
             .andRespond(MockRestResponseCreators.withSuccess());
 
-        assertThatNoException().isThrownBy(() -> securityAnalysisRestClient.saveResult(RESULT_UUID, result));
+        assertThatNoException().isThrownBy(() -> securityAnalysisRestClient.saveResult(RESULT_UUID, compressedResult));
     }
 
     @Test
-    void saveResultFailed() {
+    void saveCompressedResultShouldSendCompressedBody(@TempDir Path directory) throws IOException {
+        RestClient.Builder restClientBuilder = RestClient.builder();
+        MockRestServiceServer compressingServer = MockRestServiceServer.bindTo(restClientBuilder).build();
+        SecurityAnalysisRestClient compressingClient = new SecurityAnalysisRestClient(restClientBuilder, "http://security-analysis-server/", true);
         SecurityAnalysisResult result = SecurityAnalysisResult.empty();
+        Path compressedResult = writeCompressedResult(directory, result);
+
+        compressingServer.expect(MockRestRequestMatchers.method(HttpMethod.POST))
+            .andExpect(MockRestRequestMatchers.requestTo("http://security-analysis-server/v1/results/" + RESULT_UUID))
+            .andExpect(MockRestRequestMatchers.header(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(request -> {
+                byte[] body = ((MockClientHttpRequest) request).getBodyAsBytes();
+                try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                    assertThat(objectMapper.readTree(inputStream)).isEqualTo(objectMapper.valueToTree(result));
+                }
+            })
+            .andRespond(MockRestResponseCreators.withSuccess());
+
+        compressingClient.saveResult(RESULT_UUID, compressedResult);
+
+        compressingServer.verify();
+    }
+
+    @Test
+    void saveResultFailed(@TempDir Path directory) throws IOException {
+        Path compressedResult = writeCompressedResult(directory, SecurityAnalysisResult.empty());
         server.expect(MockRestRequestMatchers.method(HttpMethod.POST))
             .andExpect(MockRestRequestMatchers.requestTo("http://security-analysis-server/v1/results/" + RESULT_UUID))
             .andRespond(MockRestResponseCreators.withServerError());
 
-        assertThatThrownBy(() -> securityAnalysisRestClient.saveResult(RESULT_UUID, result)).isInstanceOf(RestClientException.class);
+        assertThatThrownBy(() -> securityAnalysisRestClient.saveResult(RESULT_UUID, compressedResult)).isInstanceOf(RestClientException.class);
     }
 
     @Test
@@ -107,4 +143,12 @@ class SecurityAnalysisRestClientTest {
         assertThatThrownBy(() -> securityAnalysisRestClient.getParameters(PARAMETERS_ERROR_UUID))
             .isInstanceOf(HttpServerErrorException.InternalServerError.class);
     }
+
+    private Path writeCompressedResult(Path directory, SecurityAnalysisResult result) throws IOException {
+        Path compressedResult = directory.resolve("result.json.gz");
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(compressedResult))) {
+            objectMapper.writeValue(outputStream, result);
+        }
+        return compressedResult;
+    }
 }
@@ -16,8 +16,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -79,4 +83,83 @@ class ProcessExecutionContextTest {
         assertThat(stepContext.getProcessStepType()).isEqualTo(stepType);
         assertThat(stepContext.getStepOrder()).isEqualTo(stepOrder);
     }
+
+    @Test
+    void shouldGetPrefetchedInputFromStepContext() {
+        ProcessExecutionContext<ProcessConfig> processContext = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), config, UUID.randomUUID(), "test-env", null);
+        ProcessStep<ProcessConfig> step = mock(ProcessStep.class);
+        ProcessStepType stepType = mock(ProcessStepType.class);
+        when(stepType.getName()).thenReturn("test-step");
+        when(step.getType()).thenReturn(stepType);
+        ProcessInputKey<String> key = new ProcessInputKey<>("input");
+        AtomicInteger loadCount = new AtomicInteger();
+
+        processContext.prefetchInput(key, () -> "value" + loadCount.incrementAndGet());
+        ProcessStepExecutionContext<ProcessConfig> stepContext = processContext.createStepContext(step, 0);
+
+        assertThat(stepContext.getPrefetchedInput(key)).contains("value1");
+        assertThat(stepContext.getPrefetchedInput(key)).contains("value1");
+        assertThat(stepContext.getPrefetchedInput(new ProcessInputKey<String>("other"))).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyInputWhenPrefetchFailed() {
+        ProcessExecutionContext<ProcessConfig> processContext = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), config, UUID.randomUUID(), "test-env", null);
+        ProcessInputKey<String> key = new ProcessInputKey<>("input");
+
+        processContext.prefetchInput(key, () -> {
+            throw new IllegalStateException("Fetch failed");
+        });
+
+        assertThat(processContext.getPrefetchedInput(key)).isEmpty();
+    }
+
+    @Test
+    void shouldInterruptPrefetchWhenCancelled() throws InterruptedException {
+        ProcessExecutionContext<ProcessConfig> processContext = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), config, UUID.randomUUID(), "test-env", null);
+        ProcessInputKey<String> key = new ProcessInputKey<>("input");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        processContext.prefetchInput(key, () -> {
+            loading.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "value";
+        });
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        processContext.cancelPrefetchedInputs();
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processContext.getPrefetchedInput(key)).isEmpty();
+    }
+
+    @Test
+    void shouldStopWaitingForInputWhenInterrupted() {
+        ProcessExecutionContext<ProcessConfig> processContext = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), config, UUID.randomUUID(), "test-env", null);
+        ProcessInputKey<String> key = new ProcessInputKey<>("input");
+        CountDownLatch blocked = new CountDownLatch(1);
+        processContext.prefetchInput(key, () -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "value";
+        });
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> processContext.getPrefetchedInput(key))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(InterruptedException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+            blocked.countDown();
+        }
+    }
 }
@@ -17,8 +17,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
@@ -47,6 +49,7 @@ class ProcessStepExecutionContextTest {
         UUID reportId = UUID.randomUUID();
         UUID stepExecutionId = UUID.randomUUID();
         when(stepType.getName()).thenReturn("test-step");
+        when(processContext.getCancellationToken()).thenReturn(new CancellationToken());
         when(processContext.getExecutionId()).thenReturn(executionId);
         when(processContext.getCaseUuid()).thenReturn(caseUuid);
         when(processContext.getNetwork()).thenReturn(network);
@@ -80,6 +83,7 @@ class ProcessStepExecutionContextTest {
         int stepOrder = 1;
         UUID stepId = UUID.randomUUID();
         when(stepType.getName()).thenReturn("test-step");
+        when(processContext.getCancellationToken()).thenReturn(new CancellationToken());
         ProcessStepExecutionContext<ProcessConfig> stepContext = new ProcessStepExecutionContext<>(processContext, stepType, stepId, stepOrder);
 
         Network newNetwork = mock(Network.class);
@@ -90,4 +94,41 @@ class ProcessStepExecutionContextTest {
         stepContext.setResultInfos(resultInfos);
         assertThat(stepContext.getResultInfos()).isEqualTo(resultInfos);
     }
+
+    @Test
+    void stepShouldBeCancelledWithExecutionAndTimeOutOnItsOwn() {
+        CancellationToken executionToken = new CancellationToken();
+        when(stepType.getName()).thenReturn("test-step");
+        when(processContext.getCancellationToken()).thenReturn(executionToken);
+        ProcessStepExecutionContext<ProcessConfig> timedOutStepContext = new ProcessStepExecutionContext<>(processContext, stepType, UUID.randomUUID(), 0);
+        ProcessStepExecutionContext<ProcessConfig> cancelledStepContext = new ProcessStepExecutionContext<>(processContext, stepType, UUID.randomUUID(), 1);
+
+        timedOutStepContext.getCancellationToken().timeOut();
+
+        assertThat(timedOutStepContext.isTimedOut()).isTrue();
+        assertThat(cancelledStepContext.isCancelled()).isFalse();
+        assertThat(executionToken.isCancelled()).isFalse();
+
+        executionToken.cancel();
+
+        assertThat(cancelledStepContext.isCancelled()).isTrue();
+        assertThat(cancelledStepContext.isTimedOut()).isFalse();
+    }
+
+    @Test
+    void stepShouldBeRequeuedWithExecution() {
+        CancellationToken executionToken = new CancellationToken();
+        when(stepType.getName()).thenReturn("test-step");
+        when(processContext.getCancellationToken()).thenReturn(executionToken);
+        ProcessStepExecutionContext<ProcessConfig> stepContext = new ProcessStepExecutionContext<>(processContext, stepType, UUID.randomUUID(), 0);
+
+        executionToken.requeue();
+
+        assertThat(stepContext.isCancelled()).isTrue();
+        assertThat(stepContext.isTimedOut()).isFalse();
+        assertThat(stepContext.getCancellationToken().isRequeued()).isTrue();
+        assertThatThrownBy(() -> stepContext.getCancellationToken().throwIfCancelled())
+            .isInstanceOf(CancellationException.class)
+            .hasMessage("Execution requeued");
+    }
 }
@@ -36,7 +36,7 @@ public abstract class AbstractProcessTest<C extends ProcessConfig, T extends Abs
     }
 
     @Test
-    void defineStepsShouldReturnThreeStepsInCorrectOrder() {
+    void defineStepsShouldReturnStepsInCorrectOrder() {
         List<ProcessStep<C>> steps = process.defineSteps();
 
         assertNotNull(steps);
@@ -13,9 +13,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
@@ -32,19 +36,51 @@ class ProcessTest {
         List<ProcessStep<ProcessConfig>> steps = process.getSteps();
 
         assertThat(steps).isUnmodifiable().containsExactly(step1, step2);
+        assertThat(process.getStepDependencies()).isEmpty();
+    }
+
+    @Test
+    void getStepDependenciesShouldReturnDefinedDependenciesByStepId() {
+        ProcessStep<ProcessConfig> step1 = mock(ProcessStep.class);
+        ProcessStep<ProcessConfig> step2 = mock(ProcessStep.class);
+        ProcessStep<ProcessConfig> step3 = mock(ProcessStep.class);
+        UUID step1Id = UUID.randomUUID();
+        UUID step2Id = UUID.randomUUID();
+        UUID step3Id = UUID.randomUUID();
+        when(step1.getId()).thenReturn(step1Id);
+        when(step2.getId()).thenReturn(step2Id);
+        when(step3.getId()).thenReturn(step3Id);
+        TestProcess process = new TestProcess(List.of(step1, step2, step3), Map.of(step3, List.of(step1), step2, List.of()));
+
+        Map<UUID, Set<UUID>> dependencies = process.getStepDependencies();
+
+        assertThat(dependencies).containsOnly(
+            Map.entry(step2Id, Set.of()),
+            Map.entry(step3Id, Set.of(step1Id)));
     }
 
     private static class TestProcess extends AbstractProcess<ProcessConfig> {
         private final List<ProcessStep<ProcessConfig>> steps;
+        private final Map<ProcessStep<ProcessConfig>, List<ProcessStep<ProcessConfig>>> dependencies;
 
         TestProcess(List<ProcessStep<ProcessConfig>> steps) {
+            this(steps, Map.of());
+        }
+
+        TestProcess(List<ProcessStep<ProcessConfig>> steps, Map<ProcessStep<ProcessConfig>, List<ProcessStep<ProcessConfig>>> dependencies) {
             super(ProcessType.SECURITY_ANALYSIS);
             this.steps = steps;
+            this.dependencies = dependencies;
         }
 
         @Override
         public List<ProcessStep<ProcessConfig>> defineSteps() {
             return steps;
         }
+
+        @Override
+        protected Map<ProcessStep<ProcessConfig>, List<ProcessStep<ProcessConfig>>> defineDependencies() {
+            return dependencies;
+        }
     }
 }
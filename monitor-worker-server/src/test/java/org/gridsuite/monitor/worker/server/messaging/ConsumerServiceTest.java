@@ -6,18 +6,37 @@
  */
 package org.gridsuite.monitor.worker.server.messaging;
 
+import com.rabbitmq.client.Channel;
 import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
-import org.gridsuite.monitor.worker.server.orchestrator.ProcessExecutionService;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
+import org.gridsuite.monitor.worker.server.orchestrator.ExecutionCancellationService;
+import org.gridsuite.monitor.worker.server.orchestrator.ProcessExecutionPoolService;
+import org.gridsuite.monitor.worker.server.orchestrator.ShardCoordinationService;
+import org.gridsuite.monitor.worker.server.services.ReferenceDataCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
@@ -26,7 +45,16 @@ import static org.mockito.Mockito.verify;
 class ConsumerServiceTest {
 
     @Mock
-    private ProcessExecutionService processExecutionService;
+    private ProcessExecutionPoolService processExecutionPoolService;
+
+    @Mock
+    private ReferenceDataCacheService referenceDataCacheService;
+
+    @Mock
+    private ShardCoordinationService shardCoordinationService;
+
+    @Mock
+    private ExecutionCancellationService cancellationService;
 
     @Mock
     private ProcessConfig processConfig;
@@ -35,7 +63,7 @@ class ConsumerServiceTest {
 
     @BeforeEach
     void setUp() {
-        consumerService = new ConsumerService(processExecutionService);
+        consumerService = new ConsumerService(processExecutionPoolService, referenceDataCacheService, shardCoordinationService, cancellationService);
     }
 
     @Test
@@ -46,6 +74,112 @@ class ConsumerServiceTest {
 
         consumer.accept(message);
 
-        verify(processExecutionService).executeProcess(runMessage);
+        verify(processExecutionPoolService).submit(eq(runMessage), isNull(), any(Runnable.class));
+    }
+
+    @Test
+    void consumeRunShouldAcknowledgeMessageOnceExecutionEnds() throws IOException {
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(UUID.randomUUID(), UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+        Channel channel = mock(Channel.class);
+        Message<ProcessRunMessage<ProcessConfig>> message = MessageBuilder.withPayload(runMessage)
+            .setHeader(AmqpHeaders.CHANNEL, channel)
+            .setHeader(AmqpHeaders.DELIVERY_TAG, 7L)
+            .build();
+        ArgumentCaptor<Runnable> acknowledgement = ArgumentCaptor.forClass(Runnable.class);
+
+        consumerService.<ProcessConfig>consumeRun().accept(message);
+
+        verify(processExecutionPoolService).submit(eq(runMessage), isNull(), acknowledgement.capture());
+        verifyNoInteractions(channel);
+        acknowledgement.getValue().run();
+        verify(channel).basicAck(7L, false);
+    }
+
+    @Test
+    void consumeRunShouldRequeueMessageWhenExecutionCannotBeStarted() throws IOException {
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(UUID.randomUUID(), UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+        Channel channel = mock(Channel.class);
+        Message<ProcessRunMessage<ProcessConfig>> message = MessageBuilder.withPayload(runMessage)
+            .setHeader(AmqpHeaders.CHANNEL, channel)
+            .setHeader(AmqpHeaders.DELIVERY_TAG, 7L)
+            .build();
+        doThrow(new RejectedExecutionException("Shut down")).when(processExecutionPoolService).submit(eq(runMessage), isNull(), any(Runnable.class));
+
+        consumerService.<ProcessConfig>consumeRun().accept(message);
+
+        verify(channel).basicNack(7L, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void consumeShardRunShouldSubmitShard() {
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(UUID.randomUUID(), UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+        Message<ProcessRunMessage<ProcessConfig>> message = MessageBuilder.withPayload(runMessage)
+            .setHeader(ShardCoordinationService.HEADER_SHARD_INDEX, "2")
+            .setHeader(ShardCoordinationService.HEADER_SHARD_COUNT, "3")
+            .build();
+
+        consumerService.<ProcessConfig>consumeShardRun().accept(message);
+
+        verify(processExecutionPoolService).submit(eq(runMessage), eq(new ExecutionShard(2, 3)), any(Runnable.class));
+    }
+
+    @Test
+    void consumeShardDoneShouldNotifyShardCoordination() {
+        UUID executionId = UUID.randomUUID();
+        Message<String> message = MessageBuilder.withPayload("")
+            .setHeader(ShardCoordinationService.HEADER_EXECUTION_ID, executionId.toString())
+            .setHeader(ShardCoordinationService.HEADER_SHARD_INDEX, "1")
+            .setHeader(ShardCoordinationService.HEADER_SHARD_SUCCEEDED, "true")
+            .build();
+
+        consumerService.consumeShardDone().accept(message);
+
+        verify(shardCoordinationService).onShardDone(executionId, 1, true);
+    }
+
+    @Test
+    void consumeCancelShouldCancelExecutionAttempt() {
+        UUID executionId = UUID.randomUUID();
+        Instant scheduledAt = Instant.parse("2026-01-01T10:00:00.123456Z");
+        Message<String> message = MessageBuilder.withPayload("")
+            .setHeader(ConsumerService.HEADER_EXECUTION_ID, executionId.toString())
+            .setHeader(ConsumerService.HEADER_SCHEDULED_AT, scheduledAt.toString())
+            .build();
+
+        consumerService.consumeCancel().accept(message);
+
+        verify(cancellationService).cancel(executionId, scheduledAt);
+    }
+
+    @Test
+    void consumeCancelShouldCancelAllAttemptsWithoutSchedulingTime() {
+        UUID executionId = UUID.randomUUID();
+        Message<String> message = MessageBuilder.withPayload("")
+            .setHeader(ConsumerService.HEADER_EXECUTION_ID, executionId.toString())
+            .build();
+
+        consumerService.consumeCancel().accept(message);
+
+        verify(cancellationService).cancel(executionId, null);
+    }
+
+    @Test
+    void consumeReferenceDataUpdateShouldInvalidateElement() {
+        UUID elementUuid = UUID.randomUUID();
+        Message<String> message = MessageBuilder.withPayload("")
+            .setHeader(ConsumerService.HEADER_ELEMENT_UUID, elementUuid.toString())
+            .build();
+
+        consumerService.consumeReferenceDataUpdate().accept(message);
+
+        verify(referenceDataCacheService).invalidate(elementUuid);
+    }
+
+    @Test
+    void consumeReferenceDataUpdateShouldInvalidateAllWithoutElement() {
+        consumerService.consumeReferenceDataUpdate().accept(MessageBuilder.withPayload("").build());
+
+        verify(referenceDataCacheService).invalidateAll();
     }
 }
@@ -9,6 +9,7 @@ package org.gridsuite.monitor.worker.server.messaging;
 import org.gridsuite.monitor.commons.types.messaging.MessageType;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStatusUpdate;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStepProgress;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -94,4 +95,37 @@ class NotificationServiceTest {
             })
         );
     }
+
+    @Test
+    void updateStepProgressShouldSendStepProgressUpdateMessage() {
+        UUID executionId = UUID.randomUUID();
+        ProcessExecutionStepProgress payload = new ProcessExecutionStepProgress();
+
+        notificationService.updateStepProgress(executionId, payload);
+
+        verify(streamBridge).send(
+            eq("publishMonitorWorkerUpdate-out-0"),
+            argThat((Message<?> message) -> {
+                assertThat(message.getPayload()).isSameAs(payload);
+                assertThat(message.getHeaders()).containsEntry(NotificationService.HEADER_MESSAGE_TYPE, MessageType.STEP_PROGRESS_UPDATE);
+                assertThat(message.getHeaders()).containsEntry(NotificationService.HEADER_EXECUTION_ID, executionId.toString());
+                return true;
+            })
+        );
+    }
+
+    @Test
+    void stepUpdatesShouldHaveIncreasingSequenceNumbers() {
+        UUID executionId = UUID.randomUUID();
+        ProcessExecutionStep scheduledStep = new ProcessExecutionStep();
+        ProcessExecutionStep otherScheduledStep = new ProcessExecutionStep();
+        ProcessExecutionStep runningStep = new ProcessExecutionStep();
+
+        notificationService.updateStepsStatuses(executionId, List.of(scheduledStep, otherScheduledStep));
+        notificationService.updateStepStatus(executionId, runningStep);
+
+        assertThat(scheduledStep.getSequenceNumber()).isPositive();
+        assertThat(otherScheduledStep.getSequenceNumber()).isGreaterThan(scheduledStep.getSequenceNumber());
+        assertThat(runningStep.getSequenceNumber()).isGreaterThan(otherScheduledStep.getSequenceNumber());
+    }
 }
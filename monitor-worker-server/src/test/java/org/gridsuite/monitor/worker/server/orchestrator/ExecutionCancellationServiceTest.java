@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class ExecutionCancellationServiceTest {
+
+    private static final Instant SCHEDULED_AT = Instant.parse("2026-01-01T10:00:00Z");
+
+    private final ExecutionCancellationService cancellationService = new ExecutionCancellationService(Duration.ofHours(1));
+
+    @Test
+    void cancelShouldCancelRunningExecutionOnly() {
+        UUID executionId = UUID.randomUUID();
+        CancellationToken coordinatorToken = new CancellationToken();
+        CancellationToken shardToken = new CancellationToken();
+        CancellationToken otherToken = new CancellationToken();
+        AtomicInteger listenerCalls = new AtomicInteger();
+        coordinatorToken.onCancel(listenerCalls::incrementAndGet);
+        cancellationService.register(executionId, SCHEDULED_AT, coordinatorToken);
+        cancellationService.register(executionId, SCHEDULED_AT, shardToken);
+        cancellationService.register(UUID.randomUUID(), SCHEDULED_AT, otherToken);
+
+        cancellationService.cancel(executionId, SCHEDULED_AT);
+        cancellationService.cancel(executionId, SCHEDULED_AT);
+
+        assertThat(coordinatorToken.isCancelled()).isTrue();
+        assertThat(shardToken.isCancelled()).isTrue();
+        assertThat(otherToken.isCancelled()).isFalse();
+        assertThat(listenerCalls).hasValue(1);
+    }
+
+    @Test
+    void registerShouldCancelExecutionCancelledBeforeStart() {
+        UUID executionId = UUID.randomUUID();
+        cancellationService.cancel(executionId, SCHEDULED_AT);
+        CancellationToken cancellationToken = new CancellationToken();
+
+        cancellationService.register(executionId, SCHEDULED_AT, cancellationToken);
+
+        assertThat(cancellationService.isCancelled(executionId, SCHEDULED_AT)).isTrue();
+        assertThat(cancellationToken.isCancelled()).isTrue();
+    }
+
+    @Test
+    void registerShouldNotCancelRetriedExecution() {
+        UUID executionId = UUID.randomUUID();
+        Instant retriedAt = SCHEDULED_AT.plusSeconds(60);
+        cancellationService.cancel(executionId, SCHEDULED_AT);
+        CancellationToken cancellationToken = new CancellationToken();
+
+        cancellationService.register(executionId, retriedAt, cancellationToken);
+
+        assertThat(cancellationService.isCancelled(executionId, retriedAt)).isFalse();
+        assertThat(cancellationToken.isCancelled()).isFalse();
+    }
+
+    @Test
+    void cancelShouldCancelAllAttemptsWhenAttemptIsUnknown() {
+        UUID executionId = UUID.randomUUID();
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationService.register(executionId, SCHEDULED_AT, cancellationToken);
+
+        cancellationService.cancel(executionId, null);
+
+        assertThat(cancellationToken.isCancelled()).isTrue();
+        assertThat(cancellationService.isCancelled(executionId, SCHEDULED_AT.plusSeconds(60))).isTrue();
+    }
+
+    @Test
+    void cancelShouldNotCancelLaterAttempt() {
+        UUID executionId = UUID.randomUUID();
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationService.register(executionId, SCHEDULED_AT.plusSeconds(60), cancellationToken);
+
+        // cancellation of the previous attempt received late
+        cancellationService.cancel(executionId, SCHEDULED_AT);
+
+        assertThat(cancellationToken.isCancelled()).isFalse();
+    }
+
+    @Test
+    void unregisteredExecutionShouldNotBeCancelled() {
+        UUID executionId = UUID.randomUUID();
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationService.register(executionId, SCHEDULED_AT, cancellationToken);
+        cancellationService.unregister(executionId, cancellationToken);
+
+        cancellationService.cancel(executionId, SCHEDULED_AT);
+
+        assertThat(cancellationToken.isCancelled()).isFalse();
+    }
+
+    @Test
+    void requeueAllShouldRequeueRunningExecutions() {
+        UUID executionId = UUID.randomUUID();
+        CancellationToken coordinatorToken = new CancellationToken();
+        CancellationToken shardToken = new CancellationToken();
+        cancellationService.register(executionId, SCHEDULED_AT, coordinatorToken);
+        cancellationService.register(executionId, SCHEDULED_AT, shardToken);
+
+        assertThat(cancellationService.getRunningExecutionCount()).isEqualTo(1);
+
+        cancellationService.requeueAll();
+
+        assertThat(coordinatorToken.isRequeued()).isTrue();
+        assertThat(shardToken.isRequeued()).isTrue();
+        assertThat(cancellationService.isCancelled(executionId, SCHEDULED_AT)).isFalse();
+    }
+
+    @Test
+    void registerShouldRequeueExecutionStartingAfterRequeueAll() {
+        cancellationService.requeueAll();
+
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationService.register(UUID.randomUUID(), SCHEDULED_AT, cancellationToken);
+
+        assertThat(cancellationToken.isRequeued()).isTrue();
+        assertThat(cancellationToken.isCancelled()).isFalse();
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.binding.BindingsLifecycleController;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ExtendWith(MockitoExtension.class)
+class ExecutionDrainServiceTest {
+
+    @Mock
+    private BindingsLifecycleController bindingsController;
+
+    @Mock
+    private ProcessExecutionPoolService executionPoolService;
+
+    @Mock
+    private StreamBridge publisher;
+
+    @Mock
+    private ProcessConfig processConfig;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExecutionCancellationService cancellationService;
+
+    private ExecutionDrainService drainService;
+
+    private final AtomicInteger runningExecutions = new AtomicInteger();
+
+    private final AtomicInteger waitingExecutions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cancellationService = new ExecutionCancellationService(Duration.ofHours(1));
+        drainService = new ExecutionDrainService(bindingsController, cancellationService, executionPoolService, publisher, meterRegistry,
+            Duration.ofSeconds(10), Duration.ofSeconds(10));
+    }
+
+    private void countPoolExecutions() {
+        when(executionPoolService.getRunningExecutions()).thenAnswer(invocation -> runningExecutions.get());
+        when(executionPoolService.getWaitingExecutions()).thenAnswer(invocation -> waitingExecutions.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        drainService.shutdown();
+    }
+
+    @Test
+    void drainShouldStopConsumingRunsAndWaitForRunningExecutions() throws Exception {
+        countPoolExecutions();
+        UUID executionId = UUID.randomUUID();
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationService.register(executionId, null, cancellationToken);
+        runningExecutions.set(1);
+
+        Future<?> drain = drainService.startDrain();
+
+        verify(bindingsController, timeout(5000)).changeState(ExecutionDrainService.RUN_BINDING, BindingsLifecycleController.State.STOPPED);
+        assertThat(drainService.getState()).isEqualTo(ExecutionDrainService.State.DRAINING);
+        assertThat(drainService.startDrain()).isSameAs(drain);
+
+        cancellationService.unregister(executionId, cancellationToken);
+        runningExecutions.set(0);
+        drain.get(5, TimeUnit.SECONDS);
+
+        assertThat(drainService.getState()).isEqualTo(ExecutionDrainService.State.DRAINED);
+        assertThat(cancellationToken.isCancelled()).isFalse();
+    }
+
+    @Test
+    void drainShouldWaitForExecutionsWaitingForAdmission() throws Exception {
+        countPoolExecutions();
+        waitingExecutions.set(1);
+
+        Future<?> drain = drainService.startDrain();
+
+        verify(bindingsController, timeout(5000)).changeState(ExecutionDrainService.RUN_BINDING, BindingsLifecycleController.State.STOPPED);
+        Thread.sleep(200);
+        assertThat(drain).isNotDone();
+        assertThat(drainService.getRunningExecutionCount()).isEqualTo(1);
+
+        waitingExecutions.set(0);
+        drain.get(5, TimeUnit.SECONDS);
+
+        assertThat(drainService.getState()).isEqualTo(ExecutionDrainService.State.DRAINED);
+    }
+
+    @Test
+    void drainShouldRequeueExecutionsStillRunningAfterGracePeriod() throws Exception {
+        countPoolExecutions();
+        ExecutionDrainService shortDrainService = new ExecutionDrainService(bindingsController, cancellationService, executionPoolService,
+            publisher, meterRegistry, Duration.ofMillis(50), Duration.ofSeconds(10));
+        UUID executionId = UUID.randomUUID();
+        CancellationToken cancellationToken = new CancellationToken();
+        // the execution ends as soon as it is requeued
+        cancellationToken.onCancel(() -> {
+            cancellationService.unregister(executionId, cancellationToken);
+            runningExecutions.set(0);
+        });
+        cancellationService.register(executionId, null, cancellationToken);
+        runningExecutions.set(1);
+
+        shortDrainService.startDrain().get(5, TimeUnit.SECONDS);
+
+        assertThat(cancellationToken.isRequeued()).isTrue();
+        assertThat(shortDrainService.getState()).isEqualTo(ExecutionDrainService.State.DRAINED);
+        shortDrainService.shutdown();
+    }
+
+    @Test
+    void stopShouldDrainWorker() {
+        drainService.start();
+        assertThat(drainService.isRunning()).isTrue();
+
+        drainService.stop();
+
+        verify(bindingsController).changeState(ExecutionDrainService.RUN_BINDING, BindingsLifecycleController.State.STOPPED);
+        verify(bindingsController).changeState(ExecutionDrainService.SHARD_RUN_BINDING, BindingsLifecycleController.State.STOPPED);
+        assertThat(drainService.getState()).isEqualTo(ExecutionDrainService.State.DRAINED);
+        assertThat(drainService.isRunning()).isFalse();
+    }
+
+    @Test
+    void requeueShouldPublishRunMessageResumingExecution() {
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(UUID.randomUUID(), UUID.randomUUID(), processConfig,
+            UUID.randomUUID(), "debug", false, Instant.parse("2026-01-01T10:00:00Z"));
+
+        drainService.requeue(runMessage, null);
+
+        verify(publisher).send(eq(ExecutionDrainService.REQUEUE_BINDING), argThat((Message<?> message) -> {
+            assertThat(message.getPayload()).isEqualTo(new ProcessRunMessage<>(runMessage.executionId(), runMessage.caseUuid(),
+                processConfig, runMessage.reportId(), "debug", true, runMessage.scheduledAt()));
+            assertThat(message.getHeaders()).doesNotContainKey(ShardCoordinationService.HEADER_SHARD_INDEX);
+            return true;
+        }));
+        assertThat(meterRegistry.get(ExecutionDrainService.REQUEUED_METER).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void requeueShouldPublishShardRunMessage() {
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(UUID.randomUUID(), UUID.randomUUID(), processConfig,
+            UUID.randomUUID(), null);
+
+        drainService.requeue(runMessage, new ExecutionShard(2, 3));
+
+        verify(publisher).send(eq(ExecutionDrainService.REQUEUE_SHARD_BINDING), argThat((Message<?> message) -> {
+            assertThat(message.getPayload()).isEqualTo(runMessage);
+            assertThat(message.getHeaders())
+                .containsEntry(ShardCoordinationService.HEADER_SHARD_INDEX, "2")
+                .containsEntry(ShardCoordinationService.HEADER_SHARD_COUNT, "3");
+            return true;
+        }));
+    }
+}
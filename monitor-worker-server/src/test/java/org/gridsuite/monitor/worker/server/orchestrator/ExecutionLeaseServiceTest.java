@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.monitor.worker.server.clients.MonitorServerRestClient;
+import org.gridsuite.monitor.worker.server.clients.MonitorServerRestClient.LeaseClaim;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ExtendWith(MockitoExtension.class)
+class ExecutionLeaseServiceTest {
+
+    private static final Duration LEASE_DURATION = Duration.ofSeconds(10);
+
+    @Mock
+    private MonitorServerRestClient monitorServerRestClient;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExecutionLeaseService leaseService;
+
+    private UUID executionId;
+
+    @BeforeEach
+    void setUp() {
+        leaseService = new ExecutionLeaseService(monitorServerRestClient, meterRegistry, true, LEASE_DURATION, Duration.ofMillis(20), "test-env");
+        executionId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaseService.shutdown();
+    }
+
+    private double countClaims(String outcome) {
+        return meterRegistry.get("monitor.worker.leases").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void acquireShouldRenewLeaseUntilClosedThenReleaseIt() {
+        String owner = leaseService.getOwner();
+        when(monitorServerRestClient.acquireLease(executionId, owner, LEASE_DURATION)).thenReturn(LeaseClaim.ACQUIRED);
+
+        Optional<ExecutionLeaseService.Lease> lease = leaseService.acquire(executionId, new CancellationToken());
+
+        assertThat(lease).isPresent();
+        assertThat(lease.get().takenOver()).isFalse();
+        // claimed, then renewed at least twice
+        verify(monitorServerRestClient, timeout(5000).atLeast(3)).acquireLease(executionId, owner, LEASE_DURATION);
+        lease.get().close();
+        verify(monitorServerRestClient).releaseLease(executionId, owner);
+        assertThat(countClaims("acquired")).isEqualTo(1);
+    }
+
+    @Test
+    void acquireShouldBeRefusedWhileAnotherWorkerHoldsLease() {
+        ExecutionLeaseService shortLeaseService = new ExecutionLeaseService(monitorServerRestClient, meterRegistry, true, Duration.ofMillis(200),
+            Duration.ofMillis(20), "test-env");
+        when(monitorServerRestClient.acquireLease(eq(executionId), any(), any())).thenReturn(LeaseClaim.HELD);
+
+        assertThat(shortLeaseService.acquire(executionId, new CancellationToken())).isEmpty();
+        assertThat(countClaims("refused")).isEqualTo(1);
+        // claimed again until the lease of the other worker would have expired
+        verify(monitorServerRestClient, atLeast(2)).acquireLease(eq(executionId), any(), any());
+        verify(monitorServerRestClient, never()).releaseLease(any(), any());
+        shortLeaseService.shutdown();
+    }
+
+    @Test
+    void acquireShouldBeRefusedRightAwayWhenExecutionIsOver() {
+        when(monitorServerRestClient.acquireLease(eq(executionId), any(), any())).thenReturn(LeaseClaim.OVER);
+
+        assertThat(leaseService.acquire(executionId, new CancellationToken())).isEmpty();
+        assertThat(countClaims("refused")).isEqualTo(1);
+        verify(monitorServerRestClient, times(1)).acquireLease(eq(executionId), any(), any());
+        verify(monitorServerRestClient, never()).releaseLease(any(), any());
+    }
+
+    @Test
+    void acquireShouldStopWaitingForLeaseWhenExecutionIsCancelled() throws Exception {
+        ExecutionLeaseService longWaitLeaseService = new ExecutionLeaseService(monitorServerRestClient, meterRegistry, true, Duration.ofMinutes(10),
+            Duration.ofMinutes(1), "test-env");
+        when(monitorServerRestClient.acquireLease(eq(executionId), any(), any())).thenReturn(LeaseClaim.HELD);
+        CancellationToken cancellationToken = new CancellationToken();
+        ExecutorService claimExecutor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<ExecutionLeaseService.Lease>> lease = claimExecutor.submit(() -> longWaitLeaseService.acquire(executionId, cancellationToken));
+            verify(monitorServerRestClient, timeout(5000)).acquireLease(eq(executionId), any(), any());
+
+            cancellationToken.cancel();
+
+            assertThat(lease.get(5, TimeUnit.SECONDS)).isEmpty();
+            verify(monitorServerRestClient, times(1)).acquireLease(eq(executionId), any(), any());
+        } finally {
+            claimExecutor.shutdownNow();
+            longWaitLeaseService.shutdown();
+        }
+    }
+
+    @Test
+    void acquireShouldTakeExecutionOverOnceLeaseOfAnotherWorkerExpires() {
+        when(monitorServerRestClient.acquireLease(eq(executionId), any(), any())).thenReturn(LeaseClaim.HELD, LeaseClaim.HELD, LeaseClaim.TAKEN_OVER);
+
+        Optional<ExecutionLeaseService.Lease> lease = leaseService.acquire(executionId, new CancellationToken());
+
+        assertThat(lease).map(ExecutionLeaseService.Lease::takenOver).contains(true);
+        assertThat(countClaims("taken-over")).isEqualTo(1);
+        lease.get().close();
+    }
+
+    @Test
+    void acquireShouldBeRefusedWhileThisWorkerComputesExecution() {
+        when(monitorServerRestClient.acquireLease(eq(executionId), any(), any())).thenReturn(LeaseClaim.ACQUIRED);
+
+        Optional<ExecutionLeaseService.Lease> lease = leaseService.acquire(executionId, new CancellationToken());
+        Optional<ExecutionLeaseService.Lease> redeliveredLease = leaseService.acquire(executionId, new CancellationToken());
+
+        assertThat(lease).isPresent();
+        assertThat(redeliveredLease).isEmpty();
+        lease.get().close();
+        assertThat(leaseService.acquire(executionId, new CancellationToken())).isPresent();
+    }
+
+    @Test
+    void acquireShouldTellWhenExecutionIsTakenOver() {
+        when(monitorServerRestClient.acquireLease(eq(executionId), any(), any())).thenReturn(LeaseClaim.TAKEN_OVER);
+
+        Optional<ExecutionLeaseService.Lease> lease = leaseService.acquire(executionId, new CancellationToken());
+
+        assertThat(lease).map(ExecutionLeaseService.Lease::takenOver).contains(true);
+        assertThat(countClaims("taken-over")).isEqualTo(1);
+    }
+
+    @Test
+    void acquireShouldSucceedWhenMonitorServerIsUnavailable() {
+        when(monitorServerRestClient.acquireLease(eq(executionId), any(), any())).thenThrow(new ResourceAccessException("Connection refused"));
+
+        Optional<ExecutionLeaseService.Lease> lease = leaseService.acquire(executionId, new CancellationToken());
+
+        assertThat(lease).map(ExecutionLeaseService.Lease::takenOver).contains(false);
+    }
+
+    @Test
+    void renewalShouldCancelExecutionWhenLeaseIsTakenOver() throws InterruptedException {
+        when(monitorServerRestClient.acquireLease(eq(executionId), any(), any())).thenReturn(LeaseClaim.ACQUIRED, LeaseClaim.HELD);
+        CancellationToken cancellationToken = new CancellationToken();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        cancellationToken.onCancel(cancelled::countDown);
+
+        Optional<ExecutionLeaseService.Lease> lease = leaseService.acquire(executionId, cancellationToken);
+
+        assertThat(lease).isPresent();
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(countClaims("lost")).isEqualTo(1);
+    }
+
+    @Test
+    void disabledLeasesShouldNotCallMonitorServer() {
+        ExecutionLeaseService disabledService = new ExecutionLeaseService(monitorServerRestClient, meterRegistry, false, LEASE_DURATION,
+            Duration.ofSeconds(1), "test-env");
+
+        Optional<ExecutionLeaseService.Lease> lease = disabledService.acquire(executionId, new CancellationToken());
+        lease.orElseThrow().close();
+
+        verifyNoInteractions(monitorServerRestClient);
+        disabledService.shutdown();
+    }
+
+    @Test
+    void renewIntervalShouldBeShorterThanLeaseDuration() {
+        assertThatThrownBy(() -> new ExecutionLeaseService(monitorServerRestClient, meterRegistry, true, LEASE_DURATION, LEASE_DURATION, "test-env"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
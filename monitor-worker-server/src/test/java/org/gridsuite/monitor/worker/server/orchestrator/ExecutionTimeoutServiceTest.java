@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
+import org.gridsuite.monitor.worker.server.config.ExecutionTimeoutProperties;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.process.loadflow.LoadflowStepType;
+import org.gridsuite.monitor.worker.server.process.securityanalysis.SecurityAnalysisStepType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ExtendWith(MockitoExtension.class)
+class ExecutionTimeoutServiceTest {
+
+    @Mock
+    private ProcessConfig processConfig;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExecutionTimeoutService timeoutService;
+
+    @BeforeEach
+    void setUp() {
+        timeoutService = new ExecutionTimeoutService(new ExecutionTimeoutProperties(
+            Map.of("run-sa-computation", Duration.ofMinutes(30)),
+            Map.of(ProcessType.SECURITY_ANALYSIS, Duration.ofMillis(50))), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timeoutService.shutdown();
+    }
+
+    @Test
+    void stepTimeoutsShouldMatchStepTypeNamesWhateverTheirSeparators() {
+        assertThat(timeoutService.getStepTimeout(SecurityAnalysisStepType.RUN_SA_COMPUTATION)).contains(Duration.ofMinutes(30));
+        assertThat(timeoutService.getStepTimeout(LoadflowStepType.RUN_LF_COMPUTATION)).isEmpty();
+        assertThat(timeoutService.getProcessTimeout(ProcessType.LOADFLOW)).isEmpty();
+    }
+
+    @Test
+    void watchProcessShouldTimeOutExecutionExceedingItsTimeLimit() throws InterruptedException {
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        ProcessExecutionContext<ProcessConfig> context = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), processConfig,
+            UUID.randomUUID(), "test-env", null);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        context.getCancellationToken().onCancel(cancelled::countDown);
+
+        timeoutService.watchProcess(context);
+
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(context.isTimedOut()).isTrue();
+        assertThat(meterRegistry.get("monitor.worker.timeouts").tag("scope", "process").tag("type", "SECURITY_ANALYSIS").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void watchProcessShouldNotTimeOutExecutionOnceClosed() throws InterruptedException {
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        ProcessExecutionContext<ProcessConfig> context = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), processConfig,
+            UUID.randomUUID(), "test-env", null);
+
+        timeoutService.watchProcess(context).close();
+        Thread.sleep(200);
+
+        assertThat(context.isCancelled()).isFalse();
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
+import org.gridsuite.monitor.worker.server.core.orchestrator.ProcessExecutor;
+import org.gridsuite.monitor.worker.server.services.NetworkCacheService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ExtendWith(MockitoExtension.class)
+class ProcessExecutionPoolServiceTest {
+
+    @Mock
+    private ProcessExecutor processExecutor;
+
+    @Mock
+    private NetworkCacheService networkCacheService;
+
+    @Mock
+    private ProcessConfig processConfig;
+
+    private ProcessExecutionPoolService poolService;
+
+    private final ExecutionCancellationService cancellationService = new ExecutionCancellationService(Duration.ofHours(1));
+
+    private final ExecutorService binderExecutor = Executors.newSingleThreadExecutor();
+
+    private static final MemoryUsage LARGE_FREE_HEAP = new MemoryUsage(0, DataSize.ofGigabytes(1).toBytes(), DataSize.ofGigabytes(1).toBytes(), DataSize.ofGigabytes(16).toBytes());
+    private static final MemoryUsage SMALL_FREE_HEAP = new MemoryUsage(0, DataSize.ofGigabytes(15).toBytes(), DataSize.ofGigabytes(15).toBytes(), DataSize.ofGigabytes(16).toBytes());
+
+    @AfterEach
+    void tearDown() {
+        binderExecutor.shutdownNow();
+        poolService.shutdown();
+    }
+
+    private ProcessExecutionPoolService createPoolService(int maxConcurrentExecutions, MemoryUsage heapUsage) {
+        return new ProcessExecutionPoolService(processExecutor, networkCacheService, cancellationService, new SimpleMeterRegistry(),
+            maxConcurrentExecutions, 1, DataSize.ofGigabytes(2), () -> heapUsage);
+    }
+
+    private ProcessRunMessage<ProcessConfig> createRunMessage(UUID caseUuid) {
+        return new ProcessRunMessage<>(UUID.randomUUID(), caseUuid, processConfig, UUID.randomUUID(), null);
+    }
+
+    private CountDownLatch blockExecution(ProcessRunMessage<ProcessConfig> runMessage) {
+        CountDownLatch executionReleased = new CountDownLatch(1);
+        doAnswer(invocation -> executionReleased.await(10, TimeUnit.SECONDS)).when(processExecutor).executeProcess(runMessage);
+        return executionReleased;
+    }
+
+    private void assertWaitsForRelease(ProcessRunMessage<ProcessConfig> runMessage, CountDownLatch executionReleased) throws Exception {
+        Future<?> submission = binderExecutor.submit(() -> poolService.submit(runMessage));
+        Thread.sleep(200);
+        assertThat(submission).isNotDone();
+        assertThat(poolService.getWaitingExecutions()).isEqualTo(1);
+
+        executionReleased.countDown();
+
+        submission.get(10, TimeUnit.SECONDS);
+        assertThat(poolService.getWaitingExecutions()).isZero();
+        verify(processExecutor, timeout(10000)).executeProcess(runMessage);
+    }
+
+    @Test
+    void submitShouldExecuteProcessInBackground() {
+        poolService = createPoolService(2, LARGE_FREE_HEAP);
+        when(networkCacheService.getEstimatedSize(any())).thenReturn(OptionalLong.empty());
+        ProcessRunMessage<ProcessConfig> runMessage = createRunMessage(UUID.randomUUID());
+        CountDownLatch executionReleased = blockExecution(runMessage);
+
+        poolService.submit(runMessage);
+
+        verify(processExecutor, timeout(10000)).executeProcess(runMessage);
+        assertThat(poolService.getRunningExecutions()).isEqualTo(1);
+        executionReleased.countDown();
+    }
+
+    @Test
+    void submitShouldAcknowledgeMessageOnceExecutionEnds() throws InterruptedException {
+        poolService = createPoolService(2, LARGE_FREE_HEAP);
+        when(networkCacheService.getEstimatedSize(any())).thenReturn(OptionalLong.empty());
+        ProcessRunMessage<ProcessConfig> runMessage = createRunMessage(UUID.randomUUID());
+        CountDownLatch executionReleased = blockExecution(runMessage);
+        CountDownLatch acknowledged = new CountDownLatch(1);
+
+        poolService.submit(runMessage, null, acknowledged::countDown);
+
+        verify(processExecutor, timeout(10000)).executeProcess(runMessage);
+        assertThat(acknowledged.getCount()).isEqualTo(1);
+        executionReleased.countDown();
+        assertThat(acknowledged.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void submitShouldWaitForFreeExecutionSlot() throws Exception {
+        poolService = createPoolService(1, LARGE_FREE_HEAP);
+        when(networkCacheService.getEstimatedSize(any())).thenReturn(OptionalLong.empty());
+        ProcessRunMessage<ProcessConfig> firstRunMessage = createRunMessage(UUID.randomUUID());
+        CountDownLatch firstExecutionReleased = blockExecution(firstRunMessage);
+        poolService.submit(firstRunMessage);
+
+        assertWaitsForRelease(createRunMessage(UUID.randomUUID()), firstExecutionReleased);
+    }
+
+    @Test
+    void submitShouldWaitForFreeHeap() throws Exception {
+        poolService = createPoolService(4, SMALL_FREE_HEAP);
+        when(networkCacheService.getEstimatedSize(any())).thenReturn(OptionalLong.empty());
+        ProcessRunMessage<ProcessConfig> firstRunMessage = createRunMessage(UUID.randomUUID());
+        CountDownLatch firstExecutionReleased = blockExecution(firstRunMessage);
+        poolService.submit(firstRunMessage);
+
+        assertWaitsForRelease(createRunMessage(UUID.randomUUID()), firstExecutionReleased);
+    }
+
+    @Test
+    void submitShouldAdmitCancelledExecutionRightAway() {
+        poolService = createPoolService(1, LARGE_FREE_HEAP);
+        when(networkCacheService.getEstimatedSize(any())).thenReturn(OptionalLong.empty());
+        ProcessRunMessage<ProcessConfig> firstRunMessage = createRunMessage(UUID.randomUUID());
+        CountDownLatch firstExecutionReleased = blockExecution(firstRunMessage);
+        poolService.submit(firstRunMessage);
+
+        ProcessRunMessage<ProcessConfig> cancelledRunMessage = createRunMessage(UUID.randomUUID());
+        cancellationService.cancel(cancelledRunMessage.executionId(), cancelledRunMessage.scheduledAt());
+        poolService.submit(cancelledRunMessage);
+
+        verify(processExecutor, timeout(10000)).executeProcess(cancelledRunMessage);
+        firstExecutionReleased.countDown();
+    }
+
+    @Test
+    void submitShouldUseEstimatedSizeOfCachedNetwork() {
+        poolService = createPoolService(4, SMALL_FREE_HEAP);
+        UUID cachedCaseUuid = UUID.randomUUID();
+        when(networkCacheService.getEstimatedSize(any())).thenReturn(OptionalLong.empty());
+        when(networkCacheService.getEstimatedSize(eq(cachedCaseUuid))).thenReturn(OptionalLong.of(DataSize.ofMegabytes(100).toBytes()));
+        ProcessRunMessage<ProcessConfig> firstRunMessage = createRunMessage(UUID.randomUUID());
+        CountDownLatch firstExecutionReleased = blockExecution(firstRunMessage);
+        poolService.submit(firstRunMessage);
+
+        ProcessRunMessage<ProcessConfig> secondRunMessage = createRunMessage(cachedCaseUuid);
+        poolService.submit(secondRunMessage);
+
+        verify(processExecutor, timeout(10000)).executeProcess(secondRunMessage);
+        firstExecutionReleased.countDown();
+    }
+
+    @Test
+    void submitShouldExecuteShardsWhileCoordinatorsHoldAllExecutionSlots() throws Exception {
+        poolService = createPoolService(1, LARGE_FREE_HEAP);
+        when(networkCacheService.getEstimatedSize(any())).thenReturn(OptionalLong.empty());
+        // each coordinating execution waits for its shard, computed by the same worker
+        ProcessRunMessage<ProcessConfig> firstRunMessage = createRunMessage(UUID.randomUUID());
+        ProcessRunMessage<ProcessConfig> secondRunMessage = createRunMessage(UUID.randomUUID());
+        CountDownLatch firstShardDone = new CountDownLatch(1);
+        CountDownLatch secondShardDone = new CountDownLatch(1);
+        doAnswer(invocation -> firstShardDone.await(10, TimeUnit.SECONDS)).when(processExecutor).executeProcess(firstRunMessage);
+        doAnswer(invocation -> secondShardDone.await(10, TimeUnit.SECONDS)).when(processExecutor).executeProcess(secondRunMessage);
+        doAnswer(invocation -> {
+            firstShardDone.countDown();
+            return null;
+        }).when(processExecutor).executeShard(firstRunMessage, new ExecutionShard(1, 2));
+        doAnswer(invocation -> {
+            secondShardDone.countDown();
+            return null;
+        }).when(processExecutor).executeShard(secondRunMessage, new ExecutionShard(1, 2));
+        ExecutorService shardBinderExecutor = Executors.newSingleThreadExecutor();
+        try {
+            poolService.submit(firstRunMessage);
+            Future<?> secondSubmission = binderExecutor.submit(() -> poolService.submit(secondRunMessage));
+            Thread.sleep(200);
+            assertThat(secondSubmission).isNotDone();
+
+            shardBinderExecutor.submit(() -> poolService.submit(firstRunMessage, new ExecutionShard(1, 2), () -> { }))
+                .get(10, TimeUnit.SECONDS);
+            assertThat(firstShardDone.await(10, TimeUnit.SECONDS)).isTrue();
+            secondSubmission.get(10, TimeUnit.SECONDS);
+            shardBinderExecutor.submit(() -> poolService.submit(secondRunMessage, new ExecutionShard(1, 2), () -> { }))
+                .get(10, TimeUnit.SECONDS);
+
+            assertThat(secondShardDone.await(10, TimeUnit.SECONDS)).isTrue();
+            verify(processExecutor, timeout(10000)).executeProcess(secondRunMessage);
+        } finally {
+            shardBinderExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void submitShouldReleaseSlotOfFailedExecution() {
+        poolService = createPoolService(1, LARGE_FREE_HEAP);
+        when(networkCacheService.getEstimatedSize(any())).thenReturn(OptionalLong.empty());
+        ProcessRunMessage<ProcessConfig> failingRunMessage = createRunMessage(UUID.randomUUID());
+        doThrow(new IllegalStateException("Execution failed")).when(processExecutor).executeProcess(failingRunMessage);
+        poolService.submit(failingRunMessage);
+
+        ProcessRunMessage<ProcessConfig> runMessage = createRunMessage(UUID.randomUUID());
+        poolService.submit(runMessage);
+
+        verify(processExecutor, timeout(10000)).executeProcess(runMessage);
+    }
+}
@@ -7,17 +7,25 @@
 package org.gridsuite.monitor.worker.server.orchestrator;
 
 import com.powsybl.commons.report.ReportNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessStatus;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
 import org.gridsuite.monitor.commons.types.processexecution.StepStatus;
 import org.gridsuite.monitor.worker.server.clients.ReportRestClient;
+import org.gridsuite.monitor.worker.server.config.ExecutionTimeoutProperties;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
 import org.gridsuite.monitor.worker.server.core.orchestrator.StepExecutor;
 import org.gridsuite.monitor.worker.server.core.process.Process;
 import org.gridsuite.monitor.worker.server.core.process.ProcessStep;
 import org.gridsuite.monitor.worker.server.core.process.ProcessStepType;
 import org.gridsuite.monitor.worker.server.messaging.NotificationService;
+import org.gridsuite.monitor.worker.server.services.ExecutionCheckpointService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,9 +33,14 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -49,6 +62,24 @@ class ProcessExecutionServiceTest {
     @Mock
     private ReportRestClient reportRestClient;
 
+    @Mock
+    private ShardCoordinationService shardCoordinationService;
+
+    @Mock
+    private ExecutionCheckpointService checkpointService;
+
+    @Mock
+    private ExecutionLeaseService leaseService;
+
+    @Mock
+    private ExecutionDrainService drainService;
+
+    private StepSchedulingService stepSchedulingService;
+
+    private ExecutionCancellationService cancellationService;
+
+    private ExecutionTimeoutService timeoutService;
+
     private ProcessExecutionService processExecutionService;
 
     private static final String EXECUTION_ENV_NAME = "test-env";
@@ -56,8 +87,20 @@ class ProcessExecutionServiceTest {
     @BeforeEach
     void setUp() {
         when(process.getProcessType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
-        StepExecutor stepExecutor = new StepExecutionService(notificationService, reportRestClient);
-        processExecutionService = new ProcessExecutionService(List.of(process), stepExecutor, notificationService, reportRestClient, EXECUTION_ENV_NAME);
+        timeoutService = new ExecutionTimeoutService(new ExecutionTimeoutProperties(Map.of("SLOW_STEP", Duration.ofMillis(100)), Map.of()),
+            new SimpleMeterRegistry());
+        StepExecutor stepExecutor = new StepExecutionService(notificationService, reportRestClient, timeoutService, checkpointService, Duration.ZERO);
+        stepSchedulingService = new StepSchedulingService(stepExecutor, 1);
+        cancellationService = new ExecutionCancellationService(Duration.ofHours(1));
+        processExecutionService = new ProcessExecutionService(List.of(process), stepSchedulingService, notificationService, reportRestClient,
+            shardCoordinationService, cancellationService, timeoutService, checkpointService, leaseService, drainService, EXECUTION_ENV_NAME);
+        lenient().when(leaseService.acquire(any(), any())).thenReturn(Optional.of(new ExecutionLeaseService.Lease(false, () -> { })));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stepSchedulingService.shutdown();
+        timeoutService.shutdown();
     }
 
     private static ProcessStep<ProcessConfig> mockStep(UUID id, String typeName) {
@@ -102,6 +145,9 @@ class ProcessExecutionServiceTest {
             steps.get(2).getStepType().equals("STEP_3") &&
             steps.get(2).getStepOrder() == 2
         ));
+        verify(step1).prefetchInputs(any());
+        verify(step2).prefetchInputs(any());
+        verify(step3).prefetchInputs(any());
         verify(step1).execute(any());
         verify(step2).execute(any());
         verify(step3).execute(any());
@@ -116,6 +162,85 @@ class ProcessExecutionServiceTest {
             update.getExecutionEnvName().equals(EXECUTION_ENV_NAME) &&
             update.getCompletedAt() != null
         ));
+        verify(checkpointService, never()).restore(any());
+        verify(checkpointService).delete(executionId);
+    }
+
+    @Test
+    void executeProcessShouldResumeAfterCheckpointedStepsWhenRetried() {
+        UUID executionId = UUID.randomUUID();
+        UUID step2Id = UUID.randomUUID();
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "STEP_1");
+        ProcessStep<ProcessConfig> step2 = mockStep(step2Id, "STEP_2");
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1, step2));
+        doAnswer(invocation -> invocation.<ProcessExecutionContext<ProcessConfig>>getArgument(0).getCompletedStepOrders().add(0))
+            .when(checkpointService).restore(any());
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null, true, null);
+
+        processExecutionService.executeProcess(runMessage);
+
+        verify(notificationService).updateStepsStatuses(eq(executionId), argThat(steps ->
+            steps.size() == 1 &&
+            steps.getFirst().getId().equals(step2Id) &&
+            steps.getFirst().getStepOrder() == 1
+        ));
+        verify(step1, never()).prefetchInputs(any());
+        verify(step1, never()).execute(any());
+        verify(step2).execute(any());
+        verify(notificationService).updateExecutionStatus(eq(executionId), argThat(update ->
+            update.getStatus() == ProcessStatus.COMPLETED
+        ));
+    }
+
+    @Test
+    void executeProcessShouldIgnoreRunMessageWhenLeaseIsHeldByAnotherWorker() {
+        UUID executionId = UUID.randomUUID();
+        when(leaseService.acquire(eq(executionId), any())).thenReturn(Optional.empty());
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+
+        processExecutionService.executeProcess(runMessage);
+
+        verify(process, never()).getSteps();
+        verifyNoInteractions(notificationService);
+        verifyNoInteractions(reportRestClient);
+    }
+
+    @Test
+    void executeProcessShouldRequeueRunMessageWhenDrainedWhileWaitingForLease() {
+        UUID executionId = UUID.randomUUID();
+        when(leaseService.acquire(eq(executionId), any())).thenAnswer(invocation -> {
+            // the execution is registered while its lease is claimed, so that the drain stops the claim
+            cancellationService.requeueAll();
+            assertThat(invocation.getArgument(1, CancellationToken.class).isRequeued()).isTrue();
+            return Optional.empty();
+        });
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+
+        processExecutionService.executeProcess(runMessage);
+
+        verify(drainService).requeue(runMessage, null);
+        verifyNoInteractions(notificationService);
+        assertThat(cancellationService.getRunningExecutionCount()).isZero();
+    }
+
+    @Test
+    void executeProcessShouldResumeFromCheckpointWhenTakingOverExecution() {
+        UUID executionId = UUID.randomUUID();
+        CancellationToken.Registration leaseRegistration = mock(CancellationToken.Registration.class);
+        when(leaseService.acquire(eq(executionId), any())).thenReturn(Optional.of(new ExecutionLeaseService.Lease(true, leaseRegistration)));
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "STEP_1");
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1));
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+
+        processExecutionService.executeProcess(runMessage);
+
+        verify(checkpointService).restore(argThat(context -> context.getExecutionId().equals(executionId)));
+        verify(step1).execute(any());
+        verify(leaseRegistration).close();
     }
 
     @Test
@@ -146,6 +271,203 @@ class ProcessExecutionServiceTest {
             update.getStatus() == ProcessStatus.FAILED &&
             update.getCompletedAt() != null
         ));
+        verify(notificationService, never()).updateExecutionStatus(eq(executionId), argThat(update ->
+            update.getStatus() == ProcessStatus.COMPLETED
+        ));
+        verify(checkpointService, never()).delete(any());
+    }
+
+    @Test
+    void executeProcessShouldSkipRemainingStepsAndSendCancelledStatusWhenCancelled() {
+        UUID executionId = UUID.randomUUID();
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "STEP_1");
+        ProcessStep<ProcessConfig> step2 = mockStep(UUID.randomUUID(), "STEP_2");
+        doAnswer(invocation -> {
+            cancellationService.cancel(executionId, null);
+            invocation.<ProcessStepExecutionContext<ProcessConfig>>getArgument(0).getCancellationToken().throwIfCancelled();
+            return null;
+        }).when(step1).execute(any());
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1, step2));
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+
+        processExecutionService.executeProcess(runMessage);
+
+        verify(step2, never()).execute(any());
+        verify(notificationService).updateStepStatus(eq(executionId), argThat(step ->
+            step.getStepType().equals("STEP_1") && step.getStatus() == StepStatus.CANCELLED));
+        verify(notificationService).updateStepStatus(eq(executionId), argThat(step ->
+            step.getStepType().equals("STEP_2") && step.getStatus() == StepStatus.SKIPPED));
+        verify(notificationService).updateExecutionStatus(eq(executionId), argThat(update ->
+            update.getStatus() == ProcessStatus.CANCELLED &&
+            update.getCompletedAt() != null
+        ));
+    }
+
+    @Test
+    void executeProcessShouldRequeueExecutionWithoutFinalStatusWhenWorkerIsDrained() {
+        UUID executionId = UUID.randomUUID();
+        CancellationToken.Registration leaseRegistration = mock(CancellationToken.Registration.class);
+        when(leaseService.acquire(eq(executionId), any())).thenReturn(Optional.of(new ExecutionLeaseService.Lease(false, leaseRegistration)));
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "STEP_1");
+        ProcessStep<ProcessConfig> step2 = mockStep(UUID.randomUUID(), "STEP_2");
+        doAnswer(invocation -> {
+            cancellationService.requeueAll();
+            invocation.<ProcessStepExecutionContext<ProcessConfig>>getArgument(0).getCancellationToken().throwIfCancelled();
+            return null;
+        }).when(step1).execute(any());
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1, step2));
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+
+        processExecutionService.executeProcess(runMessage);
+
+        verify(step2, never()).execute(any());
+        InOrder inOrder = inOrder(leaseRegistration, drainService);
+        inOrder.verify(leaseRegistration).close();
+        inOrder.verify(drainService).requeue(runMessage, null);
+        verify(notificationService, never()).updateExecutionStatus(eq(executionId), argThat(update -> update.getStatus().isTerminal()));
+        verify(checkpointService, never()).delete(any());
+        assertThat(cancellationService.getRunningExecutionCount()).isZero();
+    }
+
+    @Test
+    void executeProcessShouldSkipRemainingStepsWhenStepTimesOut() {
+        UUID executionId = UUID.randomUUID();
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "SLOW_STEP");
+        ProcessStep<ProcessConfig> step2 = mockStep(UUID.randomUUID(), "STEP_2");
+        doAnswer(invocation -> {
+            Thread.sleep(Duration.ofMinutes(1));
+            return null;
+        }).when(step1).execute(any());
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1, step2));
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+
+        processExecutionService.executeProcess(runMessage);
+
+        verify(step2, never()).execute(any());
+        verify(notificationService).updateStepStatus(eq(executionId), argThat(step ->
+            step.getStepType().equals("SLOW_STEP") && step.getStatus() == StepStatus.TIMED_OUT));
+        verify(notificationService).updateStepStatus(eq(executionId), argThat(step ->
+            step.getStepType().equals("STEP_2") && step.getStatus() == StepStatus.SKIPPED));
+        verify(notificationService).updateExecutionStatus(eq(executionId), argThat(update ->
+            update.getStatus() == ProcessStatus.FAILED
+        ));
+    }
+
+    @Test
+    void executeProcessShouldNotExecuteStepsWhenCancelledBeforeStart() {
+        UUID executionId = UUID.randomUUID();
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "STEP_1");
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1));
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+        cancellationService.cancel(executionId, runMessage.scheduledAt());
+
+        processExecutionService.executeProcess(runMessage);
+
+        verify(step1, never()).prefetchInputs(any());
+        verify(step1, never()).execute(any());
+        verify(notificationService).updateExecutionStatus(eq(executionId), argThat(update ->
+            update.getStatus() == ProcessStatus.CANCELLED
+        ));
+    }
+
+    @Test
+    void executeProcessShouldExecuteStepsWhenCancelledExecutionIsRetried() {
+        UUID executionId = UUID.randomUUID();
+        Instant scheduledAt = Instant.parse("2026-01-01T10:00:00Z");
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "STEP_1");
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1));
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null,
+            false, scheduledAt);
+        cancellationService.cancel(executionId, scheduledAt);
+        processExecutionService.executeProcess(runMessage);
+
+        ProcessRunMessage<ProcessConfig> retryRunMessage = new ProcessRunMessage<>(executionId, runMessage.caseUuid(), processConfig,
+            runMessage.reportId(), null, true, scheduledAt.plusSeconds(60));
+        processExecutionService.executeProcess(retryRunMessage);
+
+        verify(step1).execute(any());
+        InOrder inOrder = inOrder(notificationService);
+        inOrder.verify(notificationService).updateExecutionStatus(eq(executionId), argThat(update ->
+            update.getStatus() == ProcessStatus.CANCELLED
+        ));
+        inOrder.verify(notificationService).updateExecutionStatus(eq(executionId), argThat(update ->
+            update.getStatus() == ProcessStatus.COMPLETED
+        ));
+    }
+
+    @Test
+    void executeProcessShouldExecuteStepsWhenPrefetchFails() {
+        UUID executionId = UUID.randomUUID();
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "STEP_1");
+        doThrow(new IllegalStateException("Prefetch failed")).when(step1).prefetchInputs(any());
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1));
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+
+        processExecutionService.executeProcess(runMessage);
+
+        verify(step1).execute(any());
+        verify(notificationService).updateExecutionStatus(eq(executionId), argThat(update ->
+            update.getStatus() == ProcessStatus.COMPLETED
+        ));
+    }
+
+    @Test
+    void executeShardShouldExecuteStepsWithoutPublishingStatuses() {
+        UUID executionId = UUID.randomUUID();
+        ExecutionShard shard = new ExecutionShard(1, 2);
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "STEP_1");
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1));
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+
+        processExecutionService.executeShard(runMessage, shard);
+
+        verify(step1).execute(argThat(context -> context.isShard() && context.getShard().equals(shard)));
+        verify(shardCoordinationService).publishShardDone(executionId, shard, true);
+        verifyNoInteractions(notificationService);
+        verifyNoInteractions(reportRestClient);
+    }
+
+    @Test
+    void executeShardShouldPublishFailedShardWhenStepFails() {
+        UUID executionId = UUID.randomUUID();
+        ExecutionShard shard = new ExecutionShard(1, 2);
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "STEP_1");
+        doThrow(new IllegalStateException("Step failed")).when(step1).execute(any());
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1));
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+
+        processExecutionService.executeShard(runMessage, shard);
+
+        verify(shardCoordinationService).publishShardDone(executionId, shard, false);
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void executeShardShouldRequeueShardWhenWorkerIsDrained() {
+        UUID executionId = UUID.randomUUID();
+        ExecutionShard shard = new ExecutionShard(1, 2);
+        ProcessStep<ProcessConfig> step1 = mockStep(UUID.randomUUID(), "STEP_1");
+        doAnswer(invocation -> {
+            cancellationService.requeueAll();
+            invocation.<ProcessStepExecutionContext<ProcessConfig>>getArgument(0).getCancellationToken().throwIfCancelled();
+            return null;
+        }).when(step1).execute(any());
+        when(processConfig.processType()).thenReturn(ProcessType.SECURITY_ANALYSIS);
+        when(process.getSteps()).thenReturn(List.of(step1));
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(executionId, UUID.randomUUID(), processConfig, UUID.randomUUID(), null);
+
+        processExecutionService.executeShard(runMessage, shard);
+
+        verify(drainService).requeue(runMessage, shard);
+        verify(shardCoordinationService, never()).publishShardDone(any(), any(), anyBoolean());
     }
 
     @Test
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import org.gridsuite.monitor.commons.types.messaging.ProcessRunMessage;
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ExtendWith(MockitoExtension.class)
+class ShardCoordinationServiceTest {
+
+    private static final UUID EXECUTION_ID = UUID.randomUUID();
+
+    @Mock
+    private StreamBridge streamBridge;
+
+    @Mock
+    private ProcessConfig processConfig;
+
+    private ShardCoordinationService shardCoordinationService;
+
+    @BeforeEach
+    void setUp() {
+        shardCoordinationService = new ShardCoordinationService(streamBridge);
+    }
+
+    @Test
+    void publishShardsShouldSendRunMessagePerDelegatedShard() {
+        ProcessRunMessage<ProcessConfig> runMessage = new ProcessRunMessage<>(EXECUTION_ID, UUID.randomUUID(), processConfig, UUID.randomUUID(), "debug");
+
+        shardCoordinationService.publishShards(runMessage, 3);
+
+        verify(streamBridge, times(2)).send(eq("publishShardRun-out-0"), argThat((Message<?> message) -> {
+            assertThat(message.getPayload()).isInstanceOfSatisfying(ProcessRunMessage.class, payload -> {
+                assertThat(payload.executionId()).isEqualTo(EXECUTION_ID);
+                assertThat(payload.debugFileLocation()).isNull();
+            });
+            assertThat(message.getHeaders()).containsEntry(ShardCoordinationService.HEADER_SHARD_COUNT, "3");
+            return true;
+        }));
+    }
+
+    @Test
+    void awaitShardsShouldReturnWhenAllShardsAreDone() {
+        shardCoordinationService.publishShards(new ProcessRunMessage<>(EXECUTION_ID, UUID.randomUUID(), processConfig, UUID.randomUUID(), null), 3);
+        shardCoordinationService.onShardDone(EXECUTION_ID, 2, true);
+        shardCoordinationService.onShardDone(EXECUTION_ID, 2, true);
+        shardCoordinationService.onShardDone(EXECUTION_ID, 1, true);
+        List<Integer> doneShards = new ArrayList<>();
+
+        shardCoordinationService.awaitShards(EXECUTION_ID, Duration.ofSeconds(10), new CancellationToken(), doneShards::add);
+
+        assertThat(doneShards).containsExactly(2, 1);
+    }
+
+    @Test
+    void awaitShardsShouldFailWhenShardFails() {
+        shardCoordinationService.publishShards(new ProcessRunMessage<>(EXECUTION_ID, UUID.randomUUID(), processConfig, UUID.randomUUID(), null), 2);
+        shardCoordinationService.onShardDone(EXECUTION_ID, 1, false);
+
+        assertThatThrownBy(() -> shardCoordinationService.awaitShards(EXECUTION_ID, Duration.ofSeconds(10), new CancellationToken(), index -> { }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("failed");
+    }
+
+    @Test
+    void awaitShardsShouldFailWhenShardsAreNotDoneInTime() {
+        shardCoordinationService.publishShards(new ProcessRunMessage<>(EXECUTION_ID, UUID.randomUUID(), processConfig, UUID.randomUUID(), null), 2);
+
+        assertThatThrownBy(() -> shardCoordinationService.awaitShards(EXECUTION_ID, Duration.ofMillis(10), new CancellationToken(), index -> { }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("not done");
+    }
+
+    @Test
+    void awaitShardsShouldStopWhenExecutionIsCancelled() {
+        shardCoordinationService.publishShards(new ProcessRunMessage<>(EXECUTION_ID, UUID.randomUUID(), processConfig, UUID.randomUUID(), null), 2);
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationToken.cancel();
+
+        assertThatThrownBy(() -> shardCoordinationService.awaitShards(EXECUTION_ID, Duration.ofSeconds(10), cancellationToken, index -> { }))
+            .isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void publishShardDoneShouldSendShardOutcome() {
+        shardCoordinationService.publishShardDone(EXECUTION_ID, new ExecutionShard(1, 2), true);
+
+        verify(streamBridge).send(eq("publishShardResult-out-0"), argThat((Message<?> message) -> {
+            assertThat(message.getHeaders()).containsEntry(ShardCoordinationService.HEADER_EXECUTION_ID, EXECUTION_ID.toString());
+            assertThat(message.getHeaders()).containsEntry(ShardCoordinationService.HEADER_SHARD_INDEX, "1");
+            assertThat(message.getHeaders()).containsEntry(ShardCoordinationService.HEADER_SHARD_SUCCEEDED, "true");
+            return true;
+        }));
+    }
+}
@@ -7,22 +7,34 @@
 package org.gridsuite.monitor.worker.server.orchestrator;
 
 import com.powsybl.commons.report.ReportNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStep;
+import org.gridsuite.monitor.commons.types.messaging.ProcessExecutionStepProgress;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 import org.gridsuite.monitor.commons.types.processexecution.StepStatus;
 import org.gridsuite.monitor.worker.server.clients.ReportRestClient;
+import org.gridsuite.monitor.worker.server.config.ExecutionTimeoutProperties;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
+import org.gridsuite.monitor.worker.server.core.context.StepProgressListener;
 import org.gridsuite.monitor.worker.server.core.process.ProcessStep;
 import org.gridsuite.monitor.worker.server.core.process.ProcessStepType;
 import org.gridsuite.monitor.worker.server.messaging.NotificationService;
+import org.gridsuite.monitor.worker.server.services.ExecutionCheckpointService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.util.Map;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -48,11 +60,24 @@ class StepExecutionServiceTest {
     @Mock
     private ReportNode reportNode;
 
+    @Mock
+    private ExecutionCheckpointService checkpointService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExecutionTimeoutService timeoutService;
+
     private StepExecutionService stepExecutionService;
 
     @BeforeEach
     void setUp() {
-        stepExecutionService = new StepExecutionService(notificationService, reportRestClient);
+        timeoutService = new ExecutionTimeoutService(new ExecutionTimeoutProperties(Map.of("SLOW_STEP", Duration.ofMillis(100)), Map.of()), meterRegistry);
+        stepExecutionService = new StepExecutionService(notificationService, reportRestClient, timeoutService, checkpointService, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timeoutService.shutdown();
     }
 
     @Test
@@ -80,6 +105,41 @@ class StepExecutionServiceTest {
                 step.getStatus() == StepStatus.COMPLETED &&
                         step.getCompletedAt() != null
         ));
+        verify(context).markCompleted();
+        verify(checkpointService, never()).save(any());
+    }
+
+    @Test
+    void executeStepShouldCheckpointExecutionBeforeSendingCompletedStatusWhenRequired() {
+        UUID executionId = UUID.randomUUID();
+        ProcessStepExecutionContext<ProcessConfig> context = createStepExecutionContext(executionId, UUID.randomUUID(), 0);
+        when(context.isCheckpointRequired()).thenReturn(true);
+        when(processStep.getType()).thenReturn(processStepType);
+        when(processStepType.getName()).thenReturn("LOAD_NETWORK");
+
+        stepExecutionService.executeStep(context, processStep);
+
+        InOrder inOrder = inOrder(context, checkpointService, notificationService);
+        inOrder.verify(context).markCompleted();
+        inOrder.verify(checkpointService).save(context);
+        inOrder.verify(notificationService).updateStepStatus(eq(executionId), argThat(step ->
+                step.getStatus() == StepStatus.COMPLETED
+        ));
+    }
+
+    @Test
+    void executeStepShouldNotCheckpointFailedStep() {
+        UUID executionId = UUID.randomUUID();
+        ProcessStepExecutionContext<ProcessConfig> context = createStepExecutionContext(executionId, UUID.randomUUID(), 0);
+        lenient().when(context.isCheckpointRequired()).thenReturn(true);
+        when(processStep.getType()).thenReturn(processStepType);
+        when(processStepType.getName()).thenReturn("LOAD_NETWORK");
+        doThrow(new IllegalStateException("Case not found")).when(processStep).execute(context);
+
+        assertThrows(IllegalStateException.class, () -> stepExecutionService.executeStep(context, processStep));
+
+        verify(context, never()).markCompleted();
+        verifyNoInteractions(checkpointService);
     }
 
     @Test
@@ -113,6 +173,59 @@ class StepExecutionServiceTest {
         verify(reportRestClient).sendReport(any(UUID.class), any(ReportNode.class));
     }
 
+    @Test
+    void executeStepShouldInterruptStepAndSendTimedOutStatusWhenTimeLimitIsExceeded() {
+        UUID executionId = UUID.randomUUID();
+        ProcessStepExecutionContext<ProcessConfig> context = createStepExecutionContext(executionId, UUID.randomUUID(), 1);
+        when(processStep.getType()).thenReturn(processStepType);
+        when(processStepType.getName()).thenReturn("SLOW_STEP");
+        doAnswer(invocation -> {
+            try {
+                // stands for a blocking call which never returns
+                Thread.sleep(Duration.ofMinutes(1));
+                return null;
+            } catch (InterruptedException e) {
+                throw new IllegalStateException("Interrupted", e);
+            }
+        }).when(processStep).execute(context);
+
+        assertThrows(IllegalStateException.class, () -> stepExecutionService.executeStep(context, processStep));
+
+        assertFalse(Thread.currentThread().isInterrupted());
+        verify(context).setNetwork(null);
+        verify(notificationService).updateStepStatus(eq(executionId), argThat(step ->
+                step.getStatus() == StepStatus.TIMED_OUT &&
+                        step.getCompletedAt() != null
+        ));
+        assertEquals(1, meterRegistry.get("monitor.worker.timeouts").tag("scope", "step").tag("type", "SLOW_STEP").counter().count());
+        verify(reportRestClient).sendReport(any(UUID.class), any(ReportNode.class));
+    }
+
+    @Test
+    void executeStepShouldThrottleProgressNotifications() {
+        StepExecutionService throttledStepExecutionService = new StepExecutionService(notificationService, reportRestClient, timeoutService, checkpointService, Duration.ofHours(1));
+        UUID executionId = UUID.randomUUID();
+        ProcessStepExecutionContext<ProcessConfig> context = createStepExecutionContext(executionId, UUID.randomUUID(), 1);
+        when(processStep.getType()).thenReturn(processStepType);
+        when(processStepType.getName()).thenReturn("PROGRESSING_STEP");
+
+        throttledStepExecutionService.executeStep(context, processStep);
+
+        ArgumentCaptor<StepProgressListener> listenerCaptor = ArgumentCaptor.forClass(StepProgressListener.class);
+        verify(context).setProgressListener(listenerCaptor.capture());
+        StepProgressListener listener = listenerCaptor.getValue();
+        listener.onProgress(0, 10);
+        listener.onProgress(4, 10);
+        listener.onProgress(10, 10);
+
+        ArgumentCaptor<ProcessExecutionStepProgress> progressCaptor = ArgumentCaptor.forClass(ProcessExecutionStepProgress.class);
+        verify(notificationService, times(2)).updateStepProgress(eq(executionId), progressCaptor.capture());
+        assertEquals(0, progressCaptor.getAllValues().get(0).getDone());
+        assertEquals(10, progressCaptor.getAllValues().get(1).getDone());
+        assertEquals(10, progressCaptor.getAllValues().get(1).getTotal());
+        assertEquals(context.getStepExecutionId(), progressCaptor.getAllValues().get(1).getStepId());
+    }
+
     @Test
     void skipStepShouldSendSkippedStatusWithoutExecutingStep() {
         UUID executionId = UUID.randomUUID();
@@ -141,6 +254,11 @@ class StepExecutionServiceTest {
         when(context.getReportNode()).thenReturn(reportNode);
         when(context.getStepOrder()).thenReturn(stepOrder);
         when(context.getProcessReportId()).thenReturn(processReportId);
+        when(context.getProcessStepType()).thenReturn(processStepType);
+        CancellationToken cancellationToken = new CancellationToken();
+        when(context.getCancellationToken()).thenReturn(cancellationToken);
+        when(context.isTimedOut()).thenAnswer(invocation -> cancellationToken.isTimedOut());
+        lenient().when(context.isCancelled()).thenAnswer(invocation -> cancellationToken.isCancelled());
 
         return context;
     }
@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.orchestrator;
+
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.orchestrator.StepExecutor;
+import org.gridsuite.monitor.worker.server.core.process.Process;
+import org.gridsuite.monitor.worker.server.core.process.ProcessStep;
+import org.gridsuite.monitor.worker.server.core.process.ProcessStepType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ExtendWith(MockitoExtension.class)
+class StepSchedulingServiceTest {
+
+    @Mock
+    private StepExecutor stepExecutor;
+
+    @Mock
+    private Process<ProcessConfig> process;
+
+    @Mock
+    private ProcessConfig processConfig;
+
+    private StepSchedulingService stepSchedulingService;
+
+    private ProcessExecutionContext<ProcessConfig> context;
+
+    @BeforeEach
+    void setUp() {
+        stepSchedulingService = new StepSchedulingService(stepExecutor, 2);
+        context = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), processConfig, UUID.randomUUID(), "test-env", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stepSchedulingService.shutdown();
+    }
+
+    private static ProcessStep<ProcessConfig> mockStep(String typeName) {
+        ProcessStep<ProcessConfig> step = mock(ProcessStep.class);
+        ProcessStepType type = mock(ProcessStepType.class);
+        lenient().when(step.getId()).thenReturn(UUID.randomUUID());
+        lenient().when(step.getType()).thenReturn(type);
+        lenient().when(type.getName()).thenReturn(typeName);
+        lenient().when(step.changesNetwork()).thenReturn(true);
+        return step;
+    }
+
+    @Test
+    void executeStepsShouldRunStepsSequentiallyWhenNoDependencyIsDeclared() {
+        ProcessStep<ProcessConfig> step1 = mockStep("STEP_1");
+        ProcessStep<ProcessConfig> step2 = mockStep("STEP_2");
+        ProcessStep<ProcessConfig> step3 = mockStep("STEP_3");
+        when(process.getSteps()).thenReturn(List.of(step1, step2, step3));
+
+        boolean succeeded = stepSchedulingService.executeSteps(process, context);
+
+        assertThat(succeeded).isTrue();
+        InOrder inOrder = inOrder(stepExecutor);
+        inOrder.verify(stepExecutor).executeStep(argThat(stepContext -> stepContext.getStepOrder() == 0), eq(step1));
+        inOrder.verify(stepExecutor).executeStep(argThat(stepContext -> stepContext.getStepOrder() == 1), eq(step2));
+        inOrder.verify(stepExecutor).executeStep(argThat(stepContext -> stepContext.getStepOrder() == 2), eq(step3));
+        verify(stepExecutor, never()).skipStep(any(), any());
+    }
+
+    @Test
+    void executeStepsShouldRunIndependentStepsConcurrently() {
+        ProcessStep<ProcessConfig> step1 = mockStep("STEP_1");
+        ProcessStep<ProcessConfig> step2 = mockStep("STEP_2");
+        ProcessStep<ProcessConfig> step3 = mockStep("STEP_3");
+        Map<UUID, Set<UUID>> dependencies = Map.of(
+            step2.getId(), Set.of(step1.getId()),
+            step3.getId(), Set.of(step1.getId()));
+        when(process.getSteps()).thenReturn(List.of(step1, step2, step3));
+        when(process.getStepDependencies()).thenReturn(dependencies);
+        // step2 and step3 can only complete if they are running at the same time
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ArgumentMatcher<ProcessStep<ProcessConfig>> concurrentSteps = step -> step == step2 || step == step3;
+        doAnswer(invocation -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Steps were not executed concurrently");
+            }
+            return null;
+        }).when(stepExecutor).executeStep(any(), argThat(concurrentSteps));
+
+        boolean succeeded = stepSchedulingService.executeSteps(process, context);
+
+        assertThat(succeeded).isTrue();
+        verify(stepExecutor).executeStep(any(), eq(step1));
+        verify(stepExecutor).executeStep(any(), eq(step2));
+        verify(stepExecutor).executeStep(any(), eq(step3));
+    }
+
+    @Test
+    void executeStepsShouldNotRunMoreStepsThanParallelismConcurrently() {
+        ProcessStep<ProcessConfig> step1 = mockStep("STEP_1");
+        ProcessStep<ProcessConfig> step2 = mockStep("STEP_2");
+        ProcessStep<ProcessConfig> step3 = mockStep("STEP_3");
+        when(process.getSteps()).thenReturn(List.of(step1, step2, step3));
+        when(process.getStepDependencies()).thenReturn(Map.of(step2.getId(), Set.of(), step3.getId(), Set.of()));
+        AtomicInteger runningSteps = new AtomicInteger();
+        AtomicInteger maxRunningSteps = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxRunningSteps.accumulateAndGet(runningSteps.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            runningSteps.decrementAndGet();
+            return null;
+        }).when(stepExecutor).executeStep(any(), any());
+
+        boolean succeeded = stepSchedulingService.executeSteps(process, context);
+
+        assertThat(succeeded).isTrue();
+        assertThat(maxRunningSteps).hasValueLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void executeStepsShouldOnlySkipStepsDependingOnFailedStep() {
+        ProcessStep<ProcessConfig> step1 = mockStep("STEP_1");
+        ProcessStep<ProcessConfig> step2 = mockStep("STEP_2");
+        ProcessStep<ProcessConfig> step3 = mockStep("STEP_3");
+        ProcessStep<ProcessConfig> step4 = mockStep("STEP_4");
+        Map<UUID, Set<UUID>> dependencies = Map.of(
+            step3.getId(), Set.of(),
+            step4.getId(), Set.of(step2.getId()));
+        when(process.getSteps()).thenReturn(List.of(step1, step2, step3, step4));
+        when(process.getStepDependencies()).thenReturn(dependencies);
+        doThrow(new RuntimeException("Step execution failed")).when(stepExecutor).executeStep(any(), eq(step1));
+
+        boolean succeeded = stepSchedulingService.executeSteps(process, context);
+
+        assertThat(succeeded).isFalse();
+        verify(stepExecutor).executeStep(any(), eq(step1));
+        verify(stepExecutor).executeStep(any(), eq(step3));
+        verify(stepExecutor, never()).executeStep(any(), eq(step2));
+        verify(stepExecutor, never()).executeStep(any(), eq(step4));
+        verify(stepExecutor).skipStep(argThat(stepContext -> stepContext.getStepOrder() == 1), eq(step2));
+        verify(stepExecutor).skipStep(argThat(stepContext -> stepContext.getStepOrder() == 3), eq(step4));
+    }
+
+    @Test
+    void executeStepsShouldNotRunStepsRestoredFromCheckpoint() {
+        ProcessStep<ProcessConfig> step1 = mockStep("STEP_1");
+        ProcessStep<ProcessConfig> step2 = mockStep("STEP_2");
+        ProcessStep<ProcessConfig> step3 = mockStep("STEP_3");
+        when(process.getSteps()).thenReturn(List.of(step1, step2, step3));
+        context.getCompletedStepOrders().add(0);
+
+        boolean succeeded = stepSchedulingService.executeSteps(process, context);
+
+        assertThat(succeeded).isTrue();
+        verify(stepExecutor, never()).executeStep(any(), eq(step1));
+        // only the steps with dependents are checkpointed
+        verify(stepExecutor).executeStep(argThat(stepContext -> stepContext.getStepOrder() == 1 && stepContext.isCheckpointRequired()), eq(step2));
+        verify(stepExecutor).executeStep(argThat(stepContext -> stepContext.getStepOrder() == 2 && !stepContext.isCheckpointRequired()), eq(step3));
+        verify(stepExecutor, never()).skipStep(any(), any());
+    }
+
+    @Test
+    void executeStepsShouldNotCheckpointStepsLeavingNetworkUnchanged() {
+        ProcessStep<ProcessConfig> step1 = mockStep("STEP_1");
+        ProcessStep<ProcessConfig> step2 = mockStep("STEP_2");
+        ProcessStep<ProcessConfig> step3 = mockStep("STEP_3");
+        when(step2.changesNetwork()).thenReturn(false);
+        when(process.getSteps()).thenReturn(List.of(step1, step2, step3));
+        when(process.getStepDependencies()).thenReturn(Map.of(step2.getId(), Set.of(), step3.getId(), Set.of(step1.getId(), step2.getId())));
+
+        boolean succeeded = stepSchedulingService.executeSteps(process, context);
+
+        assertThat(succeeded).isTrue();
+        verify(stepExecutor).executeStep(argThat(stepContext -> stepContext.getStepOrder() == 0 && stepContext.isCheckpointRequired()), eq(step1));
+        verify(stepExecutor).executeStep(argThat(stepContext -> stepContext.getStepOrder() == 1 && !stepContext.isCheckpointRequired()), eq(step2));
+    }
+
+    @Test
+    void executeStepsShouldThrowWhenDependenciesAreCyclic() {
+        ProcessStep<ProcessConfig> step1 = mockStep("STEP_1");
+        ProcessStep<ProcessConfig> step2 = mockStep("STEP_2");
+        Map<UUID, Set<UUID>> dependencies = Map.of(step1.getId(), Set.of(step2.getId()));
+        when(process.getSteps()).thenReturn(List.of(step1, step2));
+        when(process.getStepDependencies()).thenReturn(dependencies);
+
+        assertThatThrownBy(() -> stepSchedulingService.executeSteps(process, context))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cyclic dependencies");
+        verifyNoInteractions(stepExecutor);
+    }
+
+    @Test
+    void executeStepsShouldThrowWhenDependencyIsUnknown() {
+        ProcessStep<ProcessConfig> step1 = mockStep("STEP_1");
+        Map<UUID, Set<UUID>> dependencies = Map.of(step1.getId(), Set.of(UUID.randomUUID()));
+        when(process.getSteps()).thenReturn(List.of(step1));
+        when(process.getStepDependencies()).thenReturn(dependencies);
+
+        assertThatThrownBy(() -> stepSchedulingService.executeSteps(process, context))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not part of the process");
+        verifyNoInteractions(stepExecutor);
+    }
+}
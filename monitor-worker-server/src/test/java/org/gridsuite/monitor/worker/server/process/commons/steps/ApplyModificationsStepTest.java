@@ -17,10 +17,13 @@ import org.gridsuite.modification.dto.OperationType;
 import org.gridsuite.monitor.commons.types.processconfig.ModificationInfo;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 import org.gridsuite.monitor.worker.server.clients.NetworkModificationRestClient;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
 import org.gridsuite.monitor.worker.server.dto.networkmodifications.NetworkModificationsWithMissingInfo;
 import org.gridsuite.monitor.worker.server.services.FilterService;
+import org.gridsuite.monitor.worker.server.services.ModifiedNetworkCacheService;
 import org.gridsuite.monitor.worker.server.services.NetworkModificationService;
+import org.gridsuite.monitor.worker.server.services.NetworkStateKey;
 import org.gridsuite.monitor.worker.server.services.S3Service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -61,6 +64,9 @@ class ApplyModificationsStepTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private ModifiedNetworkCacheService modifiedNetworkCacheService;
+
     @Mock
     private ProcessConfig config;
 
@@ -69,6 +75,7 @@ class ApplyModificationsStepTest {
     @Mock
     private ProcessStepExecutionContext<ProcessConfig> stepContext;
 
+    private static final UUID CASE_UUID = UUID.randomUUID();
     private static final UUID MODIFICATION_UUID = UUID.randomUUID();
     private static final UUID MISSING_MODIFICATION_UUID = UUID.randomUUID();
     private static final UUID MODIFICATION_UUID_2 = UUID.randomUUID();
@@ -78,9 +85,10 @@ class ApplyModificationsStepTest {
 
     @BeforeEach
     void setUp() {
-        applyModificationsStep = new ApplyModificationsStep<>(networkModificationService, networkModificationRestClient, s3Service, filterService);
+        applyModificationsStep = new ApplyModificationsStep<>(networkModificationService, networkModificationRestClient, s3Service, filterService, modifiedNetworkCacheService);
         when(config.modifications()).thenReturn(List.of(new ModificationInfo(MODIFICATION_UUID, "descr", true)));
-        when(stepContext.getConfig()).thenReturn(config);
+        // prefetch tests use a process execution context instead of the step context
+        lenient().when(stepContext.getConfig()).thenReturn(config);
         reportNode = ReportNode.newRootReportNode()
                 .withResourceBundles("i18n.reports")
                 .withMessageTemplate("test")
@@ -98,6 +106,7 @@ class ApplyModificationsStepTest {
         Network network = EurostagTutorialExample1Factory.create();
         when(stepContext.getNetwork()).thenReturn(network);
         when(stepContext.getReportNode()).thenReturn(reportNode);
+        when(stepContext.getCaseUuid()).thenReturn(CASE_UUID);
         when(networkModificationRestClient.getModifications(any(List.class))).thenReturn(networkModificationsWithMissingInfo);
         doNothing().when(networkModificationService).applyModifications(any(Network.class), any(List.class), any(ReportNode.class), any(FilterService.class));
 
@@ -118,6 +127,7 @@ class ApplyModificationsStepTest {
         Network network = EurostagTutorialExample1Factory.create();
         when(stepContext.getNetwork()).thenReturn(network);
         when(stepContext.getReportNode()).thenReturn(reportNode);
+        when(stepContext.getCaseUuid()).thenReturn(CASE_UUID);
         when(networkModificationRestClient.getModifications(any(List.class))).thenReturn(networkModificationsWithMissingInfo);
 
         assertThrows(PowsyblException.class, () -> applyModificationsStep.execute(stepContext), "Some network composite modifications are missing");
@@ -153,6 +163,7 @@ class ApplyModificationsStepTest {
         Network network = EurostagTutorialExample1Factory.create();
         when(stepContext.getNetwork()).thenReturn(network);
         when(stepContext.getReportNode()).thenReturn(reportNode);
+        when(stepContext.getCaseUuid()).thenReturn(CASE_UUID);
         when(networkModificationRestClient.getModifications(any(List.class))).thenReturn(networkModificationsWithMissingInfo);
         doNothing().when(networkModificationService).applyModifications(any(Network.class), any(List.class), any(ReportNode.class), any(FilterService.class));
 
@@ -203,6 +214,7 @@ class ApplyModificationsStepTest {
         Network network = mock(Network.class);
         when(stepContext.getNetwork()).thenReturn(network);
         when(stepContext.getReportNode()).thenReturn(reportNode);
+        when(stepContext.getCaseUuid()).thenReturn(CASE_UUID);
         when(networkModificationRestClient.getModifications(any(List.class))).thenReturn(networkModificationsWithMissingInfo);
         doNothing().when(networkModificationService).applyModifications(any(Network.class), any(List.class), any(ReportNode.class), any(FilterService.class));
 
@@ -236,4 +248,70 @@ class ApplyModificationsStepTest {
 
         verify(network).write("XIIDM", null, mockedPath);
     }
+
+    @Test
+    void executeApplyModificationsShouldSkipModificationsAppliedToCachedNetwork() {
+        when(config.modifications()).thenReturn(List.of(
+            new ModificationInfo(MODIFICATION_UUID, "descr1", true),
+            new ModificationInfo(MODIFICATION_UUID_2, "descr2", true)));
+        when(stepContext.getReportNode()).thenReturn(reportNode);
+        when(stepContext.getCaseUuid()).thenReturn(CASE_UUID);
+        when(stepContext.getAppliedModificationsCount()).thenReturn(2);
+
+        applyModificationsStep.execute(stepContext);
+
+        verifyNoInteractions(networkModificationRestClient);
+        verifyNoInteractions(networkModificationService);
+        verifyNoInteractions(modifiedNetworkCacheService);
+    }
+
+    @Test
+    void executeApplyModificationsShouldOnlyApplyModificationsAppendedToCachedNetworkState() {
+        when(config.modifications()).thenReturn(List.of(
+            new ModificationInfo(MODIFICATION_UUID, "descr1", true),
+            new ModificationInfo(MODIFICATION_UUID_2, "descr2", true),
+            new ModificationInfo(MODIFICATION_UUID_3, "descr3", true)));
+        Network cachedNetwork = EurostagTutorialExample1Factory.create();
+        NetworkStateKey networkStateKey = new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID, MODIFICATION_UUID_2, MODIFICATION_UUID_3));
+        List<ModificationInfos> modificationInfos = List.of(LoadModificationInfos.builder().equipmentId("load1").q0(new AttributeModification<>(300., OperationType.SET)).build());
+        when(stepContext.getReportNode()).thenReturn(reportNode);
+        when(stepContext.getCaseUuid()).thenReturn(CASE_UUID);
+        when(stepContext.getNetwork()).thenReturn(cachedNetwork);
+        when(stepContext.getAppliedModificationsCount()).thenReturn(1);
+        when(networkModificationRestClient.getModifications(List.of(MODIFICATION_UUID_2, MODIFICATION_UUID_3)))
+            .thenReturn(new NetworkModificationsWithMissingInfo(modificationInfos, List.of()));
+
+        applyModificationsStep.execute(stepContext);
+
+        verify(networkModificationService).applyModifications(cachedNetwork, modificationInfos, reportNode, filterService);
+        verify(modifiedNetworkCacheService).putState(networkStateKey, cachedNetwork);
+    }
+
+    @Test
+    void prefetchInputsShouldFetchModificationsNotCached() {
+        when(config.modifications()).thenReturn(List.of(
+            new ModificationInfo(MODIFICATION_UUID, "descr1", true),
+            new ModificationInfo(MODIFICATION_UUID_2, "descr2", true)));
+        when(modifiedNetworkCacheService.getClosestStateLength(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID, MODIFICATION_UUID_2))))
+            .thenReturn(1);
+        ProcessExecutionContext<ProcessConfig> processContext = new ProcessExecutionContext<>(UUID.randomUUID(), CASE_UUID, config, UUID.randomUUID(), "test-env", null);
+
+        applyModificationsStep.prefetchInputs(processContext);
+
+        verify(networkModificationRestClient, timeout(10000)).getModifications(List.of(MODIFICATION_UUID_2));
+    }
+
+    @Test
+    void executeApplyModificationsShouldUsePrefetchedModifications() {
+        NetworkModificationsWithMissingInfo networkModificationsWithMissingInfo = new NetworkModificationsWithMissingInfo(List.of(), List.of());
+        when(networkModificationRestClient.getModifications(List.of(MODIFICATION_UUID))).thenReturn(networkModificationsWithMissingInfo);
+        ProcessExecutionContext<ProcessConfig> processContext = new ProcessExecutionContext<>(UUID.randomUUID(), CASE_UUID, config, UUID.randomUUID(), "test-env", null);
+        processContext.setNetwork(EurostagTutorialExample1Factory.create());
+
+        applyModificationsStep.prefetchInputs(processContext);
+        applyModificationsStep.execute(processContext.createStepContext(applyModificationsStep, 1));
+
+        verify(networkModificationRestClient, times(1)).getModifications(List.of(MODIFICATION_UUID));
+        verify(networkModificationService).applyModifications(any(Network.class), eq(List.of()), any(ReportNode.class), eq(filterService));
+    }
 }
@@ -9,20 +9,27 @@ package org.gridsuite.monitor.worker.server.process.commons.steps;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.gridsuite.monitor.commons.types.processconfig.ModificationInfo;
 import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
-import org.gridsuite.monitor.worker.server.services.NetworkConversionService;
+import org.gridsuite.monitor.worker.server.services.ModifiedNetworkCacheService;
+import org.gridsuite.monitor.worker.server.services.NetworkCacheService;
+import org.gridsuite.monitor.worker.server.services.NetworkStateKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,7 +40,13 @@ import static org.mockito.Mockito.when;
 class LoadNetworkStepTest {
 
     @Mock
-    private NetworkConversionService networkConversionService;
+    private NetworkCacheService networkCacheService;
+
+    @Mock
+    private ModifiedNetworkCacheService modifiedNetworkCacheService;
+
+    @Mock
+    private ProcessConfig config;
 
     private LoadNetworkStep<ProcessConfig> loadNetworkStep;
 
@@ -41,11 +54,17 @@ class LoadNetworkStepTest {
     private ProcessStepExecutionContext<ProcessConfig> stepContext;
 
     private static final UUID CASE_UUID = UUID.randomUUID();
+    private static final UUID MODIFICATION_UUID = UUID.randomUUID();
+    private static final UUID MODIFICATION_UUID_2 = UUID.randomUUID();
 
     @BeforeEach
     void setUp() {
-        loadNetworkStep = new LoadNetworkStep<>(networkConversionService);
+        loadNetworkStep = new LoadNetworkStep<>(networkCacheService, modifiedNetworkCacheService);
         when(stepContext.getCaseUuid()).thenReturn(CASE_UUID);
+        when(stepContext.getConfig()).thenReturn(config);
+        when(config.modifications()).thenReturn(List.of(
+            new ModificationInfo(MODIFICATION_UUID, "descr1", true),
+            new ModificationInfo(MODIFICATION_UUID_2, "descr2", true)));
         ReportNode reportNode = ReportNode.newRootReportNode()
                 .withResourceBundles("i18n.reports")
                 .withMessageTemplate("test")
@@ -56,17 +75,33 @@ class LoadNetworkStepTest {
     @Test
     void executeLoadNetwork() {
         Network expectedNetwork = EurostagTutorialExample1Factory.create();
-        when(networkConversionService.createNetwork(eq(CASE_UUID), any(ReportNode.class)))
+        when(networkCacheService.getNetwork(eq(CASE_UUID), any(ReportNode.class)))
             .thenReturn(expectedNetwork);
 
         loadNetworkStep.execute(stepContext);
 
         String stepType = loadNetworkStep.getType().getName();
         assertEquals("LOAD_NETWORK", stepType);
-        verify(networkConversionService).createNetwork(eq(CASE_UUID), any(ReportNode.class));
+        verify(networkCacheService).getNetwork(eq(CASE_UUID), any(ReportNode.class));
         verify(stepContext).setNetwork(expectedNetwork);
         ReportNode stepReportNode = stepContext.getReportNode();
         ReportNode importReportNode = stepReportNode.getChildren().getFirst();
         assertEquals("monitor.worker.server.importCase", importReportNode.getMessageKey());
+        verify(stepContext, never()).setAppliedModificationsCount(anyInt());
+    }
+
+    @Test
+    void executeLoadNetworkShouldReuseCachedModifiedNetworkInsteadOfImportingCase() {
+        Network cachedNetwork = EurostagTutorialExample1Factory.create();
+        NetworkStateKey cachedStateKey = new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID));
+        when(modifiedNetworkCacheService.findClosestState(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID, MODIFICATION_UUID_2))))
+            .thenReturn(Optional.of(new ModifiedNetworkCacheService.NetworkState(cachedStateKey, cachedNetwork)));
+
+        loadNetworkStep.execute(stepContext);
+
+        verify(networkCacheService, never()).getNetwork(any(), any());
+        verify(stepContext).setNetwork(cachedNetwork);
+        verify(stepContext).setAppliedModificationsCount(1);
+        assertEquals("monitor.worker.server.modifications.cached", stepContext.getReportNode().getChildren().getFirst().getMessageKey());
     }
 }
@@ -15,8 +15,12 @@ import com.powsybl.loadflow.LoadFlowRunParameters;
 import org.gridsuite.monitor.commons.types.processconfig.LoadFlowConfig;
 import org.gridsuite.monitor.commons.types.result.ResultType;
 import org.gridsuite.monitor.worker.server.clients.LoadFlowRestClient;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
 import org.gridsuite.monitor.worker.server.dto.parameters.loadflow.LoadFlowParametersInfos;
+import org.gridsuite.monitor.worker.server.services.ComputationService;
+import org.gridsuite.monitor.worker.server.services.ResultSpoolService;
+import org.gridsuite.monitor.worker.server.services.ResultSpoolService.SpooledResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,7 +28,11 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -40,6 +48,12 @@ class LoadflowRunComputationStepTest {
     @Mock
     private LoadFlowRestClient loadFlowRestClient;
 
+    @Mock
+    private ComputationService computationService;
+
+    @Mock
+    private ResultSpoolService resultSpoolService;
+
     @Mock
     private ProcessStepExecutionContext<LoadFlowConfig> stepContext;
 
@@ -50,19 +64,25 @@ class LoadflowRunComputationStepTest {
 
     private static final UUID PARAMS_UUID = UUID.randomUUID();
     private static final UUID RESULT_UUID = UUID.randomUUID();
+    private static final SpooledResult SPOOLED_RESULT = new SpooledResult(Path.of("result.json.gz"), UUID.randomUUID());
 
     @BeforeEach
     void setUp() {
-        runComputationStep = new LoadflowRunComputationStep(loadFlowRestClient);
+        runComputationStep = new LoadflowRunComputationStep(loadFlowRestClient, computationService, resultSpoolService);
 
-        when(stepContext.getConfig()).thenReturn(config);
-        when(config.loadflowParametersUuid()).thenReturn(PARAMS_UUID);
+        // not all tests read the configuration from the step context
+        lenient().when(stepContext.getConfig()).thenReturn(config);
+        lenient().when(config.loadflowParametersUuid()).thenReturn(PARAMS_UUID);
 
         ReportNode reportNode = ReportNode.newRootReportNode()
             .withResourceBundles("i18n.reports")
             .withMessageTemplate("test")
             .build();
-        when(stepContext.getReportNode()).thenReturn(reportNode);
+        lenient().when(stepContext.getReportNode()).thenReturn(reportNode);
+
+        lenient().when(resultSpoolService.spool(any(), any(), any())).thenReturn(SPOOLED_RESULT);
+        lenient().when(resultSpoolService.uploadCreatingId(any(), any(), any()))
+            .thenAnswer(invocation -> invocation.<Function<Path, ?>>getArgument(2).apply(invocation.<SpooledResult>getArgument(1).file()));
     }
 
     @Test
@@ -74,7 +94,9 @@ class LoadflowRunComputationStepTest {
 
         when(stepContext.getNetwork()).thenReturn(network);
         when(loadFlowRestClient.getParameters(PARAMS_UUID)).thenReturn(loadflowParametersInfos);
-        when(loadFlowRestClient.saveResult(any(LoadFlowResult.class))).thenReturn(RESULT_UUID);
+        when(loadFlowRestClient.saveResult(SPOOLED_RESULT.file())).thenReturn(RESULT_UUID);
+
+        when(computationService.runComputation(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
 
         LoadFlowResult loadFlowResult = mock(LoadFlowResult.class);
         try (MockedStatic<LoadFlow> loadFlow = mockStatic(LoadFlow.class)) {
@@ -86,14 +108,59 @@ class LoadflowRunComputationStepTest {
         String stepType = runComputationStep.getType().getName();
         assertEquals("RUN_LF_COMPUTATION", stepType);
 
+        verify(computationService).runComputation(any(), any());
         verify(loadFlowRestClient).getParameters(PARAMS_UUID);
-        verify(loadFlowRestClient).saveResult(any(LoadFlowResult.class));
+        verify(resultSpoolService).spool(any(), eq("RUN_LF_COMPUTATION"), same(loadFlowResult));
+        verify(loadFlowRestClient).saveResult(SPOOLED_RESULT.file());
         verify(stepContext).setResultInfos(argThat(resultInfos ->
-            resultInfos.resultUUID() != null &&
+            resultInfos.resultUUID().equals(RESULT_UUID) &&
                 resultInfos.resultType() == ResultType.LOADFLOW
         ));
     }
 
+    @Test
+    void prefetchInputsShouldFetchParameters() {
+        ProcessExecutionContext<LoadFlowConfig> processContext = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), config, UUID.randomUUID(), "test-env", null);
+
+        runComputationStep.prefetchInputs(processContext);
+
+        verify(loadFlowRestClient, timeout(10000)).getParameters(PARAMS_UUID);
+    }
+
+    @Test
+    void executeRunLoadflowShouldUsePrefetchedParameters() {
+        LoadFlowParametersInfos loadflowParametersInfos = LoadFlowParametersInfos.builder()
+            .commonParameters(new LoadFlowParameters())
+            .build();
+        when(stepContext.getNetwork()).thenReturn(mock(Network.class));
+        when(stepContext.getPrefetchedInput(any())).thenReturn(Optional.of(loadflowParametersInfos));
+        when(computationService.runComputation(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
+        try (MockedStatic<LoadFlow> loadFlow = mockStatic(LoadFlow.class)) {
+            loadFlow.when(() -> LoadFlow.run(any(), any(LoadFlowRunParameters.class))).thenReturn(mock(LoadFlowResult.class));
+
+            runComputationStep.execute(stepContext);
+        }
+
+        verify(loadFlowRestClient, never()).getParameters(any());
+        verify(loadFlowRestClient).saveResult(SPOOLED_RESULT.file());
+    }
+
+    @Test
+    void executeRunLoadflowShouldUploadSpooledResultOfPreviousAttempt() {
+        UUID executionId = UUID.randomUUID();
+        when(stepContext.getNetwork()).thenReturn(mock(Network.class));
+        when(stepContext.getProcessExecutionId()).thenReturn(executionId);
+        when(resultSpoolService.find(executionId, "RUN_LF_COMPUTATION")).thenReturn(Optional.of(SPOOLED_RESULT));
+        when(loadFlowRestClient.saveResult(SPOOLED_RESULT.file())).thenReturn(RESULT_UUID);
+
+        runComputationStep.execute(stepContext);
+
+        verify(computationService, never()).runComputation(any(), any());
+        verify(resultSpoolService, never()).spool(any(), any(), any());
+        verify(stepContext).setResultInfos(argThat(resultInfos -> resultInfos.resultUUID().equals(RESULT_UUID)));
+    }
+
     @Test
     void executeRunLoadflowFailed() {
         Network network = mock(Network.class);
@@ -103,7 +170,7 @@ class LoadflowRunComputationStepTest {
         assertThrows(RuntimeException.class,
             () -> runComputationStep.execute(stepContext));
 
-        verify(loadFlowRestClient, never()).saveResult(any());
+        verify(loadFlowRestClient, never()).saveResult(any(Path.class));
         verify(stepContext, never()).setResultInfos(any());
     }
 }
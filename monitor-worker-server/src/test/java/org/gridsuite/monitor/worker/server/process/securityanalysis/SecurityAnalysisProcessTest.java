@@ -8,17 +8,33 @@ package org.gridsuite.monitor.worker.server.process.securityanalysis;
 
 import org.gridsuite.monitor.commons.types.processconfig.SecurityAnalysisConfig;
 import org.gridsuite.monitor.commons.types.processexecution.ProcessType;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.orchestrator.StepExecutor;
 import org.gridsuite.monitor.worker.server.core.process.AbstractProcessTest;
 import org.gridsuite.monitor.worker.server.core.process.ProcessStep;
+import org.gridsuite.monitor.worker.server.orchestrator.StepSchedulingService;
 import org.gridsuite.monitor.worker.server.process.commons.steps.ApplyModificationsStep;
+import org.gridsuite.monitor.worker.server.process.commons.steps.CommonStepType;
 import org.gridsuite.monitor.worker.server.process.commons.steps.LoadNetworkStep;
+import org.gridsuite.monitor.worker.server.process.securityanalysis.steps.SecurityAnalysisResolveInputsStep;
 import org.gridsuite.monitor.worker.server.process.securityanalysis.steps.SecurityAnalysisRunComputationStep;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
@@ -32,14 +48,21 @@ class SecurityAnalysisProcessTest extends AbstractProcessTest<SecurityAnalysisCo
     @Mock
     private ApplyModificationsStep<SecurityAnalysisConfig> applyModificationsStep;
 
+    @Mock
+    private SecurityAnalysisResolveInputsStep resolveInputsStep;
+
     @Mock
     private SecurityAnalysisRunComputationStep runComputationStep;
 
+    @Mock
+    private StepExecutor stepExecutor;
+
     @BeforeEach
     protected void setUp() {
         process = new SecurityAnalysisProcess(
             loadNetworkStep,
             applyModificationsStep,
+            resolveInputsStep,
             runComputationStep
         );
     }
@@ -49,6 +72,7 @@ class SecurityAnalysisProcessTest extends AbstractProcessTest<SecurityAnalysisCo
         return List.of(
             loadNetworkStep,
             applyModificationsStep,
+            resolveInputsStep,
             runComputationStep
         );
     }
@@ -57,4 +81,77 @@ class SecurityAnalysisProcessTest extends AbstractProcessTest<SecurityAnalysisCo
     protected ProcessType getExpectedProcessType() {
         return ProcessType.SECURITY_ANALYSIS;
     }
+
+    private void mockStepIdsAndTypes() {
+        when(loadNetworkStep.getId()).thenReturn(UUID.randomUUID());
+        when(applyModificationsStep.getId()).thenReturn(UUID.randomUUID());
+        when(resolveInputsStep.getId()).thenReturn(UUID.randomUUID());
+        when(runComputationStep.getId()).thenReturn(UUID.randomUUID());
+        when(loadNetworkStep.getType()).thenReturn(CommonStepType.LOAD_NETWORK);
+        when(applyModificationsStep.getType()).thenReturn(CommonStepType.APPLY_MODIFICATIONS);
+        when(resolveInputsStep.getType()).thenReturn(SecurityAnalysisStepType.RESOLVE_SA_INPUTS);
+        when(runComputationStep.getType()).thenReturn(SecurityAnalysisStepType.RUN_SA_COMPUTATION);
+    }
+
+    @Test
+    void getStepDependenciesShouldResolveInputsIndependentlyOfNetwork() {
+        when(resolveInputsStep.getId()).thenReturn(UUID.randomUUID());
+        when(applyModificationsStep.getId()).thenReturn(UUID.randomUUID());
+        when(runComputationStep.getId()).thenReturn(UUID.randomUUID());
+
+        Map<UUID, Set<UUID>> dependencies = process.getStepDependencies();
+
+        assertThat(dependencies).containsOnly(
+            Map.entry(resolveInputsStep.getId(), Set.of()),
+            Map.entry(runComputationStep.getId(), Set.of(applyModificationsStep.getId(), resolveInputsStep.getId())));
+    }
+
+    @Test
+    void executeStepsShouldResolveInputsWhileNetworkIsLoaded() {
+        mockStepIdsAndTypes();
+        // the network can only be loaded once the inputs are being resolved at the same time
+        CountDownLatch resolvingInputs = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            resolvingInputs.countDown();
+            return null;
+        }).when(stepExecutor).executeStep(any(), eq(resolveInputsStep));
+        doAnswer(invocation -> {
+            if (!resolvingInputs.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Inputs were not resolved while the network was loaded");
+            }
+            return null;
+        }).when(stepExecutor).executeStep(any(), eq(loadNetworkStep));
+        StepSchedulingService stepSchedulingService = new StepSchedulingService(stepExecutor, 2);
+        ProcessExecutionContext<SecurityAnalysisConfig> context = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), null,
+            UUID.randomUUID(), "test-env", null);
+
+        try {
+            assertThat(stepSchedulingService.executeSteps(process, context)).isTrue();
+        } finally {
+            stepSchedulingService.shutdown();
+        }
+
+        verify(stepExecutor).executeStep(any(), eq(applyModificationsStep));
+        verify(stepExecutor).executeStep(any(), eq(runComputationStep));
+    }
+
+    @Test
+    void executeStepsShouldKeepModifyingNetworkWhenInputsCannotBeResolved() {
+        mockStepIdsAndTypes();
+        doThrow(new RuntimeException("Parameters not found")).when(stepExecutor).executeStep(any(), eq(resolveInputsStep));
+        StepSchedulingService stepSchedulingService = new StepSchedulingService(stepExecutor, 2);
+        ProcessExecutionContext<SecurityAnalysisConfig> context = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), null,
+            UUID.randomUUID(), "test-env", null);
+
+        try {
+            assertThat(stepSchedulingService.executeSteps(process, context)).isFalse();
+        } finally {
+            stepSchedulingService.shutdown();
+        }
+
+        verify(stepExecutor).executeStep(any(), eq(loadNetworkStep));
+        verify(stepExecutor).executeStep(any(), eq(applyModificationsStep));
+        verify(stepExecutor, never()).executeStep(any(), eq(runComputationStep));
+        verify(stepExecutor).skipStep(argThat(stepContext -> stepContext.getStepOrder() == 3), eq(runComputationStep));
+    }
 }
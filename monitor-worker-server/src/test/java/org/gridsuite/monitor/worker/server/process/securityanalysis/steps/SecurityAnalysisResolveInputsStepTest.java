@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.process.securityanalysis.steps;
+
+import com.powsybl.security.SecurityAnalysisParameters;
+import org.gridsuite.monitor.commons.types.processconfig.SecurityAnalysisConfig;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
+import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisParametersInfos;
+import org.gridsuite.monitor.worker.server.services.SecurityAnalysisParametersService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ExtendWith(MockitoExtension.class)
+class SecurityAnalysisResolveInputsStepTest {
+
+    @Mock
+    private SecurityAnalysisParametersService securityAnalysisParametersService;
+
+    @Mock
+    private SecurityAnalysisConfig config;
+
+    private SecurityAnalysisResolveInputsStep resolveInputsStep;
+
+    private ProcessExecutionContext<SecurityAnalysisConfig> processContext;
+
+    private static final UUID PARAMS_UUID = UUID.randomUUID();
+    private static final UUID LOADFLOW_PARAMS_UUID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        resolveInputsStep = new SecurityAnalysisResolveInputsStep(securityAnalysisParametersService);
+        processContext = new ProcessExecutionContext<>(UUID.randomUUID(), UUID.randomUUID(), config, UUID.randomUUID(), "test-env", null);
+        when(config.securityAnalysisParametersUuid()).thenReturn(PARAMS_UUID);
+        when(config.loadflowParametersUuid()).thenReturn(LOADFLOW_PARAMS_UUID);
+    }
+
+    @Test
+    void executeShouldMakeParametersAvailableToFollowingSteps() {
+        SecurityAnalysisParametersInfos parametersInfos = new SecurityAnalysisParametersInfos(new SecurityAnalysisParameters(), List.of());
+        when(securityAnalysisParametersService.getSecurityAnalysisParametersInfos(PARAMS_UUID, LOADFLOW_PARAMS_UUID)).thenReturn(parametersInfos);
+
+        resolveInputsStep.execute(processContext.createStepContext(resolveInputsStep, 2));
+
+        ProcessStepExecutionContext<SecurityAnalysisConfig> runStepContext = processContext.createStepContext(resolveInputsStep, 3);
+        assertThat(runStepContext.getPrefetchedInput(SecurityAnalysisResolveInputsStep.PARAMETERS_INPUT)).containsSame(parametersInfos);
+        assertThat(resolveInputsStep.changesNetwork()).isFalse();
+    }
+
+    @Test
+    void executeShouldFailWhenParametersCannotBeFetched() {
+        when(securityAnalysisParametersService.getSecurityAnalysisParametersInfos(PARAMS_UUID, LOADFLOW_PARAMS_UUID))
+            .thenThrow(new IllegalStateException("Parameters not found"));
+        ProcessStepExecutionContext<SecurityAnalysisConfig> stepContext = processContext.createStepContext(resolveInputsStep, 2);
+
+        assertThatThrownBy(() -> resolveInputsStep.execute(stepContext))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Parameters not found");
+        assertThat(processContext.getPrefetchedInput(SecurityAnalysisResolveInputsStep.PARAMETERS_INPUT)).isEmpty();
+    }
+}
@@ -7,9 +7,11 @@
 package org.gridsuite.monitor.worker.server.process.securityanalysis.steps;
 
 import com.powsybl.commons.report.ReportNode;
+import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.LineContingency;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.security.SecurityAnalysis;
 import com.powsybl.security.SecurityAnalysisParameters;
 import com.powsybl.security.SecurityAnalysisReport;
@@ -17,21 +19,45 @@ import com.powsybl.security.SecurityAnalysisResult;
 import org.gridsuite.monitor.commons.types.processconfig.SecurityAnalysisConfig;
 import org.gridsuite.monitor.commons.types.result.ResultType;
 import org.gridsuite.monitor.worker.server.clients.SecurityAnalysisRestClient;
+import org.gridsuite.monitor.worker.server.core.context.ExecutionShard;
 import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
 import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisInputData;
+import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisParametersInfos;
+import org.gridsuite.monitor.worker.server.orchestrator.ShardCoordinationService;
+import org.gridsuite.monitor.worker.server.services.ComputationService;
+import org.gridsuite.monitor.worker.server.services.NetworkStateKey;
+import org.gridsuite.monitor.worker.server.services.ResultSpoolService;
+import org.gridsuite.monitor.worker.server.services.ResultSpoolService.SpooledResult;
 import org.gridsuite.monitor.worker.server.services.SecurityAnalysisParametersService;
+import org.gridsuite.monitor.worker.server.services.SecurityAnalysisShardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -51,6 +77,18 @@ class SecurityAnalysisRunComputationStepTest {
     @Mock
     private SecurityAnalysisParametersService securityAnalysisParametersService;
 
+    @Mock
+    private ComputationService computationService;
+
+    @Mock
+    private SecurityAnalysisShardService shardService;
+
+    @Mock
+    private ShardCoordinationService shardCoordinationService;
+
+    @Mock
+    private ResultSpoolService resultSpoolService;
+
     @Mock
     private ProcessStepExecutionContext<SecurityAnalysisConfig> stepContext;
 
@@ -59,33 +97,46 @@ class SecurityAnalysisRunComputationStepTest {
 
     private SecurityAnalysisRunComputationStep runComputationStep;
 
+    private static final UUID CASE_UUID = UUID.randomUUID();
     private static final UUID PARAMS_UUID = UUID.randomUUID();
     private static final UUID LOADFLOW_PARAMS_UUID = UUID.randomUUID();
+    private static final SpooledResult SPOOLED_RESULT = new SpooledResult(Path.of("result.json.gz"), UUID.randomUUID());
 
     @BeforeEach
     void setUp() {
-        runComputationStep = new SecurityAnalysisRunComputationStep(securityAnalysisRestClient, securityAnalysisParametersService);
+        runComputationStep = createStep(0);
 
-        when(stepContext.getConfig()).thenReturn(config);
-        when(config.securityAnalysisParametersUuid()).thenReturn(PARAMS_UUID);
-        when(config.loadflowParametersUuid()).thenReturn(LOADFLOW_PARAMS_UUID);
+        // not all tests read the configuration from the step context
+        lenient().when(stepContext.getConfig()).thenReturn(config);
+        lenient().when(stepContext.getCaseUuid()).thenReturn(CASE_UUID);
+        lenient().when(config.securityAnalysisParametersUuid()).thenReturn(PARAMS_UUID);
+        lenient().when(config.loadflowParametersUuid()).thenReturn(LOADFLOW_PARAMS_UUID);
 
         ReportNode reportNode = ReportNode.newRootReportNode()
                 .withResourceBundles("i18n.reports")
                 .withMessageTemplate("test")
                 .build();
-        when(stepContext.getReportNode()).thenReturn(reportNode);
+        lenient().when(stepContext.getReportNode()).thenReturn(reportNode);
+
+        lenient().when(resultSpoolService.spool(any(), any(), any())).thenReturn(SPOOLED_RESULT);
+        lenient().when(resultSpoolService.upload(any(), any(), any()))
+            .thenAnswer(invocation -> invocation.<Function<Path, ?>>getArgument(2).apply(invocation.<SpooledResult>getArgument(1).file()));
     }
 
     @Test
     void executeRunSecurityAnalysis() {
         Network network = mock(Network.class);
         Contingency contingency = new Contingency("NHV1_NHV2_1", "NHV1_NHV2_1", List.of(new LineContingency("NHV1_NHV2_1")));
+        SecurityAnalysisParametersInfos parametersInfos = new SecurityAnalysisParametersInfos(new SecurityAnalysisParameters(), List.of());
         SecurityAnalysisInputData inputData = new SecurityAnalysisInputData(new SecurityAnalysisParameters(), List.of(contingency));
         when(stepContext.getNetwork()).thenReturn(network);
-        when(securityAnalysisParametersService.buildSecurityAnalysisInputData(PARAMS_UUID, LOADFLOW_PARAMS_UUID, network))
+        when(securityAnalysisParametersService.getSecurityAnalysisParametersInfos(PARAMS_UUID, LOADFLOW_PARAMS_UUID))
+            .thenReturn(parametersInfos);
+        when(securityAnalysisParametersService.buildSecurityAnalysisInputData(eq(parametersInfos), eq(network), any(NetworkStateKey.class), any(ReportNode.class), any()))
             .thenReturn(inputData);
 
+        when(computationService.runComputation(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
         SecurityAnalysisResult analysisResult = mock(SecurityAnalysisResult.class);
         SecurityAnalysisReport analysisReport = mock(SecurityAnalysisReport.class);
         when(analysisReport.getResult()).thenReturn(analysisResult);
@@ -99,25 +150,212 @@ class SecurityAnalysisRunComputationStepTest {
         String stepType = runComputationStep.getType().getName();
         assertEquals("RUN_SA_COMPUTATION", stepType);
 
-        verify(securityAnalysisParametersService).buildSecurityAnalysisInputData(PARAMS_UUID, LOADFLOW_PARAMS_UUID, network);
-        verify(securityAnalysisRestClient).saveResult(any(UUID.class), same(analysisResult));
+        verify(securityAnalysisParametersService).getSecurityAnalysisParametersInfos(PARAMS_UUID, LOADFLOW_PARAMS_UUID);
+        verify(securityAnalysisParametersService).buildSecurityAnalysisInputData(eq(parametersInfos), eq(network), any(NetworkStateKey.class), any(ReportNode.class), any());
+        verify(resultSpoolService).spool(any(), eq("RUN_SA_COMPUTATION"), same(analysisResult));
+        verify(stepContext).updateProgress(0, 1);
+        verify(stepContext).updateProgress(1, 1);
+        verify(securityAnalysisRestClient).saveResult(SPOOLED_RESULT.id(), SPOOLED_RESULT.file());
         verify(stepContext).setResultInfos(argThat(resultInfos ->
-                        resultInfos.resultUUID() != null &&
+                        resultInfos.resultUUID().equals(SPOOLED_RESULT.id()) &&
                         resultInfos.resultType() == ResultType.SECURITY_ANALYSIS
         ));
     }
 
+    @Test
+    void executeRunSecurityAnalysisShouldShardContingencies() {
+        runComputationStep = createStep(1);
+        UUID executionId = UUID.randomUUID();
+        Network network = mock(Network.class);
+        Contingency contingency1 = new Contingency("c1", new LineContingency("NHV1_NHV2_1"));
+        Contingency contingency2 = new Contingency("c2", new LineContingency("NHV1_NHV2_2"));
+        SecurityAnalysisParametersInfos parametersInfos = new SecurityAnalysisParametersInfos(new SecurityAnalysisParameters(), List.of());
+        SecurityAnalysisInputData inputData = new SecurityAnalysisInputData(new SecurityAnalysisParameters(), List.of(contingency1, contingency2));
+        when(stepContext.getNetwork()).thenReturn(network);
+        when(stepContext.getProcessExecutionId()).thenReturn(executionId);
+        when(stepContext.getPrefetchedInput(any())).thenReturn(Optional.of(parametersInfos));
+        when(securityAnalysisParametersService.buildSecurityAnalysisInputData(eq(parametersInfos), eq(network), any(NetworkStateKey.class), any(ReportNode.class), any())).thenReturn(inputData);
+        when(computationService.runComputation(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        when(shardService.getResult(executionId, 1)).thenReturn(SecurityAnalysisResult.empty());
+        doAnswer(invocation -> {
+            invocation.<IntConsumer>getArgument(3).accept(1);
+            return null;
+        }).when(shardCoordinationService).awaitShards(eq(executionId), any(), any(), any());
+
+        SecurityAnalysisReport analysisReport = mock(SecurityAnalysisReport.class);
+        when(analysisReport.getResult()).thenReturn(SecurityAnalysisResult.empty());
+        try (MockedStatic<SecurityAnalysis> securityAnalysis = mockStatic(SecurityAnalysis.class)) {
+            securityAnalysis.when(() -> SecurityAnalysis.run(any(), any(), any()))
+                .thenReturn(analysisReport);
+
+            runComputationStep.execute(stepContext);
+
+            securityAnalysis.verify(() -> SecurityAnalysis.run(same(network), eq(List.of(contingency1)), any()));
+        }
+
+        verify(shardService).saveContingencyIds(executionId, 1, List.of("c2"));
+        verify(shardCoordinationService).publishShards(argThat(runMessage -> runMessage.executionId().equals(executionId)), eq(2));
+        verify(shardService).getResult(executionId, 1);
+        verify(shardService).deleteShards(executionId);
+        verify(securityAnalysisRestClient).saveResult(SPOOLED_RESULT.id(), SPOOLED_RESULT.file());
+        InOrder inOrder = inOrder(stepContext);
+        inOrder.verify(stepContext).updateProgress(0, 2);
+        inOrder.verify(stepContext).updateProgress(1, 2);
+        inOrder.verify(stepContext).updateProgress(2, 2);
+    }
+
+    @Test
+    void executeShardShouldSaveResultOfShardContingencies() {
+        UUID executionId = UUID.randomUUID();
+        Network network = mock(Network.class);
+        Contingency contingency1 = new Contingency("c1", new LineContingency("NHV1_NHV2_1"));
+        Contingency contingency2 = new Contingency("c2", new LineContingency("NHV1_NHV2_2"));
+        SecurityAnalysisParametersInfos parametersInfos = new SecurityAnalysisParametersInfos(new SecurityAnalysisParameters(), List.of());
+        SecurityAnalysisInputData inputData = new SecurityAnalysisInputData(new SecurityAnalysisParameters(), List.of(contingency1, contingency2));
+        when(stepContext.getNetwork()).thenReturn(network);
+        when(stepContext.isShard()).thenReturn(true);
+        when(stepContext.getShard()).thenReturn(new ExecutionShard(1, 2));
+        when(stepContext.getProcessExecutionId()).thenReturn(executionId);
+        when(stepContext.getPrefetchedInput(any())).thenReturn(Optional.of(parametersInfos));
+        when(securityAnalysisParametersService.buildSecurityAnalysisInputData(eq(parametersInfos), eq(network), any(NetworkStateKey.class), any(ReportNode.class), any())).thenReturn(inputData);
+        when(computationService.runComputation(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        when(shardService.getContingencyIds(executionId, 1)).thenReturn(List.of("c2"));
+
+        SecurityAnalysisResult analysisResult = mock(SecurityAnalysisResult.class);
+        SecurityAnalysisReport analysisReport = mock(SecurityAnalysisReport.class);
+        when(analysisReport.getResult()).thenReturn(analysisResult);
+        try (MockedStatic<SecurityAnalysis> securityAnalysis = mockStatic(SecurityAnalysis.class)) {
+            securityAnalysis.when(() -> SecurityAnalysis.run(any(), any(), any()))
+                .thenReturn(analysisReport);
+
+            runComputationStep.execute(stepContext);
+
+            securityAnalysis.verify(() -> SecurityAnalysis.run(same(network), eq(List.of(contingency2)), any()));
+        }
+
+        verify(shardService).saveResult(executionId, 1, analysisResult);
+        verify(securityAnalysisRestClient, never()).saveResult(any(UUID.class), any(Path.class));
+        verify(stepContext, never()).setResultInfos(any());
+    }
+
+    @Test
+    void executeRunSecurityAnalysisShouldSplitContingenciesOnVariants() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Contingency contingency1 = new Contingency("c1", new LineContingency("NHV1_NHV2_1"));
+        Contingency contingency2 = new Contingency("c2", new LineContingency("NHV1_NHV2_2"));
+        SecurityAnalysisParametersInfos parametersInfos = new SecurityAnalysisParametersInfos(new SecurityAnalysisParameters(), List.of());
+        SecurityAnalysisInputData inputData = new SecurityAnalysisInputData(new SecurityAnalysisParameters(), List.of(contingency1, contingency2));
+        when(stepContext.getNetwork()).thenReturn(network);
+        when(stepContext.getPrefetchedInput(any())).thenReturn(Optional.of(parametersInfos));
+        when(config.computationThreads()).thenReturn(2);
+        when(computationService.getParallelism()).thenReturn(4);
+        when(securityAnalysisParametersService.buildSecurityAnalysisInputData(eq(parametersInfos), eq(network), any(NetworkStateKey.class), any(ReportNode.class), any())).thenReturn(inputData);
+        when(computationService.runComputations(any(), any())).thenAnswer(invocation -> invocation.<List<Supplier<?>>>getArgument(0).stream()
+            .map(Supplier::get)
+            .toList());
+
+        SecurityAnalysisReport analysisReport = mock(SecurityAnalysisReport.class);
+        when(analysisReport.getResult()).thenReturn(SecurityAnalysisResult.empty());
+        try (MockedStatic<SecurityAnalysis> securityAnalysis = mockStatic(SecurityAnalysis.class)) {
+            securityAnalysis.when(() -> SecurityAnalysis.run(any(), anyString(), any(ContingenciesProvider.class), any()))
+                .thenReturn(analysisReport);
+
+            runComputationStep.execute(stepContext);
+
+            securityAnalysis.verify(() -> SecurityAnalysis.run(same(network), anyString(), argThat(provider -> provider.getContingencies(network).equals(List.of(contingency1))), any()));
+            securityAnalysis.verify(() -> SecurityAnalysis.run(same(network), anyString(), argThat(provider -> provider.getContingencies(network).equals(List.of(contingency2))), any()));
+        }
+
+        verify(computationService, never()).runComputation(any(), any());
+        verify(securityAnalysisRestClient).saveResult(SPOOLED_RESULT.id(), SPOOLED_RESULT.file());
+        // the variants of the partitions are removed once computed
+        assertThat(network.getVariantManager().getVariantIds()).hasSize(1);
+        assertThat(network.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+    }
+
+    @Test
+    void executeRunSecurityAnalysisShouldNotUseMoreVariantsThanComputationThreads() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Contingency contingency1 = new Contingency("c1", new LineContingency("NHV1_NHV2_1"));
+        Contingency contingency2 = new Contingency("c2", new LineContingency("NHV1_NHV2_2"));
+        SecurityAnalysisParametersInfos parametersInfos = new SecurityAnalysisParametersInfos(new SecurityAnalysisParameters(), List.of());
+        SecurityAnalysisInputData inputData = new SecurityAnalysisInputData(new SecurityAnalysisParameters(), List.of(contingency1, contingency2));
+        when(stepContext.getNetwork()).thenReturn(network);
+        when(stepContext.getPrefetchedInput(any())).thenReturn(Optional.of(parametersInfos));
+        when(config.computationThreads()).thenReturn(2);
+        when(computationService.getParallelism()).thenReturn(1);
+        when(securityAnalysisParametersService.buildSecurityAnalysisInputData(eq(parametersInfos), eq(network), any(NetworkStateKey.class), any(ReportNode.class), any())).thenReturn(inputData);
+        when(computationService.runComputation(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
+        SecurityAnalysisReport analysisReport = mock(SecurityAnalysisReport.class);
+        when(analysisReport.getResult()).thenReturn(SecurityAnalysisResult.empty());
+        try (MockedStatic<SecurityAnalysis> securityAnalysis = mockStatic(SecurityAnalysis.class)) {
+            securityAnalysis.when(() -> SecurityAnalysis.run(any(), any(), any()))
+                .thenReturn(analysisReport);
+
+            runComputationStep.execute(stepContext);
+
+            securityAnalysis.verify(() -> SecurityAnalysis.run(same(network), eq(List.of(contingency1, contingency2)), any()));
+        }
+
+        verify(computationService, never()).runComputations(any(), any());
+        assertThat(network.getVariantManager().getVariantIds()).hasSize(1);
+    }
+
+    @Test
+    void executeRunSecurityAnalysisShouldUseResolvedParameters() {
+        Network network = mock(Network.class);
+        SecurityAnalysisParametersInfos parametersInfos = new SecurityAnalysisParametersInfos(new SecurityAnalysisParameters(), List.of());
+        SecurityAnalysisInputData inputData = new SecurityAnalysisInputData(new SecurityAnalysisParameters(), List.of());
+        when(stepContext.getNetwork()).thenReturn(network);
+        when(stepContext.getPrefetchedInput(any())).thenReturn(Optional.of(parametersInfos));
+        when(securityAnalysisParametersService.buildSecurityAnalysisInputData(eq(parametersInfos), eq(network), any(NetworkStateKey.class), any(ReportNode.class), any())).thenReturn(inputData);
+        when(computationService.runComputation(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
+        SecurityAnalysisReport analysisReport = mock(SecurityAnalysisReport.class);
+        try (MockedStatic<SecurityAnalysis> securityAnalysis = mockStatic(SecurityAnalysis.class)) {
+            securityAnalysis.when(() -> SecurityAnalysis.run(any(), any(), any()))
+                .thenReturn(analysisReport);
+
+            runComputationStep.execute(stepContext);
+        }
+
+        verify(securityAnalysisParametersService, never()).getSecurityAnalysisParametersInfos(any(), any());
+        verify(securityAnalysisRestClient).saveResult(SPOOLED_RESULT.id(), SPOOLED_RESULT.file());
+    }
+
+    @Test
+    void executeRunSecurityAnalysisShouldUploadSpooledResultOfPreviousAttempt() {
+        UUID executionId = UUID.randomUUID();
+        when(stepContext.getNetwork()).thenReturn(mock(Network.class));
+        when(stepContext.getProcessExecutionId()).thenReturn(executionId);
+        when(resultSpoolService.find(executionId, "RUN_SA_COMPUTATION")).thenReturn(Optional.of(SPOOLED_RESULT));
+
+        runComputationStep.execute(stepContext);
+
+        verify(securityAnalysisParametersService, never()).buildSecurityAnalysisInputData(any(), any(), any(), any(), any());
+        verify(computationService, never()).runComputation(any(), any());
+        verify(resultSpoolService, never()).spool(any(), any(), any());
+        verify(securityAnalysisRestClient).saveResult(SPOOLED_RESULT.id(), SPOOLED_RESULT.file());
+        verify(stepContext).setResultInfos(argThat(resultInfos -> resultInfos.resultUUID().equals(SPOOLED_RESULT.id())));
+    }
+
     @Test
     void executeRunSecurityAnalysisFailed() {
         Network network = mock(Network.class);
         when(stepContext.getNetwork()).thenReturn(network);
-        when(securityAnalysisParametersService.buildSecurityAnalysisInputData(
-            PARAMS_UUID, LOADFLOW_PARAMS_UUID, network)).thenThrow(new RuntimeException());
+        when(securityAnalysisParametersService.getSecurityAnalysisParametersInfos(
+            PARAMS_UUID, LOADFLOW_PARAMS_UUID)).thenThrow(new RuntimeException());
 
         assertThrows(RuntimeException.class,
             () -> runComputationStep.execute(stepContext));
 
-        verify(securityAnalysisRestClient, never()).saveResult(any(UUID.class), any(SecurityAnalysisResult.class));
+        verify(securityAnalysisRestClient, never()).saveResult(any(UUID.class), any(Path.class));
         verify(stepContext, never()).setResultInfos(any());
     }
+
+    private SecurityAnalysisRunComputationStep createStep(int shardSize) {
+        return new SecurityAnalysisRunComputationStep(securityAnalysisRestClient, securityAnalysisParametersService, computationService,
+            shardService, shardCoordinationService, resultSpoolService, shardSize, 8, Duration.ofMinutes(1), 0, DataSize.ofGigabytes(1));
+    }
 }
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.monitor.worker.server.clients.CaseRestClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ExtendWith(MockitoExtension.class)
+class CaseFileCacheServiceTest {
+
+    @Mock
+    private CaseRestClient caseRestClient;
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private MeterRegistry meterRegistry;
+
+    private static final UUID CASE_UUID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private CaseFileCacheService createService(DataSize maxSize) {
+        return new CaseFileCacheService(caseRestClient, meterRegistry, true, cacheDirectory, maxSize);
+    }
+
+    private void mockDownload(UUID caseUuid, String content) {
+        when(caseRestClient.downloadCase(eq(caseUuid), any(Path.class))).thenAnswer(invocation -> {
+            Path targetDirectory = invocation.getArgument(1);
+            return Files.writeString(targetDirectory.resolve("case.xiidm"), content);
+        });
+    }
+
+    private static String readCase(CaseFileCacheService service, UUID caseUuid) {
+        return service.readCase(caseUuid, caseFile -> {
+            try {
+                return Files.readString(caseFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Test
+    void readCaseShouldDownloadCaseOnlyOnce() {
+        CaseFileCacheService service = createService(DataSize.ofMegabytes(1));
+        mockDownload(CASE_UUID, "caseContent");
+
+        assertThat(readCase(service, CASE_UUID)).isEqualTo("caseContent");
+        assertThat(readCase(service, CASE_UUID)).isEqualTo("caseContent");
+
+        verify(caseRestClient, times(1)).downloadCase(eq(CASE_UUID), any(Path.class));
+        assertThat(meterRegistry.get("monitor.worker.case.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("monitor.worker.case.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void readCaseShouldShareConcurrentDownloads() throws Exception {
+        CaseFileCacheService service = createService(DataSize.ofMegabytes(1));
+        CountDownLatch downloadStarted = new CountDownLatch(1);
+        CountDownLatch secondReadStarted = new CountDownLatch(1);
+        when(caseRestClient.downloadCase(eq(CASE_UUID), any(Path.class))).thenAnswer(invocation -> {
+            downloadStarted.countDown();
+            secondReadStarted.await(10, TimeUnit.SECONDS);
+            Path targetDirectory = invocation.getArgument(1);
+            return Files.writeString(targetDirectory.resolve("case.xiidm"), "caseContent");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> firstRead = executor.submit(() -> readCase(service, CASE_UUID));
+            assertThat(downloadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<String> secondRead = executor.submit(() -> readCase(service, CASE_UUID));
+            secondReadStarted.countDown();
+
+            assertThat(firstRead.get(10, TimeUnit.SECONDS)).isEqualTo("caseContent");
+            assertThat(secondRead.get(10, TimeUnit.SECONDS)).isEqualTo("caseContent");
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(caseRestClient, times(1)).downloadCase(eq(CASE_UUID), any(Path.class));
+    }
+
+    @Test
+    void readCaseShouldEvictLeastRecentlyUsedCase() {
+        // room for a single case file
+        CaseFileCacheService service = createService(DataSize.ofBytes(15));
+        UUID otherCaseUuid = UUID.randomUUID();
+        mockDownload(CASE_UUID, "caseContent");
+        mockDownload(otherCaseUuid, "otherContent");
+
+        readCase(service, CASE_UUID);
+        readCase(service, otherCaseUuid);
+        readCase(service, CASE_UUID);
+
+        verify(caseRestClient, times(2)).downloadCase(eq(CASE_UUID), any(Path.class));
+        assertThat(cacheDirectory.resolve(otherCaseUuid.toString())).doesNotExist();
+        assertThat(cacheDirectory.resolve(CASE_UUID.toString())).exists();
+        assertThat(meterRegistry.get("monitor.worker.case.cache.evictions").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void readCaseShouldNotEvictCaseBeingRead() {
+        CaseFileCacheService service = createService(DataSize.ofBytes(15));
+        UUID otherCaseUuid = UUID.randomUUID();
+        mockDownload(CASE_UUID, "caseContent");
+        mockDownload(otherCaseUuid, "otherContent");
+
+        String content = service.readCase(CASE_UUID, caseFile -> {
+            readCase(service, otherCaseUuid);
+            try {
+                return Files.readString(caseFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        assertThat(content).isEqualTo("caseContent");
+        assertThat(cacheDirectory.resolve(otherCaseUuid.toString())).doesNotExist();
+    }
+
+    @Test
+    void readCaseShouldReuseCasesCachedByPreviousInstance() {
+        mockDownload(CASE_UUID, "caseContent");
+        readCase(createService(DataSize.ofMegabytes(1)), CASE_UUID);
+
+        assertThat(readCase(createService(DataSize.ofMegabytes(1)), CASE_UUID)).isEqualTo("caseContent");
+
+        verify(caseRestClient, times(1)).downloadCase(eq(CASE_UUID), any(Path.class));
+    }
+
+    @Test
+    void readCaseShouldDownloadCorruptedCaseAgain() throws IOException {
+        mockDownload(CASE_UUID, "caseContent");
+        readCase(createService(DataSize.ofMegabytes(1)), CASE_UUID);
+        Files.writeString(cacheDirectory.resolve(CASE_UUID.toString()).resolve("data").resolve("case.xiidm"), "corrupted");
+
+        assertThat(readCase(createService(DataSize.ofMegabytes(1)), CASE_UUID)).isEqualTo("caseContent");
+
+        verify(caseRestClient, times(2)).downloadCase(eq(CASE_UUID), any(Path.class));
+    }
+
+    @Test
+    void readCaseShouldCleanUpFailedDownload() throws IOException {
+        CaseFileCacheService service = createService(DataSize.ofMegabytes(1));
+        when(caseRestClient.downloadCase(eq(CASE_UUID), any(Path.class))).thenThrow(new IllegalStateException("Download failed"));
+
+        assertThatThrownBy(() -> readCase(service, CASE_UUID))
+            .isInstanceOf(IllegalStateException.class);
+
+        try (var files = Files.list(cacheDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+}
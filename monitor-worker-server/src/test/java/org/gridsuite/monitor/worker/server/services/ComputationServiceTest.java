@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class ComputationServiceTest {
+
+    private ComputationService computationService;
+
+    @BeforeEach
+    void setUp() {
+        computationService = new ComputationService(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        computationService.shutdown();
+    }
+
+    @Test
+    void runComputationShouldRunOnPlatformThreadOfPool() {
+        Thread caller = Thread.currentThread();
+
+        Thread computationThread = computationService.runComputation(Thread::currentThread);
+
+        assertThat(computationThread).isNotSameAs(caller);
+        assertThat(computationThread.isVirtual()).isFalse();
+    }
+
+    @Test
+    void runComputationShouldRethrowComputationException() {
+        assertThatThrownBy(() -> computationService.runComputation(() -> {
+            throw new IllegalArgumentException("Computation failed");
+        })).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Computation failed");
+    }
+
+    @Test
+    void runComputationsShouldReturnResultsInOrder() {
+        ComputationService parallelComputationService = new ComputationService(4);
+        try {
+            List<Supplier<Integer>> computations = IntStream.range(0, 10)
+                .<Supplier<Integer>>mapToObj(i -> () -> {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10L - i));
+                    return i;
+                })
+                .toList();
+
+            assertThat(parallelComputationService.runComputations(computations)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        } finally {
+            parallelComputationService.shutdown();
+        }
+    }
+
+    @Test
+    void runComputationShouldInterruptComputationWhenCancelled() throws InterruptedException {
+        CancellationToken cancellationToken = new CancellationToken();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> {
+            try {
+                started.await();
+                cancellationToken.cancel();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThatThrownBy(() -> computationService.runComputation(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        }, cancellationToken)).isInstanceOf(CancellationException.class);
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void runComputationShouldWaitForCancelledComputationToStop() throws InterruptedException {
+        CancellationToken cancellationToken = new CancellationToken();
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean stopped = new AtomicBoolean();
+        Thread.ofVirtual().start(() -> {
+            try {
+                started.await();
+                cancellationToken.cancel();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThatThrownBy(() -> computationService.runComputation(() -> {
+            started.countDown();
+            // ignores the interruption, as a computation only checking it from time to time
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            stopped.set(true);
+            return null;
+        }, cancellationToken)).isInstanceOf(CancellationException.class);
+        assertThat(stopped).isTrue();
+    }
+
+    @Test
+    void runComputationShouldNotStartWhenAlreadyCancelled() {
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationToken.cancel();
+        AtomicBoolean started = new AtomicBoolean();
+
+        assertThatThrownBy(() -> computationService.runComputation(() -> started.getAndSet(true), cancellationToken))
+            .isInstanceOf(CancellationException.class);
+        assertThat(started).isFalse();
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.list.IdentifierContingencyList;
+import com.powsybl.iidm.network.identifiers.IdBasedNetworkElementIdentifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.actions.dto.contingency.AbstractContingencyList;
+import org.gridsuite.actions.dto.contingency.IdBasedContingencyList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class ContingencyCacheServiceTest {
+
+    private static final NetworkStateKey NETWORK_STATE_KEY = new NetworkStateKey(UUID.randomUUID(), List.of(UUID.randomUUID()));
+    private static final Instant LIST_DATE = Instant.parse("2026-01-01T00:00:00Z");
+    private static final List<Contingency> CONTINGENCIES = List.of(Contingency.generator("GEN"));
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ContingencyCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ContingencyCacheService(meterRegistry, DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void getContingenciesShouldReturnContingenciesOfSameListVersionOnSameNetworkState() {
+        UUID contingencyListUuid = UUID.randomUUID();
+        service.putContingencies(NETWORK_STATE_KEY, createIdBasedList(contingencyListUuid, LIST_DATE), CONTINGENCIES);
+
+        assertThat(service.getContingencies(NETWORK_STATE_KEY, createIdBasedList(contingencyListUuid, LIST_DATE))).hasValue(CONTINGENCIES);
+        assertThat(service.getContingencies(NETWORK_STATE_KEY, createIdBasedList(contingencyListUuid, LIST_DATE.plusSeconds(1)))).isEmpty();
+        assertThat(service.getContingencies(NETWORK_STATE_KEY.prefix(0), createIdBasedList(contingencyListUuid, LIST_DATE))).isEmpty();
+        assertThat(meterRegistry.get("monitor.worker.contingency.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("monitor.worker.contingency.cache.requests").tag("result", "miss").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidateShouldEvictUpdatedListAndFilterBasedLists() {
+        AbstractContingencyList updatedList = createIdBasedList(UUID.randomUUID(), LIST_DATE);
+        AbstractContingencyList otherList = createIdBasedList(UUID.randomUUID(), LIST_DATE);
+        AbstractContingencyList filterBasedList = mock(AbstractContingencyList.class);
+        when(filterBasedList.getId()).thenReturn(UUID.randomUUID());
+        when(filterBasedList.getModificationDate()).thenReturn(LIST_DATE);
+        service.putContingencies(NETWORK_STATE_KEY, updatedList, CONTINGENCIES);
+        service.putContingencies(NETWORK_STATE_KEY, otherList, CONTINGENCIES);
+        service.putContingencies(NETWORK_STATE_KEY, filterBasedList, CONTINGENCIES);
+
+        service.invalidate(updatedList.getId());
+
+        assertThat(service.getContingencies(NETWORK_STATE_KEY, updatedList)).isEmpty();
+        assertThat(service.getContingencies(NETWORK_STATE_KEY, filterBasedList)).isEmpty();
+        assertThat(service.getContingencies(NETWORK_STATE_KEY, otherList)).hasValue(CONTINGENCIES);
+    }
+
+    @Test
+    void invalidateShouldEvictContingenciesEvaluatedOnStatesWithUpdatedModification() {
+        AbstractContingencyList contingencyList = createIdBasedList(UUID.randomUUID(), LIST_DATE);
+        service.putContingencies(NETWORK_STATE_KEY, contingencyList, CONTINGENCIES);
+
+        service.invalidate(NETWORK_STATE_KEY.modificationUuids().getFirst());
+
+        assertThat(service.getContingencies(NETWORK_STATE_KEY, contingencyList)).isEmpty();
+    }
+
+    @Test
+    void disabledCacheShouldNotKeepContingencies() {
+        ContingencyCacheService disabledService = new ContingencyCacheService(meterRegistry, DataSize.ofBytes(0));
+        AbstractContingencyList contingencyList = createIdBasedList(UUID.randomUUID(), LIST_DATE);
+
+        disabledService.putContingencies(NETWORK_STATE_KEY, contingencyList, CONTINGENCIES);
+
+        assertThat(disabledService.getContingencies(NETWORK_STATE_KEY, contingencyList)).isEmpty();
+    }
+
+    private static IdBasedContingencyList createIdBasedList(UUID contingencyListUuid, Instant date) {
+        return new IdBasedContingencyList(contingencyListUuid, date,
+            new IdentifierContingencyList("list", List.of(new IdBasedNetworkElementIdentifier("GEN", "c1"))));
+    }
+}
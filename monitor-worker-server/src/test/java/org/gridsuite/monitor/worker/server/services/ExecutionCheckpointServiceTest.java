@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.gridsuite.monitor.commons.types.processconfig.ProcessConfig;
+import org.gridsuite.monitor.commons.types.processconfig.SecurityAnalysisConfig;
+import org.gridsuite.monitor.commons.types.result.ResultInfos;
+import org.gridsuite.monitor.commons.types.result.ResultType;
+import org.gridsuite.monitor.worker.server.core.context.ProcessExecutionContext;
+import org.gridsuite.monitor.worker.server.core.context.ProcessStepExecutionContext;
+import org.gridsuite.monitor.worker.server.process.commons.steps.CommonStepType;
+import org.gridsuite.monitor.worker.server.utils.S3PathResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.function.ThrowingConsumer;
+import org.springframework.util.function.ThrowingFunction;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ExtendWith(MockitoExtension.class)
+class ExecutionCheckpointServiceTest {
+
+    private static final ResultInfos RESULT_INFOS = new ResultInfos(UUID.randomUUID(), ResultType.SECURITY_ANALYSIS);
+
+    @Mock
+    private S3Service s3Service;
+
+    @TempDir
+    private Path tempDirectory;
+
+    // stands for the S3 bucket
+    private final Map<String, byte[]> s3Files = new HashMap<>();
+
+    private ExecutionCheckpointService checkpointService;
+
+    private UUID executionId;
+
+    private UUID caseUuid;
+
+    private SecurityAnalysisConfig config;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        checkpointService = new ExecutionCheckpointService(s3Service, new ObjectMapper(), true);
+        executionId = UUID.randomUUID();
+        caseUuid = UUID.randomUUID();
+        config = new SecurityAnalysisConfig(UUID.randomUUID(), List.of(), UUID.randomUUID(), null);
+        lenient().doAnswer(invocation -> {
+            Path file = Files.createTempFile(tempDirectory, invocation.getArgument(1), invocation.getArgument(2));
+            invocation.<ThrowingConsumer<Path>>getArgument(3).acceptWithException(file);
+            s3Files.put(invocation.getArgument(0), Files.readAllBytes(file));
+            return null;
+        }).when(s3Service).exportCompressedToS3(anyString(), anyString(), anyString(), any());
+        lenient().when(s3Service.importCompressedFromS3(anyString(), any())).thenAnswer(invocation -> {
+            byte[] content = s3Files.get(invocation.<String>getArgument(0));
+            if (content == null) {
+                throw new IOException("File not found");
+            }
+            try (InputStream in = new ByteArrayInputStream(content)) {
+                return invocation.<ThrowingFunction<InputStream, ?>>getArgument(1).applyWithException(in);
+            }
+        });
+    }
+
+    private <C extends ProcessConfig> ProcessExecutionContext<C> createContext(C processConfig) {
+        return new ProcessExecutionContext<>(executionId, caseUuid, processConfig, UUID.randomUUID(), "test-env", null);
+    }
+
+    private void saveLoadedNetwork() {
+        ProcessExecutionContext<SecurityAnalysisConfig> context = createContext(config);
+        context.setNetwork(EurostagTutorialExample1Factory.create());
+        context.setAppliedModificationsCount(2);
+        ProcessStepExecutionContext<SecurityAnalysisConfig> stepContext = new ProcessStepExecutionContext<>(context, CommonStepType.LOAD_NETWORK,
+            UUID.randomUUID(), 0);
+        stepContext.setResultInfos(RESULT_INFOS);
+        stepContext.markCompleted();
+        checkpointService.save(stepContext);
+    }
+
+    @Test
+    void restoreShouldRestoreNetworkAndCompletedStepsOfCheckpoint() {
+        saveLoadedNetwork();
+        ProcessExecutionContext<SecurityAnalysisConfig> retriedContext = createContext(config);
+
+        boolean restored = checkpointService.restore(retriedContext);
+
+        assertThat(restored).isTrue();
+        assertThat(retriedContext.getCompletedStepOrders()).containsExactly(0);
+        assertThat(retriedContext.getAppliedModificationsCount()).isEqualTo(2);
+        assertThat(retriedContext.getStepResults()).containsExactly(Map.entry(0, RESULT_INFOS));
+        Network network = retriedContext.getNetwork();
+        assertThat(network).isNotNull();
+        assertThat(network.getGenerator("GEN").getTargetP())
+            .isEqualTo(EurostagTutorialExample1Factory.create().getGenerator("GEN").getTargetP());
+    }
+
+    @Test
+    void restoreShouldStartOverWhenConfigurationChanged() {
+        saveLoadedNetwork();
+        ProcessExecutionContext<SecurityAnalysisConfig> retriedContext = createContext(
+            new SecurityAnalysisConfig(UUID.randomUUID(), List.of(), config.loadflowParametersUuid(), null));
+
+        boolean restored = checkpointService.restore(retriedContext);
+
+        assertThat(restored).isFalse();
+        assertThat(retriedContext.getCompletedStepOrders()).isEmpty();
+        assertThat(retriedContext.getNetwork()).isNull();
+    }
+
+    @Test
+    void restoreShouldStartOverWhenThereIsNoCheckpoint() {
+        ProcessExecutionContext<SecurityAnalysisConfig> context = createContext(config);
+
+        assertThat(checkpointService.restore(context)).isFalse();
+        assertThat(context.getCompletedStepOrders()).isEmpty();
+    }
+
+    @Test
+    void deleteShouldDeleteCheckpointsOfExecution() throws IOException {
+        checkpointService.delete(executionId);
+
+        verify(s3Service).deleteDirectoryFromS3(S3PathResolver.getExecutionCheckpointsPath(executionId));
+    }
+
+    @Test
+    void checkpointsShouldBeIgnoredWhenDisabled() {
+        ExecutionCheckpointService disabledService = new ExecutionCheckpointService(s3Service, new ObjectMapper(), false);
+        ProcessExecutionContext<SecurityAnalysisConfig> context = createContext(config);
+        context.setNetwork(EurostagTutorialExample1Factory.create());
+
+        disabledService.save(new ProcessStepExecutionContext<>(context, CommonStepType.LOAD_NETWORK, UUID.randomUUID(), 0));
+        boolean restored = disabledService.restore(context);
+        disabledService.delete(executionId);
+
+        assertThat(restored).isFalse();
+        verifyNoInteractions(s3Service);
+    }
+}
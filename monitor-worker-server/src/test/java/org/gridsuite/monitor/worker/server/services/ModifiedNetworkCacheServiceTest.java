@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class ModifiedNetworkCacheServiceTest {
+
+    private static final UUID CASE_UUID = UUID.randomUUID();
+    private static final UUID MODIFICATION_UUID_1 = UUID.randomUUID();
+    private static final UUID MODIFICATION_UUID_2 = UUID.randomUUID();
+    private static final UUID MODIFICATION_UUID_3 = UUID.randomUUID();
+
+    private MeterRegistry meterRegistry;
+
+    private ModifiedNetworkCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ModifiedNetworkCacheService(meterRegistry, DataSize.ofMegabytes(1));
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("monitor.worker.modified.network.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void findClosestStateShouldReturnCopyOfExactState() {
+        NetworkStateKey key = new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1, MODIFICATION_UUID_2));
+        Network network = EurostagTutorialExample1Factory.create();
+        service.putState(key, network);
+        network.getGenerator("GEN").setTargetP(1234);
+
+        Optional<ModifiedNetworkCacheService.NetworkState> state = service.findClosestState(key);
+
+        assertThat(state).isPresent();
+        assertThat(state.get().key()).isEqualTo(key);
+        assertThat(state.get().network()).isNotSameAs(network);
+        assertThat(state.get().network().getGenerator("GEN").getTargetP()).isNotEqualTo(1234);
+        assertThat(requestCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void putStateShouldKeepStateCachedAlready() {
+        NetworkStateKey key = new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1));
+        service.putState(key, EurostagTutorialExample1Factory.create());
+        Network otherNetwork = EurostagTutorialExample1Factory.create();
+        otherNetwork.getGenerator("GEN").setTargetP(1234);
+
+        service.putState(key, otherNetwork);
+        Network cachedNetwork = service.findClosestState(key).orElseThrow().network();
+
+        assertThat(cachedNetwork.getGenerator("GEN").getTargetP()).isNotEqualTo(1234);
+        assertThat(meterRegistry.get("monitor.worker.modified.network.cache.copy").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void findClosestStateShouldReturnLongestCachedPrefix() {
+        service.putState(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1)), EurostagTutorialExample1Factory.create());
+        service.putState(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1, MODIFICATION_UUID_2)), EurostagTutorialExample1Factory.create());
+
+        Optional<ModifiedNetworkCacheService.NetworkState> state = service.findClosestState(
+            new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1, MODIFICATION_UUID_2, MODIFICATION_UUID_3)));
+
+        assertThat(state).map(ModifiedNetworkCacheService.NetworkState::key)
+            .contains(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1, MODIFICATION_UUID_2)));
+        assertThat(requestCount("partial-hit")).isEqualTo(1);
+    }
+
+    @Test
+    void findClosestStateShouldIgnoreStatesOfOtherCasesOrOrders() {
+        service.putState(new NetworkStateKey(UUID.randomUUID(), List.of(MODIFICATION_UUID_1)), EurostagTutorialExample1Factory.create());
+        service.putState(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_2, MODIFICATION_UUID_1)), EurostagTutorialExample1Factory.create());
+
+        assertThat(service.findClosestState(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1, MODIFICATION_UUID_2)))).isEmpty();
+        assertThat(requestCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void getClosestStateLengthShouldReturnLengthOfLongestCachedPrefix() {
+        service.putState(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1)), EurostagTutorialExample1Factory.create());
+
+        assertThat(service.getClosestStateLength(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1, MODIFICATION_UUID_2)))).isEqualTo(1);
+        assertThat(service.getClosestStateLength(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_2)))).isZero();
+    }
+
+    @Test
+    void invalidateShouldEvictStatesWithUpdatedModification() {
+        service.putState(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1)), EurostagTutorialExample1Factory.create());
+        service.putState(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1, MODIFICATION_UUID_2)), EurostagTutorialExample1Factory.create());
+
+        service.invalidate(MODIFICATION_UUID_2);
+
+        assertThat(service.getClosestStateLength(new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1, MODIFICATION_UUID_2)))).isEqualTo(1);
+    }
+
+    @Test
+    void findClosestStateShouldReturnNothingWhenDisabled() {
+        ModifiedNetworkCacheService disabledService = new ModifiedNetworkCacheService(meterRegistry, DataSize.ofBytes(0));
+        NetworkStateKey key = new NetworkStateKey(CASE_UUID, List.of(MODIFICATION_UUID_1));
+
+        disabledService.putState(key, EurostagTutorialExample1Factory.create());
+
+        assertThat(disabledService.findClosestState(key)).isEmpty();
+    }
+}
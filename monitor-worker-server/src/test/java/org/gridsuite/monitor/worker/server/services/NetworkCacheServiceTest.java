@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+@ExtendWith(MockitoExtension.class)
+class NetworkCacheServiceTest {
+
+    @Mock
+    private NetworkConversionService networkConversionService;
+
+    private MeterRegistry meterRegistry;
+
+    private ReportNode reportNode;
+
+    private static final UUID CASE_UUID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reportNode = ReportNode.newRootReportNode()
+            .withResourceBundles("i18n.reports")
+            .withMessageTemplate("test")
+            .build();
+    }
+
+    private NetworkCacheService createService(DataSize maxSize) {
+        return new NetworkCacheService(networkConversionService, meterRegistry, maxSize, DataSize.ofBytes(1));
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("monitor.worker.network.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void getNetworkShouldImportCaseOnlyOnce() {
+        NetworkCacheService service = createService(DataSize.ofMegabytes(1));
+        when(networkConversionService.createNetwork(eq(CASE_UUID), any(ReportNode.class)))
+            .thenReturn(EurostagTutorialExample1Factory.create());
+
+        Network first = service.getNetwork(CASE_UUID, reportNode);
+        Network second = service.getNetwork(CASE_UUID, reportNode);
+
+        verify(networkConversionService, times(1)).createNetwork(eq(CASE_UUID), any(ReportNode.class));
+        assertThat(first).isNotSameAs(second);
+        assertThat(second.getGenerator("GEN")).isNotNull();
+        assertThat(requestCount("miss")).isEqualTo(1);
+        assertThat(requestCount("hit")).isEqualTo(1);
+        assertThat(reportNode.getChildren()).anyMatch(child -> "monitor.worker.server.importCase.cached".equals(child.getMessageKey()));
+    }
+
+    @Test
+    void getEstimatedSizeShouldOnlyBeKnownForCachedNetworks() {
+        NetworkCacheService service = createService(DataSize.ofMegabytes(1));
+        Network network = EurostagTutorialExample1Factory.create();
+        when(networkConversionService.createNetwork(eq(CASE_UUID), any(ReportNode.class))).thenReturn(network);
+
+        assertThat(service.getEstimatedSize(CASE_UUID)).isEmpty();
+        service.getNetwork(CASE_UUID, reportNode);
+
+        assertThat(service.getEstimatedSize(CASE_UUID)).hasValue(network.getIdentifiables().size());
+    }
+
+    @Test
+    void getNetworkShouldReturnCopiesIsolatedFromCachedNetwork() {
+        NetworkCacheService service = createService(DataSize.ofMegabytes(1));
+        Network cachedNetwork = EurostagTutorialExample1Factory.create();
+        when(networkConversionService.createNetwork(eq(CASE_UUID), any(ReportNode.class))).thenReturn(cachedNetwork);
+
+        Network first = service.getNetwork(CASE_UUID, reportNode);
+        first.getGenerator("GEN").setTargetP(1234);
+        first.getLoad("LOAD").remove();
+        Network second = service.getNetwork(CASE_UUID, reportNode);
+
+        assertThat(first).isNotSameAs(cachedNetwork);
+        assertThat(cachedNetwork.getGenerator("GEN").getTargetP()).isNotEqualTo(1234);
+        assertThat(second.getGenerator("GEN").getTargetP()).isNotEqualTo(1234);
+        assertThat(second.getLoad("LOAD")).isNotNull();
+    }
+
+    @Test
+    void getNetworkShouldEvictLeastRecentlyUsedNetwork() {
+        Network network = EurostagTutorialExample1Factory.create();
+        // room for a single network, since each identifiable weighs one byte
+        NetworkCacheService service = createService(DataSize.ofBytes(network.getIdentifiables().size()));
+        UUID otherCaseUuid = UUID.randomUUID();
+        when(networkConversionService.createNetwork(any(UUID.class), any(ReportNode.class)))
+            .thenAnswer(invocation -> EurostagTutorialExample1Factory.create());
+
+        service.getNetwork(CASE_UUID, reportNode);
+        service.getNetwork(otherCaseUuid, reportNode);
+        service.getNetwork(CASE_UUID, reportNode);
+
+        verify(networkConversionService, times(2)).createNetwork(eq(CASE_UUID), any(ReportNode.class));
+        verify(networkConversionService, times(1)).createNetwork(eq(otherCaseUuid), any(ReportNode.class));
+        assertThat(meterRegistry.get("monitor.worker.network.cache.evictions").counter().count()).isEqualTo(2);
+        assertThat(requestCount("miss")).isEqualTo(3);
+    }
+
+    @Test
+    void getNetworkShouldNotCacheWhenMaxSizeIsZero() {
+        NetworkCacheService service = createService(DataSize.ofBytes(0));
+        Network network = EurostagTutorialExample1Factory.create();
+        when(networkConversionService.createNetwork(eq(CASE_UUID), any(ReportNode.class))).thenReturn(network);
+
+        Network result = service.getNetwork(CASE_UUID, reportNode);
+        service.getNetwork(CASE_UUID, reportNode);
+
+        assertThat(result).isSameAs(network);
+        verify(networkConversionService, times(2)).createNetwork(eq(CASE_UUID), any(ReportNode.class));
+    }
+
+    @Test
+    void getNetworkShouldReturnImportedNetworkWhenTooLargeToBeCached() {
+        NetworkCacheService service = createService(DataSize.ofBytes(1));
+        Network network = EurostagTutorialExample1Factory.create();
+        when(networkConversionService.createNetwork(eq(CASE_UUID), any(ReportNode.class))).thenReturn(network);
+
+        Network result = service.getNetwork(CASE_UUID, reportNode);
+
+        assertThat(result).isSameAs(network);
+        assertThat(service.getEstimatedSize(CASE_UUID)).isEmpty();
+        assertThat(meterRegistry.get("monitor.worker.network.cache.copy").timer().count()).isZero();
+    }
+
+    @Test
+    void constructorShouldRejectNonPositiveIdentifiableSize() {
+        DataSize maxSize = DataSize.ofMegabytes(1);
+        DataSize bytesPerIdentifiable = DataSize.ofBytes(0);
+
+        assertThatThrownBy(() -> new NetworkCacheService(networkConversionService, meterRegistry, maxSize, bytesPerIdentifiable))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getNetworkShouldNotCacheFailedImport() {
+        NetworkCacheService service = createService(DataSize.ofMegabytes(1));
+        when(networkConversionService.createNetwork(eq(CASE_UUID), any(ReportNode.class)))
+            .thenThrow(new IllegalStateException("Import failed"))
+            .thenReturn(EurostagTutorialExample1Factory.create());
+
+        assertThatThrownBy(() -> service.getNetwork(CASE_UUID, reportNode))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(service.getNetwork(CASE_UUID, reportNode)).isNotNull();
+
+        verify(networkConversionService, times(2)).createNetwork(eq(CASE_UUID), any(ReportNode.class));
+    }
+
+    @Test
+    void maxSizeShouldDefaultToFractionOfMaxHeap() {
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        long expectedMaxSize = maxHeap == Long.MAX_VALUE ? 0 : (long) (maxHeap * 0.1);
+
+        assertThat(NetworkCacheService.getMaxSize(null, 0.1).toBytes()).isEqualTo(expectedMaxSize);
+        assertThat(NetworkCacheService.getMaxSize(DataSize.ofGigabytes(2), 0.1)).isEqualTo(DataSize.ofGigabytes(2));
+    }
+}
@@ -11,16 +11,24 @@ import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Network;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,6 +39,12 @@ class NetworkConversionServiceTest {
     @Autowired
     private NetworkConversionService service;
 
+    @MockitoBean
+    private CaseFileCacheService caseFileCacheService;
+
+    @MockitoBean
+    private NetworkSnapshotCacheService networkSnapshotCacheService;
+
     @Mock
     private Network network;
 
@@ -42,6 +56,8 @@ class NetworkConversionServiceTest {
     @BeforeEach
     void setUp() {
         caseUuid = UUID.randomUUID();
+        when(networkSnapshotCacheService.getNetwork(eq(caseUuid), any(Properties.class), any(ReportNode.class), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<Network>>getArgument(3).get());
     }
 
     @Test
@@ -56,4 +72,24 @@ class NetworkConversionServiceTest {
             networkMock.verify(() -> Network.read(any(ReadOnlyDataSource.class), any(Properties.class), any(ReportNode.class)));
         }
     }
+
+    @Test
+    void createNetworkShouldReadCachedCaseFileWhenCacheIsEnabled(@TempDir Path tempDir) throws IOException {
+        Path caseFile = Files.createFile(tempDir.resolve("case.xiidm"));
+        when(caseFileCacheService.isEnabled()).thenReturn(true);
+        when(caseFileCacheService.readCase(eq(caseUuid), any())).thenAnswer(invocation -> {
+            Function<Path, Network> reader = invocation.getArgument(1);
+            return reader.apply(caseFile);
+        });
+        try (MockedStatic<Network> networkMock = mockStatic(Network.class)) {
+            networkMock.when(() -> Network.read(any(ReadOnlyDataSource.class), any(Properties.class), any(ReportNode.class)))
+                    .thenReturn(network);
+
+            Network result = service.createNetwork(caseUuid, reportNode);
+
+            assertThat(result).isSameAs(network);
+            verify(caseFileCacheService).readCase(eq(caseUuid), any());
+            networkMock.verify(() -> Network.read(any(ReadOnlyDataSource.class), any(Properties.class), any(ReportNode.class)));
+        }
+    }
 }
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class NetworkSnapshotCacheServiceTest {
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private MeterRegistry meterRegistry;
+
+    private ReportNode reportNode;
+
+    private AtomicInteger importCount;
+
+    private Supplier<Network> importer;
+
+    private static final UUID CASE_UUID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reportNode = ReportNode.newRootReportNode()
+            .withResourceBundles("i18n.reports")
+            .withMessageTemplate("test")
+            .build();
+        importCount = new AtomicInteger();
+        importer = () -> {
+            importCount.incrementAndGet();
+            return EurostagTutorialExample1Factory.create();
+        };
+    }
+
+    private NetworkSnapshotCacheService createService(boolean enabled) {
+        return new NetworkSnapshotCacheService(meterRegistry, enabled, cacheDirectory, DataSize.ofMegabytes(10));
+    }
+
+    private long loadCount(String source) {
+        return meterRegistry.get("monitor.worker.network.load").tag("source", source).timer().count();
+    }
+
+    @Test
+    void getNetworkShouldLoadSnapshotOfImportedNetwork() {
+        NetworkSnapshotCacheService service = createService(true);
+
+        Network imported = service.getNetwork(CASE_UUID, new Properties(), reportNode, importer);
+        Network loaded = service.getNetwork(CASE_UUID, new Properties(), reportNode, importer);
+
+        assertThat(importCount).hasValue(1);
+        assertThat(loaded).isNotSameAs(imported);
+        assertThat(loaded.getId()).isEqualTo(imported.getId());
+        assertThat(loaded.getGenerator("GEN").getTargetP()).isEqualTo(imported.getGenerator("GEN").getTargetP());
+        assertThat(loadCount("import")).isEqualTo(1);
+        assertThat(loadCount("snapshot")).isEqualTo(1);
+        assertThat(reportNode.getChildren()).anyMatch(child -> "monitor.worker.server.importCase.snapshot".equals(child.getMessageKey()));
+    }
+
+    @Test
+    void getNetworkShouldReuseSnapshotsOfPreviousInstance() {
+        createService(true).getNetwork(CASE_UUID, new Properties(), reportNode, importer);
+
+        createService(true).getNetwork(CASE_UUID, new Properties(), reportNode, importer);
+
+        assertThat(importCount).hasValue(1);
+    }
+
+    @Test
+    void getNetworkShouldKeySnapshotsByImportParameters() {
+        NetworkSnapshotCacheService service = createService(true);
+        Properties importParameters = new Properties();
+        importParameters.setProperty("iidm.import.cgmes.profile-for-initial-values-shunt-sections-tap-positions", "SV");
+
+        service.getNetwork(CASE_UUID, new Properties(), reportNode, importer);
+        service.getNetwork(CASE_UUID, importParameters, reportNode, importer);
+
+        assertThat(importCount).hasValue(2);
+    }
+
+    @Test
+    void getNetworkShouldAlwaysImportWhenDisabled() {
+        NetworkSnapshotCacheService service = createService(false);
+
+        service.getNetwork(CASE_UUID, new Properties(), reportNode, importer);
+        service.getNetwork(CASE_UUID, new Properties(), reportNode, importer);
+
+        assertThat(importCount).hasValue(2);
+        assertThat(loadCount("import")).isEqualTo(2);
+        assertThat(cacheDirectory).isEmptyDirectory();
+    }
+}
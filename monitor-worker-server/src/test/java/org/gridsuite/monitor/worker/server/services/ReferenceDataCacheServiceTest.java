@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import org.gridsuite.monitor.worker.server.config.ReferenceDataCacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class ReferenceDataCacheServiceTest {
+
+    private static final UUID ELEMENT_UUID = UUID.randomUUID();
+    private static final UUID OTHER_ELEMENT_UUID = UUID.randomUUID();
+
+    private Cache parametersCache;
+
+    private Cache filtersCache;
+
+    private ContingencyCacheService contingencyCacheService;
+
+    private ModifiedNetworkCacheService modifiedNetworkCacheService;
+
+    private ReferenceDataCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = new ReferenceDataCacheConfig().referenceDataCacheManager(Duration.ofMinutes(1), 10);
+        parametersCache = cacheManager.getCache(ReferenceDataCacheConfig.LOADFLOW_PARAMETERS_CACHE);
+        filtersCache = cacheManager.getCache(ReferenceDataCacheConfig.FILTERS_CACHE);
+        parametersCache.put(ELEMENT_UUID, "parameters");
+        parametersCache.put(OTHER_ELEMENT_UUID, "otherParameters");
+        filtersCache.put(List.of(OTHER_ELEMENT_UUID, ELEMENT_UUID), "filters");
+        filtersCache.put(List.of(OTHER_ELEMENT_UUID), "otherFilters");
+        contingencyCacheService = mock(ContingencyCacheService.class);
+        modifiedNetworkCacheService = mock(ModifiedNetworkCacheService.class);
+        service = new ReferenceDataCacheService(cacheManager, contingencyCacheService, modifiedNetworkCacheService);
+    }
+
+    @Test
+    void invalidateShouldEvictEntriesReferencingElement() {
+        service.invalidate(ELEMENT_UUID);
+
+        assertThat(parametersCache.get(ELEMENT_UUID)).isNull();
+        assertThat(filtersCache.get(List.of(OTHER_ELEMENT_UUID, ELEMENT_UUID))).isNull();
+        assertThat(parametersCache.get(OTHER_ELEMENT_UUID)).isNotNull();
+        assertThat(filtersCache.get(List.of(OTHER_ELEMENT_UUID))).isNotNull();
+        verify(contingencyCacheService).invalidate(ELEMENT_UUID);
+        verify(modifiedNetworkCacheService).invalidate(ELEMENT_UUID);
+    }
+
+    @Test
+    void invalidateAllShouldEvictAllEntries() {
+        service.invalidateAll();
+
+        assertThat(parametersCache.get(OTHER_ELEMENT_UUID)).isNull();
+        assertThat(filtersCache.get(List.of(OTHER_ELEMENT_UUID))).isNull();
+        verify(contingencyCacheService).invalidateAll();
+        verify(modifiedNetworkCacheService).invalidateAll();
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gridsuite.monitor.worker.server.services.ResultSpoolService.SpooledResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class ResultSpoolServiceTest {
+
+    private static final String STEP_TYPE = "RUN_SA_COMPUTATION";
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ResultSpoolService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ResultSpoolService(objectMapper, directory.toString(), 3, Duration.ZERO, Duration.ofDays(1));
+    }
+
+    @Test
+    void spoolShouldWriteCompressedResultFoundByLaterAttempts() throws IOException {
+        UUID executionId = UUID.randomUUID();
+
+        SpooledResult spooledResult = service.spool(executionId, STEP_TYPE, Map.of("status", "CONVERGED"));
+
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(spooledResult.file()))) {
+            assertThat(objectMapper.readTree(inputStream).get("status").asText()).isEqualTo("CONVERGED");
+        }
+        assertThat(service.find(executionId, STEP_TYPE)).contains(spooledResult);
+        assertThat(service.find(executionId, "OTHER_STEP")).isEmpty();
+        assertThat(service.find(UUID.randomUUID(), STEP_TYPE)).isEmpty();
+    }
+
+    @Test
+    void uploadShouldRetryAndRemoveUploadedResult() {
+        UUID executionId = UUID.randomUUID();
+        SpooledResult spooledResult = service.spool(executionId, STEP_TYPE, Map.of());
+        AtomicInteger attempts = new AtomicInteger();
+
+        UUID uploaded = service.upload(executionId, spooledResult, file -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ResourceAccessException("Connection refused");
+            }
+            return spooledResult.id();
+        });
+
+        assertThat(uploaded).isEqualTo(spooledResult.id());
+        assertThat(attempts).hasValue(3);
+        assertThat(service.find(executionId, STEP_TYPE)).isEmpty();
+        assertThat(directory.resolve(executionId.toString())).doesNotExist();
+    }
+
+    @Test
+    void uploadShouldKeepResultWhenAllAttemptsFail() {
+        UUID executionId = UUID.randomUUID();
+        SpooledResult spooledResult = service.spool(executionId, STEP_TYPE, Map.of());
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> service.upload(executionId, spooledResult, file -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("Connection refused");
+        })).isInstanceOf(ResourceAccessException.class);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(service.find(executionId, STEP_TYPE)).contains(spooledResult);
+    }
+
+    @Test
+    void uploadShouldNotRetryRefusedRequest() {
+        UUID executionId = UUID.randomUUID();
+        SpooledResult spooledResult = service.spool(executionId, STEP_TYPE, Map.of());
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> service.upload(executionId, spooledResult, file -> {
+            attempts.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        })).isInstanceOf(HttpClientErrorException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void uploadCreatingIdShouldRetryAttemptsWhichDidNotReachServer() {
+        UUID executionId = UUID.randomUUID();
+        SpooledResult spooledResult = service.spool(executionId, STEP_TYPE, Map.of());
+        UUID resultUuid = UUID.randomUUID();
+        AtomicInteger attempts = new AtomicInteger();
+
+        UUID uploaded = service.uploadCreatingId(executionId, spooledResult, file -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ResourceAccessException("Connection refused", new ConnectException("Connection refused"));
+            }
+            return resultUuid;
+        });
+
+        assertThat(uploaded).isEqualTo(resultUuid);
+        assertThat(attempts).hasValue(3);
+        assertThat(directory.resolve(executionId.toString())).doesNotExist();
+    }
+
+    @Test
+    void uploadCreatingIdShouldNotRetryAttemptWhichMayHaveSavedResult() {
+        UUID executionId = UUID.randomUUID();
+        SpooledResult spooledResult = service.spool(executionId, STEP_TYPE, Map.of());
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> service.uploadCreatingId(executionId, spooledResult, file -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out"));
+        })).isInstanceOf(ResourceAccessException.class);
+
+        assertThat(attempts).hasValue(1);
+        assertThat(service.find(executionId, STEP_TYPE)).contains(spooledResult);
+    }
+
+    @Test
+    void uploadCreatingIdShouldReturnRecordedIdOfResultAlreadyUploaded() throws IOException {
+        UUID executionId = UUID.randomUUID();
+        SpooledResult spooledResult = service.spool(executionId, STEP_TYPE, Map.of());
+        UUID resultUuid = UUID.randomUUID();
+        // left by a previous attempt which uploaded the result but could not remove it from the spool
+        Files.writeString(spooledResult.file().resolveSibling(spooledResult.id() + ".uploaded"), resultUuid.toString());
+
+        UUID uploaded = service.uploadCreatingId(executionId, spooledResult, file -> {
+            throw new IllegalStateException("Result uploaded again");
+        });
+
+        assertThat(uploaded).isEqualTo(resultUuid);
+        assertThat(service.find(executionId, STEP_TYPE)).isEmpty();
+    }
+
+    @Test
+    void deleteExpiredResultsShouldOnlyDeleteOldExecutions() throws IOException {
+        UUID expiredExecutionId = UUID.randomUUID();
+        UUID executionId = UUID.randomUUID();
+        service.spool(expiredExecutionId, STEP_TYPE, Map.of());
+        service.spool(executionId, STEP_TYPE, Map.of());
+        Files.setLastModifiedTime(directory.resolve(expiredExecutionId.toString()), FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        service.deleteExpiredResults();
+
+        assertThat(service.find(expiredExecutionId, STEP_TYPE)).isEmpty();
+        assertThat(service.find(executionId, STEP_TYPE)).isPresent();
+    }
+}
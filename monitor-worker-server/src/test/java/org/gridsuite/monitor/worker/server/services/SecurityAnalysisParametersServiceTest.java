@@ -6,26 +6,35 @@
  */
 package org.gridsuite.monitor.worker.server.services;
 
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.list.IdentifierContingencyList;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.identifiers.IdBasedNetworkElementIdentifier;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.security.SecurityAnalysisParameters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.gridsuite.actions.dto.contingency.AbstractContingencyList;
 import org.gridsuite.actions.dto.contingency.IdBasedContingencyList;
 import org.gridsuite.monitor.worker.server.clients.ActionsRestClient;
 import org.gridsuite.monitor.worker.server.clients.FilterRestClient;
 import org.gridsuite.monitor.worker.server.clients.LoadFlowRestClient;
 import org.gridsuite.monitor.worker.server.clients.SecurityAnalysisRestClient;
+import org.gridsuite.monitor.worker.server.core.context.CancellationToken;
 import org.gridsuite.monitor.worker.server.dto.parameters.loadflow.LoadFlowParametersInfos;
 import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.ContingencyListsInfos;
 import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisInputData;
+import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisParametersInfos;
 import org.gridsuite.monitor.worker.server.dto.parameters.securityanalysis.SecurityAnalysisParametersValues;
+import org.gridsuite.monitor.worker.server.report.MonitorWorkerServerReportResourceBundle;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Instant;
 import java.util.List;
@@ -54,11 +63,21 @@ class SecurityAnalysisParametersServiceTest {
     @Mock
     private FilterRestClient filterRestClient;
 
+    private ComputationService computationService;
+
     private SecurityAnalysisParametersService securityAnalysisParametersService;
 
     @BeforeEach
     void setUp() {
-        securityAnalysisParametersService = new SecurityAnalysisParametersService(securityAnalysisRestClient, loadFlowRestClient, actionsRestClient, filterRestClient);
+        computationService = new ComputationService(2);
+        ContingencyCacheService contingencyCacheService = new ContingencyCacheService(new SimpleMeterRegistry(), DataSize.ofMegabytes(1));
+        securityAnalysisParametersService = new SecurityAnalysisParametersService(securityAnalysisRestClient, loadFlowRestClient, actionsRestClient,
+            filterRestClient, computationService, contingencyCacheService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        computationService.shutdown();
     }
 
     @Test
@@ -93,7 +112,9 @@ class SecurityAnalysisParametersServiceTest {
         when(loadFlowRestClient.getParameters(loadflowParametersUuid)).thenReturn(loadFlowParametersInfos);
         when(actionsRestClient.getPersistentContingencyLists(contingencyListUuids)).thenReturn(persistentContingencyList);
 
-        SecurityAnalysisInputData inputData = securityAnalysisParametersService.buildSecurityAnalysisInputData(securityAnalysisParametersUuid, loadflowParametersUuid, network);
+        SecurityAnalysisParametersInfos parametersInfos = securityAnalysisParametersService.getSecurityAnalysisParametersInfos(securityAnalysisParametersUuid, loadflowParametersUuid);
+        SecurityAnalysisInputData inputData = securityAnalysisParametersService.buildSecurityAnalysisInputData(parametersInfos, network, null,
+            ReportNode.NO_OP, new CancellationToken());
 
         assertThat(inputData.securityAnalysisParameters().getLoadFlowParameters()).usingRecursiveComparison().isEqualTo(loadFlowParametersInfos.getCommonParameters());
         assertThat(inputData.contingencies()).hasSize(1);
@@ -105,4 +126,65 @@ class SecurityAnalysisParametersServiceTest {
         verify(loadFlowRestClient, times(1)).getParameters(loadflowParametersUuid);
         verify(actionsRestClient, times(1)).getPersistentContingencyLists(contingencyListUuids);
     }
+
+    @Test
+    void buildSecurityAnalysisInputDataShouldKeepListsOrderAndRemoveDuplicates() {
+        Network network = EurostagTutorialExample1Factory.create();
+        UUID firstContingencyListId = UUID.randomUUID();
+        UUID secondContingencyListId = UUID.randomUUID();
+        IdBasedContingencyList firstContingencyList = new IdBasedContingencyList(firstContingencyListId, Instant.now(),
+            new IdentifierContingencyList("list1", List.of(
+                new IdBasedNetworkElementIdentifier("NHV1_NHV2_1", "c1"),
+                new IdBasedNetworkElementIdentifier("GEN", "c2"))));
+        IdBasedContingencyList secondContingencyList = new IdBasedContingencyList(secondContingencyListId, Instant.now(),
+            new IdentifierContingencyList("list2", List.of(
+                new IdBasedNetworkElementIdentifier("GEN", "c2"),
+                new IdBasedNetworkElementIdentifier("NHV1_NHV2_2", "c3"))));
+        SecurityAnalysisParametersInfos parametersInfos = new SecurityAnalysisParametersInfos(new SecurityAnalysisParameters(),
+            List.of(firstContingencyList, secondContingencyList));
+        ReportNode reportNode = ReportNode.newRootReportNode()
+            .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+            .withMessageTemplate("test")
+            .build();
+
+        SecurityAnalysisInputData inputData = securityAnalysisParametersService.buildSecurityAnalysisInputData(parametersInfos, network, null, reportNode, new CancellationToken());
+
+        assertThat(inputData.contingencies()).extracting(Contingency::getId).containsExactly("c1", "c2", "c3");
+        assertThat(reportNode.getChildren()).extracting(ReportNode::getMessageKey).containsExactlyInAnyOrder(
+            "monitor.worker.server.securityanalysis.contingencyList.evaluated",
+            "monitor.worker.server.securityanalysis.contingencyList.evaluated",
+            "monitor.worker.server.securityanalysis.contingencies.duplicated");
+        // the lists are evaluated on variants of the network, removed once evaluated
+        assertThat(network.getVariantManager().getVariantIds()).hasSize(1);
+        assertThat(network.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+    }
+
+    @Test
+    void buildSecurityAnalysisInputDataShouldReuseContingenciesEvaluatedOnSameNetworkState() {
+        Network network = EurostagTutorialExample1Factory.create();
+        NetworkStateKey networkStateKey = new NetworkStateKey(UUID.randomUUID(), List.of(UUID.randomUUID()));
+        IdBasedContingencyList contingencyList = new IdBasedContingencyList(UUID.randomUUID(), Instant.now(),
+            new IdentifierContingencyList("list", List.of(new IdBasedNetworkElementIdentifier("GEN", "c1"))));
+        SecurityAnalysisParametersInfos parametersInfos = new SecurityAnalysisParametersInfos(new SecurityAnalysisParameters(), List.of(contingencyList));
+        ReportNode firstReportNode = ReportNode.newRootReportNode()
+            .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+            .withMessageTemplate("test")
+            .build();
+        ReportNode secondReportNode = ReportNode.newRootReportNode()
+            .withResourceBundles(MonitorWorkerServerReportResourceBundle.BASE_NAME)
+            .withMessageTemplate("test")
+            .build();
+
+        SecurityAnalysisInputData firstInputData = securityAnalysisParametersService.buildSecurityAnalysisInputData(parametersInfos, network, networkStateKey, firstReportNode,
+            new CancellationToken());
+        SecurityAnalysisInputData secondInputData = securityAnalysisParametersService.buildSecurityAnalysisInputData(parametersInfos, network, networkStateKey, secondReportNode,
+            new CancellationToken());
+
+        assertThat(secondInputData.contingencies()).extracting(Contingency::getId).containsExactly("c1");
+        assertThat(secondInputData.contingencies().getFirst()).isSameAs(firstInputData.contingencies().getFirst());
+        assertThat(firstReportNode.getChildren()).extracting(ReportNode::getMessageKey)
+            .containsExactly("monitor.worker.server.securityanalysis.contingencyList.evaluated");
+        assertThat(secondReportNode.getChildren()).extracting(ReportNode::getMessageKey)
+            .containsExactly("monitor.worker.server.securityanalysis.contingencyList.cached");
+    }
 }
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.utils;
+
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.LineContingency;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class ContingencyPartitionerTest {
+
+    @Test
+    void partitionShouldBalanceCostAndKeepOrder() {
+        Contingency n2 = new Contingency("n2", new LineContingency("L1"), new LineContingency("L2"));
+        Contingency n1a = new Contingency("n1a", new LineContingency("L3"));
+        Contingency n1b = new Contingency("n1b", new LineContingency("L4"));
+        Contingency n1c = new Contingency("n1c", new LineContingency("L5"));
+
+        List<List<Contingency>> parts = ContingencyPartitioner.partition(List.of(n1a, n2, n1b, n1c), 2);
+
+        // costs: n2 = 3, n1x = 2, so n2 + n1c = 5 and n1a + n1b = 4
+        assertThat(parts).containsExactly(List.of(n2, n1c), List.of(n1a, n1b));
+    }
+
+    @Test
+    void partitionShouldReturnEmptyPartsWhenFewerContingenciesThanParts() {
+        Contingency contingency = new Contingency("c1", new LineContingency("L1"));
+
+        assertThat(ContingencyPartitioner.partition(List.of(contingency), 3))
+            .containsExactly(List.of(contingency), List.of(), List.of());
+    }
+
+    @Test
+    void partitionShouldRejectInvalidPartsCount() {
+        List<Contingency> contingencies = List.of();
+
+        assertThatThrownBy(() -> ContingencyPartitioner.partition(contingencies, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.monitor.worker.server.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
+ */
+class WeightedLruCacheTest {
+
+    private List<String> evictedKeys;
+
+    private WeightedLruCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        evictedKeys = new ArrayList<>();
+        cache = new WeightedLruCache<>(10, String::length, (key, value) -> evictedKeys.add(key));
+    }
+
+    @Test
+    void putShouldEvictLeastRecentlyUsedEntriesWhenMaxWeightIsExceeded() {
+        cache.put("a", "1234");
+        cache.put("b", "1234");
+        cache.get("a");
+
+        assertThat(cache.put("c", "1234")).isTrue();
+
+        assertThat(evictedKeys).containsExactly("b");
+        assertThat(cache.get("a")).contains("1234");
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).contains("1234");
+        assertThat(cache.getTotalWeight()).isEqualTo(8);
+    }
+
+    @Test
+    void putShouldNotCacheValueHeavierThanMaxWeight() {
+        cache.put("a", "1234");
+
+        assertThat(cache.put("b", "12345678901")).isFalse();
+
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).contains("1234");
+        assertThat(evictedKeys).isEmpty();
+    }
+
+    @Test
+    void putShouldReplaceExistingValueWeight() {
+        cache.put("a", "1234");
+        cache.put("a", "12");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getTotalWeight()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidateShouldRemoveEntry() {
+        cache.put("a", "1234");
+
+        cache.invalidate("a");
+
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.getTotalWeight()).isZero();
+        assertThat(evictedKeys).isEmpty();
+    }
+
+    @Test
+    void getWeightShouldReturnWeightOfCachedValue() {
+        cache.put("a", "1234");
+
+        assertThat(cache.getWeight("a")).hasValue(4);
+        assertThat(cache.getWeight("b")).isEmpty();
+    }
+
+    @Test
+    void invalidateIfShouldRemoveMatchingEntries() {
+        cache.put("a", "1234");
+        cache.put("b", "12");
+        cache.put("c", "123");
+
+        int removedCount = cache.invalidateIf((key, value) -> value.length() > 2);
+
+        assertThat(removedCount).isEqualTo(2);
+        assertThat(cache.get("b")).hasValue("12");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getTotalWeight()).isEqualTo(2);
+        assertThat(evictedKeys).isEmpty();
+    }
+}